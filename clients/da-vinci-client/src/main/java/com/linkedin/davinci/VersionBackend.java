@@ -10,6 +10,7 @@ import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
 import com.linkedin.davinci.notifier.DaVinciPushStatusUpdateTask;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatLagMonitorAction;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.venice.client.store.streaming.StreamingCallback;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -335,6 +336,37 @@ public class VersionBackend {
         computingCallback);
   }
 
+  /**
+   * @return an iterator over the data of {@param partition}, which must be closed by the caller
+   */
+  public AbstractStorageIterator getIterator(int partition) {
+    return getStorageEngineOrThrow().getIterator(partition);
+  }
+
+  /**
+   * Decodes a value read by {@param iterator}, from {@link #getIterator(int)}, assembling it out of the chunks read
+   * through the iterator if it is a chunked value.
+   */
+  public <V> V decodeIteratedValue(
+      AbstractStorageIterator iterator,
+      int partition,
+      byte[] valueBytes,
+      AbstractAvroChunkingAdapter<V> chunkingAdaptor,
+      StoreDeserializerCache<V> storeDeserializerCache,
+      int readerSchemaId,
+      BinaryDecoder binaryDecoder) {
+    return chunkingAdaptor.getFromTopLevelValue(
+        getStorageEngineOrThrow(),
+        iterator,
+        partition,
+        valueBytes,
+        null,
+        binaryDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor.get());
+  }
+
   public int getPartitionCount() {
     return version.getPartitionCount();
   }
@@ -19,7 +19,11 @@ import com.linkedin.venice.utils.SparseConcurrentList;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.locks.AutoCloseableLock;
+import java.io.File;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
@@ -56,6 +60,10 @@ public class BlobSnapshotManager {
   // snapshot/offset consistency
   // Example: <topicName, <partitionId, offset>>
   private VeniceConcurrentHashMap<String, VeniceConcurrentHashMap<Integer, BlobTransferPartitionMetadata>> snapshotMetadataRecords;
+  // A map to keep track of the checksum of each file of the snapshot for a particular topic and partition, computed
+  // once when the snapshot is created rather than on every transfer request
+  // Example: <topicName, <partitionId, <fileName, SnapshotFileChecksum>>>
+  private VeniceConcurrentHashMap<String, VeniceConcurrentHashMap<Integer, Map<String, SnapshotFileChecksum>>> snapshotFileChecksums;
 
   // Locks for coordinating access to each snapshot
   // Example: <topicName, <partitionId, lock>>
@@ -87,6 +95,7 @@ public class BlobSnapshotManager {
     this.concurrentSnapshotUsers = new VeniceConcurrentHashMap<>();
     this.snapshotTimestamps = new VeniceConcurrentHashMap<>();
     this.snapshotMetadataRecords = new VeniceConcurrentHashMap<>();
+    this.snapshotFileChecksums = new VeniceConcurrentHashMap<>();
 
     this.snapshotAccessLocks = new VeniceConcurrentHashMap<>();
 
@@ -208,6 +217,13 @@ public class BlobSnapshotManager {
       snapshotTimestamps.get(topicName).put(partitionId, System.currentTimeMillis());
       // update the snapshot offset record to reflect the latest snapshot offset
       snapshotMetadataRecords.get(topicName).put(partitionId, metadataBeforeRecreateSnapshot);
+      // 3. compute the checksums of the new snapshot files
+      snapshotFileChecksums.get(topicName)
+          .put(
+              partitionId,
+              computeSnapshotFileChecksums(
+                  new File(blobTransferRequest.getSnapshotDir()),
+                  snapshotFileChecksums.get(topicName).get(partitionId)));
       LOGGER
           .info("Successfully recreated snapshot for topic-partition: {}.", Utils.getReplicaId(topicName, partitionId));
     } catch (Exception e) {
@@ -218,6 +234,74 @@ public class BlobSnapshotManager {
     }
   }
 
+  /**
+   * Compute the checksum of each file in the snapshot directory. SST files are immutable and their names are never
+   * reused by RocksDB, so the checksums of the SST files which were already part of the previous snapshot are reused.
+   * Failures are not fatal, since the checksum of any file missing from the returned map is computed on demand.
+   *
+   * @param snapshotDir the snapshot directory
+   * @param previousChecksums the checksums of the previous snapshot, or null if there is none
+   * @return the checksums keyed by file name
+   */
+  private Map<String, SnapshotFileChecksum> computeSnapshotFileChecksums(
+      File snapshotDir,
+      Map<String, SnapshotFileChecksum> previousChecksums) {
+    File[] files = snapshotDir.listFiles();
+    if (files == null) {
+      return Collections.emptyMap();
+    }
+    long startTime = System.currentTimeMillis();
+    int reusedCount = 0;
+    Map<String, SnapshotFileChecksum> checksums = new HashMap<>(files.length);
+    for (File file: files) {
+      String fileName = file.getName();
+      long fileLength = file.length();
+      SnapshotFileChecksum previousChecksum = previousChecksums == null ? null : previousChecksums.get(fileName);
+      if (fileName.endsWith(".sst") && previousChecksum != null && previousChecksum.getFileLength() == fileLength) {
+        checksums.put(fileName, previousChecksum);
+        reusedCount++;
+        continue;
+      }
+      try {
+        checksums.put(
+            fileName,
+            new SnapshotFileChecksum(fileLength, BlobTransferUtils.generateFileChecksum(file.toPath())));
+      } catch (IOException e) {
+        LOGGER.warn("Failed to compute the checksum of snapshot file: {}", file.getAbsolutePath(), e);
+      }
+    }
+    LOGGER.info(
+        "Computed checksums for {} files, reused {}, in snapshot dir {} in {} ms.",
+        checksums.size() - reusedCount,
+        reusedCount,
+        snapshotDir,
+        System.currentTimeMillis() - startTime);
+    return checksums;
+  }
+
+  /**
+   * Get the checksum of a snapshot file, as computed when the snapshot was created.
+   * @param topicName the topic name
+   * @param partitionId the partition id
+   * @param file the snapshot file
+   * @return the checksum, or null if it is not known, or if the file changed since the snapshot was created
+   */
+  public String getSnapshotFileChecksum(String topicName, int partitionId, File file) {
+    Map<Integer, Map<String, SnapshotFileChecksum>> partitionChecksums = snapshotFileChecksums.get(topicName);
+    if (partitionChecksums == null) {
+      return null;
+    }
+    Map<String, SnapshotFileChecksum> fileChecksums = partitionChecksums.get(partitionId);
+    if (fileChecksums == null) {
+      return null;
+    }
+    SnapshotFileChecksum checksum = fileChecksums.get(file.getName());
+    if (checksum == null || checksum.getFileLength() != file.length()) {
+      return null;
+    }
+    return checksum.getChecksum();
+  }
+
   /**
    * Check if the snapshot is stale
    * @param topicName the topic name
@@ -384,6 +468,7 @@ public class BlobSnapshotManager {
   private void initializeTrackingValues(String topicName, int partitionId) {
     snapshotTimestamps.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>());
     snapshotMetadataRecords.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>());
+    snapshotFileChecksums.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>());
     concurrentSnapshotUsers.computeIfAbsent(topicName, k -> new VeniceConcurrentHashMap<>())
         .computeIfAbsent(partitionId, k -> new AtomicInteger(0));
   }
@@ -394,6 +479,7 @@ public class BlobSnapshotManager {
   public void removeTrackingValues(String topicName, int partitionId) {
     removePartitionEntry(snapshotTimestamps, topicName, partitionId);
     removePartitionEntry(snapshotMetadataRecords, topicName, partitionId);
+    removePartitionEntry(snapshotFileChecksums, topicName, partitionId);
     removePartitionEntry(concurrentSnapshotUsers, topicName, partitionId);
     snapshotAccessLocks.computeIfPresent(topicName, (key, lockList) -> {
       lockList.remove(partitionId);
@@ -489,10 +575,32 @@ public class BlobSnapshotManager {
     }
   }
 
+  /**
+   * The checksum of a snapshot file, along with the length of the file it was computed from.
+   */
+  private static class SnapshotFileChecksum {
+    private final long fileLength;
+    private final String checksum;
+
+    SnapshotFileChecksum(long fileLength, String checksum) {
+      this.fileLength = fileLength;
+      this.checksum = checksum;
+    }
+
+    long getFileLength() {
+      return fileLength;
+    }
+
+    String getChecksum() {
+      return checksum;
+    }
+  }
+
   public void shutdown() {
     concurrentSnapshotUsers.clear();
     snapshotTimestamps.clear();
     snapshotMetadataRecords.clear();
+    snapshotFileChecksums.clear();
     snapshotAccessLocks.clear();
 
     if (snapshotCleanupScheduler != null) {
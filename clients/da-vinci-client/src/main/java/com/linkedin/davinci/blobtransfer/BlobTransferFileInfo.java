@@ -0,0 +1,55 @@
+package com.linkedin.davinci.blobtransfer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+
+/**
+ * This class describes a file that the blob transfer client already holds locally, so that the server can skip
+ * sending it again when its own copy is identical.
+ */
+public class BlobTransferFileInfo {
+  public String fileName;
+  public long fileSize;
+  public String checksum;
+
+  public BlobTransferFileInfo() {
+  }
+
+  public BlobTransferFileInfo(
+      @JsonProperty("fileName") String fileName,
+      @JsonProperty("fileSize") long fileSize,
+      @JsonProperty("checksum") String checksum) {
+    this.fileName = fileName;
+    this.fileSize = fileSize;
+    this.checksum = checksum;
+  }
+
+  public String getFileName() {
+    return fileName;
+  }
+
+  public void setFileName(String fileName) {
+    this.fileName = fileName;
+  }
+
+  public long getFileSize() {
+    return fileSize;
+  }
+
+  public void setFileSize(long fileSize) {
+    this.fileSize = fileSize;
+  }
+
+  public String getChecksum() {
+    return checksum;
+  }
+
+  public void setChecksum(String checksum) {
+    this.checksum = checksum;
+  }
+
+  @Override
+  public String toString() {
+    return "BlobTransferFileInfo{fileName=" + fileName + ", fileSize=" + fileSize + ", checksum=" + checksum + "}";
+  }
+}
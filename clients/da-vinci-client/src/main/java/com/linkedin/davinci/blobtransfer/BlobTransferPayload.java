@@ -6,6 +6,8 @@ import static com.linkedin.venice.store.rocksdb.RocksDBUtils.composeTempPartitio
 
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferTableFormat;
 import com.linkedin.venice.utils.Utils;
+import java.util.Collections;
+import java.util.List;
 
 
 /**
@@ -19,6 +21,8 @@ public class BlobTransferPayload {
   private final String tempPartitionDir;
   private final String storeName;
   private final BlobTransferTableFormat requestTableFormat;
+  // Files the client already holds, which don't need to be transferred again if they are identical on the server
+  private final List<BlobTransferFileInfo> existingFiles;
 
   public BlobTransferPayload(
       String baseDir,
@@ -26,6 +30,16 @@ public class BlobTransferPayload {
       int version,
       int partition,
       BlobTransferTableFormat requestTableFormat) {
+    this(baseDir, storeName, version, partition, requestTableFormat, Collections.emptyList());
+  }
+
+  public BlobTransferPayload(
+      String baseDir,
+      String storeName,
+      int version,
+      int partition,
+      BlobTransferTableFormat requestTableFormat,
+      List<BlobTransferFileInfo> existingFiles) {
     this.baseDir = baseDir;
     this.partition = partition;
     this.storeName = storeName;
@@ -33,6 +47,7 @@ public class BlobTransferPayload {
     this.partitionDir = composePartitionDbDir(baseDir, topicName, partition);
     this.tempPartitionDir = composeTempPartitionDir(baseDir, topicName, partition);
     this.requestTableFormat = requestTableFormat;
+    this.existingFiles = existingFiles;
   }
 
   public String getBaseDir() {
@@ -70,4 +85,8 @@ public class BlobTransferPayload {
   public BlobTransferTableFormat getRequestTableFormat() {
     return requestTableFormat;
   }
+
+  public List<BlobTransferFileInfo> getExistingFiles() {
+    return existingFiles;
+  }
 }
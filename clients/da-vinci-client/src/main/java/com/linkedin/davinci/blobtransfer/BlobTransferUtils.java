@@ -13,6 +13,7 @@ import com.linkedin.venice.SSLConfig;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.SslUtils;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.ssl.SslHandler;
@@ -22,7 +23,12 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -32,9 +38,14 @@ public class BlobTransferUtils {
   public static final String BLOB_TRANSFER_STATUS = "X-Blob-Transfer-Status";
   public static final String BLOB_TRANSFER_COMPLETED = "Completed";
   public static final String BLOB_TRANSFER_TYPE = "X-Blob-Transfer-Type";
+  public static final String SST_FILE_SUFFIX = ".sst";
 
+  /**
+   * {@link #REUSED_FILE} is sent instead of {@link #FILE} when the client advertised an identical copy of the file in
+   * its request, and the response carries no content.
+   */
   public enum BlobTransferType {
-    FILE, METADATA
+    FILE, METADATA, REUSED_FILE
   }
 
   public enum BlobTransferTableFormat {
@@ -89,6 +100,98 @@ public class BlobTransferUtils {
     return metadataHeader.equals(BlobTransferUtils.BlobTransferType.METADATA.name());
   }
 
+  /**
+   * Check if the HttpResponse message tells the client to keep its local copy of a file.
+   * @param msg the HttpResponse message
+   * @return true if the message is a reused file message, false otherwise
+   */
+  public static boolean isReusedFileMessage(HttpResponse msg) {
+    return BlobTransferType.REUSED_FILE.name().equals(msg.headers().get(BlobTransferUtils.BLOB_TRANSFER_TYPE));
+  }
+
+  /**
+   * Hard-link the SST files of an existing partition directory into the temp partition directory, so that they survive
+   * the partition drop before the blob transfer and can be advertised to the peer. SST files are immutable, so the
+   * links stay valid even if the original database keeps running while this happens; a file that is still being
+   * written or has gone away in the meantime is either skipped here or rejected by the checksum comparison in the
+   * server.
+   *
+   * @param partitionDir the existing partition directory
+   * @param tempPartitionDir the temp partition directory that the blob transfer writes into, it is recreated
+   * @return the number of SST files retained
+   */
+  public static int retainSstFilesForIncrementalTransfer(String partitionDir, String tempPartitionDir)
+      throws IOException {
+    RocksDBUtils.deleteDirectory(tempPartitionDir);
+    Path tempDir = Paths.get(tempPartitionDir);
+    File[] sstFiles = new File(partitionDir).listFiles((dir, name) -> name.endsWith(SST_FILE_SUFFIX));
+    if (sstFiles == null || sstFiles.length == 0) {
+      return 0;
+    }
+    Files.createDirectories(tempDir);
+    int retained = 0;
+    for (File sstFile: sstFiles) {
+      try {
+        Files.createLink(tempDir.resolve(sstFile.getName()), sstFile.toPath());
+        retained++;
+      } catch (IOException | UnsupportedOperationException e) {
+        LOGGER.warn("Failed to retain SST file: {} for incremental blob transfer", sstFile.getAbsolutePath(), e);
+      }
+    }
+    return retained;
+  }
+
+  /**
+   * Delete all the files of the given directory but the SST files, after a failed transfer attempt. The SST files,
+   * either retained or received from the failed peer, are advertised to the next peer, which sends again the ones that
+   * differ from its snapshot, e.g. a partially received file, while the other files are always sent.
+   * @param dir the directory to clean up, usually the temp partition directory
+   */
+  public static void deleteAllButSstFiles(String dir) throws IOException {
+    File[] otherFiles = new File(dir).listFiles((d, name) -> !name.endsWith(SST_FILE_SUFFIX));
+    if (otherFiles == null) {
+      return;
+    }
+    for (File otherFile: otherFiles) {
+      if (otherFile.isDirectory()) {
+        RocksDBUtils.deleteDirectory(otherFile.getPath());
+      } else {
+        Files.delete(otherFile.toPath());
+      }
+    }
+  }
+
+  /**
+   * Describe the SST files in the given directory, so that the blob transfer server can skip sending identical copies.
+   * The checksums of the files are computed in parallel on the given executor rather than on the calling thread.
+   * @param dir the directory to scan, usually the temp partition directory
+   * @param executor the executor computing the checksums
+   * @return a future of the description of each SST file, completed exceptionally if any checksum failed
+   */
+  public static CompletableFuture<List<BlobTransferFileInfo>> getExistingSstFilesAsync(String dir, Executor executor) {
+    File[] sstFiles = new File(dir).listFiles((d, name) -> name.endsWith(SST_FILE_SUFFIX));
+    if (sstFiles == null || sstFiles.length == 0) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    List<CompletableFuture<BlobTransferFileInfo>> futures = new ArrayList<>(sstFiles.length);
+    for (File sstFile: sstFiles) {
+      futures.add(CompletableFuture.supplyAsync(() -> {
+        try {
+          return new BlobTransferFileInfo(sstFile.getName(), sstFile.length(), generateFileChecksum(sstFile.toPath()));
+        } catch (IOException e) {
+          throw new VeniceException(e);
+        }
+      }, executor));
+    }
+    return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenApply(ignored -> {
+      List<BlobTransferFileInfo> existingFiles = new ArrayList<>(futures.size());
+      for (CompletableFuture<BlobTransferFileInfo> future: futures) {
+        existingFiles.add(future.join());
+      }
+      return existingFiles;
+    });
+  }
+
   /**
    * Generate MD5 checksum for a file
    * @param filePath the path to the file
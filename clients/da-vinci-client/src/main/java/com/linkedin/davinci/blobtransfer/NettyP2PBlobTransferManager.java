@@ -19,6 +19,7 @@ import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LogContext;
 import com.linkedin.venice.utils.Utils;
+import java.io.IOException;
 import java.io.InputStream;
 import java.time.Duration;
 import java.time.Instant;
@@ -149,7 +150,9 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
    *    a VeniceBlobTransferFileNotFoundException is thrown, and the process moves on to the next available host.
    * 5. If any unexpected exception occurs, such as InterruptedException, ExecutionException, or TimeoutException
    *    during the file/metadata transfer, a VeniceException is thrown,
-   *    and the process moves on to the next possible host, and the partially downloaded blobs are deleted.
+   *    and the process moves on to the next possible host. The SST files already in the temp partition dir are kept,
+   *    since the next host only sends the ones which differ from its snapshot, and the other files are deleted.
+   *    Everything is deleted once no host is left.
    *
    *  - Success case:
    *  1. If the blob is successfully fetched from a peer, an InputStream of the blob is returned.
@@ -248,6 +251,7 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
               new VeniceBlobTransferCancelledException(String.format(TRANSFER_CANCELLED_MSG_FORMAT, replicaId)));
         } else {
           // All hosts failed, fall back to Kafka bootstrapping
+          RocksDBUtils.cleanupBothPartitionDirAndTempTransferredDir(storeName, version, partition, baseDir);
           perPartitionTransferFuture.completeExceptionally(
               new VenicePeersAllFailedException(String.format(NO_VALID_PEERS_MSG_FORMAT, replicaId)));
         }
@@ -274,11 +278,26 @@ public class NettyP2PBlobTransferManager implements P2PBlobTransferManager<Void>
     } else {
       // error case 5: other exceptions (InterruptedException, ExecutionException, TimeoutException) that are not
       // expected, move to the next possible host
-      RocksDBUtils.cleanupBothPartitionDirAndTempTransferredDir(storeName, version, partition, baseDir);
+      cleanupFailedPeerTransfer(storeName, version, partition, replicaId);
       LOGGER.error(FAILED_TO_FETCH_BLOB_MSG, replicaId, chosenHost, ex.getMessage());
     }
   }
 
+  /**
+   * Clean up after a transfer attempt failed, while keeping the SST files of the temp partition dir for the next host.
+   */
+  private void cleanupFailedPeerTransfer(String storeName, int version, int partition, String replicaId) {
+    String kafkaTopic = Version.composeKafkaTopic(storeName, version);
+    String tempPartitionDir = RocksDBUtils.composeTempPartitionDir(baseDir, kafkaTopic, partition);
+    RocksDBUtils.deleteDirectory(RocksDBUtils.composePartitionDbDir(baseDir, kafkaTopic, partition));
+    try {
+      BlobTransferUtils.deleteAllButSstFiles(tempPartitionDir);
+    } catch (IOException e) {
+      LOGGER.warn("Failed to clean up temp directory: {} for replica {}", tempPartitionDir, replicaId, e);
+      RocksDBUtils.deleteDirectory(tempPartitionDir);
+    }
+  }
+
   @Override
   public void close() throws Exception {
     blobTransferService.close();
@@ -1,7 +1,9 @@
 package com.linkedin.davinci.blobtransfer.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.linkedin.alpini.base.concurrency.Executors;
 import com.linkedin.alpini.base.misc.ThreadPoolExecutor;
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferTableFormat;
 import com.linkedin.davinci.notifier.VeniceNotifier;
@@ -11,11 +13,14 @@ import com.linkedin.venice.exceptions.VenicePeersConnectionException;
 import com.linkedin.venice.listener.VerifySslHandler;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.LogContext;
+import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.AdaptiveRecvByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
@@ -28,6 +33,8 @@ import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpClientCodec;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.ssl.SslHandler;
@@ -272,8 +279,43 @@ public class NettyFileTransferClient {
       int version,
       int partition,
       BlobTransferTableFormat requestedTableFormat) {
-    String replicaId = Utils.getReplicaId(Version.composeKafkaTopic(storeName, version), partition);
     CompletionStage<InputStream> perHostTransferFuture = new CompletableFuture<>();
+    // Files retained from a previous copy of the partition, or received from a host which failed, are advertised to the
+    // remote host, so that it only sends the missing ones. Hashing them can take a while, so it is done on the checksum
+    // validation executor rather than on the calling thread.
+    BlobTransferUtils
+        .getExistingSstFilesAsync(
+            RocksDBUtils.composeTempPartitionDir(baseDir, Version.composeKafkaTopic(storeName, version), partition),
+            checksumValidationExecutorService)
+        .whenComplete((existingFiles, throwable) -> {
+          if (throwable != null) {
+            perHostTransferFuture.toCompletableFuture().completeExceptionally(throwable);
+          } else {
+            sendRequest(
+                host,
+                storeName,
+                version,
+                partition,
+                requestedTableFormat,
+                existingFiles,
+                perHostTransferFuture);
+          }
+        });
+    return perHostTransferFuture;
+  }
+
+  /**
+   * Connects to the remote host and requests the blob, and completes the given future once the transfer is done.
+   */
+  private void sendRequest(
+      String host,
+      String storeName,
+      int version,
+      int partition,
+      BlobTransferTableFormat requestedTableFormat,
+      List<BlobTransferFileInfo> existingFiles,
+      CompletionStage<InputStream> perHostTransferFuture) {
+    String replicaId = Utils.getReplicaId(Version.composeKafkaTopic(storeName, version), partition);
     try {
       // Connects to the remote host
       // Must open a new connection for each request (per store per version per partition level),
@@ -305,7 +347,7 @@ public class NettyFileTransferClient {
                     "The host " + host
                         + " channel already have P2PFileTransferClientHandler/P2PMetadataTransferHandler for replica "
                         + replicaId + " table format " + requestedTableFormat));
-        return perHostTransferFuture;
+        return;
       }
 
       // Request to get the blob file and metadata
@@ -322,6 +364,7 @@ public class NettyFileTransferClient {
                   version,
                   partition,
                   requestedTableFormat,
+                  existingFiles,
                   aggBlobTransferStats,
                   checksumValidationExecutorService))
           .addLast(
@@ -335,7 +378,7 @@ public class NettyFileTransferClient {
                   notifierSupplier));
       // Send a GET request
       ChannelFuture requestFuture =
-          ch.writeAndFlush(prepareRequest(storeName, version, partition, requestedTableFormat));
+          ch.writeAndFlush(prepareRequest(storeName, version, partition, requestedTableFormat, existingFiles));
 
       requestFuture.addListener(f -> {
         if (f.isSuccess()) {
@@ -363,7 +406,6 @@ public class NettyFileTransferClient {
         perHostTransferFuture.toCompletableFuture().completeExceptionally(e);
       }
     }
-    return perHostTransferFuture;
   }
 
   /**
@@ -389,11 +431,18 @@ public class NettyFileTransferClient {
       String storeName,
       int version,
       int partition,
-      BlobTransferTableFormat requestTableFormat) {
-    return new DefaultFullHttpRequest(
-        HttpVersion.HTTP_1_1,
-        HttpMethod.GET,
-        String.format("/%s/%d/%d/%s", storeName, version, partition, requestTableFormat.name()));
+      BlobTransferTableFormat requestTableFormat,
+      List<BlobTransferFileInfo> existingFiles) throws JsonProcessingException {
+    String uri = String.format("/%s/%d/%d/%s", storeName, version, partition, requestTableFormat.name());
+    if (existingFiles.isEmpty()) {
+      return new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+    }
+    byte[] content = ObjectMapperFactory.getInstance().writeValueAsBytes(existingFiles);
+    FullHttpRequest request =
+        new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri, Unpooled.wrappedBuffer(content));
+    request.headers().set(HttpHeaderNames.CONTENT_LENGTH, content.length);
+    request.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+    return request;
   }
 
   /**
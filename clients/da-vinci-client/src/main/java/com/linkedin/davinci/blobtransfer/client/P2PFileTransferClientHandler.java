@@ -3,6 +3,7 @@ package com.linkedin.davinci.blobtransfer.client;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_COMPLETED;
 import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BLOB_TRANSFER_STATUS;
 
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.davinci.stats.AggBlobTransferStats;
@@ -24,6 +25,7 @@ import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
@@ -33,7 +35,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
@@ -69,6 +74,8 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
   private final String replicaId;
   private long fileTransferStartTime;
   private final long replicaTransferStartTime;
+  // Files which were either received or confirmed reusable by the server, any other retained file is left over
+  private final Set<String> keptFileNames = new HashSet<>();
 
   public P2PFileTransferClientHandler(
       String baseDir,
@@ -79,8 +86,30 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
       BlobTransferUtils.BlobTransferTableFormat tableFormat,
       AggBlobTransferStats aggBlobTransferStats,
       ExecutorService checksumValidationExecutorService) {
+    this(
+        baseDir,
+        inputStreamFuture,
+        storeName,
+        version,
+        partition,
+        tableFormat,
+        Collections.emptyList(),
+        aggBlobTransferStats,
+        checksumValidationExecutorService);
+  }
+
+  public P2PFileTransferClientHandler(
+      String baseDir,
+      CompletionStage<InputStream> inputStreamFuture,
+      String storeName,
+      int version,
+      int partition,
+      BlobTransferUtils.BlobTransferTableFormat tableFormat,
+      List<BlobTransferFileInfo> existingFiles,
+      AggBlobTransferStats aggBlobTransferStats,
+      ExecutorService checksumValidationExecutorService) {
     this.inputStreamFuture = inputStreamFuture;
-    this.payload = new BlobTransferPayload(baseDir, storeName, version, partition, tableFormat);
+    this.payload = new BlobTransferPayload(baseDir, storeName, version, partition, tableFormat, existingFiles);
     this.storeName = storeName;
     this.version = version;
     this.replicaId = Utils.getReplicaId(payload.getTopicName(), payload.getPartition());
@@ -131,6 +160,18 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
         throw new VeniceException("No file name specified in the response for " + payload.getFullResourceName());
       }
 
+      // The server has the same file as the one retained locally, keep it as is
+      if (BlobTransferUtils.isReusedFileMessage(response)) {
+        if (!Files.exists(Paths.get(payload.getTempPartitionDir(), fileName))) {
+          throw new VeniceException("Reused file " + fileName + " does not exist locally for " + replicaId);
+        }
+        LOGGER.info("Reusing local file: {} for replica: {}", fileName, replicaId);
+        keptFileNames.add(fileName);
+        resetState();
+        return;
+      }
+      keptFileNames.add(fileName);
+
       LOGGER.info("Starting blob file receiving for file: {} for {}", fileName, replicaId);
       this.fileTransferStartTime = System.currentTimeMillis();
       this.fileContentLength = Long.parseLong(response.headers().get(HttpHeaderNames.CONTENT_LENGTH));
@@ -322,6 +363,7 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
         LatencyUtils.getElapsedTimeFromMsToMs(replicaTransferStartTime));
 
     try {
+      deleteUnusedRetainedFiles();
       RocksDBUtils.renameTempTransferredPartitionDirToPartitionDir(
           payload.getBaseDir(),
           payload.getTopicName(),
@@ -342,6 +384,18 @@ public class P2PFileTransferClientHandler extends SimpleChannelInboundHandler<Ht
     }
   }
 
+  /**
+   * Retained files which are not part of the snapshot on the server side must not end up in the partition directory.
+   */
+  private void deleteUnusedRetainedFiles() throws IOException {
+    for (BlobTransferFileInfo existingFile: payload.getExistingFiles()) {
+      if (!keptFileNames.contains(existingFile.getFileName())) {
+        Files.deleteIfExists(Paths.get(payload.getTempPartitionDir(), existingFile.getFileName()));
+        LOGGER.info("Deleted unused retained file: {} for replica: {}", existingFile.getFileName(), replicaId);
+      }
+    }
+  }
+
   private void cleanupResources() {
 
     // 1. Close file channel safely by ensuring data is flushed to disk.
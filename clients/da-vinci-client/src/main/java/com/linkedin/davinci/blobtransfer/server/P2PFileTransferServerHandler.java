@@ -12,6 +12,7 @@ import static io.netty.handler.codec.http.HttpHeaderValues.APPLICATION_OCTET_STR
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.linkedin.davinci.blobtransfer.BlobSnapshotManager;
+import com.linkedin.davinci.blobtransfer.BlobTransferFileInfo;
 import com.linkedin.davinci.blobtransfer.BlobTransferPartitionMetadata;
 import com.linkedin.davinci.blobtransfer.BlobTransferPayload;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
@@ -20,10 +21,13 @@ import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.request.RequestHelper;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.DefaultHttpResponse;
@@ -35,14 +39,22 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.stream.ChunkedFile;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.util.AttributeKey;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.RandomAccessFile;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -114,7 +126,7 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     BlobTransferPartitionMetadata transferPartitionMetadata;
 
     try {
-      blobTransferRequest = parseBlobTransferPayload(URI.create(httpRequest.uri()));
+      blobTransferRequest = parseBlobTransferPayload(URI.create(httpRequest.uri()), httpRequest.content());
       snapshotDir = new File(blobTransferRequest.getSnapshotDir());
 
       // Check the snapshot table format
@@ -183,11 +195,16 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     // Set up the time limitation for the transfer
     long startTime = System.currentTimeMillis();
     String replicaInfo = Utils.getReplicaId(blobTransferRequest.getTopicName(), blobTransferRequest.getPartition());
+    Map<String, BlobTransferFileInfo> existingFiles = new HashMap<>();
+    for (BlobTransferFileInfo existingFile: blobTransferRequest.getExistingFiles()) {
+      existingFiles.put(existingFile.getFileName(), existingFile);
+    }
     LOGGER.info(
-        "Start transferring {} files for replica {} to remote host {}.",
+        "Start transferring {} files for replica {} to remote host {}, which already holds {} files.",
         files.length,
         replicaInfo,
-        ctx.channel().remoteAddress());
+        ctx.channel().remoteAddress(),
+        existingFiles.size());
     // transfer files
     for (File file: files) {
       // check if the transfer for all files is timed out for this partition
@@ -198,8 +215,12 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
         setupResponseAndFlush(HttpResponseStatus.REQUEST_TIMEOUT, errMessage.getBytes(), false, ctx);
         return;
       }
-      // send file
-      sendFile(file, ctx, blobTransferRequest, replicaInfo);
+      // send file, unless the client already has an identical copy of it
+      if (isFileReusable(file, existingFiles.get(file.getName()), blobTransferRequest, replicaInfo)) {
+        sendReusedFile(file, ctx);
+      } else {
+        sendFile(file, ctx, blobTransferRequest, replicaInfo);
+      }
     }
 
     sendMetadata(ctx, transferPartitionMetadata);
@@ -281,13 +302,7 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     ChannelFuture sendFileFuture;
     long length = raf.length();
 
-    long checksumStartTime = System.currentTimeMillis();
-    String fileChecksum = BlobTransferUtils.generateFileChecksum(file.toPath());
-    LOGGER.info(
-        "Checksum calculation for file: {} for replica {} took {} ms.",
-        file.getName(),
-        replicaInfo,
-        System.currentTimeMillis() - checksumStartTime);
+    String fileChecksum = getFileChecksum(file, blobTransferPayload, replicaInfo);
 
     HttpResponse response = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
     response.headers().set(HttpHeaderNames.CONTENT_LENGTH, length);
@@ -298,16 +313,23 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
 
     ctx.write(response);
 
-    // Use ChunkedFile with adaptive chunk size
-    // It means minimum chunk size: 16 KB (16384 bytes), maximum chunk size: 2 MB (1024 * 1024 bytes)
-    int chunkSize = Math.min(2 * 1024 * 1024, (int) Math.max(16384, length / 4));
-    sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, 0, length, chunkSize)));
+    if (ctx.pipeline().get(SslHandler.class) == null) {
+      // Without SSL, the file can be sent with zero-copy (sendfile), without going through the heap
+      ctx.write(new DefaultFileRegion(raf.getChannel(), 0, length));
+      sendFileFuture = ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+    } else {
+      // Use ChunkedFile with adaptive chunk size, since the file content needs to be encrypted
+      // It means minimum chunk size: 16 KB (16384 bytes), maximum chunk size: 2 MB (1024 * 1024 bytes)
+      int chunkSize = Math.min(2 * 1024 * 1024, (int) Math.max(16384, length / 4));
+      sendFileFuture = ctx.writeAndFlush(new HttpChunkedInput(new ChunkedFile(raf, 0, length, chunkSize)));
+    }
 
     sendFileFuture.addListener(future -> {
       if (future.isSuccess()) {
         /**
          * Note: This does not record the real-time byte rate of files sent. If we want to pursue more accurate read metric,
-         * we will need to overwrite the {@link HttpChunkedInput} above to intercept the traffic and record the byte rate.
+         * we will need to overwrite the {@link HttpChunkedInput} or {@link DefaultFileRegion} above to intercept the
+         * traffic and record the byte rate.
          */
         aggBlobTransferStats.recordBlobTransferBytesSent(
             blobTransferPayload.getStoreName(),
@@ -329,6 +351,52 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
     });
   }
 
+  /**
+   * The checksum is normally computed once when the snapshot is created, only fall back to computing it here if not.
+   */
+  private String getFileChecksum(File file, BlobTransferPayload blobTransferPayload, String replicaInfo)
+      throws IOException {
+    String fileChecksum = blobSnapshotManager
+        .getSnapshotFileChecksum(blobTransferPayload.getTopicName(), blobTransferPayload.getPartition(), file);
+    if (fileChecksum == null) {
+      long checksumStartTime = System.currentTimeMillis();
+      fileChecksum = BlobTransferUtils.generateFileChecksum(file.toPath());
+      LOGGER.info(
+          "Checksum calculation for file: {} for replica {} took {} ms.",
+          file.getName(),
+          replicaInfo,
+          System.currentTimeMillis() - checksumStartTime);
+    }
+    return fileChecksum;
+  }
+
+  /**
+   * Only SST files are immutable, so only those can be reused by the client. The other files (MANIFEST, OPTIONS, etc.)
+   * are always sent, since they describe the current state of the snapshot.
+   */
+  private boolean isFileReusable(
+      File file,
+      BlobTransferFileInfo existingFile,
+      BlobTransferPayload blobTransferPayload,
+      String replicaInfo) throws IOException {
+    if (existingFile == null || !file.getName().endsWith(BlobTransferUtils.SST_FILE_SUFFIX)
+        || existingFile.getFileSize() != file.length()) {
+      return false;
+    }
+    return getFileChecksum(file, blobTransferPayload, replicaInfo).equals(existingFile.getChecksum());
+  }
+
+  /**
+   * Tell the client to keep its local copy of the given file, instead of sending the file content.
+   */
+  private void sendReusedFile(File file, ChannelHandlerContext ctx) {
+    FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    response.headers().set(HttpHeaderNames.CONTENT_LENGTH, 0);
+    response.headers().set(HttpHeaderNames.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getName() + "\"");
+    response.headers().set(BLOB_TRANSFER_TYPE, BlobTransferType.REUSED_FILE);
+    ctx.write(response);
+  }
+
   /**
    * Send metadata for the given blob transfer request
    * @param ctx the channel context
@@ -364,11 +432,12 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
   }
 
   /**
-   * Parse the URI to locate the blob
+   * Parse the URI to locate the blob, and the request content to find the files that the client already holds
    * @param uri
+   * @param content the JSON list of {@link BlobTransferFileInfo}, or empty if the client does not hold any file
    * @return
    */
-  private BlobTransferPayload parseBlobTransferPayload(URI uri) throws IllegalArgumentException {
+  private BlobTransferPayload parseBlobTransferPayload(URI uri, ByteBuf content) throws IllegalArgumentException {
     // Parse the request uri to obtain the storeName and partition
     String[] requestParts = RequestHelper.getRequestParts(uri);
 
@@ -381,6 +450,16 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
           "Invalid table format: " + requestParts[4] + " for fetching blob at " + uri.getPath());
     }
 
+    List<BlobTransferFileInfo> existingFiles = Collections.emptyList();
+    if (content != null && content.isReadable()) {
+      try (InputStream inputStream = new ByteBufInputStream(content.duplicate())) {
+        existingFiles =
+            Arrays.asList(ObjectMapperFactory.getInstance().readValue(inputStream, BlobTransferFileInfo[].class));
+      } catch (IOException e) {
+        throw new IllegalArgumentException("Invalid list of existing files for fetching blob at " + uri.getPath());
+      }
+    }
+
     if (requestParts.length == 5) {
       // [0]""/[1]"store"/[2]"version"/[3]"partition/[4]"table format"
       return new BlobTransferPayload(
@@ -388,7 +467,8 @@ public class P2PFileTransferServerHandler extends SimpleChannelInboundHandler<Fu
           requestParts[1],
           Integer.parseInt(requestParts[2]),
           Integer.parseInt(requestParts[3]),
-          requestTableFormat);
+          requestTableFormat,
+          existingFiles);
     } else {
       throw new IllegalArgumentException("Invalid request for fetching blob at " + uri.getPath());
     }
@@ -17,6 +17,7 @@ import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
 import static com.linkedin.venice.client.store.ClientFactory.getTransportClient;
 import static org.apache.avro.Schema.Type.RECORD;
 
+import com.linkedin.avroutil1.compatibility.AvroCompatibilityHelper;
 import com.linkedin.davinci.DaVinciBackend;
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
@@ -25,6 +26,7 @@ import com.linkedin.davinci.consumer.VeniceChangeCoordinate;
 import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericChunkingAdapter;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheBackend;
 import com.linkedin.davinci.store.cache.backend.ObjectCacheConfig;
 import com.linkedin.venice.acl.VeniceComponent;
@@ -49,6 +51,7 @@ import com.linkedin.venice.exceptions.StoreDisabledException;
 import com.linkedin.venice.exceptions.StoreVersionNotFoundException;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.exceptions.VeniceUnsupportedOperationException;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.pubsub.api.PubSubPosition;
@@ -72,6 +75,7 @@ import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -725,6 +729,101 @@ public class AvroGenericDaVinciClient<K, V> implements DaVinciClient<K, V>, Avro
     }
   }
 
+  @Override
+  public DaVinciStoreScan<K, V> scan(DaVinciScanOptions<K, V> options) {
+    throwIfNotReady();
+    throwIfReadsDisabled();
+    if (daVinciConfig.isCacheEnabled()) {
+      throw new VeniceClientException(
+          "Scan is not supported with the object cache enabled, storeName=" + getStoreName());
+    }
+    StoreDeserializerCache<V> scanDeserializerCache;
+    int scanReaderSchemaId;
+    if (options.getProjectionFields() != null) {
+      scanDeserializerCache = getProjectingDeserializerCache(options.getProjectionFields());
+      scanReaderSchemaId = DO_NOT_USE_READER_SCHEMA_ID;
+    } else {
+      scanDeserializerCache = this.storeDeserializerCache;
+      scanReaderSchemaId = this.readerSchemaId;
+    }
+
+    // The version is released when the scan is closed
+    ReferenceCounted<VersionBackend> versionRef = storeBackend.getDaVinciCurrentVersion();
+    List<DaVinciPartitionScan<K, V>> partitionScans = new ArrayList<>();
+    try {
+      VersionBackend versionBackend = versionRef.get();
+      if (versionBackend == null) {
+        storeBackend.getStats().recordBadRequest();
+        throw new VeniceClientException("Da Vinci client is not subscribed, storeName=" + getStoreName());
+      }
+
+      boolean isChunked = versionBackend.getVersion().isChunkingEnabled();
+      int partitionCount = versionBackend.getPartitionCount();
+      for (int partition = 0; partition < partitionCount; partition++) {
+        if (!isPartitionReadyToServe(versionBackend, partition)) {
+          continue;
+        }
+        int scannedPartition = partition;
+        AbstractStorageIterator iterator = versionBackend.getIterator(partition);
+        partitionScans.add(
+            new DaVinciPartitionScan<>(
+                partition,
+                iterator,
+                isChunked,
+                keyDeserializer::deserialize,
+                valueBytes -> versionBackend.decodeIteratedValue(
+                    iterator,
+                    scannedPartition,
+                    valueBytes,
+                    getAvroChunkingAdapter(),
+                    scanDeserializerCache,
+                    scanReaderSchemaId,
+                    REUSABLE_OBJECTS.get().binaryDecoder),
+                options.getKeyPredicate(),
+                options.getValuePredicate()));
+      }
+      return new DaVinciStoreScan<>(versionRef, partitionScans);
+    } catch (RuntimeException e) {
+      partitionScans.forEach(DaVinciPartitionScan::close);
+      versionRef.release();
+      throw e;
+    }
+  }
+
+  /**
+   * @return a deserializer cache which decodes the values of any writer schema into records with only the
+   *         {@param projectionFields} of the superset or latest value schema
+   */
+  private StoreDeserializerCache<V> getProjectingDeserializerCache(Collection<String> projectionFields) {
+    if (clientConfig.isSpecificClient() || daVinciConfig.isRecordTransformerEnabled()) {
+      throw new VeniceClientException(
+          "Field projection is only supported by generic clients without record transformer, storeName="
+              + getStoreName());
+    }
+    ReadOnlySchemaRepository schemaRepository = getBackend().getSchemaRepository();
+    Schema valueSchema = schemaRepository.getSupersetOrLatestValueSchema(getStoreName()).getSchema();
+    if (RECORD != valueSchema.getType()) {
+      throw new VeniceClientException(
+          "Value schema must be of type Record to project fields, storeName=" + getStoreName());
+    }
+    List<Schema.Field> projectedFields = new ArrayList<>(projectionFields.size());
+    for (String fieldName: projectionFields) {
+      Schema.Field field = valueSchema.getField(fieldName);
+      if (field == null) {
+        throw new VeniceClientException("Unknown projection field: " + fieldName + ", storeName=" + getStoreName());
+      }
+      projectedFields.add(AvroCompatibilityHelper.newField(field).build());
+    }
+    // The projected schema keeps the name of the value schema, so that the writer schemas resolve to it
+    Schema projectedSchema =
+        Schema.createRecord(valueSchema.getName(), valueSchema.getDoc(), valueSchema.getNamespace(), false);
+    projectedSchema.setFields(projectedFields);
+    return new AvroStoreDeserializerCache<>(
+        schemaId -> schemaRepository.getValueSchema(getStoreName(), schemaId).getSchema(),
+        writerSchema -> FastSerializerDeserializerFactory
+            .getFastAvroGenericDeserializer(writerSchema, projectedSchema));
+  }
+
   private boolean handleCallbackForEmptyKeySet(Set<K> keys, StreamingCallback callback) {
     if (keys.isEmpty()) {
       // no result for empty key set
@@ -56,4 +56,14 @@ public interface DaVinciClient<K, V> extends AvroGenericStoreClient<K, V> {
    * @return partition count
    */
   int getPartitionCount();
+
+  /**
+   * Scan all the data hosted locally for the current version, with one {@link DaVinciPartitionScan} per partition
+   * which is ready to serve. The scan must be closed once done with it, see {@link DaVinciStoreScan}.
+   *
+   * @param options the optional field projection and predicates of the scan
+   * @return a scan over the current version
+   * @throws VeniceException if the client is not subscribed, or if the options are not supported
+   */
+  DaVinciStoreScan<K, V> scan(DaVinciScanOptions<K, V> options);
 }
@@ -0,0 +1,118 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
+import com.linkedin.davinci.store.AbstractStorageIterator;
+import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.utils.lazy.Lazy;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * Scans the entries of a single partition with an {@link AbstractStorageIterator}, which reads a point-in-time view of
+ * the partition as of its creation. The keys and values are decoded lazily, see {@link DaVinciScanEntry}.
+ *
+ * Like any {@link Spliterator}, it must not be used by several threads at once. A partition is not split any further,
+ * so the partitions are the unit of parallelism of a {@link DaVinciStoreScan}.
+ */
+public class DaVinciPartitionScan<K, V> implements Spliterator<DaVinciScanEntry<K, V>>, AutoCloseable {
+  private final int partition;
+  private final AbstractStorageIterator iterator;
+  private final boolean isChunked;
+  private final Function<byte[], K> keyDecoder;
+  private final Function<byte[], V> valueDecoder;
+  private final Predicate<K> keyPredicate;
+  private final Predicate<V> valuePredicate;
+  private boolean started = false;
+  private boolean closed = false;
+
+  DaVinciPartitionScan(
+      int partition,
+      AbstractStorageIterator iterator,
+      boolean isChunked,
+      Function<byte[], K> keyDecoder,
+      Function<byte[], V> valueDecoder,
+      Predicate<K> keyPredicate,
+      Predicate<V> valuePredicate) {
+    this.partition = partition;
+    this.iterator = iterator;
+    this.isChunked = isChunked;
+    this.keyDecoder = keyDecoder;
+    this.valueDecoder = valueDecoder;
+    this.keyPredicate = keyPredicate;
+    this.valuePredicate = valuePredicate;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super DaVinciScanEntry<K, V>> action) {
+    if (closed) {
+      return false;
+    }
+    if (!started) {
+      iterator.seekToFirst();
+      started = true;
+    }
+    for (; iterator.isValid(); iterator.next()) {
+      byte[] keyBytes = iterator.key();
+      if (isChunked) {
+        // The chunks of the large values are read along with their manifest, which has the key of a full value
+        if (!ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.isNonChunkedKey(keyBytes)) {
+          continue;
+        }
+        keyBytes = ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.getKeyFromNonChunkedKey(keyBytes);
+      }
+      final byte[] finalKeyBytes = keyBytes;
+      Lazy<K> key = Lazy.of(() -> keyDecoder.apply(finalKeyBytes));
+      if (keyPredicate != null && !keyPredicate.evaluate(key.get())) {
+        continue;
+      }
+      // The value is only copied out of the storage engine once the key matched
+      final byte[] valueBytes = iterator.value();
+      Lazy<V> value = Lazy.of(() -> valueDecoder.apply(valueBytes));
+      if (valuePredicate != null && !valuePredicate.evaluate(value.get())) {
+        continue;
+      }
+      iterator.next();
+      action.accept(new DaVinciScanEntry<>(partition, key, value));
+      return true;
+    }
+    return false;
+  }
+
+  @Override
+  public Spliterator<DaVinciScanEntry<K, V>> trySplit() {
+    return null;
+  }
+
+  @Override
+  public long estimateSize() {
+    return Long.MAX_VALUE;
+  }
+
+  @Override
+  public int characteristics() {
+    return NONNULL;
+  }
+
+  /**
+   * @return a sequential stream over the entries of the partition, which closes this scan when it is closed
+   */
+  public Stream<DaVinciScanEntry<K, V>> stream() {
+    return StreamSupport.stream(this, false).onClose(this::close);
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      iterator.close();
+    }
+  }
+}
@@ -188,6 +188,19 @@ public abstract class DaVinciRecordTransformer<K, V, O> implements Closeable {
     return;
   }
 
+  /**
+   * Callback invoked right before the ingestion progress of a partition is checkpointed. Implementations which buffer
+   * records instead of processing them right away must persist the buffered records of the partition here, since the
+   * records prior to the checkpoint are not replayed after a restart.
+   *
+   * By default, it's a no-op.
+   *
+   * @param partitionId what partition is being checkpointed
+   */
+  public void onBeforeCheckpoint(int partitionId) {
+    return;
+  }
+
   /**
    * Whether to deserialize input values using a single, uniform schema.
    *
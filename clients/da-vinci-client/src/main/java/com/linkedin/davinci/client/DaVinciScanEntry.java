@@ -0,0 +1,32 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.venice.utils.lazy.Lazy;
+
+
+/**
+ * An entry returned by a {@link DaVinciPartitionScan}. The key and the value are only decoded the first time they are
+ * accessed, unless a predicate of the scan already needed them.
+ */
+public class DaVinciScanEntry<K, V> {
+  private final int partition;
+  private final Lazy<K> key;
+  private final Lazy<V> value;
+
+  DaVinciScanEntry(int partition, Lazy<K> key, Lazy<V> value) {
+    this.partition = partition;
+    this.key = key;
+    this.value = value;
+  }
+
+  public int getPartition() {
+    return partition;
+  }
+
+  public K getKey() {
+    return key.get();
+  }
+
+  public V getValue() {
+    return value.get();
+  }
+}
@@ -0,0 +1,64 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.venice.client.store.predicate.Predicate;
+import java.util.Collection;
+
+
+/**
+ * Optional settings of {@link DaVinciClient#scan(DaVinciScanOptions)}. By default, the whole values of all the keys are
+ * returned.
+ */
+public class DaVinciScanOptions<K, V> {
+  /**
+   * The fields of the value records to decode, the other fields are skipped while decoding and left out of the
+   * returned records. Only supported by generic clients, for stores whose values are records.
+   */
+  private Collection<String> projectionFields;
+
+  /**
+   * Only the entries whose key matches are returned. It is evaluated before the value is decoded.
+   */
+  private Predicate<K> keyPredicate;
+
+  /**
+   * Only the entries whose value matches are returned. It is evaluated on the projected value, and requires decoding
+   * the value of every entry while scanning.
+   */
+  private Predicate<V> valuePredicate;
+
+  public DaVinciScanOptions() {
+  }
+
+  public Collection<String> getProjectionFields() {
+    return projectionFields;
+  }
+
+  public DaVinciScanOptions<K, V> setProjectionFields(Collection<String> projectionFields) {
+    this.projectionFields = projectionFields;
+    return this;
+  }
+
+  public Predicate<K> getKeyPredicate() {
+    return keyPredicate;
+  }
+
+  public DaVinciScanOptions<K, V> setKeyPredicate(Predicate<K> keyPredicate) {
+    this.keyPredicate = keyPredicate;
+    return this;
+  }
+
+  public Predicate<V> getValuePredicate() {
+    return valuePredicate;
+  }
+
+  public DaVinciScanOptions<K, V> setValuePredicate(Predicate<V> valuePredicate) {
+    this.valuePredicate = valuePredicate;
+    return this;
+  }
+
+  @Override
+  public String toString() {
+    return "DaVinciScanOptions{projectionFields=" + projectionFields + ", keyPredicate=" + keyPredicate
+        + ", valuePredicate=" + valuePredicate + "}";
+  }
+}
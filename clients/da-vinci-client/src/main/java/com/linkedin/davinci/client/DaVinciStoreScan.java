@@ -0,0 +1,124 @@
+package com.linkedin.davinci.client;
+
+import com.linkedin.davinci.VersionBackend;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.utils.ReferenceCounted;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * A scan over the data hosted locally for the current version of a store, returned by
+ * {@link DaVinciClient#scan(DaVinciScanOptions)}. It is made of one {@link DaVinciPartitionScan} per partition which
+ * was ready to serve when the scan was created, and the partitions can either be scanned separately, e.g. by the
+ * threads of the application, or all together with {@link #stream()} and {@link #parallelStream()}.
+ *
+ * The scan holds on to the version it reads, so a version swap does not delete its data before the scan is closed.
+ * The partitions being scanned must not be unsubscribed until then, and the entries must be consumed before the scan
+ * is closed.
+ */
+public class DaVinciStoreScan<K, V> implements AutoCloseable {
+  private final ReferenceCounted<VersionBackend> versionRef;
+  private final List<DaVinciPartitionScan<K, V>> partitionScans;
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+
+  DaVinciStoreScan(ReferenceCounted<VersionBackend> versionRef, List<DaVinciPartitionScan<K, V>> partitionScans) {
+    this.versionRef = versionRef;
+    this.partitionScans = Collections.unmodifiableList(partitionScans);
+  }
+
+  /**
+   * @return the version being scanned
+   */
+  public Version getVersion() {
+    return versionRef.get().getVersion();
+  }
+
+  public List<DaVinciPartitionScan<K, V>> getPartitionScans() {
+    return partitionScans;
+  }
+
+  /**
+   * @return a {@link Spliterator} over the entries of all the partitions, which splits into groups of partitions
+   */
+  public Spliterator<DaVinciScanEntry<K, V>> spliterator() {
+    return new PartitionsSpliterator(0, partitionScans.size());
+  }
+
+  /**
+   * @return a sequential stream over the entries of all the partitions, which closes this scan when it is closed
+   */
+  public Stream<DaVinciScanEntry<K, V>> stream() {
+    return StreamSupport.stream(spliterator(), false).onClose(this::close);
+  }
+
+  /**
+   * @return a parallel stream over the entries of all the partitions, which closes this scan when it is closed
+   */
+  public Stream<DaVinciScanEntry<K, V>> parallelStream() {
+    return StreamSupport.stream(spliterator(), true).onClose(this::close);
+  }
+
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      try {
+        for (DaVinciPartitionScan<K, V> partitionScan: partitionScans) {
+          partitionScan.close();
+        }
+      } finally {
+        versionRef.release();
+      }
+    }
+  }
+
+  /**
+   * Covers the partition scans from {@link #index} to {@link #fence}, and splits them in halves.
+   */
+  private class PartitionsSpliterator implements Spliterator<DaVinciScanEntry<K, V>> {
+    private int index;
+    private final int fence;
+
+    PartitionsSpliterator(int index, int fence) {
+      this.index = index;
+      this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DaVinciScanEntry<K, V>> action) {
+      while (index < fence) {
+        if (partitionScans.get(index).tryAdvance(action)) {
+          return true;
+        }
+        index++;
+      }
+      return false;
+    }
+
+    @Override
+    public Spliterator<DaVinciScanEntry<K, V>> trySplit() {
+      if (fence - index < 2) {
+        return null;
+      }
+      int middle = (index + fence) >>> 1;
+      Spliterator<DaVinciScanEntry<K, V>> prefix = new PartitionsSpliterator(index, middle);
+      index = middle;
+      return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+      return index < fence ? Long.MAX_VALUE : 0;
+    }
+
+    @Override
+    public int characteristics() {
+      return NONNULL;
+    }
+  }
+}
@@ -52,6 +52,11 @@ public class DelegatingAvroGenericDaVinciClient<K, V>
     return delegate.getPartitionCount();
   }
 
+  @Override
+  public DaVinciStoreScan<K, V> scan(DaVinciScanOptions<K, V> options) {
+    return delegate.scan(options);
+  }
+
   @Override
   public CompletableFuture<V> get(K key) throws VeniceClientException {
     return delegate.get(key);
@@ -85,6 +85,11 @@ public class InternalDaVinciRecordTransformer<K, V, O> extends DaVinciRecordTran
     this.recordTransformer.onEndVersionIngestion(currentVersion);
   }
 
+  @Override
+  public void onBeforeCheckpoint(int partitionId) {
+    this.recordTransformer.onBeforeCheckpoint(partitionId);
+  }
+
   @Override
   public boolean useUniformInputValueSchema() {
     return this.recordTransformer.useUniformInputValueSchema();
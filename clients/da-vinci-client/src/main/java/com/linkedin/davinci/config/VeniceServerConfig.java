@@ -10,6 +10,7 @@ import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_ACL_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_CLIENT_READ_LIMIT_BYTES_PER_SEC;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_DISABLED_OFFSET_LAG_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_DISABLED_TIME_LAG_THRESHOLD_IN_MINUTES;
+import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_INCREMENTAL_TRANSFER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MANAGER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_CONCURRENT_BLOB_RECEIVE_REPLICAS;
 import static com.linkedin.venice.ConfigKeys.BLOB_TRANSFER_MAX_CONCURRENT_SNAPSHOT_USER;
@@ -75,6 +76,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_READ_COMP
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_SIGNAL_IDLE_THRESHOLD;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_SIGNAL_REFRESH_INTERVAL_IN_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_ADAPTIVE_THROTTLER_SINGLE_GET_LATENCY_THRESHOLD;
+import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_GET_MULTI_GET_LOOKUP_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BATCH_REPORT_END_OF_INCREMENTAL_PUSH_STATUS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_TRANSFER_ADAPTIVE_THROTTLER_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_BLOB_TRANSFER_ADAPTIVE_THROTTLER_UPDATE_PERCENTAGE;
@@ -116,6 +118,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_ENABLE_PARALLEL_BATCH_GET;
 import static com.linkedin.venice.ConfigKeys.SERVER_FORKED_PROCESS_JVM_ARGUMENT_LIST;
 import static com.linkedin.venice.ConfigKeys.SERVER_GLOBAL_RT_DIV_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_HELIX_JOIN_AS_UNKNOWN;
+import static com.linkedin.venice.ConfigKeys.SERVER_HOT_KEY_TRACKING_SAMPLE_INTERVAL;
+import static com.linkedin.venice.ConfigKeys.SERVER_HOT_KEY_TRACKING_TOP_K;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_HEADER_TABLE_SIZE;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INBOUND_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_HTTP2_INITIAL_WINDOW_SIZE;
@@ -166,6 +170,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_NON_CURRENT_VERSION_NON_AA_W
 import static com.linkedin.venice.ConfigKeys.SERVER_NON_EXISTING_TOPIC_CHECK_RETRY_INTERNAL_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_NON_EXISTING_TOPIC_INGESTION_TASK_KILL_THRESHOLD_SECOND;
 import static com.linkedin.venice.ConfigKeys.SERVER_NUM_SCHEMA_FAST_CLASS_WARMUP;
+import static com.linkedin.venice.ConfigKeys.SERVER_OFF_HEAP_IN_MEMORY_MAX_SLAB_SIZE_IN_BYTES;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_FOR_BACKUP_VERSION_NO_READ_THRESHOLD_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_OPTIMIZE_DATABASE_SERVICE_SCHEDULE_INTERNAL_SECONDS;
@@ -181,6 +186,7 @@ import static com.linkedin.venice.ConfigKeys.SERVER_PUBSUB_CONSUMER_POLL_RETRY_T
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_CAPACITY_MULTIPLE;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_QUOTA_ENFORCEMENT_INTERVAL_IN_MILLIS;
+import static com.linkedin.venice.ConfigKeys.SERVER_READ_METRICS_PRE_AGGREGATION_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_READ_OTEL_STATS_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_READ_QUOTA_INITIALIZATION_FALLBACK_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_RECORD_LEVEL_METRICS_WHEN_BOOTSTRAPPING_CURRENT_VERSION_ENABLED;
@@ -202,6 +208,8 @@ import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_DISK_UNHEALTHY_TIME
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_PARTITION_STATE_TIMEOUT_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_SIT_WAIT_TIME_SECONDS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SHUTDOWN_SYNC_OFFSET_TIMEOUT_MS;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_LARGE_VALUE_STREAMING_ENABLED;
+import static com.linkedin.venice.ConfigKeys.SERVER_SINGLE_GET_LARGE_VALUE_STREAMING_READ_AHEAD_CHUNKS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SKIP_CHECK_AFTER_UNSUB_ENABLED;
 import static com.linkedin.venice.ConfigKeys.SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SERVER_SSL_HANDSHAKE_QUEUE_CAPACITY;
@@ -233,7 +241,9 @@ import static com.linkedin.venice.ConfigKeys.STORE_CHANGE_NOTIFIER_THREAD_POOL_S
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_AFTER_LEADER_LOGIC_ENABLED;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_MEMORY_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_BUFFER_NOTIFY_DELTA;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_DRAIN_BATCH_SIZE;
 import static com.linkedin.venice.ConfigKeys.STORE_WRITER_NUMBER;
+import static com.linkedin.venice.ConfigKeys.STORE_WRITER_REBALANCE_INTERVAL_MS;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_CLUSTER_NAME;
 import static com.linkedin.venice.ConfigKeys.SYSTEM_SCHEMA_INITIALIZATION_AT_START_TIME_ENABLED;
 import static com.linkedin.venice.ConfigKeys.TIME_LAG_THRESHOLD_FOR_FAST_ONLINE_TRANSITION_IN_RESTART_MINUTES;
@@ -368,6 +378,14 @@ public class VeniceServerConfig extends VeniceClusterConfig {
    */
   private final long storeWriterBufferNotifyDelta;
 
+  private final int storeWriterDrainBatchSize;
+
+  private final long storeWriterRebalanceIntervalMs;
+
+  private final int hotKeyTrackingSampleInterval;
+
+  private final int hotKeyTrackingTopK;
+
   /**
    * The number of threads being used to serve get requests.
    */
@@ -492,6 +510,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
   private final int parallelBatchGetChunkSize;
 
+  private final boolean batchGetMultiGetLookupEnabled;
+
+  private final boolean singleGetLargeValueStreamingEnabled;
+  private final int singleGetLargeValueStreamingReadAheadChunks;
+
+  private final int offHeapInMemoryMaxSlabSizeInBytes;
+
   private final boolean keyValueProfilingEnabled;
 
   private final boolean enableDatabaseMemoryStats;
@@ -568,6 +593,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final boolean unregisterMetricForDeletedStoreEnabled;
   private final boolean ingestionOtelStatsEnabled;
   private final boolean readOtelStatsEnabled;
+  private final boolean readMetricsPreAggregationEnabled;
   protected final boolean readOnlyForBatchOnlyStoreEnabled; // TODO: remove this config as its never used in prod
   private final boolean resetErrorReplicaEnabled;
 
@@ -651,6 +677,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
   private final long blobTransferServiceWriteLimitBytesPerSec;
   private final long blobTransferDisabledOffsetLagThreshold;
   private final int blobTransferDisabledTimeLagThresholdInMinutes;
+  private final boolean blobTransferIncrementalTransferEnabled;
   private final int snapshotCleanupIntervalInMins;
   private final int maxConcurrentBlobReceiveReplicas;
   private final int dvcP2pBlobTransferServerPort;
@@ -790,6 +817,8 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getLong(BLOB_TRANSFER_DISABLED_OFFSET_LAG_THRESHOLD, 100000L);
     blobTransferDisabledTimeLagThresholdInMinutes =
         serverProperties.getInt(BLOB_TRANSFER_DISABLED_TIME_LAG_THRESHOLD_IN_MINUTES, 0); // Default: Disabled.
+    blobTransferIncrementalTransferEnabled =
+        serverProperties.getBoolean(BLOB_TRANSFER_INCREMENTAL_TRANSFER_ENABLED, false);
 
     dvcP2pBlobTransferServerPort = serverProperties.getInt(DAVINCI_P2P_BLOB_TRANSFER_SERVER_PORT, -1);
     dvcP2pBlobTransferClientPort =
@@ -817,6 +846,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     storeWriterBufferMemoryCapacity =
         serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_MEMORY_CAPACITY, 10 * 1024 * 1024);
     storeWriterBufferNotifyDelta = serverProperties.getSizeInBytes(STORE_WRITER_BUFFER_NOTIFY_DELTA, 1 * 1024 * 1024);
+    storeWriterDrainBatchSize = serverProperties.getInt(STORE_WRITER_DRAIN_BATCH_SIZE, 1);
+    storeWriterRebalanceIntervalMs = serverProperties.getLong(STORE_WRITER_REBALANCE_INTERVAL_MS, 0);
+    hotKeyTrackingSampleInterval = serverProperties.getInt(SERVER_HOT_KEY_TRACKING_SAMPLE_INTERVAL, 0);
+    hotKeyTrackingTopK = serverProperties.getInt(SERVER_HOT_KEY_TRACKING_TOP_K, 20);
     restServiceStorageThreadNum = serverProperties.getInt(SERVER_REST_SERVICE_STORAGE_THREAD_NUM, 16);
     serverComputeThreadNum = serverProperties.getInt(SERVER_COMPUTE_THREAD_NUM, 16);
     nettyIdleTimeInSeconds = serverProperties.getInt(SERVER_NETTY_IDLE_TIME_SECONDS, (int) TimeUnit.HOURS.toSeconds(3));
@@ -904,6 +937,13 @@ public class VeniceServerConfig extends VeniceClusterConfig {
 
     enableParallelBatchGet = serverProperties.getBoolean(SERVER_ENABLE_PARALLEL_BATCH_GET, false);
     parallelBatchGetChunkSize = serverProperties.getInt(SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE, 5);
+    batchGetMultiGetLookupEnabled = serverProperties.getBoolean(SERVER_BATCH_GET_MULTI_GET_LOOKUP_ENABLED, false);
+    singleGetLargeValueStreamingEnabled =
+        serverProperties.getBoolean(SERVER_SINGLE_GET_LARGE_VALUE_STREAMING_ENABLED, false);
+    singleGetLargeValueStreamingReadAheadChunks =
+        serverProperties.getInt(SERVER_SINGLE_GET_LARGE_VALUE_STREAMING_READ_AHEAD_CHUNKS, 2);
+    offHeapInMemoryMaxSlabSizeInBytes = (int) serverProperties
+        .getSizeInBytes(SERVER_OFF_HEAP_IN_MEMORY_MAX_SLAB_SIZE_IN_BYTES, 4 * BYTES_PER_MB);
 
     keyValueProfilingEnabled = serverProperties.getBoolean(KEY_VALUE_PROFILING_ENABLED, false);
     enableDatabaseMemoryStats = serverProperties.getBoolean(SERVER_DATABASE_MEMORY_STATS_ENABLED, true);
@@ -1040,6 +1080,7 @@ public class VeniceServerConfig extends VeniceClusterConfig {
         serverProperties.getBoolean(UNREGISTER_METRIC_FOR_DELETED_STORE_ENABLED, false);
     ingestionOtelStatsEnabled = serverProperties.getBoolean(SERVER_INGESTION_OTEL_STATS_ENABLED, true);
     readOtelStatsEnabled = serverProperties.getBoolean(SERVER_READ_OTEL_STATS_ENABLED, true);
+    readMetricsPreAggregationEnabled = serverProperties.getBoolean(SERVER_READ_METRICS_PRE_AGGREGATION_ENABLED, false);
     fastAvroFieldLimitPerMethod = serverProperties.getInt(FAST_AVRO_FIELD_LIMIT_PER_METHOD, 100);
 
     forkedProcessJvmArgList =
@@ -1348,6 +1389,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return blobTransferDisabledTimeLagThresholdInMinutes;
   }
 
+  public boolean isBlobTransferIncrementalTransferEnabled() {
+    return blobTransferIncrementalTransferEnabled;
+  }
+
   public int getSnapshotCleanupIntervalInMins() {
     return snapshotCleanupIntervalInMins;
   }
@@ -1405,6 +1450,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return this.storeWriterBufferNotifyDelta;
   }
 
+  public int getStoreWriterDrainBatchSize() {
+    return this.storeWriterDrainBatchSize;
+  }
+
+  public long getStoreWriterRebalanceIntervalMs() {
+    return this.storeWriterRebalanceIntervalMs;
+  }
+
+  public int getHotKeyTrackingSampleInterval() {
+    return this.hotKeyTrackingSampleInterval;
+  }
+
+  public int getHotKeyTrackingTopK() {
+    return this.hotKeyTrackingTopK;
+  }
+
   public int getRestServiceStorageThreadNum() {
     return restServiceStorageThreadNum;
   }
@@ -1545,6 +1606,22 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return parallelBatchGetChunkSize;
   }
 
+  public boolean isBatchGetMultiGetLookupEnabled() {
+    return batchGetMultiGetLookupEnabled;
+  }
+
+  public boolean isSingleGetLargeValueStreamingEnabled() {
+    return singleGetLargeValueStreamingEnabled;
+  }
+
+  public int getSingleGetLargeValueStreamingReadAheadChunks() {
+    return singleGetLargeValueStreamingReadAheadChunks;
+  }
+
+  public int getOffHeapInMemoryMaxSlabSizeInBytes() {
+    return offHeapInMemoryMaxSlabSizeInBytes;
+  }
+
   public boolean isKeyValueProfilingEnabled() {
     return keyValueProfilingEnabled;
   }
@@ -1765,6 +1842,10 @@ public class VeniceServerConfig extends VeniceClusterConfig {
     return readOtelStatsEnabled;
   }
 
+  public boolean isReadMetricsPreAggregationEnabled() {
+    return readMetricsPreAggregationEnabled;
+  }
+
   public boolean isReadOnlyForBatchOnlyStoreEnabled() {
     return readOnlyForBatchOnlyStoreEnabled;
   }
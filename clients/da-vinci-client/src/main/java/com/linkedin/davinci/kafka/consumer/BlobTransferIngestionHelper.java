@@ -4,6 +4,7 @@ import static com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferTa
 
 import com.linkedin.davinci.blobtransfer.BlobTransferManager;
 import com.linkedin.davinci.blobtransfer.BlobTransferStatusTrackingManager;
+import com.linkedin.davinci.blobtransfer.BlobTransferUtils;
 import com.linkedin.davinci.blobtransfer.BlobTransferUtils.BlobTransferStatus;
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.davinci.config.VeniceStoreVersionConfig;
@@ -194,6 +195,11 @@ public class BlobTransferIngestionHelper {
     String replicaId = pcs.getReplicaId();
     LOGGER.info("Starting async blob transfer for replica: {}", replicaId);
 
+    // Keep the SST files of the existing partition data, so that only the missing ones are fetched from the peer
+    if (serverConfig.isBlobTransferIncrementalTransferEnabled()) {
+      retainSstFilesBeforeBlobTransfer(storeName, versionNumber, partition, replicaId);
+    }
+
     // Prepare storage for blob transfer: drop existing partition data and clean up directories
     if (storageEngine.containsPartition(partition)) {
       storageEngine.dropPartition(partition, false);
@@ -245,11 +251,42 @@ public class BlobTransferIngestionHelper {
     });
   }
 
+  /**
+   * Hard-link the SST files of the existing partition directory into the temp partition directory, which the blob
+   * transfer client advertises to the peer. Any failure here only means a full transfer, so it is not propagated.
+   */
+  private void retainSstFilesBeforeBlobTransfer(
+      String storeName,
+      int versionNumber,
+      int partitionId,
+      String replicaId) {
+    String kafkaTopic = Version.composeKafkaTopic(storeName, versionNumber);
+    String rocksDBPath = serverConfig.getRocksDBPath();
+    try {
+      int retainedFiles = BlobTransferUtils.retainSstFilesForIncrementalTransfer(
+          RocksDBUtils.composePartitionDbDir(rocksDBPath, kafkaTopic, partitionId),
+          RocksDBUtils.composeTempPartitionDir(rocksDBPath, kafkaTopic, partitionId));
+      LOGGER.info("Retained {} SST files for incremental blob transfer for replica {}", retainedFiles, replicaId);
+    } catch (Exception e) {
+      LOGGER.warn("Failed to retain SST files for incremental blob transfer for replica {}", replicaId, e);
+      RocksDBUtils.deleteDirectory(RocksDBUtils.composeTempPartitionDir(rocksDBPath, kafkaTopic, partitionId));
+    }
+  }
+
   /**
    * Before bootstrapping from blob transfer, validate the partition directory and temp partition directory.
    * If either of them exists, delete them to ensure a clean state for blob transfer.
+   * With incremental blob transfer, the temp partition directory holds the retained SST files, so it is kept.
    */
   private void validateDirectoriesBeforeBlobTransfer(String storeName, int versionNumber, int partitionId) {
+    if (serverConfig.isBlobTransferIncrementalTransferEnabled()) {
+      String partitionDir = RocksDBUtils.composePartitionDbDir(
+          serverConfig.getRocksDBPath(),
+          Version.composeKafkaTopic(storeName, versionNumber),
+          partitionId);
+      RocksDBUtils.deleteDirectory(partitionDir);
+      return;
+    }
     RocksDBUtils.cleanupBothPartitionDirAndTempTransferredDir(
         storeName,
         versionNumber,
@@ -31,6 +31,7 @@ import com.linkedin.davinci.stats.AggHostLevelIngestionStats;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedDaVinciRecordTransformerStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.stats.ParticipantStoreConsumptionStats;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
 import com.linkedin.davinci.storage.StorageMetadataService;
@@ -161,6 +162,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
   private final ReadOnlyStoreRepository metadataRepo;
   private final AggHostLevelIngestionStats hostLevelIngestionStats;
   private final AggVersionedIngestionStats versionedIngestionStats;
+  private final HotKeyTracker hotKeyTracker;
 
   /**
    * Store buffer service to persist data into local bdb for all the stores.
@@ -437,6 +439,8 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
           serverConfig.getStoreWriterBufferMemoryCapacity(),
           serverConfig.getStoreWriterBufferNotifyDelta(),
           serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+          serverConfig.getStoreWriterDrainBatchSize(),
+          serverConfig.getStoreWriterRebalanceIntervalMs(),
           serverConfig.getLogContext(),
           metricsRepository,
           true,
@@ -519,6 +523,13 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     Supplier<IngestionTaskReusableObjects> reusableObjectsSupplier =
         serverConfig.getIngestionTaskReusableObjectsStrategy().supplier();
 
+    this.hotKeyTracker = serverConfig.getHotKeyTrackingSampleInterval() > 0
+        ? new HotKeyTracker(
+            serverConfig.getHotKeyTrackingSampleInterval(),
+            serverConfig.getHotKeyTrackingTopK(),
+            metricsRepository)
+        : null;
+
     ingestionTaskFactory = StoreIngestionTaskFactory.builder()
         .setPubSubContext(pubSubContext)
         .setVeniceWriterFactory(veniceWriterFactory)
@@ -545,6 +556,7 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
         .setReusableObjectsSupplier(reusableObjectsSupplier)
         .setBlobTransferManagerSupplier(() -> this.blobTransferManager)
         .setBlobTransferDisabledStores(blobTransferDisabledStores)
+        .setHotKeyTracker(hotKeyTracker)
         .build();
   }
 
@@ -836,6 +848,9 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
       StoreIngestionTask storeIngestionTask = topicNameToIngestionTaskMap.remove(topicName);
       if (storeIngestionTask != null) {
         storeIngestionTask.shutdownAndWait(serverConfig.getShutdownSitWaitTimeSeconds());
+        if (hotKeyTracker != null) {
+          hotKeyTracker.removeVersion(topicName);
+        }
         LOGGER.info("Successfully shut down ingestion task for {}", topicName);
       } else {
         LOGGER.info("Ignoring close request for not-existing consumption task {}", topicName);
@@ -1548,6 +1563,13 @@ public class KafkaStoreIngestionService extends AbstractVeniceService implements
     return this.blobTransferManager;
   }
 
+  /**
+   * @return the tracker of the hot keys read from and written to the hosted store versions, if enabled
+   */
+  public Optional<HotKeyTracker> getHotKeyTracker() {
+    return Optional.ofNullable(hotKeyTracker);
+  }
+
   public void attemptToPrintIngestionInfoFor(String storeName, Integer version, Integer partition, String regionName) {
     try {
       PubSubTopic versionTopic = pubSubTopicRepository.getTopic(Version.composeKafkaTopic(storeName, version));
@@ -547,6 +547,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
           partitionConsumptionState.setLeaderFollowerState(STANDBY);
           updateLeaderTopicOnFollower(partitionConsumptionState);
           // Persist updated leaderTopic so blob transfer copies correct state
+          notifyRecordTransformerBeforeCheckpoint(partition);
           storageMetadataService.put(kafkaVersionTopic, partition, partitionConsumptionState.getOffsetRecord());
           // subscribe back to local VT/partition
           PubSubPosition subscribePosition = getLocalVtSubscribePosition(partitionConsumptionState);
@@ -575,6 +576,7 @@ public class LeaderFollowerStoreIngestionTask extends StoreIngestionTask {
           partitionConsumptionState.setLeaderFollowerState(STANDBY);
           updateLeaderTopicOnFollower(partitionConsumptionState);
           // Persist updated leaderTopic so blob transfer copies correct state
+          notifyRecordTransformerBeforeCheckpoint(partition);
           storageMetadataService.put(kafkaVersionTopic, partition, partitionConsumptionState.getOffsetRecord());
         }
         // Make sure we stop consuming from leader upstream before we switch heartbeat monitoring.
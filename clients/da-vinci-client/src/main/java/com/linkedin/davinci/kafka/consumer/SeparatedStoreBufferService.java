@@ -35,6 +35,8 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.getStoreWriterDrainBatchSize(),
+            serverConfig.getStoreWriterRebalanceIntervalMs(),
             serverConfig.getLogContext(),
             metricsRepository,
             true,
@@ -44,6 +46,8 @@ public class SeparatedStoreBufferService extends AbstractStoreBufferService {
             serverConfig.getStoreWriterBufferMemoryCapacity(),
             serverConfig.getStoreWriterBufferNotifyDelta(),
             serverConfig.isStoreWriterBufferAfterLeaderLogicEnabled(),
+            serverConfig.getStoreWriterDrainBatchSize(),
+            serverConfig.getStoreWriterRebalanceIntervalMs(),
             serverConfig.getLogContext(),
             metricsRepository,
             false,
@@ -37,8 +37,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.commons.lang.StringUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -56,6 +59,10 @@ import org.apache.logging.log4j.Logger;
  * 5. There is still a thread executing {@link StoreIngestionTask} for each topic, which will handle admin actions, such
  * as subscribe, unsubscribe, kill and so on, and also poll consumer records from Kafka and put them into {@link #blockingQueueArr}
  * maintained by {@link StoreBufferService};
+ * 6. Optionally, the drainers take up to {@link #drainBatchSize} records out of their queue at once, and the
+ * topic+partitions are periodically moved from the busiest drainers to the idlest ones, see
+ * {@link #rebalanceDrainers()}. A topic+partition is only moved while none of its records is buffered or being
+ * processed, so that its records are still processed in order by one drainer at a time.
  *
  * For now, the assumption is that one-consumer-polling-thread should be fast enough to catch up with Kafka MM replication,
  * and data processing is the slowest part. If we find that polling is also slow later on, we may consider to adopt a consumer
@@ -68,6 +75,13 @@ public class StoreBufferService extends AbstractStoreBufferService {
   private ExecutorService executorService;
   private final List<StoreBufferDrainer> drainerList = new ArrayList<>();
   private final long bufferCapacityPerDrainer;
+  private final int drainBatchSize;
+  private final long rebalanceIntervalMs;
+  /**
+   * Only tracked when the drainers take records in batches or get rebalanced, and null otherwise.
+   */
+  private final ConcurrentMap<PubSubTopicPartition, DrainerAssignment> drainerAssignments;
+  private ScheduledExecutorService rebalanceExecutor;
 
   private final RecordHandler leaderRecordHandler;
   private final StoreBufferServiceStats storeBufferServiceStats;
@@ -92,6 +106,32 @@ public class StoreBufferService extends AbstractStoreBufferService {
         bufferCapacityPerDrainer,
         bufferNotifyDelta,
         queueLeaderWrites,
+        1,
+        0,
+        logContext,
+        metricsRepository,
+        sorted,
+        clusterName);
+  }
+
+  public StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      int drainBatchSize,
+      long rebalanceIntervalMs,
+      LogContext logContext,
+      MetricsRepository metricsRepository,
+      boolean sorted,
+      String clusterName) {
+    this(
+        drainerNum,
+        bufferCapacityPerDrainer,
+        bufferNotifyDelta,
+        queueLeaderWrites,
+        drainBatchSize,
+        rebalanceIntervalMs,
         null,
         logContext,
         metricsRepository,
@@ -109,11 +149,28 @@ public class StoreBufferService extends AbstractStoreBufferService {
       boolean queueLeaderWrites,
       StoreBufferServiceStats stats,
       LogContext logContext) {
+    this(drainerNum, bufferCapacityPerDrainer, bufferNotifyDelta, queueLeaderWrites, 1, 0, stats, logContext);
+  }
+
+  /**
+   * Package-private constructor for testing
+   */
+  StoreBufferService(
+      int drainerNum,
+      long bufferCapacityPerDrainer,
+      long bufferNotifyDelta,
+      boolean queueLeaderWrites,
+      int drainBatchSize,
+      long rebalanceIntervalMs,
+      StoreBufferServiceStats stats,
+      LogContext logContext) {
     this(
         drainerNum,
         bufferCapacityPerDrainer,
         bufferNotifyDelta,
         queueLeaderWrites,
+        drainBatchSize,
+        rebalanceIntervalMs,
         stats,
         logContext,
         null,
@@ -133,6 +190,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
       long bufferCapacityPerDrainer,
       long bufferNotifyDelta,
       boolean queueLeaderWrites,
+      int drainBatchSize,
+      long rebalanceIntervalMs,
       StoreBufferServiceStats stats,
       LogContext logContext,
       MetricsRepository metricsRepository,
@@ -142,6 +201,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
     this.drainerNum = drainerNum;
     this.blockingQueueArr = new ArrayList<>();
     this.bufferCapacityPerDrainer = bufferCapacityPerDrainer;
+    this.drainBatchSize = Math.max(drainBatchSize, 1);
+    this.rebalanceIntervalMs = rebalanceIntervalMs;
+    this.drainerAssignments = this.drainBatchSize > 1 || rebalanceIntervalMs > 0 ? new ConcurrentHashMap<>() : null;
     for (int cur = 0; cur < drainerNum; ++cur) {
       this.blockingQueueArr.add(new MemoryBoundBlockingQueue<>(bufferCapacityPerDrainer, bufferNotifyDelta));
     }
@@ -202,13 +264,14 @@ public class StoreBufferService extends AbstractStoreBufferService {
        * end-to-end completeness when producing to local Kafka is needed.
        */
       CompletableFuture<Void> recordFuture = new CompletableFuture<>();
-      getDrainerForConsumerRecord(consumerRecord, partition).put(
+      putNode(
           new FollowerQueueNode(
               consumerRecord,
               ingestionTask,
               kafkaUrl,
               beforeProcessingRecordTimestampNs,
-              recordFuture));
+              recordFuture),
+          partition);
 
       // Setup the last queued record's future
       PartitionConsumptionState partitionConsumptionState =
@@ -244,13 +307,138 @@ public class StoreBufferService extends AbstractStoreBufferService {
       int partition,
       String kafkaUrl,
       long beforeProcessingRecordTimestamp) throws InterruptedException {
-    getDrainerForConsumerRecord(consumerRecord, partition).put(
+    putNode(
         new LeaderQueueNode(
             consumerRecord,
             ingestionTask,
             kafkaUrl,
             beforeProcessingRecordTimestamp,
-            leaderProducedRecordContext));
+            leaderProducedRecordContext),
+        partition);
+  }
+
+  private void putNode(QueueNode node, int partition) throws InterruptedException {
+    if (drainerAssignments == null) {
+      getDrainerForConsumerRecord(node.getConsumerRecord(), partition).put(node);
+      return;
+    }
+    int drainerIndex = acquireDrainerAssignment(node, partition);
+    try {
+      blockingQueueArr.get(drainerIndex).put(node);
+    } catch (InterruptedException e) {
+      node.drainerAssignment.release(0);
+      throw e;
+    }
+  }
+
+  /**
+   * Registers the node as pending for its topic+partition, which pins the topic+partition to its current drainer until
+   * the node has been processed.
+   *
+   * @return the index of the drainer which the node must be queued to
+   */
+  private int acquireDrainerAssignment(QueueNode node, int partition) {
+    DefaultPubSubMessage consumerRecord = node.getConsumerRecord();
+    while (true) {
+      DrainerAssignment assignment = drainerAssignments.computeIfAbsent(
+          consumerRecord.getTopicPartition(),
+          topicPartition -> new DrainerAssignment(getDrainerIndexForConsumerRecord(consumerRecord, partition)));
+      synchronized (assignment) {
+        // A retired assignment has just been removed from the map, so the lookup has to be done again
+        if (!assignment.retired) {
+          assignment.pendingNodes.incrementAndGet();
+          node.drainerAssignment = assignment;
+          return assignment.drainerIndex;
+        }
+      }
+    }
+  }
+
+  /**
+   * Stops tracking the topic+partition if none of its records is pending, in which case its next record will be
+   * assigned to a drainer from scratch.
+   *
+   * @return whether the topic+partition had no pending record
+   */
+  private boolean retireIfIdle(PubSubTopicPartition topicPartition, DrainerAssignment assignment) {
+    synchronized (assignment) {
+      if (assignment.pendingNodes.get() > 0) {
+        return false;
+      }
+      assignment.retired = true;
+      drainerAssignments.remove(topicPartition, assignment);
+      return true;
+    }
+  }
+
+  private static boolean moveIfIdle(DrainerAssignment assignment, int drainerIndex) {
+    synchronized (assignment) {
+      if (assignment.retired || assignment.pendingNodes.get() > 0) {
+        return false;
+      }
+      assignment.drainerIndex = drainerIndex;
+      return true;
+    }
+  }
+
+  /**
+   * Moves the topic+partitions which were active since the last round from the busiest drainers to the idlest ones,
+   * where the load of a drainer is the time it spent processing records since the last round.
+   *
+   * Only the topic+partitions which have no pending record are moved, and each move must lower the load of the busiest
+   * drainer, so that a single hot topic+partition doesn't bounce between drainers. The topic+partitions which were idle
+   * for the whole round are not tracked anymore.
+   */
+  void rebalanceDrainers() {
+    long[] drainerLoads = new long[drainerNum];
+    List<DrainerAssignment> activeAssignments = new ArrayList<>();
+    for (Map.Entry<PubSubTopicPartition, DrainerAssignment> entry: drainerAssignments.entrySet()) {
+      DrainerAssignment assignment = entry.getValue();
+      assignment.lastRoundProcessingTimeNs = assignment.processingTimeNs.sumThenReset();
+      if (assignment.lastRoundProcessingTimeNs == 0) {
+        retireIfIdle(entry.getKey(), assignment);
+      } else {
+        drainerLoads[assignment.drainerIndex] += assignment.lastRoundProcessingTimeNs;
+        activeAssignments.add(assignment);
+      }
+    }
+    activeAssignments.sort(comparing(assignment -> assignment.lastRoundProcessingTimeNs, reverseOrder()));
+
+    int moveCount = 0;
+    for (int round = 0; round < drainerNum; round++) {
+      int busiest = 0;
+      int idlest = 0;
+      for (int i = 1; i < drainerNum; i++) {
+        if (drainerLoads[i] > drainerLoads[busiest]) {
+          busiest = i;
+        }
+        if (drainerLoads[i] < drainerLoads[idlest]) {
+          idlest = i;
+        }
+      }
+      long loadGap = drainerLoads[busiest] - drainerLoads[idlest];
+      if (loadGap <= drainerLoads[idlest]) {
+        // The idlest drainer already carries at least half of the load of the busiest one
+        break;
+      }
+      DrainerAssignment movedAssignment = null;
+      for (DrainerAssignment assignment: activeAssignments) {
+        if (assignment.drainerIndex == busiest && assignment.lastRoundProcessingTimeNs < loadGap
+            && moveIfIdle(assignment, idlest)) {
+          movedAssignment = assignment;
+          break;
+        }
+      }
+      if (movedAssignment == null) {
+        break;
+      }
+      drainerLoads[busiest] -= movedAssignment.lastRoundProcessingTimeNs;
+      drainerLoads[idlest] += movedAssignment.lastRoundProcessingTimeNs;
+      moveCount++;
+    }
+    if (moveCount > 0) {
+      LOGGER.info("Moved {} topic-partitions to less busy drainers", moveCount);
+    }
   }
 
   private static void processRecord(
@@ -305,7 +493,10 @@ public class StoreBufferService extends AbstractStoreBufferService {
   public void drainBufferedRecordsFromTopicPartition(PubSubTopicPartition topicPartition, long timeoutMs)
       throws InterruptedException {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
-    int workerIndex = getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber());
+    DrainerAssignment assignment = drainerAssignments == null ? null : drainerAssignments.get(topicPartition);
+    int workerIndex = assignment == null
+        ? getDrainerIndexForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber())
+        : assignment.drainerIndex;
     BlockingQueue<QueueNode> blockingQueue = blockingQueueArr.get(workerIndex);
     if (!drainerList.get(workerIndex).isRunning.get()) {
       throw new VeniceException(
@@ -316,7 +507,11 @@ public class StoreBufferService extends AbstractStoreBufferService {
     QueueNode fakeNode = new QueueNode(fakeRecord, null, "dummyKafkaUrl", 0);
     long deadline = System.currentTimeMillis() + timeoutMs;
     while (System.currentTimeMillis() < deadline) {
-      if (!blockingQueue.contains(fakeNode)) {
+      /**
+       * When the assignments are tracked, the records taken out of the queue in the current batch of the drainer are
+       * still pending, so the pending count has to be checked instead of the queue.
+       */
+      if (assignment == null ? !blockingQueue.contains(fakeNode) : retireIfIdle(topicPartition, assignment)) {
         LOGGER.info(
             "The blocking queue of store writer thread: {} doesn't contain any record for: {}",
             workerIndex,
@@ -338,7 +533,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     CommandQueueNode syncOffsetCmd =
         new CommandQueueNode(CommandQueueNode.CommandType.SYNC_OFFSET, fakeRecord, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncOffsetCmd);
+    putNode(syncOffsetCmd, topicPartition.getPartitionNumber());
     return syncOffsetCmd.getCmdExecutedFuture();
   }
 
@@ -355,7 +550,7 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask) throws InterruptedException {
     DefaultPubSubMessage fakeRecord = new FakePubSubMessage(topicPartition);
     SyncVtDivNode syncDivNode = new SyncVtDivNode(fakeRecord, vtDivSnapshot, lastRecordPersistedFuture, ingestionTask);
-    getDrainerForConsumerRecord(fakeRecord, topicPartition.getPartitionNumber()).put(syncDivNode);
+    putNode(syncDivNode, topicPartition.getPartitionNumber());
   }
 
   @Override
@@ -366,11 +561,25 @@ public class StoreBufferService extends AbstractStoreBufferService {
 
     // Submit all the buffer drainers
     for (int cur = 0; cur < drainerNum; ++cur) {
-      StoreBufferDrainer drainer = new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, storeBufferServiceStats);
+      StoreBufferDrainer drainer =
+          new StoreBufferDrainer(this.blockingQueueArr.get(cur), cur, drainBatchSize, storeBufferServiceStats);
       this.executorService.submit(drainer);
       drainerList.add(drainer);
     }
     this.executorService.shutdown();
+    if (rebalanceIntervalMs > 0) {
+      this.rebalanceExecutor = Executors.newSingleThreadScheduledExecutor(
+          new DaemonThreadFactory(
+              isSorted ? "Store-writer-sorted-rebalancer" : "Store-writer-hybrid-rebalancer",
+              logContext));
+      this.rebalanceExecutor.scheduleWithFixedDelay(() -> {
+        try {
+          rebalanceDrainers();
+        } catch (Exception e) {
+          LOGGER.error("Failed to rebalance the drainers", e);
+        }
+      }, rebalanceIntervalMs, rebalanceIntervalMs, TimeUnit.MILLISECONDS);
+    }
     isStarted = true;
     return true;
   }
@@ -380,6 +589,9 @@ public class StoreBufferService extends AbstractStoreBufferService {
     // Graceful shutdown
     isStarted = false;
     drainerList.forEach(drainer -> drainer.stop());
+    if (this.rebalanceExecutor != null) {
+      this.rebalanceExecutor.shutdownNow();
+    }
     if (this.executorService != null) {
       this.executorService.shutdownNow();
       this.executorService.awaitTermination(10, TimeUnit.SECONDS);
@@ -447,6 +659,18 @@ public class StoreBufferService extends AbstractStoreBufferService {
     return drainerList.get(i).topicToTimeSpent;
   }
 
+  /** Used for testing */
+  int getAssignedDrainerIndex(PubSubTopicPartition topicPartition) {
+    DrainerAssignment assignment = drainerAssignments.get(topicPartition);
+    return assignment == null ? -1 : assignment.drainerIndex;
+  }
+
+  /** Used for testing */
+  boolean hasPendingRecords(PubSubTopicPartition topicPartition) {
+    DrainerAssignment assignment = drainerAssignments.get(topicPartition);
+    return assignment != null && assignment.pendingNodes.get() > 0;
+  }
+
   @Override
   public long getMinMemoryUsagePerDrainer() {
     long minUsage = Long.MAX_VALUE;
@@ -465,6 +689,8 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final StoreIngestionTask ingestionTask;
     private final String kafkaUrl;
     private final long beforeProcessingRecordTimestampNs;
+    /** Only set when the drainer assignments are tracked */
+    private DrainerAssignment drainerAssignment;
 
     public QueueNode(
         DefaultPubSubMessage consumerRecord,
@@ -744,6 +970,32 @@ public class StoreBufferService extends AbstractStoreBufferService {
     }
   }
 
+  /**
+   * The drainer which a topic+partition is currently assigned to, along with what is needed to move it safely.
+   */
+  private static class DrainerAssignment {
+    private volatile int drainerIndex;
+    /**
+     * The nodes which were queued and haven't been processed yet. Only incremented while holding the monitor of the
+     * assignment, so that {@link #drainerIndex} can't change between picking a drainer and queueing the node.
+     */
+    private final AtomicInteger pendingNodes = new AtomicInteger();
+    private final LongAdder processingTimeNs = new LongAdder();
+    /** Only accessed by the rebalancing thread */
+    private long lastRoundProcessingTimeNs;
+    /** Guarded by the monitor of the assignment */
+    private boolean retired = false;
+
+    DrainerAssignment(int drainerIndex) {
+      this.drainerIndex = drainerIndex;
+    }
+
+    void release(long nodeProcessingTimeNs) {
+      processingTimeNs.add(nodeProcessingTimeNs);
+      pendingNodes.decrementAndGet();
+    }
+  }
+
   /**
    * Worker thread, which will invoke {@link StoreIngestionTask#processConsumerRecord}
    * to process each {@link PubSubMessage} buffered in {@link BlockingQueue}.
@@ -753,12 +1005,18 @@ public class StoreBufferService extends AbstractStoreBufferService {
     private final BlockingQueue<QueueNode> blockingQueue;
     private final AtomicBoolean isRunning = new AtomicBoolean(true);
     private final int drainerIndex;
+    private final int drainBatchSize;
     private final ConcurrentMap<PubSubTopicPartition, Long> topicToTimeSpent = new ConcurrentHashMap<>();
     private final StoreBufferServiceStats stats;
 
-    public StoreBufferDrainer(BlockingQueue<QueueNode> blockingQueue, int drainerIndex, StoreBufferServiceStats stats) {
+    public StoreBufferDrainer(
+        BlockingQueue<QueueNode> blockingQueue,
+        int drainerIndex,
+        int drainBatchSize,
+        StoreBufferServiceStats stats) {
       this.blockingQueue = blockingQueue;
       this.drainerIndex = drainerIndex;
+      this.drainBatchSize = drainBatchSize;
       this.stats = stats;
     }
 
@@ -775,9 +1033,23 @@ public class StoreBufferService extends AbstractStoreBufferService {
       StoreIngestionTask ingestionTask = null;
       CompletableFuture<Void> recordPersistedFuture = null;
       String storeName = OpenTelemetryMetricsSetup.UNKNOWN_STORE_NAME;
+      List<QueueNode> batch = new ArrayList<>(drainBatchSize);
+      int batchIndex = 0;
+      long startTimeNs = 0;
       while (isRunning.get()) {
+        node = null;
         try {
-          node = blockingQueue.take();
+          if (batchIndex == batch.size()) {
+            batch.clear();
+            batchIndex = 0;
+            batch.add(blockingQueue.take());
+            if (drainBatchSize > 1) {
+              // Take the rest of the batch with one acquisition of the queue lock, without waiting for more records
+              blockingQueue.drainTo(batch, drainBatchSize - 1);
+            }
+          }
+          node = batch.get(batchIndex++);
+          startTimeNs = System.nanoTime();
 
           consumerRecord = node.getConsumerRecord();
           int partitionNum = consumerRecord.getTopicPartition().getPartitionNumber();
@@ -866,10 +1138,34 @@ public class StoreBufferService extends AbstractStoreBufferService {
           } else {
             break;
           }
+        } finally {
+          if (node != null && node.drainerAssignment != null) {
+            node.drainerAssignment.release(System.nanoTime() - startTimeNs);
+          }
         }
       }
+      releaseUnprocessedNodes(batch, batchIndex);
       LOGGER.info("Current StoreBufferDrainer {} stopped", drainerIndex);
     }
+
+    /**
+     * Releases the nodes which were taken out of the queue in the current batch but will not be processed, along with
+     * the nodes left in the queue, so that their topic+partitions are neither reported as pending nor pinned to this
+     * drainer forever.
+     */
+    private void releaseUnprocessedNodes(List<QueueNode> batch, int batchIndex) {
+      List<QueueNode> unprocessedNodes = new ArrayList<>(batch.subList(batchIndex, batch.size()));
+      batch.clear();
+      blockingQueue.drainTo(unprocessedNodes, Integer.MAX_VALUE);
+      for (QueueNode unprocessedNode: unprocessedNodes) {
+        if (unprocessedNode.drainerAssignment != null) {
+          unprocessedNode.drainerAssignment.release(0);
+        }
+      }
+      if (!unprocessedNodes.isEmpty()) {
+        LOGGER.warn("Drainer {} stopped with {} unprocessed records", drainerIndex, unprocessedNodes.size());
+      }
+    }
   }
 
   static class FakePubSubMessage implements DefaultPubSubMessage {
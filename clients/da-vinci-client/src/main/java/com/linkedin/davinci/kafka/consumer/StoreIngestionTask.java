@@ -39,6 +39,7 @@ import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedDaVinciRecordTransformerStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
 import com.linkedin.davinci.stats.HostLevelIngestionStats;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
@@ -445,6 +446,8 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
   protected final boolean batchReportIncPushStatusEnabled;
 
   protected final ExecutorService parallelProcessingThreadPool;
+  /** Samples the ingested keys to track the hot keys of this version, null if disabled */
+  private final HotKeyTracker hotKeyTracker;
 
   protected Lazy<CountDownLatch> gracefulShutdownLatch = Lazy.of(() -> new CountDownLatch(1));
   protected Lazy<ZKHelixAdmin> zkHelixAdmin;
@@ -710,6 +713,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     }
     this.batchReportIncPushStatusEnabled = !isDaVinciClient && serverConfig.getBatchReportEOIPEnabled();
     this.parallelProcessingThreadPool = builder.getAAWCWorkLoadProcessingThreadPool();
+    this.hotKeyTracker = builder.getHotKeyTracker();
     this.hostName = Utils.getHostName() + "_" + storeVersionConfig.getListenerPort();
     this.zkHelixAdmin = zkHelixAdmin;
     this.blobTransferHelper = builder.getBlobTransferHelper(storageService);
@@ -3431,6 +3435,16 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
     return !ControlMessageType.valueOf(controlMessage).isSegmentControlMessage();
   }
 
+  /**
+   * Lets the record transformer persist the records it buffers for the partition, if any, before its offset record
+   * gets persisted, since the records prior to it would not be replayed after a restart otherwise.
+   */
+  protected void notifyRecordTransformerBeforeCheckpoint(int partition) {
+    if (recordTransformer != null) {
+      recordTransformer.onBeforeCheckpoint(partition);
+    }
+  }
+
   /**
    * This method flushes data partition on disk and syncs the underlying database with {@link OffsetRecord}.
    * Note that the updates for {@link OffsetRecord} is happened in {@link #updateOffsetMetadataInOffsetRecord}
@@ -3442,6 +3456,7 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
       LOGGER.warn("Storage engine has been closed. Could not execute sync offset for replica: {}", pcs.getReplicaId());
       return;
     }
+    notifyRecordTransformerBeforeCheckpoint(partition);
     // Flush data partition
     final AtomicReference<Map<String, String>> dbCheckpointingInfoReference = new AtomicReference<>();
     executeStorageEngineRunnable(partition, () -> {
@@ -4663,6 +4678,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
 
         int writerSchemaId = put.getSchemaId();
         isChunkFragment = (writerSchemaId == CHUNK_SCHEMA_ID);
+        if (hotKeyTracker != null && !isChunkFragment && messageType == MessageType.PUT) {
+          hotKeyTracker.recordWrite(kafkaVersionTopic, keyBytes);
+        }
 
         if (kafkaKey.isGlobalRtDiv()) {
           putGlobalRtDivStateInMetadata(producedPartition, keyBytes, put);
@@ -4797,6 +4815,9 @@ public abstract class StoreIngestionTask implements Runnable, Closeable {
           keyBytes = leaderProducedRecordContext.getKeyBytes();
           delete = ((Delete) leaderProducedRecordContext.getValueUnion());
         }
+        if (hotKeyTracker != null) {
+          hotKeyTracker.recordWrite(kafkaVersionTopic, keyBytes);
+        }
 
         if (recordTransformer != null) {
           Lazy<Object> lazyKey = Lazy.of(() -> this.recordTransformerKeyDeserializer.deserialize(keyBytes));
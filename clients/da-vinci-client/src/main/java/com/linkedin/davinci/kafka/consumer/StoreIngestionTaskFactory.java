@@ -10,6 +10,7 @@ import com.linkedin.davinci.notifier.VeniceNotifier;
 import com.linkedin.davinci.stats.AggHostLevelIngestionStats;
 import com.linkedin.davinci.stats.AggVersionedDIVStats;
 import com.linkedin.davinci.stats.AggVersionedIngestionStats;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
 import com.linkedin.davinci.storage.StorageMetadataService;
 import com.linkedin.davinci.storage.StorageService;
@@ -126,6 +127,7 @@ public class StoreIngestionTaskFactory {
     private Supplier<IngestionTaskReusableObjects> reusableObjectsSupplier;
     private Supplier<BlobTransferManager> blobTransferManagerSupplier;
     private Set<String> blobTransferDisabledStores;
+    private HotKeyTracker hotKeyTracker;
     private volatile BlobTransferIngestionHelper blobTransferHelper;
 
     private interface Setter {
@@ -351,6 +353,17 @@ public class StoreIngestionTaskFactory {
       return set(() -> this.blobTransferDisabledStores = blobTransferDisabledStores);
     }
 
+    /**
+     * Sets the tracker sampling the ingested keys, or null if hot key tracking is disabled.
+     */
+    public Builder setHotKeyTracker(HotKeyTracker hotKeyTracker) {
+      return set(() -> this.hotKeyTracker = hotKeyTracker);
+    }
+
+    public HotKeyTracker getHotKeyTracker() {
+      return hotKeyTracker;
+    }
+
     /**
      * Returns the shared {@link BlobTransferIngestionHelper} singleton, creating it lazily on first call.
      * Returns null if blob transfer is not configured.
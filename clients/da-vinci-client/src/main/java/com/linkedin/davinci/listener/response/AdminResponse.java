@@ -1,8 +1,11 @@
 package com.linkedin.davinci.listener.response;
 
 import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
+import com.linkedin.davinci.stats.HotKeySketch;
 import com.linkedin.venice.admin.protocol.response.AdminResponseRecord;
 import com.linkedin.venice.admin.protocol.response.ConsumptionStateSnapshot;
+import com.linkedin.venice.admin.protocol.response.HotKeyEntry;
+import com.linkedin.venice.admin.protocol.response.HotKeysSnapshot;
 import com.linkedin.venice.admin.protocol.response.ServerConfigSnapshot;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
@@ -16,6 +19,7 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import org.apache.avro.Schema;
@@ -107,6 +111,27 @@ public class AdminResponse {
     responseRecord.serverConfigs.configMap = configMap;
   }
 
+  /**
+   * Load the hot keys of a store version into admin response record
+   */
+  public void addHotKeys(List<HotKeySketch.HotKey> readHotKeys, List<HotKeySketch.HotKey> writeHotKeys) {
+    HotKeysSnapshot snapshot = new HotKeysSnapshot();
+    snapshot.readHotKeys = toHotKeyEntries(readHotKeys);
+    snapshot.writeHotKeys = toHotKeyEntries(writeHotKeys);
+    responseRecord.hotKeys = snapshot;
+  }
+
+  private static List<HotKeyEntry> toHotKeyEntries(List<HotKeySketch.HotKey> hotKeys) {
+    List<HotKeyEntry> entries = new ArrayList<>(hotKeys.size());
+    for (HotKeySketch.HotKey hotKey: hotKeys) {
+      HotKeyEntry entry = new HotKeyEntry();
+      entry.key = ByteBuffer.wrap(hotKey.getKey());
+      entry.estimatedCount = hotKey.getEstimatedCount();
+      entries.add(entry);
+    }
+    return entries;
+  }
+
   public ByteBuf getResponseBody() {
     return Unpooled.wrappedBuffer(serializedResponse());
   }
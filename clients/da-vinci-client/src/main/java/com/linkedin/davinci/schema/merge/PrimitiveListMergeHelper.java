@@ -0,0 +1,532 @@
+package com.linkedin.davinci.schema.merge;
+
+import com.linkedin.avro.api.PrimitiveIntList;
+import com.linkedin.avro.api.PrimitiveLongList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveIntArrayList;
+import com.linkedin.avro.fastserde.primitive.PrimitiveLongArrayList;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+
+/**
+ * This class merges list add/remove operations into list fields whose elements are of a primitive type (int, long or
+ * string). It follows exactly the same semantics as the generic merge in {@link SortBasedCollectionFieldOpHandler},
+ * but instead of mapping each element to a boxed timestamp and sorting {@link ElementAndTimestamp} objects, it:
+ *
+ * 1. Assigns an int id to each distinct element, so that int and long elements are never boxed.
+ * 2. Keeps the active and deleted timestamps in primitive arrays indexed by element id.
+ * 3. Sorts the element ids by (timestamp, element) and writes the result into primitive lists when possible.
+ *
+ * The active elements are kept in insertion order the same way {@link com.linkedin.davinci.utils.IndexedHashMap} does,
+ * so that the put-only part of the list keeps its original order.
+ */
+final class PrimitiveListMergeHelper {
+  private PrimitiveListMergeHelper() {
+  }
+
+  static boolean isSupported(Schema elementSchema) {
+    switch (elementSchema.getType()) {
+      case INT:
+      case LONG:
+      case STRING:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  static UpdateResultStatus handleModifyPutOnlyList(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<Object> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      Schema.Field currValueRecordField,
+      Schema elementSchema,
+      AvroCollectionElementComparator elementComparator,
+      Set<Object> toAddElementSet,
+      Set<Object> toRemoveElementSet) {
+    List<Object> currElements = (List<Object>) currValueRecord.get(currValueRecordField.pos());
+    final int currSize = currElements == null ? 0 : currElements.size();
+    final ListMergeState state = new ListMergeState(
+        createElementIndex(elementSchema, elementComparator),
+        currSize + toAddElementSet.size() + toRemoveElementSet.size());
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+
+    // De-dup the current elements from the end, which means that each element is kept at its last position.
+    int newPutOnlyPartLength = 0;
+    if (currSize > 0) {
+      final int[] currElementIds = state.index.getOrAddAll(currElements);
+      final int[] lastPositions = new int[state.index.size()];
+      for (int i = 0; i < currSize; i++) {
+        lastPositions[currElementIds[i]] = i;
+      }
+      for (int i = 0; i < currSize; i++) {
+        final int id = currElementIds[i];
+        if (lastPositions[id] == i) {
+          newPutOnlyPartLength++;
+          if (topLevelTimestamp > Long.MIN_VALUE) {
+            state.putActive(id, topLevelTimestamp);
+          }
+        }
+      }
+    }
+
+    // Step 1: Add elements (SET_UNION).
+    for (Object toAddElement: toAddElementSet) {
+      final int id = state.index.getOrAdd(toAddElement);
+      if (!state.active[id]) {
+        state.putActive(id, modifyTimestamp);
+      } else if (state.activeTimestamps[id] >= modifyTimestamp) {
+        throw new IllegalStateException(
+            "If active timestamp exists for this element, it must be strictly smaller than "
+                + "the modify timestamp because this field is currently in the put-only state.");
+      } else {
+        // Re-position this element to the end of the list.
+        state.removeActive(id);
+        state.putActive(id, modifyTimestamp);
+        newPutOnlyPartLength--;
+      }
+    }
+
+    // Step 2: Remove elements (SET_DIFF).
+    for (Object toRemoveElement: toRemoveElementSet) {
+      final int id = state.index.getOrAdd(toRemoveElement);
+      if (!state.active[id]) {
+        state.putDeleted(id, modifyTimestamp);
+        continue;
+      }
+      final long activeTimestamp = state.activeTimestamps[id];
+      if (activeTimestamp <= modifyTimestamp) {
+        // Delete existing element
+        state.removeActive(id);
+        state.putDeleted(id, modifyTimestamp);
+        if (activeTimestamp == topLevelTimestamp) {
+          // Removed an element from the put-only part.
+          newPutOnlyPartLength--;
+        }
+      }
+    }
+
+    // Step 3 and 4: Set new active and deleted elements with their timestamps.
+    state.setActiveElementsAndTimestamps(
+        newPutOnlyPartLength,
+        currValueRecord,
+        currValueRecordField,
+        collectionFieldRmd);
+    state.setDeletedElementsAndTimestamps(collectionFieldRmd);
+
+    // Must be partially updated because there must be elements added and/or removed.
+    return UpdateResultStatus.PARTIALLY_UPDATED;
+  }
+
+  static UpdateResultStatus handleModifyCollectionMergeList(
+      final long modifyTimestamp,
+      CollectionRmdTimestamp<Object> collectionFieldRmd,
+      GenericRecord currValueRecord,
+      Schema.Field currValueRecordField,
+      Schema elementSchema,
+      AvroCollectionElementComparator elementComparator,
+      Set<Object> toAddElementSet,
+      Set<Object> toRemoveElementSet) {
+    List<Object> currElements = (List<Object>) currValueRecord.get(currValueRecordField.pos());
+    final int currSize = currElements == null ? 0 : currElements.size();
+    final List<Object> deletedElements = collectionFieldRmd.getDeletedElements();
+    final List<Long> deletedTimestamps = collectionFieldRmd.getDeletedElementTimestamps();
+    final ListMergeState state = new ListMergeState(
+        createElementIndex(elementSchema, elementComparator),
+        currSize + deletedTimestamps.size() + toAddElementSet.size() + toRemoveElementSet.size());
+    final long topLevelTimestamp = collectionFieldRmd.getTopLevelFieldTimestamp();
+    final int putOnlyPartLength = collectionFieldRmd.getPutOnlyPartLength();
+
+    if (currSize > 0) {
+      final int[] currElementIds = state.index.getOrAddAll(currElements);
+      final long[] activeTimestamps = toLongArray(collectionFieldRmd.getActiveElementTimestamps());
+      for (int i = 0; i < currSize; i++) {
+        final long activeTimestamp =
+            i < putOnlyPartLength ? topLevelTimestamp : activeTimestamps[i - putOnlyPartLength];
+        if (activeTimestamp > Long.MIN_VALUE) {
+          state.putActive(currElementIds[i], activeTimestamp);
+        }
+      }
+    }
+    if (!deletedTimestamps.isEmpty()) {
+      final int[] deletedElementIds = state.index.getOrAddAll(deletedElements);
+      final long[] deletedTimestampArray = toLongArray(deletedTimestamps);
+      for (int i = 0; i < deletedTimestampArray.length; i++) {
+        state.putDeleted(deletedElementIds[i], deletedTimestampArray[i]);
+      }
+    }
+
+    boolean updated = false;
+    int newPutOnlyPartLength = putOnlyPartLength;
+    // Step 1: Add elements (SET_UNION).
+    for (Object toAddElement: toAddElementSet) {
+      final int id = state.index.getOrAdd(toAddElement);
+      if (state.deleted[id]) {
+        if (state.deletedTimestamps[id] < modifyTimestamp) {
+          // Element will be added back.
+          state.deleted[id] = false;
+          state.putActive(id, modifyTimestamp);
+          updated = true;
+        } // Else: Element remains "deleted".
+        continue;
+      }
+
+      final boolean wasActive = state.active[id];
+      final long activeTimestamp = state.activeTimestamps[id];
+      if (wasActive && activeTimestamp == topLevelTimestamp) {
+        // This element exists and it is in the put-only part.
+        state.removeActive(id);
+        newPutOnlyPartLength--;
+      }
+      if (!wasActive || activeTimestamp < modifyTimestamp) {
+        state.putActive(id, modifyTimestamp);
+        updated = true;
+      }
+    }
+
+    // Step 2: Remove elements (SET_DIFF).
+    for (Object toRemoveElement: toRemoveElementSet) {
+      final int id = state.index.getOrAdd(toRemoveElement);
+      if (state.deleted[id]) {
+        if (state.deletedTimestamps[id] < modifyTimestamp) {
+          state.deletedTimestamps[id] = modifyTimestamp;
+          updated = true;
+        }
+        continue;
+      }
+      if (state.active[id]) {
+        final long activeTimestamp = state.activeTimestamps[id];
+        if (activeTimestamp <= modifyTimestamp) {
+          // Delete the existing element.
+          state.removeActive(id);
+          state.putDeleted(id, modifyTimestamp);
+          if (activeTimestamp == topLevelTimestamp) {
+            newPutOnlyPartLength--;
+          }
+          updated = true;
+        } // Else: existing element does not get deleted.
+        continue;
+      }
+
+      // Element neither existed nor deleted because both it has no deleted timestamp and no active timestamp.
+      state.putDeleted(id, modifyTimestamp);
+      updated = true;
+    }
+
+    // Step 3 and 4: Set new active and deleted elements with their timestamps.
+    state.setActiveElementsAndTimestamps(
+        newPutOnlyPartLength,
+        currValueRecord,
+        currValueRecordField,
+        collectionFieldRmd);
+    state.setDeletedElementsAndTimestamps(collectionFieldRmd);
+
+    return updated ? UpdateResultStatus.PARTIALLY_UPDATED : UpdateResultStatus.NOT_UPDATED_AT_ALL;
+  }
+
+  private static ElementIndex createElementIndex(Schema elementSchema, AvroCollectionElementComparator comparator) {
+    switch (elementSchema.getType()) {
+      case INT:
+        return new LongElementIndex(true);
+      case LONG:
+        return new LongElementIndex(false);
+      case STRING:
+        return new ObjectElementIndex(elementSchema, comparator);
+      default:
+        throw new IllegalStateException("Unsupported list element schema: " + elementSchema);
+    }
+  }
+
+  private static long[] toLongArray(List<Long> list) {
+    final long[] array = new long[list.size()];
+    if (list instanceof PrimitiveLongList) {
+      PrimitiveLongList primitiveList = (PrimitiveLongList) list;
+      for (int i = 0; i < array.length; i++) {
+        array[i] = primitiveList.getPrimitive(i);
+      }
+    } else {
+      int i = 0;
+      for (Long value: list) {
+        array[i++] = value;
+      }
+    }
+    return array;
+  }
+
+  /**
+   * The active and deleted state of all the elements seen by one merge, indexed by element id. The active elements are
+   * also kept in an append-only order array, where an element which is removed or moved to the end simply leaves a
+   * stale entry behind.
+   */
+  private static class ListMergeState {
+    private final ElementIndex index;
+    private final boolean[] active;
+    private final long[] activeTimestamps;
+    private final int[] activePositions;
+    private final int[] activeOrder;
+    private int activeOrderSize = 0;
+    private int activeCount = 0;
+    private final boolean[] deleted;
+    private final long[] deletedTimestamps;
+
+    ListMergeState(ElementIndex index, int maxElementCount) {
+      this.index = index;
+      index.init(maxElementCount);
+      this.active = new boolean[maxElementCount];
+      this.activeTimestamps = new long[maxElementCount];
+      this.activePositions = new int[maxElementCount];
+      // Each element is appended at most once when it is loaded, and once more when it is added
+      this.activeOrder = new int[maxElementCount * 2];
+      this.deleted = new boolean[maxElementCount];
+      this.deletedTimestamps = new long[maxElementCount];
+    }
+
+    /**
+     * Same as {@link com.linkedin.davinci.utils.IndexedHashMap#put}: an active element keeps its position, and a new
+     * one is appended to the end.
+     */
+    void putActive(int id, long timestamp) {
+      if (!active[id]) {
+        active[id] = true;
+        activePositions[id] = activeOrderSize;
+        activeOrder[activeOrderSize++] = id;
+        activeCount++;
+      }
+      activeTimestamps[id] = timestamp;
+    }
+
+    void removeActive(int id) {
+      active[id] = false;
+      activeCount--;
+    }
+
+    void putDeleted(int id, long timestamp) {
+      deleted[id] = true;
+      deletedTimestamps[id] = timestamp;
+    }
+
+    void setActiveElementsAndTimestamps(
+        int newPutOnlyPartLength,
+        GenericRecord currValueRecord,
+        Schema.Field currValueRecordField,
+        CollectionRmdTimestamp<Object> collectionFieldRmd) {
+      final int[] activeIds = new int[activeCount];
+      int count = 0;
+      for (int i = 0; i < activeOrderSize; i++) {
+        final int id = activeOrder[i];
+        if (active[id] && activePositions[id] == i) {
+          activeIds[count++] = id;
+        }
+      }
+      // Only sort the collection-merge part of the list and leave the put-only part as is.
+      IntArrays.quickSort(activeIds, newPutOnlyPartLength, count, (id1, id2) -> {
+        final int timestampCompareResult = Long.compare(activeTimestamps[id1], activeTimestamps[id2]);
+        return timestampCompareResult == 0 ? index.compare(id1, id2) : timestampCompareResult;
+      });
+
+      final List<?> newActiveElements = index.newList(count);
+      final PrimitiveLongList newActiveTimestamps = new PrimitiveLongArrayList(count - newPutOnlyPartLength);
+      for (int i = 0; i < count; i++) {
+        index.addTo(newActiveElements, activeIds[i]);
+        if (i >= newPutOnlyPartLength) {
+          newActiveTimestamps.addPrimitive(activeTimestamps[activeIds[i]]);
+        }
+      }
+      collectionFieldRmd.setActiveElementTimestamps(newActiveTimestamps);
+      currValueRecord.put(currValueRecordField.pos(), newActiveElements);
+      collectionFieldRmd.setPutOnlyPartLength(newPutOnlyPartLength);
+    }
+
+    void setDeletedElementsAndTimestamps(CollectionRmdTimestamp<Object> collectionFieldRmd) {
+      final int elementCount = index.size();
+      final int[] deletedIds = new int[elementCount];
+      int count = 0;
+      for (int id = 0; id < elementCount; id++) {
+        if (deleted[id]) {
+          deletedIds[count++] = id;
+        }
+      }
+      IntArrays.quickSort(deletedIds, 0, count, (id1, id2) -> {
+        final int timestampCompareResult = Long.compare(deletedTimestamps[id1], deletedTimestamps[id2]);
+        return timestampCompareResult == 0 ? index.compare(id1, id2) : timestampCompareResult;
+      });
+
+      final List<Object> newDeletedElements = (List<Object>) index.newList(count);
+      final PrimitiveLongList newDeletedTimestamps = new PrimitiveLongArrayList(count);
+      for (int i = 0; i < count; i++) {
+        index.addTo(newDeletedElements, deletedIds[i]);
+        newDeletedTimestamps.addPrimitive(deletedTimestamps[deletedIds[i]]);
+      }
+      collectionFieldRmd.setDeletedElementsAndTimestamps(newDeletedElements, newDeletedTimestamps);
+    }
+  }
+
+  /**
+   * Assigns consecutive ids, starting from 0, to the distinct elements it is given.
+   */
+  private abstract static class ElementIndex {
+    abstract void init(int maxElementCount);
+
+    abstract int size();
+
+    abstract int getOrAdd(Object element);
+
+    int[] getOrAddAll(List<?> elements) {
+      final int[] ids = new int[elements.size()];
+      int i = 0;
+      for (Object element: elements) {
+        ids[i++] = getOrAdd(element);
+      }
+      return ids;
+    }
+
+    /**
+     * Compares two elements the same way as {@link AvroCollectionElementComparator}.
+     */
+    abstract int compare(int id1, int id2);
+
+    abstract List<?> newList(int capacity);
+
+    abstract void addTo(List<?> list, int id);
+  }
+
+  /**
+   * Index of int or long elements, which are read from and written to primitive lists without boxing when possible.
+   */
+  private static class LongElementIndex extends ElementIndex {
+    private final boolean intElements;
+    private Long2IntOpenHashMap elementToId;
+    private long[] elements;
+    private int size = 0;
+
+    LongElementIndex(boolean intElements) {
+      this.intElements = intElements;
+    }
+
+    @Override
+    void init(int maxElementCount) {
+      this.elementToId = new Long2IntOpenHashMap(maxElementCount);
+      this.elementToId.defaultReturnValue(-1);
+      this.elements = new long[maxElementCount];
+    }
+
+    @Override
+    int size() {
+      return size;
+    }
+
+    @Override
+    int getOrAdd(Object element) {
+      return getOrAdd(((Number) element).longValue());
+    }
+
+    private int getOrAdd(long element) {
+      int id = elementToId.putIfAbsent(element, size);
+      if (id == -1) {
+        id = size;
+        elements[size++] = element;
+      }
+      return id;
+    }
+
+    @Override
+    int[] getOrAddAll(List<?> list) {
+      if (list instanceof PrimitiveIntList) {
+        final PrimitiveIntList primitiveList = (PrimitiveIntList) list;
+        final int[] ids = new int[primitiveList.size()];
+        for (int i = 0; i < ids.length; i++) {
+          ids[i] = getOrAdd(primitiveList.getPrimitive(i));
+        }
+        return ids;
+      }
+      if (list instanceof PrimitiveLongList) {
+        final PrimitiveLongList primitiveList = (PrimitiveLongList) list;
+        final int[] ids = new int[primitiveList.size()];
+        for (int i = 0; i < ids.length; i++) {
+          ids[i] = getOrAdd(primitiveList.getPrimitive(i));
+        }
+        return ids;
+      }
+      return super.getOrAddAll(list);
+    }
+
+    @Override
+    int compare(int id1, int id2) {
+      return Long.compare(elements[id1], elements[id2]);
+    }
+
+    @Override
+    List<?> newList(int capacity) {
+      return intElements ? new PrimitiveIntArrayList(capacity) : new PrimitiveLongArrayList(capacity);
+    }
+
+    @Override
+    void addTo(List<?> list, int id) {
+      if (intElements) {
+        ((PrimitiveIntList) list).addPrimitive((int) elements[id]);
+      } else {
+        ((PrimitiveLongList) list).addPrimitive(elements[id]);
+      }
+    }
+  }
+
+  /**
+   * Index of string elements, which are kept as they are, either {@link String} or {@link org.apache.avro.util.Utf8}.
+   */
+  private static class ObjectElementIndex extends ElementIndex {
+    private final Schema elementSchema;
+    private final AvroCollectionElementComparator comparator;
+    private Object2IntOpenHashMap<Object> elementToId;
+    private Object[] elements;
+    private int size = 0;
+
+    ObjectElementIndex(Schema elementSchema, AvroCollectionElementComparator comparator) {
+      this.elementSchema = elementSchema;
+      this.comparator = comparator;
+    }
+
+    @Override
+    void init(int maxElementCount) {
+      this.elementToId = new Object2IntOpenHashMap<>(maxElementCount);
+      this.elementToId.defaultReturnValue(-1);
+      this.elements = new Object[maxElementCount];
+    }
+
+    @Override
+    int size() {
+      return size;
+    }
+
+    @Override
+    int getOrAdd(Object element) {
+      int id = elementToId.putIfAbsent(element, size);
+      if (id == -1) {
+        id = size;
+        elements[size++] = element;
+      }
+      return id;
+    }
+
+    @Override
+    int compare(int id1, int id2) {
+      return comparator.compare(elements[id1], elements[id2], elementSchema);
+    }
+
+    @Override
+    List<?> newList(int capacity) {
+      return new ArrayList<>(capacity);
+    }
+
+    @Override
+    void addTo(List<?> list, int id) {
+      ((List<Object>) list).add(elements[id]);
+    }
+  }
+}
@@ -27,8 +27,22 @@ import org.apache.avro.generic.GenericRecord;
 
 @ThreadSafe
 public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationHandler {
+  private final boolean primitiveListMergeEnabled;
+
   public SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator elementComparator) {
+    this(elementComparator, true);
+  }
+
+  /**
+   * @param primitiveListMergeEnabled whether list add/remove operations on lists of int, long or string elements are
+   *                                  merged by {@link PrimitiveListMergeHelper}, which doesn't box the elements nor
+   *                                  their timestamps.
+   */
+  public SortBasedCollectionFieldOpHandler(
+      AvroCollectionElementComparator elementComparator,
+      boolean primitiveListMergeEnabled) {
     super(elementComparator);
+    this.primitiveListMergeEnabled = primitiveListMergeEnabled;
   }
 
   @Override
@@ -414,6 +428,33 @@ public class SortBasedCollectionFieldOpHandler extends CollectionFieldOperationH
       return UpdateResultStatus.NOT_UPDATED_AT_ALL;
     }
 
+    if (primitiveListMergeEnabled) {
+      final Schema elementSchema = getArraySchema(currValueRecordField.schema()).getElementType();
+      if (PrimitiveListMergeHelper.isSupported(elementSchema)) {
+        if (collectionFieldRmd.isInPutOnlyState()) {
+          return PrimitiveListMergeHelper.handleModifyPutOnlyList(
+              modifyTimestamp,
+              collectionFieldRmd,
+              currValueRecord,
+              currValueRecordField,
+              elementSchema,
+              avroElementComparator,
+              toAddElementSet,
+              toRemoveElementSet);
+        } else {
+          return PrimitiveListMergeHelper.handleModifyCollectionMergeList(
+              modifyTimestamp,
+              collectionFieldRmd,
+              currValueRecord,
+              currValueRecordField,
+              elementSchema,
+              avroElementComparator,
+              toAddElementSet,
+              toRemoveElementSet);
+        }
+      }
+    }
+
     if (collectionFieldRmd.isInPutOnlyState()) {
       return handleModifyPutOnlyList(
           modifyTimestamp,
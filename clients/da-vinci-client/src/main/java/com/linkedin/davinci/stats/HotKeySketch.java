@@ -0,0 +1,189 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.davinci.utils.ByteArrayKey;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * A fixed-size summary of the most frequent keys of a stream, which is made of:
+ *
+ * 1. A Count-Min Sketch, which estimates the frequency of any key with conservative updates, so that the estimation
+ *    never undercounts, and only overcounts by a bounded amount.
+ * 2. A Space-Saving style candidate table, which holds the {@link #topK} keys with the highest estimations seen so far,
+ *    and evicts its lowest candidate whenever a key with a higher estimation shows up.
+ *
+ * Only the candidates hold a copy of their key, so the memory footprint doesn't depend on the key space. All the counts
+ * are halved every {@link #decayInterval} updates, so that keys which stopped being hot fade out of the summary.
+ *
+ * This class is thread-safe, but it is meant to be fed with sampled records, as all the updates are serialized.
+ */
+public class HotKeySketch {
+  private static final int DEPTH = 4;
+
+  private final int topK;
+  private final int widthMask;
+  private final long decayInterval;
+  private final long[][] counters;
+  private final Map<ByteArrayKey, Long> candidates;
+  private long updateCount = 0;
+  private long totalCount = 0;
+  private long minCandidateCount = 0;
+
+  /**
+   * @param topK the number of keys to report
+   * @param width the number of counters per row of the Count-Min Sketch, which is rounded up to a power of 2
+   * @param decayInterval the number of updates after which all the counts are halved
+   */
+  public HotKeySketch(int topK, int width, long decayInterval) {
+    if (topK <= 0 || width <= 0 || decayInterval <= 0) {
+      throw new IllegalArgumentException(
+          "Invalid sketch parameters, topK: " + topK + ", width: " + width + ", decayInterval: " + decayInterval);
+    }
+    int roundedWidth = Integer.highestOneBit(width);
+    if (roundedWidth < width) {
+      roundedWidth <<= 1;
+    }
+    this.topK = topK;
+    this.widthMask = roundedWidth - 1;
+    this.decayInterval = decayInterval;
+    this.counters = new long[DEPTH][roundedWidth];
+    this.candidates = new HashMap<>(topK * 2);
+  }
+
+  public void add(byte[] key) {
+    add(key, 0, key.length);
+  }
+
+  /**
+   * Counts one occurrence of the given key, which is only copied if it becomes a candidate.
+   */
+  public synchronized void add(byte[] key, int offset, int length) {
+    int hash1 = hash(key, offset, length);
+    int hash2 = Integer.reverse(hash1 * 0x9E3779B9) | 1;
+    long estimation = Long.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      estimation = Math.min(estimation, counters[row][(hash1 + row * hash2) & widthMask]);
+    }
+    estimation++;
+    // Conservative update: only the counters which are below the new estimation are raised
+    for (int row = 0; row < DEPTH; row++) {
+      int index = (hash1 + row * hash2) & widthMask;
+      if (counters[row][index] < estimation) {
+        counters[row][index] = estimation;
+      }
+    }
+    totalCount++;
+    offerCandidate(key, offset, length, estimation);
+
+    if (++updateCount >= decayInterval) {
+      decay();
+    }
+  }
+
+  private void offerCandidate(byte[] key, int offset, int length, long estimation) {
+    if (candidates.size() == topK && estimation <= minCandidateCount) {
+      return;
+    }
+    ByteArrayKey candidate = ByteArrayKey.wrap(Arrays.copyOfRange(key, offset, offset + length));
+    if (candidates.size() < topK || candidates.containsKey(candidate)) {
+      candidates.put(candidate, estimation);
+    } else {
+      ByteArrayKey minCandidate = null;
+      long minCount = Long.MAX_VALUE;
+      for (Map.Entry<ByteArrayKey, Long> entry: candidates.entrySet()) {
+        if (entry.getValue() < minCount) {
+          minCandidate = entry.getKey();
+          minCount = entry.getValue();
+        }
+      }
+      candidates.remove(minCandidate);
+      candidates.put(candidate, estimation);
+    }
+    if (candidates.size() == topK) {
+      updateMinCandidateCount();
+    }
+  }
+
+  private void updateMinCandidateCount() {
+    long minCount = Long.MAX_VALUE;
+    for (long count: candidates.values()) {
+      minCount = Math.min(minCount, count);
+    }
+    minCandidateCount = minCount;
+  }
+
+  private void decay() {
+    for (long[] row: counters) {
+      for (int i = 0; i < row.length; i++) {
+        row[i] >>>= 1;
+      }
+    }
+    candidates.replaceAll((key, count) -> count >>> 1);
+    candidates.values().removeIf(count -> count == 0);
+    totalCount >>>= 1;
+    minCandidateCount >>>= 1;
+    updateCount = 0;
+  }
+
+  /**
+   * @return the candidates sorted by their estimated count, in descending order
+   */
+  public synchronized List<HotKey> getHotKeys() {
+    List<HotKey> hotKeys = new ArrayList<>(candidates.size());
+    for (Map.Entry<ByteArrayKey, Long> entry: candidates.entrySet()) {
+      hotKeys.add(new HotKey(entry.getKey().getContent(), entry.getValue()));
+    }
+    hotKeys.sort((k1, k2) -> Long.compare(k2.getEstimatedCount(), k1.getEstimatedCount()));
+    return hotKeys;
+  }
+
+  /**
+   * @return the share of all the counted occurrences which went to the hottest key, between 0 and 1
+   */
+  public synchronized double getTopKeyShare() {
+    if (totalCount == 0 || candidates.isEmpty()) {
+      return 0;
+    }
+    long maxCount = 0;
+    for (long count: candidates.values()) {
+      maxCount = Math.max(maxCount, count);
+    }
+    return Math.min(1d, (double) maxCount / totalCount);
+  }
+
+  private static int hash(byte[] key, int offset, int length) {
+    int hash = 1;
+    for (int i = offset; i < offset + length; i++) {
+      hash = 31 * hash + key[i];
+    }
+    // Murmur3 finalizer, to spread the bits of the polynomial hash across the whole integer
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    hash *= 0xC2B2AE35;
+    hash ^= hash >>> 16;
+    return hash;
+  }
+
+  public static class HotKey {
+    private final byte[] key;
+    private final long estimatedCount;
+
+    public HotKey(byte[] key, long estimatedCount) {
+      this.key = key;
+      this.estimatedCount = estimatedCount;
+    }
+
+    public byte[] getKey() {
+      return key;
+    }
+
+    public long getEstimatedCount() {
+      return estimatedCount;
+    }
+  }
+}
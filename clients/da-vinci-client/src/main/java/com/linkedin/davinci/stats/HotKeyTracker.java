@@ -0,0 +1,154 @@
+package com.linkedin.davinci.stats;
+
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.stats.AbstractVeniceStats;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.tehuti.metrics.MetricsRepository;
+import io.tehuti.metrics.stats.AsyncGauge;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+
+/**
+ * This class tracks the hot keys of each store version hosted by the server, separately for the reads served by the
+ * server and for the writes it ingests.
+ *
+ * Only one out of {@link #sampleInterval} records is counted into a {@link HotKeySketch}, so the cost on the read and
+ * ingestion paths is a random draw for most records. The reported counts are scaled back by the sample interval, so
+ * they estimate the number of records seen since the counts were last decayed.
+ *
+ * The share of the records which go to the hottest key of each store is reported as a metric, and the hot keys
+ * themselves can be dumped through a server admin request.
+ */
+public class HotKeyTracker {
+  private static final int SKETCH_WIDTH = 1024;
+  private static final long SKETCH_DECAY_INTERVAL = 100_000;
+
+  public enum Operation {
+    READ, WRITE
+  }
+
+  private final int sampleInterval;
+  private final int topK;
+  private final MetricsRepository metricsRepository;
+  private final Map<String, VersionHotKeys> versionHotKeysMap = new VeniceConcurrentHashMap<>();
+  private final Map<String, HotKeyStats> storeStatsMap = new VeniceConcurrentHashMap<>();
+
+  public HotKeyTracker(int sampleInterval, int topK, MetricsRepository metricsRepository) {
+    if (sampleInterval <= 0 || topK <= 0) {
+      throw new IllegalArgumentException(
+          "Hot key tracking needs a positive sample interval and top K, got: " + sampleInterval + " and " + topK);
+    }
+    this.sampleInterval = sampleInterval;
+    this.topK = topK;
+    this.metricsRepository = metricsRepository;
+  }
+
+  public void recordRead(String topic, byte[] key) {
+    if (shouldSample()) {
+      getVersionHotKeys(topic).readSketch.add(key);
+    }
+  }
+
+  public void recordRead(String topic, ByteBuffer key) {
+    if (shouldSample()) {
+      HotKeySketch sketch = getVersionHotKeys(topic).readSketch;
+      if (key.hasArray()) {
+        sketch.add(key.array(), key.arrayOffset() + key.position(), key.remaining());
+      } else {
+        byte[] keyBytes = new byte[key.remaining()];
+        key.duplicate().get(keyBytes);
+        sketch.add(keyBytes);
+      }
+    }
+  }
+
+  public void recordWrite(String topic, byte[] key) {
+    if (shouldSample()) {
+      getVersionHotKeys(topic).writeSketch.add(key);
+    }
+  }
+
+  /**
+   * @return the hot keys of the given store version sorted by their estimated count, in descending order
+   */
+  public List<HotKeySketch.HotKey> getHotKeys(String topic, Operation operation) {
+    VersionHotKeys versionHotKeys = versionHotKeysMap.get(topic);
+    if (versionHotKeys == null) {
+      return Collections.emptyList();
+    }
+    List<HotKeySketch.HotKey> sampledHotKeys = versionHotKeys.getSketch(operation).getHotKeys();
+    List<HotKeySketch.HotKey> hotKeys = new ArrayList<>(sampledHotKeys.size());
+    for (HotKeySketch.HotKey hotKey: sampledHotKeys) {
+      hotKeys.add(new HotKeySketch.HotKey(hotKey.getKey(), hotKey.getEstimatedCount() * sampleInterval));
+    }
+    return hotKeys;
+  }
+
+  /**
+   * Drops the hot keys of a store version which is not hosted anymore.
+   */
+  public void removeVersion(String topic) {
+    versionHotKeysMap.remove(topic);
+  }
+
+  private boolean shouldSample() {
+    return sampleInterval == 1 || ThreadLocalRandom.current().nextInt(sampleInterval) == 0;
+  }
+
+  private VersionHotKeys getVersionHotKeys(String topic) {
+    VersionHotKeys versionHotKeys = versionHotKeysMap.get(topic);
+    if (versionHotKeys == null) {
+      versionHotKeys = versionHotKeysMap.computeIfAbsent(topic, ignored -> new VersionHotKeys(topK));
+      storeStatsMap.computeIfAbsent(
+          Version.parseStoreFromKafkaTopicName(topic),
+          storeName -> new HotKeyStats(metricsRepository, storeName, this));
+    }
+    return versionHotKeys;
+  }
+
+  /**
+   * @return the highest share of records going to a single key across the hosted versions of the given store
+   */
+  double getTopKeyShare(String storeName, Operation operation) {
+    double topKeyShare = 0;
+    for (Map.Entry<String, VersionHotKeys> entry: versionHotKeysMap.entrySet()) {
+      if (Version.parseStoreFromKafkaTopicName(entry.getKey()).equals(storeName)) {
+        topKeyShare = Math.max(topKeyShare, entry.getValue().getSketch(operation).getTopKeyShare());
+      }
+    }
+    return topKeyShare;
+  }
+
+  private static class VersionHotKeys {
+    private final HotKeySketch readSketch;
+    private final HotKeySketch writeSketch;
+
+    VersionHotKeys(int topK) {
+      this.readSketch = new HotKeySketch(topK, SKETCH_WIDTH, SKETCH_DECAY_INTERVAL);
+      this.writeSketch = new HotKeySketch(topK, SKETCH_WIDTH, SKETCH_DECAY_INTERVAL);
+    }
+
+    HotKeySketch getSketch(Operation operation) {
+      return operation == Operation.READ ? readSketch : writeSketch;
+    }
+  }
+
+  private static class HotKeyStats extends AbstractVeniceStats {
+    HotKeyStats(MetricsRepository metricsRepository, String storeName, HotKeyTracker tracker) {
+      super(metricsRepository, storeName);
+      registerSensorIfAbsent(
+          new AsyncGauge(
+              (ignored, ignored2) -> tracker.getTopKeyShare(storeName, Operation.READ),
+              "hot_key_read_top_key_share"));
+      registerSensorIfAbsent(
+          new AsyncGauge(
+              (ignored, ignored2) -> tracker.getTopKeyShare(storeName, Operation.WRITE),
+              "hot_key_write_top_key_share"));
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.linkedin.davinci.storage.chunking;
 
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
 import com.linkedin.davinci.listener.response.ReadResponseStats;
+import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -16,7 +17,9 @@ import com.linkedin.venice.utils.ByteUtils;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -226,6 +229,67 @@ public abstract class AbstractAvroChunkingAdapter<T> implements ChunkingAdapter<
         compressor);
   }
 
+  /**
+   * Decodes a top-level value of {@param store} which was read by {@param iterator}.
+   *
+   * @see ChunkingUtils#getFromTopLevelValue
+   */
+  public T getFromTopLevelValue(
+      StorageEngine store,
+      AbstractStorageIterator iterator,
+      int partition,
+      byte[] value,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    return ChunkingUtils.getFromTopLevelValue(
+        this,
+        store,
+        iterator,
+        partition,
+        value,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
+  /**
+   * Looks up several keys of the same partition at once. The same {@param reusedValue} is used for every key, so the
+   * {@param resultConsumer} must be done with each value before it returns.
+   *
+   * @see ChunkingUtils#getFromStorageInBatch
+   */
+  public void getInBatch(
+      StorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      T reusedValue,
+      BinaryDecoder reusedDecoder,
+      ReadResponseStats responseStats,
+      int readerSchemaId,
+      StoreDeserializerCache<T> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<T> resultConsumer) {
+    ChunkingUtils.getFromStorageInBatch(
+        this,
+        store,
+        partition,
+        keys,
+        isChunked,
+        responseStats,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        resultConsumer);
+  }
+
   public void getByPartialKey(
       StorageEngine store,
       int userPartition,
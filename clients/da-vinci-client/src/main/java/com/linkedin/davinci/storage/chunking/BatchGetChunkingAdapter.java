@@ -6,6 +6,8 @@ import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
 
 
 /**
@@ -68,4 +70,31 @@ public class BatchGetChunkingAdapter implements ChunkingAdapter<ByteBuffer, Mult
     }
     return ChunkingUtils.getFromStorage(BATCH_GET_CHUNKING_ADAPTER, store, partition, key, response);
   }
+
+  /**
+   * Looks up several keys of the same partition at once.
+   *
+   * @see ChunkingUtils#getFromStorageInBatch
+   */
+  public static void getInBatch(
+      StorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponseStats response,
+      ObjIntConsumer<MultiGetResponseRecordV1> resultConsumer) {
+    ChunkingUtils.getFromStorageInBatch(
+        BATCH_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        keys,
+        isChunked,
+        response,
+        null,
+        null,
+        -1,
+        null,
+        null,
+        resultConsumer);
+  }
 }
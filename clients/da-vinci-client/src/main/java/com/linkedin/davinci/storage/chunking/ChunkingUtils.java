@@ -3,6 +3,7 @@ package com.linkedin.davinci.storage.chunking;
 import com.linkedin.davinci.callback.BytesStreamingCallback;
 import com.linkedin.davinci.listener.response.NoOpReadResponseStats;
 import com.linkedin.davinci.listener.response.ReadResponseStats;
+import com.linkedin.davinci.store.AbstractStorageIterator;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
@@ -17,9 +18,15 @@ import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
 import com.linkedin.venice.writer.VeniceWriter;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.ObjIntConsumer;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.io.BinaryDecoder;
 
@@ -94,6 +101,52 @@ public class ChunkingUtils {
         null);
   }
 
+  /**
+   * Variant of {@link #getFromStorage(ChunkingAdapter, StorageEngine, int, ByteBuffer, ReadResponseStats)} which leaves
+   * the chunks of a large value in storage, for callers which stream them out one at a time rather than assembling the
+   * whole value in memory. A value which is not chunked is returned as usual, while for a chunked value, only its
+   * manifest is fetched and handed to {@param manifestContainer}, and null is returned. The chunks can then be fetched
+   * with {@link #getChunk}.
+   */
+  static <VALUE, ASSEMBLED_VALUE_CONTAINER> VALUE getFromStorageWithoutAssembling(
+      ChunkingAdapter<ASSEMBLED_VALUE_CONTAINER, VALUE> adapter,
+      StorageEngine store,
+      int partition,
+      ByteBuffer keyBuffer,
+      ReadResponseStats responseStats,
+      ChunkedValueManifestContainer manifestContainer) {
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    byte[] value = store.get(partition, keyBuffer);
+    if (value == null) {
+      return null;
+    }
+    int writerSchemaId = ValueRecord.parseSchemaId(value);
+    if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+      return getFromStorage(
+          value,
+          value.length,
+          databaseLookupStartTimeInNS,
+          adapter,
+          store::get,
+          store.getStoreVersionName(),
+          partition,
+          responseStats,
+          null,
+          null,
+          -1,
+          null,
+          null,
+          null);
+    }
+
+    ChunkedValueManifest chunkedValueManifest = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+    manifestContainer.setManifest(chunkedValueManifest);
+    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+    responseStats.addValueSize(chunkedValueManifest.size);
+    responseStats.incrementMultiChunkLargeValueCount();
+    return null;
+  }
+
   static <VALUE, ASSEMBLED_VALUE_CONTAINER> VALUE getReplicationMetadataFromStorage(
       ChunkingAdapter<ASSEMBLED_VALUE_CONTAINER, VALUE> adapter,
       StorageEngine store,
@@ -251,6 +304,175 @@ public class ChunkingUtils {
         manifestContainer);
   }
 
+  /**
+   * Variant of the getFromStorage functions for a top-level value which was read by {@param iterator}. A full value is
+   * decoded right away, while the chunks of a {@link ChunkedValueManifest} are read through the iterator, from the
+   * same point-in-time view as the manifest, since the chunks of the previous value are deleted when a key is updated.
+   */
+  static <VALUE, CHUNKS_CONTAINER> VALUE getFromTopLevelValue(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      StorageEngine store,
+      AbstractStorageIterator iterator,
+      int partition,
+      byte[] value,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
+    return getFromStorage(
+        value,
+        (value == null ? 0 : value.length),
+        0,
+        adapter,
+        (chunkPartition, chunkKey) -> iterator.get(ByteUtils.extractByteArray(chunkKey)),
+        store.getStoreVersionName(),
+        partition,
+        NoOpReadResponseStats.SINGLETON,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor,
+        null);
+  }
+
+  /**
+   * Batched counterpart of the getFromStorage functions, for keys which all belong to the same partition.
+   *
+   * The top-level keys are resolved with a single {@link StorageEngine#multiGet(int, List)} call, and so are all the
+   * chunks referenced by the {@link ChunkedValueManifest}s found among them, so that the number of storage engine
+   * lookups does not grow with the number of keys. The values are then handed over to {@param resultConsumer}, one at
+   * a time and in the order of {@param keys}, with null for the keys which were not found. Since {@param reusedValue}
+   * gets reused across keys, the consumer must be done with each value before it returns.
+   */
+  static <VALUE, CHUNKS_CONTAINER> void getFromStorageInBatch(
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      StorageEngine store,
+      int partition,
+      List<byte[]> keys,
+      boolean isChunked,
+      ReadResponseStats responseStats,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor,
+      ObjIntConsumer<VALUE> resultConsumer) {
+    int keyCount = keys.size();
+    List<byte[]> topLevelKeys = keys;
+    if (isChunked) {
+      topLevelKeys = new ArrayList<>(keyCount);
+      for (int i = 0; i < keyCount; i++) {
+        topLevelKeys.add(KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(keys.get(i)));
+      }
+    }
+
+    long databaseLookupStartTimeInNS = responseStats.getCurrentTimeInNanos();
+    List<byte[]> values = store.multiGet(partition, topLevelKeys);
+    if (values.size() != keyCount) {
+      throw new VeniceException(
+          "The storage engine returned " + values.size() + " values for " + keyCount + " keys, "
+              + getExceptionMessageDetails(store.getStoreVersionName(), partition, null));
+    }
+
+    ChunkedValueManifest[] manifests = null;
+    StorageGetFunction chunkGetFunction = null;
+    if (isChunked) {
+      manifests = new ChunkedValueManifest[keyCount];
+      chunkGetFunction = multiGetChunks(store, partition, values, manifests);
+    }
+    responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
+
+    byte[] value;
+    VALUE result;
+    for (int i = 0; i < keyCount; i++) {
+      value = values.get(i);
+      if (value == null) {
+        result = null;
+      } else if (manifests != null && manifests[i] != null) {
+        result = assembleChunkedValue(
+            manifests[i],
+            responseStats.getCurrentTimeInNanos(),
+            adapter,
+            chunkGetFunction,
+            store.getStoreVersionName(),
+            partition,
+            responseStats,
+            reusedValue,
+            reusedDecoder,
+            readerSchemaId,
+            storeDeserializerCache,
+            compressor);
+      } else {
+        result = getFromStorage(
+            value,
+            value.length,
+            responseStats.getCurrentTimeInNanos(),
+            adapter,
+            store::get,
+            store.getStoreVersionName(),
+            partition,
+            responseStats,
+            reusedValue,
+            reusedDecoder,
+            readerSchemaId,
+            storeDeserializerCache,
+            compressor,
+            null);
+      }
+      resultConsumer.accept(result, i);
+      if (result != null) {
+        reusedValue = result;
+      }
+    }
+  }
+
+  /**
+   * Deserializes the {@link ChunkedValueManifest}s found among {@param values} into {@param manifests}, at the same
+   * index, and fetches all of their chunks with a single {@link StorageEngine#multiGet(int, List)} call.
+   *
+   * @return a {@link StorageGetFunction} serving the prefetched chunks, or null if there was no manifest.
+   */
+  private static StorageGetFunction multiGetChunks(
+      StorageEngine store,
+      int partition,
+      List<byte[]> values,
+      ChunkedValueManifest[] manifests) {
+    List<ByteBuffer> chunkKeys = null;
+    byte[] value;
+    int writerSchemaId;
+    for (int i = 0; i < manifests.length; i++) {
+      value = values.get(i);
+      if (value == null) {
+        continue;
+      }
+      writerSchemaId = ValueRecord.parseSchemaId(value);
+      if (writerSchemaId != AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion()) {
+        continue;
+      }
+      manifests[i] = CHUNKED_VALUE_MANIFEST_SERIALIZER.deserialize(value, writerSchemaId);
+      if (chunkKeys == null) {
+        chunkKeys = new ArrayList<>();
+      }
+      chunkKeys.addAll(manifests[i].keysWithChunkIdSuffix);
+    }
+    if (chunkKeys == null) {
+      return null;
+    }
+
+    List<byte[]> chunkKeyBytes = new ArrayList<>(chunkKeys.size());
+    for (int i = 0; i < chunkKeys.size(); i++) {
+      chunkKeyBytes.add(ByteUtils.extractByteArray(chunkKeys.get(i)));
+    }
+    List<byte[]> chunks = store.multiGet(partition, chunkKeyBytes);
+    Map<ByteBuffer, byte[]> chunksByKey = new HashMap<>(chunkKeys.size());
+    for (int i = 0; i < chunkKeys.size(); i++) {
+      chunksByKey.put(chunkKeys.get(i), chunks.get(i));
+    }
+    return (ignoredPartition, chunkKey) -> chunksByKey.get(chunkKey);
+  }
+
   static <VALUE, CHUNKS_CONTAINER> ByteBufferValueRecord<VALUE> getValueAndSchemaIdFromStorage(
       ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
       StorageEngine store,
@@ -344,39 +566,49 @@ public class ChunkingUtils {
     if (manifestContainer != null) {
       manifestContainer.setManifest(chunkedValueManifest);
     }
+    return assembleChunkedValue(
+        chunkedValueManifest,
+        databaseLookupStartTimeInNS,
+        adapter,
+        storageGetFunction,
+        storeVersionName,
+        partition,
+        responseStats,
+        reusedValue,
+        reusedDecoder,
+        readerSchemaId,
+        storeDeserializerCache,
+        compressor);
+  }
+
+  private static <VALUE, CHUNKS_CONTAINER> VALUE assembleChunkedValue(
+      ChunkedValueManifest chunkedValueManifest,
+      long databaseLookupStartTimeInNS,
+      ChunkingAdapter<CHUNKS_CONTAINER, VALUE> adapter,
+      StorageGetFunction storageGetFunction,
+      String storeVersionName,
+      int partition,
+      ReadResponseStats responseStats,
+      VALUE reusedValue,
+      BinaryDecoder reusedDecoder,
+      int readerSchemaId,
+      StoreDeserializerCache<VALUE> storeDeserializerCache,
+      VeniceCompressor compressor) {
     CHUNKS_CONTAINER assembledValueContainer = adapter.constructChunksContainer(chunkedValueManifest);
     int actualSize = 0;
 
     byte[] valueChunk;
     for (int chunkIndex = 0; chunkIndex < chunkedValueManifest.keysWithChunkIdSuffix.size(); chunkIndex++) {
       // N.B.: This is done sequentially. Originally, each chunk was fetched concurrently in the same executor
-      // as the main queries, but this might cause deadlocks, so we are now doing it sequentially. If we want to
-      // optimize large value retrieval in the future, it's unclear whether the concurrent retrieval approach
-      // is optimal (as opposed to streaming the response out incrementally, for example). Since this is a
-      // premature optimization, we are not addressing it right now.
-      valueChunk = storageGetFunction.apply(partition, chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex));
-
-      if (valueChunk == null) {
-        throw new VeniceException(
-            "Chunk not found in " + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
-      } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
-        throw new VeniceException(
-            "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
-                + ValueRecord.parseSchemaId(valueChunk) + " from "
-                + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
-      }
-
+      // as the main queries, but this might cause deadlocks, so we are now doing it sequentially. Single gets which
+      // can stream the response out incrementally use getFromStorageWithoutAssembling and LargeValueChunkedInput
+      // instead.
+      valueChunk = getChunk(storageGetFunction, storeVersionName, partition, chunkedValueManifest, chunkIndex);
       actualSize += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
       adapter.addChunkIntoContainer(assembledValueContainer, chunkIndex, valueChunk);
     }
 
-    // Sanity check based on size...
-    if (actualSize != chunkedValueManifest.size) {
-      throw new VeniceException(
-          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
-              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
-              + getExceptionMessageDetails(storeVersionName, partition, null));
-    }
+    verifyAssembledSize(actualSize, chunkedValueManifest, storeVersionName, partition);
 
     responseStats.addDatabaseLookupLatency(databaseLookupStartTimeInNS);
     responseStats.addValueSize(actualSize);
@@ -393,6 +625,47 @@ public class ChunkingUtils {
         compressor);
   }
 
+  /**
+   * @return the given chunk of a large value, including its schema header
+   * @throws VeniceException if the chunk is missing, or is not a chunk
+   */
+  static byte[] getChunk(
+      StorageGetFunction storageGetFunction,
+      String storeVersionName,
+      int partition,
+      ChunkedValueManifest chunkedValueManifest,
+      int chunkIndex) {
+    byte[] valueChunk =
+        storageGetFunction.apply(partition, chunkedValueManifest.keysWithChunkIdSuffix.get(chunkIndex));
+
+    if (valueChunk == null) {
+      throw new VeniceException(
+          "Chunk not found in " + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
+    } else if (ValueRecord.parseSchemaId(valueChunk) != AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion()) {
+      throw new VeniceException(
+          "Did not get the chunk schema ID while attempting to retrieve a chunk! " + "Instead, got schema ID: "
+              + ValueRecord.parseSchemaId(valueChunk) + " from "
+              + getExceptionMessageDetails(storeVersionName, partition, chunkIndex));
+    }
+    return valueChunk;
+  }
+
+  /**
+   * Sanity check based on size, once all the chunks of a large value have been fetched.
+   */
+  static void verifyAssembledSize(
+      int actualSize,
+      ChunkedValueManifest chunkedValueManifest,
+      String storeVersionName,
+      int partition) {
+    if (actualSize != chunkedValueManifest.size) {
+      throw new VeniceException(
+          "The fully assembled large value does not have the expected size! " + "actualSize: " + actualSize
+              + ", chunkedValueManifest.size: " + chunkedValueManifest.size + ", "
+              + getExceptionMessageDetails(storeVersionName, partition, null));
+    }
+  }
+
   private static String getExceptionMessageDetails(String storeVersionName, int partition, Integer chunkIndex) {
     String message = "store-version: " + storeVersionName + ", partition: " + partition;
     if (chunkIndex != null) {
@@ -0,0 +1,222 @@
+package com.linkedin.davinci.storage.chunking;
+
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.LatencyUtils;
+import com.linkedin.venice.utils.ReferenceCounted;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.stream.ChunkedInput;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.DoubleConsumer;
+
+
+/**
+ * Reads the chunks of a large value out of storage, as Netty asks for them, so that a response carrying the value can
+ * be streamed out without ever holding the whole value in memory. The chunks go through the same checks as when the
+ * value is assembled by {@link ChunkingUtils}.
+ *
+ * The chunks are fetched on the given executor, up to {@code maxChunksReadAhead} of them ahead of the one being
+ * written, so that the event loop never blocks on storage. When the next chunk is not there yet, {@link #readChunk}
+ * returns null and the callback set by {@link #setChunkReadCallbacks} is invoked once it is, which is meant to resume
+ * the transfer of the {@link io.netty.handler.stream.ChunkedWriteHandler}.
+ *
+ * The storage engine is held until {@link #close()}, which must be called once the transfer ends, and by each chunk
+ * being fetched until its fetch is done, so that it is not released while a chunk is read out of it.
+ */
+public class LargeValueChunkedInput implements ChunkedInput<ByteBuf> {
+  private final ReferenceCounted<? extends StorageEngine> storageEngineRef;
+  private final StorageEngine store;
+  private final int partition;
+  private final ChunkedValueManifest chunkedValueManifest;
+  private final Executor executor;
+  private final int maxChunksReadAhead;
+  // Only accessed by the thread reading the chunks, the event loop of the channel when streaming
+  private final Deque<CompletableFuture<byte[]>> pendingChunks = new ArrayDeque<>();
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  private Runnable onChunkAvailable = () -> {};
+  private DoubleConsumer chunkReadLatencyRecorder = latency -> {};
+  private CompletableFuture<byte[]> awaitedChunk = null;
+  private int nextChunkIndex = 0;
+  private int nextChunkIndexToFetch = 0;
+  private int bytesRead = 0;
+
+  public LargeValueChunkedInput(
+      ReferenceCounted<? extends StorageEngine> storageEngineRef,
+      int partition,
+      ChunkedValueManifest chunkedValueManifest,
+      Executor executor,
+      int maxChunksReadAhead) {
+    this.storageEngineRef = storageEngineRef;
+    this.store = storageEngineRef.get();
+    this.partition = partition;
+    this.chunkedValueManifest = chunkedValueManifest;
+    this.executor = executor;
+    this.maxChunksReadAhead = Math.max(1, maxChunksReadAhead);
+  }
+
+  /**
+   * Must be called before the first chunk is read.
+   *
+   * @param onChunkAvailable invoked on the executor when a chunk {@link #readChunk} had to wait for has been fetched
+   * @param chunkReadLatencyRecorder records the time spent reading each chunk out of storage, in milliseconds
+   */
+  public void setChunkReadCallbacks(Runnable onChunkAvailable, DoubleConsumer chunkReadLatencyRecorder) {
+    this.onChunkAvailable = onChunkAvailable;
+    this.chunkReadLatencyRecorder = chunkReadLatencyRecorder;
+  }
+
+  /**
+   * @return the schema id of the assembled value
+   */
+  public int getSchemaId() {
+    return chunkedValueManifest.schemaId;
+  }
+
+  @Override
+  public boolean isEndOfInput() {
+    return nextChunkIndex >= chunkedValueManifest.keysWithChunkIdSuffix.size();
+  }
+
+  /**
+   * Releases the storage engine, the chunks which are being fetched are dropped and release it once they are done.
+   */
+  @Override
+  public void close() {
+    if (closed.compareAndSet(false, true)) {
+      for (CompletableFuture<byte[]> pendingChunk: pendingChunks) {
+        pendingChunk.cancel(false);
+      }
+      pendingChunks.clear();
+      storageEngineRef.release();
+    }
+  }
+
+  @Deprecated
+  @Override
+  public ByteBuf readChunk(ChannelHandlerContext ctx) {
+    return readChunk(ctx.alloc());
+  }
+
+  /**
+   * @return the next chunk of the value, without its schema header, or null if it has not been fetched yet or all the
+   *         chunks have been read
+   */
+  @Override
+  public ByteBuf readChunk(ByteBufAllocator allocator) {
+    if (isEndOfInput() || closed.get()) {
+      return null;
+    }
+    fetchAhead();
+    CompletableFuture<byte[]> chunkFuture = pendingChunks.peekFirst();
+    if (!chunkFuture.isDone()) {
+      if (awaitedChunk != chunkFuture) {
+        awaitedChunk = chunkFuture;
+        chunkFuture.whenComplete((chunk, throwable) -> onChunkAvailable.run());
+      }
+      return null;
+    }
+    pendingChunks.pollFirst();
+    ByteBuf chunk = consumeChunk(getChunk(chunkFuture));
+    fetchAhead();
+    return chunk;
+  }
+
+  /**
+   * Reads all the remaining chunks on the calling thread, for the code paths which cannot stream the value, and closes
+   * this input.
+   *
+   * @return the remaining part of the value, without its schema header
+   */
+  public ByteBuf readRemainingChunks() {
+    try {
+      CompositeByteBuf assembledValue = Unpooled.compositeBuffer(Integer.MAX_VALUE);
+      while (!isEndOfInput()) {
+        CompletableFuture<byte[]> chunkFuture = pendingChunks.pollFirst();
+        byte[] valueChunk = chunkFuture == null ? fetchChunk(nextChunkIndexToFetch++) : getChunk(chunkFuture);
+        assembledValue.addComponent(true, consumeChunk(valueChunk));
+      }
+      return assembledValue;
+    } finally {
+      close();
+    }
+  }
+
+  @Override
+  public long length() {
+    return chunkedValueManifest.size;
+  }
+
+  @Override
+  public long progress() {
+    return bytesRead;
+  }
+
+  private void fetchAhead() {
+    while (!closed.get() && pendingChunks.size() < maxChunksReadAhead
+        && nextChunkIndexToFetch < chunkedValueManifest.keysWithChunkIdSuffix.size()) {
+      int chunkIndex = nextChunkIndexToFetch++;
+      pendingChunks.addLast(fetchChunkAsync(chunkIndex));
+    }
+  }
+
+  private CompletableFuture<byte[]> fetchChunkAsync(int chunkIndex) {
+    CompletableFuture<byte[]> chunkFuture = new CompletableFuture<>();
+    storageEngineRef.retain();
+    try {
+      executor.execute(() -> {
+        try {
+          // A fetch which was cancelled by closing this input does not read the storage engine anymore
+          if (!chunkFuture.isDone()) {
+            chunkFuture.complete(fetchChunk(chunkIndex));
+          }
+        } catch (Throwable e) {
+          chunkFuture.completeExceptionally(e);
+        } finally {
+          storageEngineRef.release();
+        }
+      });
+    } catch (RuntimeException e) {
+      storageEngineRef.release();
+      throw e;
+    }
+    return chunkFuture;
+  }
+
+  private byte[] fetchChunk(int chunkIndex) {
+    long startTimeInNs = System.nanoTime();
+    byte[] valueChunk =
+        ChunkingUtils.getChunk(store::get, store.getStoreVersionName(), partition, chunkedValueManifest, chunkIndex);
+    chunkReadLatencyRecorder.accept(LatencyUtils.getElapsedTimeFromNSToMS(startTimeInNs));
+    return valueChunk;
+  }
+
+  private ByteBuf consumeChunk(byte[] valueChunk) {
+    nextChunkIndex++;
+    bytesRead += valueChunk.length - ValueRecord.SCHEMA_HEADER_LENGTH;
+    if (isEndOfInput()) {
+      ChunkingUtils.verifyAssembledSize(bytesRead, chunkedValueManifest, store.getStoreVersionName(), partition);
+    }
+    return ValueRecord.parseDataAsByteBuf(valueChunk);
+  }
+
+  private static byte[] getChunk(CompletableFuture<byte[]> chunkFuture) {
+    try {
+      return chunkFuture.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+}
@@ -51,6 +51,28 @@ public class SingleGetChunkingAdapter implements ChunkingAdapter<CompositeByteBu
     return ChunkingUtils.getFromStorage(SINGLE_GET_CHUNKING_ADAPTER, store, partition, keyBuffer, response);
   }
 
+  /**
+   * Variant of {@link #get} for chunked stores whose responses can stream large values out rather than assembling them
+   * in memory. The value is returned as usual if it is not chunked, otherwise its manifest is handed to
+   * {@param manifestContainer} and null is returned, so that its chunks can be read one at a time with a
+   * {@link LargeValueChunkedInput}.
+   */
+  public static ValueRecord getWithoutAssembling(
+      StorageEngine store,
+      int partition,
+      byte[] key,
+      ReadResponseStats response,
+      ChunkedValueManifestContainer manifestContainer) {
+    ByteBuffer keyBuffer = ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKeyAsByteBuffer(key);
+    return ChunkingUtils.getFromStorageWithoutAssembling(
+        SINGLE_GET_CHUNKING_ADAPTER,
+        store,
+        partition,
+        keyBuffer,
+        response,
+        manifestContainer);
+  }
+
   public static ValueRecord getReplicationMetadata(
       StorageEngine store,
       int partition,
@@ -22,6 +22,16 @@ public abstract class AbstractStorageIterator implements AutoCloseable {
     throw new UnsupportedOperationException("Method not implemented");
   }
 
+  /**
+   * Looks up a key in the same point-in-time view of the data as the entries of the iterator, e.g. to read the chunks
+   * of a large value consistently with its manifest.
+   *
+   * @return the value of the key, or null if there is none
+   */
+  public byte[] get(byte[] key) {
+    throw new UnsupportedOperationException("Method not implemented");
+  }
+
   /**
    * Moves to the next entry
    */
@@ -7,6 +7,7 @@ import com.linkedin.venice.meta.PersistenceType;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubContext;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -161,6 +162,11 @@ public class DelegatingStorageEngine<P extends AbstractStoragePartition> impleme
     return this.delegate.get(partitionId, keyBuffer);
   }
 
+  @Override
+  public List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException {
+    return this.delegate.multiGet(partitionId, keys);
+  }
+
   @Override
   public void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback) {
     this.delegate.getByKeyPrefix(partitionId, partialKey, bytesStreamingCallback);
@@ -8,6 +8,7 @@ import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.pubsub.PubSubContext;
 import java.io.Closeable;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -112,6 +113,13 @@ public interface StorageEngine<Partition extends AbstractStoragePartition> exten
 
   byte[] get(int partitionId, ByteBuffer keyBuffer) throws VeniceException;
 
+  /**
+   * Look up multiple keys of the same partition at once.
+   *
+   * @return a list with the same size and order as {@param keys}, with null for each key which does not exist.
+   */
+  List<byte[]> multiGet(int partitionId, List<byte[]> keys) throws VeniceException;
+
   void getByKeyPrefix(int partitionId, byte[] partialKey, BytesStreamingCallback bytesStreamingCallback);
 
   void delete(int partitionId, byte[] key) throws VeniceException;
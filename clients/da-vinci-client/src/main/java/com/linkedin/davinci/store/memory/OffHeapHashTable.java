@@ -0,0 +1,655 @@
+package com.linkedin.davinci.store.memory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * An open-addressing hash table which keeps its keys and values in off-heap slabs, so that the only objects it holds
+ * on the Java heap are a handful of primitive arrays, regardless of the number of entries.
+ *
+ * Layout:
+ *
+ * 1. The index is made of two parallel arrays, indexed by slot: the hash of the key, and the address of the entry.
+ *    The address packs the slab index (plus one, so that zero means "empty") in its upper 32 bits, and the offset
+ *    within the slab in its lower 32 bits. Collisions are resolved with linear probing, and removals leave a
+ *    {@link #DELETED} marker behind, which gets reclaimed on the next rehash.
+ * 2. Each entry is appended to the current slab as: [key length][value length][key bytes][value bytes]. Slabs are
+ *    direct {@link ByteBuffer}s which start small and double in size up to a configurable maximum, so that small
+ *    partitions stay small.
+ *
+ * Entries are never modified once written: updates append a new entry and re-point the index, and the space of the
+ * previous entry is reclaimed by a compaction which rewrites all live entries into fresh slabs once more than half of
+ * the allocated space is garbage.
+ *
+ * Concurrency: writers are serialized with the write mode of a {@link StampedLock}. Since entries are immutable,
+ * readers first attempt an optimistic read and only fall back to taking the read lock if a write happened in the
+ * meantime, which keeps reads wait-free in the common case. Iteration works on a snapshot of the index, which remains
+ * valid after subsequent writes since the slabs it points to are never overwritten.
+ *
+ * The slabs dropped by a compaction or a {@link #clear()} are left to the GC, since optimistic readers may still be
+ * going through them. {@link #free()} instead releases the slabs right away, or as soon as the last open
+ * {@link Snapshot} is closed, and is meant for tables which are not being read from anymore.
+ */
+public class OffHeapHashTable {
+  private static final Logger LOGGER = LogManager.getLogger(OffHeapHashTable.class);
+  private static final Consumer<ByteBuffer> SLAB_DEALLOCATOR = createSlabDeallocator();
+  private static final long EMPTY = 0;
+  private static final long DELETED = -1;
+  private static final int ENTRY_HEADER_LENGTH = 2 * Integer.BYTES;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final float MAX_LOAD_FACTOR = 0.75f;
+  private static final int MIN_SLAB_SIZE_IN_BYTES = 64 * 1024;
+
+  private final int maxSlabSizeInBytes;
+  private final StampedLock lock = new StampedLock();
+
+  /** Index, see class Javadoc. Only ever replaced, or modified, while holding the write lock. */
+  private int[] hashes;
+  private long[] addresses;
+  private int size;
+  private int usedSlots;
+
+  /** Slabs, see class Javadoc. Only ever replaced, or appended to, while holding the write lock. */
+  private ByteBuffer[] slabs;
+  private long[] liveBytesPerSlab;
+  private int slabCount;
+  private ByteBuffer writeBuffer;
+  private long allocatedBytes;
+  private long liveBytes;
+
+  /** Slabs released by {@link #free()} while some snapshots were still open, guarded by {@link #snapshotLock}. */
+  private final Object snapshotLock = new Object();
+  private final List<ByteBuffer> slabsPendingDeallocation = new ArrayList<>();
+  private int openSnapshotCount;
+
+  public OffHeapHashTable(int maxSlabSizeInBytes) {
+    if (maxSlabSizeInBytes <= 0) {
+      throw new IllegalArgumentException("maxSlabSizeInBytes must be positive, got: " + maxSlabSizeInBytes);
+    }
+    this.maxSlabSizeInBytes = maxSlabSizeInBytes;
+    clearState();
+  }
+
+  /**
+   * @return a copy of the value associated with the key, or null if there is none.
+   */
+  public byte[] get(byte[] key, int keyOffset, int keyLength) {
+    int hash = hash(key, keyOffset, keyLength);
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        byte[] value = readValue(hash, key, keyOffset, keyLength);
+        if (lock.validate(stamp)) {
+          return value;
+        }
+      } catch (RuntimeException e) {
+        // The index was concurrently modified, retry below under the read lock.
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return readValue(hash, key, keyOffset, keyLength);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * Copies the value associated with the key into the given buffer, if it is large enough, or into a newly
+   * allocated buffer otherwise.
+   *
+   * @return the buffer containing the value, positioned at its beginning, or null if there is no value for the key.
+   */
+  public ByteBuffer get(byte[] key, int keyOffset, int keyLength, ByteBuffer valueToBePopulated) {
+    int hash = hash(key, keyOffset, keyLength);
+    long stamp = lock.tryOptimisticRead();
+    if (stamp != 0) {
+      try {
+        ByteBuffer value = readValue(hash, key, keyOffset, keyLength, valueToBePopulated);
+        if (lock.validate(stamp)) {
+          return value;
+        }
+      } catch (RuntimeException e) {
+        // The index was concurrently modified, retry below under the read lock.
+      }
+    }
+    stamp = lock.readLock();
+    try {
+      return readValue(hash, key, keyOffset, keyLength, valueToBePopulated);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public void put(byte[] key, byte[] value, int valueOffset, int valueLength) {
+    int hash = hash(key, 0, key.length);
+    long stamp = lock.writeLock();
+    try {
+      ensureCapacity();
+      int mask = addresses.length - 1;
+      int slot = hash & mask;
+      int firstDeletedSlot = -1;
+      long address;
+      while ((address = addresses[slot]) != EMPTY) {
+        if (address == DELETED) {
+          if (firstDeletedSlot < 0) {
+            firstDeletedSlot = slot;
+          }
+        } else if (hashes[slot] == hash && keyEquals(slabs, address, key, 0, key.length)) {
+          addresses[slot] = append(key, value, valueOffset, valueLength);
+          release(address);
+          maybeCompact();
+          return;
+        }
+        slot = (slot + 1) & mask;
+      }
+      long newAddress = append(key, value, valueOffset, valueLength);
+      if (firstDeletedSlot >= 0) {
+        slot = firstDeletedSlot;
+      } else {
+        usedSlots++;
+      }
+      hashes[slot] = hash;
+      addresses[slot] = newAddress;
+      size++;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * @return true if the key was present.
+   */
+  public boolean remove(byte[] key) {
+    int hash = hash(key, 0, key.length);
+    long stamp = lock.writeLock();
+    try {
+      int slot = findSlot(hashes, addresses, slabs, hash, key, 0, key.length);
+      if (slot < 0) {
+        return false;
+      }
+      long address = addresses[slot];
+      addresses[slot] = DELETED;
+      size--;
+      release(address);
+      maybeCompact();
+      return true;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Releases all the slabs. The direct memory gets returned once the slabs are garbage collected, which includes
+   * any still referenced by a {@link Snapshot}.
+   */
+  public void clear() {
+    long stamp = lock.writeLock();
+    try {
+      clearState();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Clears the table and deallocates its slabs explicitly, instead of waiting for them to be garbage collected. The
+   * slabs still referenced by open snapshots are deallocated once the last of them is closed.
+   *
+   * The caller must make sure that no read is in flight, since optimistic readers do not hold the lock.
+   */
+  public void free() {
+    ByteBuffer[] slabsToFree;
+    long stamp = lock.writeLock();
+    try {
+      slabsToFree = Arrays.copyOf(slabs, slabCount);
+      clearState();
+      // Snapshots are created under the read lock, so none can be opened concurrently.
+      synchronized (snapshotLock) {
+        slabsPendingDeallocation.addAll(Arrays.asList(slabsToFree));
+        if (openSnapshotCount == 0) {
+          deallocatePendingSlabs();
+        }
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * @return a point-in-time view of the entries, unaffected by subsequent writes, which must be closed once done with.
+   */
+  public Snapshot snapshot() {
+    long stamp = lock.readLock();
+    try {
+      long[] liveAddresses = new long[size];
+      int cur = 0;
+      for (long address: addresses) {
+        if (address != EMPTY && address != DELETED) {
+          liveAddresses[cur++] = address;
+        }
+      }
+      synchronized (snapshotLock) {
+        openSnapshotCount++;
+      }
+      return new Snapshot(liveAddresses, hashes.clone(), addresses.clone(), slabs);
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return the number of off-heap bytes held by the slabs, including garbage not yet compacted away.
+   */
+  public long getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * @return the number of off-heap bytes used by live entries, including their headers.
+   */
+  public long getLiveBytes() {
+    return liveBytes;
+  }
+
+  /**
+   * A point-in-time view of the entries of an {@link OffHeapHashTable}, in no particular order. It keeps the slabs
+   * it points to from being deallocated by {@link #free()} until it is closed. It also keeps a copy of the index, so
+   * that keys can be looked up as of the same point in time.
+   */
+  public class Snapshot implements AutoCloseable {
+    private final long[] addresses;
+    private final int[] indexHashes;
+    private final long[] indexAddresses;
+    private final ByteBuffer[] slabs;
+    private boolean closed = false;
+
+    private Snapshot(long[] addresses, int[] indexHashes, long[] indexAddresses, ByteBuffer[] slabs) {
+      this.addresses = addresses;
+      this.indexHashes = indexHashes;
+      this.indexAddresses = indexAddresses;
+      this.slabs = slabs;
+    }
+
+    @Override
+    public void close() {
+      synchronized (snapshotLock) {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        openSnapshotCount--;
+        if (openSnapshotCount == 0) {
+          deallocatePendingSlabs();
+        }
+      }
+    }
+
+    public int size() {
+      return addresses.length;
+    }
+
+    public byte[] key(int index) {
+      long address = addresses[index];
+      ByteBuffer slab = slabs[slabIndex(address)];
+      int offset = slabOffset(address);
+      return copy(slab, offset + ENTRY_HEADER_LENGTH, slab.getInt(offset));
+    }
+
+    public byte[] value(int index) {
+      long address = addresses[index];
+      ByteBuffer slab = slabs[slabIndex(address)];
+      int offset = slabOffset(address);
+      int keyLength = slab.getInt(offset);
+      return copy(slab, offset + ENTRY_HEADER_LENGTH + keyLength, slab.getInt(offset + Integer.BYTES));
+    }
+
+    /**
+     * @return a copy of the value associated with the key as of this snapshot, or null if there was none.
+     */
+    public byte[] get(byte[] key) {
+      int slot = findSlot(indexHashes, indexAddresses, slabs, hash(key, 0, key.length), key, 0, key.length);
+      if (slot < 0) {
+        return null;
+      }
+      long address = indexAddresses[slot];
+      ByteBuffer slab = slabs[slabIndex(address)];
+      int offset = slabOffset(address);
+      return copy(slab, offset + ENTRY_HEADER_LENGTH + key.length, slab.getInt(offset + Integer.BYTES));
+    }
+
+    /**
+     * @param keyPrefix only the entries whose key starts with this prefix are passed to the consumer, or all of them
+     *                  if null.
+     */
+    public void forEach(byte[] keyPrefix, BiConsumer<byte[], byte[]> consumer) {
+      for (int i = 0; i < addresses.length; i++) {
+        long address = addresses[i];
+        ByteBuffer slab = slabs[slabIndex(address)];
+        int offset = slabOffset(address);
+        int keyLength = slab.getInt(offset);
+        if (keyPrefix != null && !startsWith(slab, offset + ENTRY_HEADER_LENGTH, keyLength, keyPrefix)) {
+          continue;
+        }
+        consumer.accept(key(i), value(i));
+      }
+    }
+  }
+
+  /**
+   * Must be called while holding {@link #snapshotLock}.
+   */
+  private void deallocatePendingSlabs() {
+    for (ByteBuffer slab: slabsPendingDeallocation) {
+      SLAB_DEALLOCATOR.accept(slab);
+    }
+    slabsPendingDeallocation.clear();
+  }
+
+  /**
+   * Direct buffers can only be deallocated explicitly through JDK internals, which differ between Java 8 and 9+.
+   * If neither is accessible, the slabs are left to the GC.
+   */
+  private static Consumer<ByteBuffer> createSlabDeallocator() {
+    try {
+      // Java 9+
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return slab -> invokeQuietly(invokeCleaner, unsafe, slab);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Fall through
+    }
+    try {
+      // Java 8
+      Method cleanerGetter = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return slab -> invokeQuietly(clean, invokeQuietly(cleanerGetter, slab));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.warn("Direct buffers cannot be deallocated explicitly, the slabs will be left to the GC", e);
+      return slab -> {};
+    }
+  }
+
+  private static Object invokeQuietly(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Failed to deallocate a slab", e);
+    }
+  }
+
+  private byte[] readValue(int hash, byte[] key, int keyOffset, int keyLength) {
+    ByteBuffer[] currentSlabs = this.slabs;
+    int slot = findSlot(this.hashes, this.addresses, currentSlabs, hash, key, keyOffset, keyLength);
+    if (slot < 0) {
+      return null;
+    }
+    long address = this.addresses[slot];
+    ByteBuffer slab = currentSlabs[slabIndex(address)];
+    int valueOffset = slabOffset(address) + ENTRY_HEADER_LENGTH + keyLength;
+    return copy(slab, valueOffset, checkedValueLength(slab, address, valueOffset));
+  }
+
+  private ByteBuffer readValue(
+      int hash,
+      byte[] key,
+      int keyOffset,
+      int keyLength,
+      ByteBuffer valueToBePopulated) {
+    ByteBuffer[] currentSlabs = this.slabs;
+    int slot = findSlot(this.hashes, this.addresses, currentSlabs, hash, key, keyOffset, keyLength);
+    if (slot < 0) {
+      return null;
+    }
+    long address = this.addresses[slot];
+    ByteBuffer slab = currentSlabs[slabIndex(address)];
+    int valueOffset = slabOffset(address) + ENTRY_HEADER_LENGTH + keyLength;
+    int valueLength = checkedValueLength(slab, address, valueOffset);
+    ByteBuffer target = valueToBePopulated != null && valueToBePopulated.capacity() >= valueLength
+        ? valueToBePopulated
+        : ByteBuffer.allocate(valueLength);
+    ByteBuffer source = slab.duplicate();
+    source.position(valueOffset);
+    source.limit(valueOffset + valueLength);
+    target.clear();
+    target.put(source);
+    target.flip();
+    return target;
+  }
+
+  /**
+   * Sanity check on the length before allocating anything, since optimistic reads may see a torn index.
+   */
+  private static int checkedValueLength(ByteBuffer slab, long address, int valueOffset) {
+    int valueLength = slab.getInt(slabOffset(address) + Integer.BYTES);
+    if (valueLength < 0 || valueOffset + valueLength > slab.capacity()) {
+      throw new IllegalStateException("Inconsistent entry at address: " + address);
+    }
+    return valueLength;
+  }
+
+  /**
+   * @return the slot of the key, or -1 if it is absent.
+   */
+  private static int findSlot(
+      int[] hashes,
+      long[] addresses,
+      ByteBuffer[] slabs,
+      int hash,
+      byte[] key,
+      int keyOffset,
+      int keyLength) {
+    int mask = addresses.length - 1;
+    int slot = hash & mask;
+    long address;
+    // Bounded by the capacity, in case an optimistic read sees an index without any empty slot.
+    for (int probes = 0; probes < addresses.length; probes++) {
+      address = addresses[slot];
+      if (address == EMPTY) {
+        return -1;
+      }
+      if (address != DELETED && hashes[slot] == hash && keyEquals(slabs, address, key, keyOffset, keyLength)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  private static boolean keyEquals(ByteBuffer[] slabs, long address, byte[] key, int keyOffset, int keyLength) {
+    ByteBuffer slab = slabs[slabIndex(address)];
+    int offset = slabOffset(address);
+    return slab.getInt(offset) == keyLength
+        && startsWith(slab, offset + ENTRY_HEADER_LENGTH, keyLength, key, keyOffset);
+  }
+
+  private static boolean startsWith(ByteBuffer slab, int offset, int length, byte[] prefix) {
+    return prefix.length <= length && startsWith(slab, offset, prefix.length, prefix, 0);
+  }
+
+  private static boolean startsWith(ByteBuffer slab, int offset, int length, byte[] bytes, int bytesOffset) {
+    for (int i = 0; i < length; i++) {
+      if (slab.get(offset + i) != bytes[bytesOffset + i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static byte[] copy(ByteBuffer slab, int offset, int length) {
+    byte[] bytes = new byte[length];
+    ByteBuffer source = slab.duplicate();
+    source.position(offset);
+    source.get(bytes);
+    return bytes;
+  }
+
+  private static int slabIndex(long address) {
+    return (int) (address >>> 32) - 1;
+  }
+
+  private static int slabOffset(long address) {
+    return (int) address;
+  }
+
+  private static long address(int slabIndex, int offset) {
+    return ((long) (slabIndex + 1) << 32) | (offset & 0xFFFFFFFFL);
+  }
+
+  /**
+   * FNV-1a followed by the Murmur3 finalizer, so that the low bits used for the slot are well mixed.
+   */
+  static int hash(byte[] key, int offset, int length) {
+    int h = 0x811C9DC5;
+    for (int i = offset; i < offset + length; i++) {
+      h = (h ^ key[i]) * 0x01000193;
+    }
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private void ensureCapacity() {
+    if (usedSlots + 1 <= addresses.length * MAX_LOAD_FACTOR) {
+      return;
+    }
+    // If most used slots are deletion markers, rehashing at the same capacity is enough to reclaim them.
+    int newCapacity = (size + 1) > addresses.length * MAX_LOAD_FACTOR / 2 ? addresses.length * 2 : addresses.length;
+    int[] newHashes = new int[newCapacity];
+    long[] newAddresses = new long[newCapacity];
+    int mask = newCapacity - 1;
+    for (int i = 0; i < addresses.length; i++) {
+      long address = addresses[i];
+      if (address == EMPTY || address == DELETED) {
+        continue;
+      }
+      int slot = hashes[i] & mask;
+      while (newAddresses[slot] != EMPTY) {
+        slot = (slot + 1) & mask;
+      }
+      newHashes[slot] = hashes[i];
+      newAddresses[slot] = address;
+    }
+    this.hashes = newHashes;
+    this.addresses = newAddresses;
+    this.usedSlots = size;
+  }
+
+  private long append(byte[] key, byte[] value, int valueOffset, int valueLength) {
+    int entryLength = ENTRY_HEADER_LENGTH + key.length + valueLength;
+    if (writeBuffer == null || writeBuffer.remaining() < entryLength) {
+      int previousSlabSize = writeBuffer == null ? MIN_SLAB_SIZE_IN_BYTES / 2 : writeBuffer.capacity();
+      allocateSlab(Math.max(entryLength, Math.min(maxSlabSizeInBytes, previousSlabSize * 2)));
+    }
+    int slabIndex = slabCount - 1;
+    long address = address(slabIndex, writeBuffer.position());
+    writeBuffer.putInt(key.length);
+    writeBuffer.putInt(valueLength);
+    writeBuffer.put(key);
+    writeBuffer.put(value, valueOffset, valueLength);
+    liveBytesPerSlab[slabIndex] += entryLength;
+    liveBytes += entryLength;
+    return address;
+  }
+
+  private void allocateSlab(int slabSize) {
+    ByteBuffer slab = ByteBuffer.allocateDirect(slabSize);
+    if (slabCount == slabs.length) {
+      // Replace rather than mutate, since readers may still be going through the previous array.
+      slabs = Arrays.copyOf(slabs, Math.max(4, slabCount * 2));
+      liveBytesPerSlab = Arrays.copyOf(liveBytesPerSlab, slabs.length);
+    }
+    slabs[slabCount] = slab;
+    slabCount++;
+    writeBuffer = slab.duplicate();
+    allocatedBytes += slabSize;
+  }
+
+  private void release(long address) {
+    ByteBuffer slab = slabs[slabIndex(address)];
+    int offset = slabOffset(address);
+    int entryLength = ENTRY_HEADER_LENGTH + slab.getInt(offset) + slab.getInt(offset + Integer.BYTES);
+    liveBytesPerSlab[slabIndex(address)] -= entryLength;
+    liveBytes -= entryLength;
+  }
+
+  private void maybeCompact() {
+    if (size == 0) {
+      // Nothing to copy, but keep the index capacity since the table is likely to be refilled.
+      Arrays.fill(addresses, EMPTY);
+      usedSlots = 0;
+      resetSlabs();
+      return;
+    }
+    long garbageBytes = allocatedBytes - liveBytes;
+    if (garbageBytes <= allocatedBytes / 2 || garbageBytes <= maxSlabSizeInBytes) {
+      return;
+    }
+
+    ByteBuffer[] oldSlabs = slabs;
+    long liveBytesToCopy = liveBytes;
+    resetSlabs();
+    // Size the first slab to hold everything, up to the max slab size.
+    allocateSlab((int) Math.max(MIN_SLAB_SIZE_IN_BYTES, Math.min(maxSlabSizeInBytes, liveBytesToCopy)));
+
+    for (int i = 0; i < addresses.length; i++) {
+      long address = addresses[i];
+      if (address == EMPTY || address == DELETED) {
+        continue;
+      }
+      ByteBuffer oldSlab = oldSlabs[slabIndex(address)];
+      int offset = slabOffset(address);
+      int entryLength = ENTRY_HEADER_LENGTH + oldSlab.getInt(offset) + oldSlab.getInt(offset + Integer.BYTES);
+      if (writeBuffer.remaining() < entryLength) {
+        allocateSlab(Math.max(entryLength, maxSlabSizeInBytes));
+      }
+      int slabIndex = slabCount - 1;
+      long newAddress = address(slabIndex, writeBuffer.position());
+      ByteBuffer source = oldSlab.duplicate();
+      source.position(offset);
+      source.limit(offset + entryLength);
+      writeBuffer.put(source);
+      liveBytesPerSlab[slabIndex] += entryLength;
+      liveBytes += entryLength;
+      addresses[i] = newAddress;
+    }
+  }
+
+  private void clearState() {
+    this.hashes = new int[INITIAL_CAPACITY];
+    this.addresses = new long[INITIAL_CAPACITY];
+    this.size = 0;
+    this.usedSlots = 0;
+    resetSlabs();
+  }
+
+  private void resetSlabs() {
+    this.slabs = new ByteBuffer[0];
+    this.liveBytesPerSlab = new long[0];
+    this.slabCount = 0;
+    this.writeBuffer = null;
+    this.allocatedBytes = 0;
+    this.liveBytes = 0;
+  }
+}
@@ -0,0 +1,56 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.AbstractStorageEngine;
+import com.linkedin.davinci.store.AbstractStorageIterator;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import java.util.Collections;
+import java.util.Set;
+
+
+/**
+ * A non-persistent, in-memory store which keeps its records off-heap. See {@link OffHeapInMemoryStoragePartition}.
+ */
+public class OffHeapInMemoryStorageEngine extends AbstractStorageEngine<OffHeapInMemoryStoragePartition> {
+  private final int maxSlabSizeInBytes;
+
+  public OffHeapInMemoryStorageEngine(VeniceStoreVersionConfig storeDef, int maxSlabSizeInBytes) {
+    this(storeDef.getStoreVersionName(), maxSlabSizeInBytes);
+  }
+
+  public OffHeapInMemoryStorageEngine(String storeVersionName, int maxSlabSizeInBytes) {
+    super(
+        storeVersionName,
+        AvroProtocolDefinition.STORE_VERSION_STATE.getSerializer(),
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer());
+    this.maxSlabSizeInBytes = maxSlabSizeInBytes;
+    restoreStoragePartitions();
+  }
+
+  @Override
+  public PersistenceType getType() {
+    return PersistenceType.OFF_HEAP_IN_MEMORY;
+  }
+
+  @Override
+  public Set<Integer> getPersistedPartitionIds() {
+    // Nothing to return for OffHeapInMemoryStorageEngine
+    return Collections.emptySet();
+  }
+
+  @Override
+  public OffHeapInMemoryStoragePartition createStoragePartition(StoragePartitionConfig storagePartitionConfig) {
+    return new OffHeapInMemoryStoragePartition(storagePartitionConfig.getPartitionId(), maxSlabSizeInBytes);
+  }
+
+  @Override
+  public AbstractStorageIterator getIterator(int partitionId) {
+    return executeWithSafeGuard(partitionId, () -> {
+      AbstractStoragePartition partition = getPartitionOrThrow(partitionId);
+      return partition.getIterator();
+    });
+  }
+}
@@ -0,0 +1,65 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.StorageEngineFactory;
+import com.linkedin.venice.exceptions.StorageInitializationException;
+import com.linkedin.venice.meta.PersistenceType;
+import java.util.Collections;
+import java.util.Set;
+
+
+public class OffHeapInMemoryStorageEngineFactory extends StorageEngineFactory {
+  private final int maxSlabSizeInBytes;
+
+  public OffHeapInMemoryStorageEngineFactory(VeniceServerConfig serverConfig) {
+    this.maxSlabSizeInBytes = serverConfig.getOffHeapInMemoryMaxSlabSizeInBytes();
+  }
+
+  @Override
+  public StorageEngine getStorageEngine(VeniceStoreVersionConfig storeConfig) throws StorageInitializationException {
+    verifyPersistenceType(storeConfig);
+    try {
+      return new OffHeapInMemoryStorageEngine(storeConfig, maxSlabSizeInBytes);
+    } catch (Exception e) {
+      throw new StorageInitializationException(e);
+    }
+  }
+
+  @Override
+  public Set<String> getPersistedStoreNames() {
+    // Nothing to restore here
+    return Collections.emptySet();
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here since we are not tracking specific created environments.
+  }
+
+  @Override
+  public void removeStorageEngine(StorageEngine engine) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void removeStorageEngine(String storeName) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public void removeStorageEnginePartition(String storeName, int partition) {
+    // Right away!
+  }
+
+  @Override
+  public void closeStorageEngine(StorageEngine engine) {
+    // Nothing to do here since we do not track the created storage engine
+  }
+
+  @Override
+  public PersistenceType getPersistenceType() {
+    return PersistenceType.OFF_HEAP_IN_MEMORY;
+  }
+}
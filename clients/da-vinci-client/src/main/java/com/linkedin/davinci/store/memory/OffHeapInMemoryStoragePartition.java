@@ -0,0 +1,295 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStorageIterator;
+import com.linkedin.davinci.store.AbstractStoragePartition;
+import com.linkedin.davinci.store.StoragePartitionConfig;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+
+/**
+ * A non-persistent storage partition which keeps its records off-heap, in an {@link OffHeapHashTable}, so that large
+ * datasets can be held in memory without inflating the heap and the GC pauses that come with it.
+ *
+ * Replication metadata is kept in a separate table, mirroring the separate column family used by
+ * {@link com.linkedin.davinci.store.rocksdb.ReplicationMetadataRocksDBStoragePartition}, so that value-only operations
+ * leave it untouched.
+ *
+ * The slabs are deallocated on {@link #drop()} rather than left to the GC, so every access to the tables is guarded by
+ * {@link #readDropRWLock}, like {@link com.linkedin.davinci.store.rocksdb.RocksDBStoragePartition} guards its handle
+ * against close.
+ */
+public class OffHeapInMemoryStoragePartition extends AbstractStoragePartition {
+  private final OffHeapHashTable valueTable;
+  private final OffHeapHashTable rmdTable;
+  private final ReentrantReadWriteLock readDropRWLock = new ReentrantReadWriteLock();
+
+  public OffHeapInMemoryStoragePartition(Integer partitionId, int maxSlabSizeInBytes) {
+    super(partitionId);
+    this.valueTable = new OffHeapHashTable(maxSlabSizeInBytes);
+    this.rmdTable = new OffHeapHashTable(maxSlabSizeInBytes);
+  }
+
+  @Override
+  public void put(byte[] key, byte[] value) {
+    readDropRWLock.readLock().lock();
+    try {
+      valueTable.put(key, value, 0, value.length);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void put(byte[] key, ByteBuffer valueBuffer) {
+    readDropRWLock.readLock().lock();
+    try {
+      if (valueBuffer.hasArray()) {
+        valueTable.put(
+            key,
+            valueBuffer.array(),
+            valueBuffer.arrayOffset() + valueBuffer.position(),
+            valueBuffer.remaining());
+      } else {
+        byte[] value = toByteArray(valueBuffer);
+        valueTable.put(key, value, 0, value.length);
+      }
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public <K, V> void put(K key, V value) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(byte[] key) {
+    readDropRWLock.readLock().lock();
+    try {
+      return valueTable.get(key, 0, key.length);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public ByteBuffer get(byte[] key, ByteBuffer valueToBePopulated) {
+    readDropRWLock.readLock().lock();
+    try {
+      return valueTable.get(key, 0, key.length, valueToBePopulated);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public <K, V> V get(K key) {
+    throw new UnsupportedOperationException("Method not implemented!!");
+  }
+
+  @Override
+  public byte[] get(ByteBuffer key) {
+    readDropRWLock.readLock().lock();
+    try {
+      return get(valueTable, key);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void getByKeyPrefix(byte[] keyPrefix, BytesStreamingCallback callback) {
+    readDropRWLock.readLock().lock();
+    try (OffHeapHashTable.Snapshot snapshot = valueTable.snapshot()) {
+      snapshot.forEach(keyPrefix, callback::onRecordReceived);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+    callback.onCompletion();
+  }
+
+  @Override
+  public void delete(byte[] key) {
+    readDropRWLock.readLock().lock();
+    try {
+      valueTable.remove(key);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+    put(key, value);
+    putReplicationMetadata(key, metadata);
+  }
+
+  @Override
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
+    put(key, value);
+    putReplicationMetadata(key, metadata);
+  }
+
+  @Override
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
+    readDropRWLock.readLock().lock();
+    try {
+      rmdTable.put(key, metadata, 0, metadata.length);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public byte[] getReplicationMetadata(ByteBuffer key) {
+    readDropRWLock.readLock().lock();
+    try {
+      return get(rmdTable, key);
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public void deleteWithReplicationMetadata(byte[] key, byte[] metadata) {
+    delete(key);
+    putReplicationMetadata(key, metadata);
+  }
+
+  @Override
+  public long getRmdByteUsage() {
+    return rmdTable.getLiveBytes();
+  }
+
+  /**
+   * The returned iterator works on a snapshot of the partition taken at creation time, and does not support seeking
+   * to a given key since the entries are not sorted. It keeps the snapshotted slabs allocated until it is closed, even
+   * if the partition gets dropped in the meantime.
+   */
+  @Override
+  public AbstractStorageIterator getIterator() {
+    readDropRWLock.readLock().lock();
+    try {
+      return new OffHeapInMemoryStorageIterator(valueTable.snapshot());
+    } finally {
+      readDropRWLock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Map<String, String> sync() {
+    // no-op
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Deallocates the off-heap memory right away, once the in-flight operations are done. The partition remains usable,
+   * and empty, afterwards.
+   */
+  @Override
+  public void drop() {
+    readDropRWLock.writeLock().lock();
+    try {
+      valueTable.free();
+      rmdTable.free();
+    } finally {
+      readDropRWLock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    // Nothing to do here, the off-heap memory is only released on drop, like the on-heap in memory implementation.
+  }
+
+  @Override
+  public boolean verifyConfig(StoragePartitionConfig storagePartitionConfig) {
+    // no need to do any special check
+    return true;
+  }
+
+  /**
+   * @return the off-heap memory used by the partition, including garbage which has not been compacted away yet.
+   */
+  @Override
+  public long getPartitionSizeInBytes() {
+    return valueTable.getAllocatedBytes() + rmdTable.getAllocatedBytes();
+  }
+
+  @Override
+  public void createSnapshot() {
+    throw new UnsupportedOperationException("Method not implemented!");
+  }
+
+  @Override
+  public void cleanupSnapshot() {
+    throw new UnsupportedOperationException("Method not implemented!");
+  }
+
+  private static byte[] get(OffHeapHashTable table, ByteBuffer key) {
+    if (key.hasArray()) {
+      return table.get(key.array(), key.arrayOffset() + key.position(), key.remaining());
+    }
+    byte[] keyBytes = toByteArray(key);
+    return table.get(keyBytes, 0, keyBytes.length);
+  }
+
+  /**
+   * Copies the remaining bytes of a buffer without a backing array, e.g. a direct or read-only one, without moving its
+   * position.
+   */
+  private static byte[] toByteArray(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
+  private static class OffHeapInMemoryStorageIterator extends AbstractStorageIterator {
+    private final OffHeapHashTable.Snapshot snapshot;
+    private int index = 0;
+
+    OffHeapInMemoryStorageIterator(OffHeapHashTable.Snapshot snapshot) {
+      this.snapshot = snapshot;
+    }
+
+    @Override
+    public boolean isValid() {
+      return index < snapshot.size();
+    }
+
+    @Override
+    public byte[] key() {
+      return snapshot.key(index);
+    }
+
+    @Override
+    public byte[] value() {
+      return snapshot.value(index);
+    }
+
+    @Override
+    public byte[] get(byte[] key) {
+      return snapshot.get(key);
+    }
+
+    @Override
+    public void next() {
+      index++;
+    }
+
+    @Override
+    public void seekToFirst() {
+      index = 0;
+    }
+
+    @Override
+    public void close() {
+      snapshot.close();
+    }
+  }
+}
@@ -83,15 +83,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * @throws VeniceException if the database is closed, read-only, or the write fails
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
+  public void putWithReplicationMetadata(byte[] key, byte[] value, byte[] metadata) {
     if (readOnly) {
       throw new VeniceException(
           "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
     }
 
     if (!deferredWrite) {
-      withSynchronizedDatabaseVoid(db -> {
+      withOpenDatabaseForWriteVoid(db -> {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.put(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key, value);
           writeBatch.put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), key, metadata);
@@ -101,11 +100,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
       return;
     }
 
-    try {
-      super.put(key, value);
-      rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
-    } catch (RocksDBException e) {
-      throw new VeniceException("Failed to put key/value pair to RocksDB: " + replicaId, e);
+    synchronized (this) {
+      makeSureRocksDBIsStillOpen();
+      try {
+        super.put(key, value);
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to put key/value pair to RocksDB: " + replicaId, e);
+      }
     }
   }
 
@@ -116,24 +118,26 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * @throws VeniceException if the database is closed, read-only, or the write fails
    */
   @Override
-  public synchronized void putReplicationMetadata(byte[] key, byte[] metadata) {
-    makeSureRocksDBIsStillOpen();
+  public void putReplicationMetadata(byte[] key, byte[] metadata) {
     if (readOnly) {
       throw new VeniceException(
           "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
     }
 
     if (!deferredWrite) {
-      withSynchronizedDatabaseVoid(
+      withOpenDatabaseForWriteVoid(
           db -> db
               .put(columnFamilyHandleList.get(REPLICATION_METADATA_COLUMN_FAMILY_INDEX), writeOptions, key, metadata));
       return;
     }
 
-    try {
-      rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
-    } catch (RocksDBException e) {
-      throw new VeniceException("Failed to put replication metadata to RocksDB: " + replicaId, e);
+    synchronized (this) {
+      makeSureRocksDBIsStillOpen();
+      try {
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(metadata));
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to put replication metadata to RocksDB: " + replicaId, e);
+      }
     }
   }
 
@@ -148,7 +152,7 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * TODO: Rewrite this implementation after we adopt the thread-local direct bytebuffer approach.
    */
   @Override
-  public synchronized void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
+  public void putWithReplicationMetadata(byte[] key, ByteBuffer value, byte[] metadata) {
     byte[] valueBytes = ByteUtils.extractByteArray(value);
     putWithReplicationMetadata(key, valueBytes, metadata);
   }
@@ -172,15 +176,14 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
    * @throws VeniceException if the database is closed, read-only, or the write fails
    */
   @Override
-  public synchronized void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
-    makeSureRocksDBIsStillOpen();
+  public void deleteWithReplicationMetadata(byte[] key, byte[] replicationMetadata) {
     if (readOnly) {
       throw new VeniceException(
           "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
     }
 
     if (!deferredWrite) {
-      withSynchronizedDatabaseVoid(db -> {
+      withOpenDatabaseForWriteVoid(db -> {
         try (WriteBatch writeBatch = new WriteBatch()) {
           writeBatch.delete(columnFamilyHandleList.get(DEFAULT_COLUMN_FAMILY_INDEX), key);
           writeBatch
@@ -192,10 +195,13 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
     }
 
     // Deferred write (repush): just update the RMD
-    try {
-      rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
-    } catch (RocksDBException e) {
-      throw new VeniceException("Failed to put metadata while deleting key from RocksDB: " + replicaId, e);
+    synchronized (this) {
+      makeSureRocksDBIsStillOpen();
+      try {
+        rocksDBSstFileWriter.put(key, ByteBuffer.wrap(replicationMetadata));
+      } catch (RocksDBException e) {
+        throw new VeniceException("Failed to put metadata while deleting key from RocksDB: " + replicaId, e);
+      }
     }
   }
 
@@ -233,13 +239,16 @@ public class ReplicationMetadataRocksDBStoragePartition extends RocksDBStoragePa
   }
 
   @Override
-  public synchronized Map<String, String> sync() {
-    Map<String, String> checkpointingInfo = super.sync();
-    // if deferredWrite is false, super.sync will flush both the column families
-    if (deferredWrite) {
+  public Map<String, String> sync() {
+    if (!deferredWrite) {
+      // super.sync will flush both the column families
+      return super.sync();
+    }
+    synchronized (this) {
+      Map<String, String> checkpointingInfo = super.sync();
       checkpointingInfo.putAll(rocksDBSstFileWriter.sync());
+      return checkpointingInfo;
     }
-    return checkpointingInfo;
   }
 
   @Override
@@ -1,14 +1,32 @@
 package com.linkedin.davinci.store.rocksdb;
 
 import com.linkedin.davinci.store.AbstractStorageIterator;
+import com.linkedin.venice.exceptions.VeniceException;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Snapshot;
 
 
+/**
+ * Iterates over a {@link Snapshot} of the database, which is also used by {@link #get(byte[])}, and is released along
+ * with the {@link ReadOptions} when the iterator is closed.
+ */
 public class RocksDBStorageIterator extends AbstractStorageIterator {
   public final RocksIterator iterator;
+  private final RocksDB rocksDB;
+  private final Snapshot snapshot;
+  private final ReadOptions readOptions;
 
-  public RocksDBStorageIterator(RocksIterator iterator) {
-    this.iterator = iterator;
+  /**
+   * @param readOptions the options of the iterator, which must read from {@param snapshot}
+   */
+  public RocksDBStorageIterator(RocksDB rocksDB, Snapshot snapshot, ReadOptions readOptions) {
+    this.rocksDB = rocksDB;
+    this.snapshot = snapshot;
+    this.readOptions = readOptions;
+    this.iterator = rocksDB.newIterator(readOptions);
   }
 
   @Override
@@ -26,6 +44,15 @@ public class RocksDBStorageIterator extends AbstractStorageIterator {
     return iterator.value();
   }
 
+  @Override
+  public byte[] get(byte[] key) {
+    try {
+      return rocksDB.get(readOptions, key);
+    } catch (RocksDBException e) {
+      throw new VeniceException("Failed to read from the snapshot of the iterator", e);
+    }
+  }
+
   @Override
   public void next() {
     iterator.next();
@@ -54,5 +81,7 @@ public class RocksDBStorageIterator extends AbstractStorageIterator {
   @Override
   public void close() {
     iterator.close();
+    readOptions.close();
+    rocksDB.releaseSnapshot(snapshot);
   }
 }
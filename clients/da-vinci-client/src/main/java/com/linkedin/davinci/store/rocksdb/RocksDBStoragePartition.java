@@ -51,6 +51,7 @@ import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Slice;
+import org.rocksdb.Snapshot;
 import org.rocksdb.SstFileWriter;
 import org.rocksdb.Statistics;
 import org.rocksdb.Status;
@@ -100,9 +101,10 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    */
   private boolean isClosed = false;
   /**
-   * Since all the modification functions are synchronized, we don't need any other synchronization for the update path
-   * to guard RocksDB closing behavior.
-   * The following {@link #readCloseRWLock} is only used to guard {@link #get} since we don't want to synchronize get requests.
+   * The following {@link #readCloseRWLock} guards the RocksDB handle against {@link #close()} and {@link #reopen()}.
+   * Reads and the non-deferred writes only take the read lock, so that they can run concurrently, since the RocksDB
+   * write path is thread-safe by itself. The partition monitor is only used to serialize the operations on the
+   * {@link RocksDBSstFileWriter} in deferred-write mode, and the batch-write/snapshot/close lifecycle.
    */
   protected final ReentrantReadWriteLock readCloseRWLock = new ReentrantReadWriteLock();
 
@@ -130,6 +132,9 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * <p>For read operations: use {@link #withOpenDatabase(RocksDBOperation)} which acquires
    * {@link #readCloseRWLock} and verifies the DB is still open before executing.
    *
+   * <p>For concurrent write operations: use {@link #withOpenDatabaseForWrite(RocksDBOperation)} which acquires
+   * {@link #readCloseRWLock} as well, and translates the disk quota errors.
+   *
    * <p>For synchronized write operations: use {@link #withSynchronizedDatabase(RocksDBOperation)}
    * which acquires the partition monitor and checks the DB is still open.
    *
@@ -377,6 +382,35 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     });
   }
 
+  /**
+   * Executes a write operation against the RocksDB handle with the same lifecycle guards as
+   * {@link #withOpenDatabase(RocksDBOperation)}. Concurrent writers don't block each other, and only wait for
+   * {@link #close()} and {@link #reopen()}.
+   *
+   * @throws DiskLimitExhaustedException if the write fails due to disk quota exhaustion
+   * @throws VeniceException if the DB is closed or the operation fails
+   */
+  protected <T> T withOpenDatabaseForWrite(RocksDBOperation<T> operation) {
+    readCloseRWLock.readLock().lock();
+    try {
+      makeSureRocksDBIsStillOpen();
+      return operation.execute(rocksDB);
+    } catch (RocksDBException e) {
+      checkAndThrowDiskLimitException(e);
+      throw new VeniceException("Failed to perform RocksDB operation for replica: " + replicaId, e);
+    } finally {
+      readCloseRWLock.readLock().unlock();
+    }
+  }
+
+  /** Void variant of {@link #withOpenDatabaseForWrite(RocksDBOperation)}. */
+  protected void withOpenDatabaseForWriteVoid(RocksDBVoidOperation operation) {
+    withOpenDatabaseForWrite(db -> {
+      operation.execute(db);
+      return null;
+    });
+  }
+
   /**
    * Executes a write operation against the RocksDB handle with monitor synchronization.
    * Acquires this object's monitor, verifies DB is open, then executes.
@@ -581,27 +615,26 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
   }
 
   @Override
-  public synchronized void put(byte[] key, byte[] value) {
+  public void put(byte[] key, byte[] value) {
     put(key, ByteBuffer.wrap(value));
   }
 
   /**
-   * Stores a key-value pair. Deferred-write mode appends to SST files; otherwise writes directly
-   * to RocksDB via {@link #withSynchronizedDatabaseVoid}.
+   * Stores a key-value pair. Deferred-write mode appends to SST files under the partition monitor; otherwise writes
+   * directly to RocksDB via {@link #withOpenDatabaseForWriteVoid}, concurrently with the other writers.
    *
    * @throws DiskLimitExhaustedException if the write fails due to disk quota exhaustion
    * @throws VeniceException if the database is closed, read-only, or the write fails
    */
   @Override
-  public synchronized void put(byte[] key, ByteBuffer valueBuffer) {
-    makeSureRocksDBIsStillOpen();
+  public void put(byte[] key, ByteBuffer valueBuffer) {
     if (readOnly) {
       throw new VeniceException(
           "Cannot make writes while database is opened in read-only mode for replica: " + replicaId);
     }
 
     if (!deferredWrite) {
-      withSynchronizedDatabaseVoid(
+      withOpenDatabaseForWriteVoid(
           db -> db.put(
               writeOptions,
               key,
@@ -613,11 +646,14 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
       return;
     }
 
-    try {
-      rocksDBSstFileWriter.put(key, valueBuffer);
-    } catch (RocksDBException e) {
-      checkAndThrowDiskLimitException(e);
-      throw new VeniceException("Failed to store the key/value pair in the RocksDB: " + replicaId, e);
+    synchronized (this) {
+      makeSureRocksDBIsStillOpen();
+      try {
+        rocksDBSstFileWriter.put(key, valueBuffer);
+      } catch (RocksDBException e) {
+        checkAndThrowDiskLimitException(e);
+        throw new VeniceException("Failed to store the key/value pair in the RocksDB: " + replicaId, e);
+      }
     }
   }
 
@@ -671,6 +707,11 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     return withOpenDatabase(db -> db.get(keyBuffer.array(), keyBuffer.position(), keyBuffer.remaining()));
   }
 
+  /**
+   * Looks up all the keys with a single native MultiGet, which amortizes the JNI crossing and lets RocksDB
+   * batch the block cache and SST lookups of keys which fall in the same blocks.
+   */
+  @Override
   public List<byte[]> multiGet(List<byte[]> keys) {
     return withOpenDatabase(db -> db.multiGetAsList(keys));
   }
@@ -801,8 +842,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * @throws VeniceException if the database is closed, read-only, in deferred-write mode, or the delete fails
    */
   @Override
-  public synchronized void delete(byte[] key) {
-    makeSureRocksDBIsStillOpen();
+  public void delete(byte[] key) {
     if (readOnly) {
       throw new VeniceException(
           "Cannot make deletion while database is opened in read-only mode for replica: " + replicaId);
@@ -810,7 +850,7 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
     if (deferredWrite) {
       throw new VeniceException("Deletion is unexpected in 'deferredWrite' mode");
     }
-    withSynchronizedDatabaseVoid(db -> db.delete(key));
+    withOpenDatabaseForWriteVoid(db -> db.delete(key));
   }
 
   /**
@@ -820,18 +860,21 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * @throws VeniceException if the database is closed or the flush fails
    */
   @Override
-  public synchronized Map<String, String> sync() {
-    makeSureRocksDBIsStillOpen();
+  public Map<String, String> sync() {
     if (!deferredWrite) {
       LOGGER.debug("Flush memtable to disk for RocksDB: {}", replicaId);
       if (this.readOnly) {
+        makeSureRocksDBIsStillOpen();
         LOGGER.debug("Unexpected sync in RocksDB read-only mode for replica: {}", replicaId);
       } else {
-        withSynchronizedDatabaseVoid(db -> db.flush(WAIT_FOR_FLUSH_OPTIONS, columnFamilyHandleList));
+        withOpenDatabaseForWriteVoid(db -> db.flush(WAIT_FOR_FLUSH_OPTIONS, columnFamilyHandleList));
       }
       return Collections.emptyMap();
     }
-    return rocksDBSstFileWriter.sync();
+    synchronized (this) {
+      makeSureRocksDBIsStillOpen();
+      return rocksDBSstFileWriter.sync();
+    }
   }
 
   public long getKeyCountEstimate() {
@@ -1046,10 +1089,15 @@ public class RocksDBStoragePartition extends AbstractStoragePartition {
    * for the iterator's lifetime (e.g., use try-with-resources in a context where close
    * cannot race). If this method is ever used on a hot path or a long-lived context,
    * consider wrapping the iterator to validate the DB is still open on each operation.
+   *
+   * The iterator reads from a RocksDB snapshot, which it also uses for {@link AbstractStorageIterator#get(byte[])}.
    */
   @Override
   public AbstractStorageIterator getIterator() {
-    return withOpenDatabase(db -> new RocksDBStorageIterator(db.newIterator(iteratorReadOptions)));
+    return withOpenDatabase(db -> {
+      Snapshot snapshot = db.getSnapshot();
+      return new RocksDBStorageIterator(db, snapshot, new ReadOptions(iteratorReadOptions).setSnapshot(snapshot));
+    });
   }
 
   /**
@@ -2,6 +2,12 @@ package com.linkedin.davinci.blobtransfer;
 
 import com.linkedin.davinci.config.VeniceServerConfig;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.store.rocksdb.RocksDBUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -24,4 +30,65 @@ public class BlobTransferUtilsTest {
     Mockito.when(serverConfig.isBlobTransferAclEnabled()).thenReturn(false);
     Assert.expectThrows(VeniceException.class, () -> BlobTransferUtils.isBlobTransferManagerEnabled(serverConfig));
   }
+
+  @Test
+  public void testRetainSstFilesForIncrementalTransfer() throws IOException {
+    Path baseDir = Files.createTempDirectory("tmp");
+    try {
+      Path partitionDir = Files.createDirectories(baseDir.resolve("partition"));
+      Path tempPartitionDir = baseDir.resolve("temp_partition");
+      Files.write(partitionDir.resolve("000001.sst"), "sst".getBytes());
+      Files.write(partitionDir.resolve("MANIFEST-000002"), "manifest".getBytes());
+      // stale files from a previous attempt are removed
+      Files.createDirectories(tempPartitionDir);
+      Files.write(tempPartitionDir.resolve("000003.sst"), "stale".getBytes());
+
+      int retained =
+          BlobTransferUtils.retainSstFilesForIncrementalTransfer(partitionDir.toString(), tempPartitionDir.toString());
+      Assert.assertEquals(retained, 1);
+
+      // the retained files survive the removal of the partition directory
+      RocksDBUtils.deleteDirectory(partitionDir.toString());
+      List<BlobTransferFileInfo> existingFiles =
+          BlobTransferUtils.getExistingSstFilesAsync(tempPartitionDir.toString(), ForkJoinPool.commonPool()).join();
+      Assert.assertEquals(existingFiles.size(), 1);
+      Assert.assertEquals(existingFiles.get(0).getFileName(), "000001.sst");
+      Assert.assertEquals(existingFiles.get(0).getFileSize(), 3);
+      Assert.assertEquals(
+          existingFiles.get(0).getChecksum(),
+          BlobTransferUtils.generateFileChecksum(tempPartitionDir.resolve("000001.sst")));
+
+      // nothing to retain
+      Assert.assertEquals(
+          BlobTransferUtils.retainSstFilesForIncrementalTransfer(partitionDir.toString(), tempPartitionDir.toString()),
+          0);
+      Assert.assertTrue(
+          BlobTransferUtils.getExistingSstFilesAsync(tempPartitionDir.toString(), ForkJoinPool.commonPool())
+              .join()
+              .isEmpty());
+    } finally {
+      RocksDBUtils.deleteDirectory(baseDir.toString());
+    }
+  }
+
+  @Test
+  public void testDeleteAllButSstFiles() throws IOException {
+    Path tempPartitionDir = Files.createTempDirectory("temp_partition");
+    try {
+      // files left over by a failed transfer attempt
+      Files.write(tempPartitionDir.resolve("000001.sst"), "sst".getBytes());
+      Files.write(tempPartitionDir.resolve("MANIFEST-000002"), "manifest".getBytes());
+      Files.write(tempPartitionDir.resolve("OPTIONS-000003"), "options".getBytes());
+      Files.createDirectories(tempPartitionDir.resolve("subdir"));
+
+      BlobTransferUtils.deleteAllButSstFiles(tempPartitionDir.toString());
+      Assert.assertEquals(tempPartitionDir.toFile().list(), new String[] { "000001.sst" });
+
+      // nothing to delete when the directory does not exist
+      RocksDBUtils.deleteDirectory(tempPartitionDir.toString());
+      BlobTransferUtils.deleteAllButSstFiles(tempPartitionDir.toString());
+    } finally {
+      RocksDBUtils.deleteDirectory(tempPartitionDir.toString());
+    }
+  }
 }
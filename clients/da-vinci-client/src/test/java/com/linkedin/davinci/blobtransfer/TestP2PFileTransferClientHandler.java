@@ -43,6 +43,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -266,6 +267,70 @@ public class TestP2PFileTransferClientHandler {
     Assert.assertFalse(Files.exists(tempDir), "Temporary directory should be cleaned up after transfer.");
   }
 
+  @Test
+  public void testIncrementalFilesTransfer()
+      throws ExecutionException, InterruptedException, IOException, TimeoutException {
+    BlobTransferPayload payload = new BlobTransferPayload(
+        baseDir.toString(),
+        TEST_STORE,
+        TEST_VERSION,
+        TEST_PARTITION,
+        BlobTransferUtils.BlobTransferTableFormat.BLOCK_BASED_TABLE);
+    // SST files retained from the previous copy of the partition
+    Path tempDir = Paths.get(payload.getTempPartitionDir());
+    Files.createDirectories(tempDir);
+    Files.write(tempDir.resolve("000001.sst"), "same".getBytes());
+    Files.write(tempDir.resolve("000002.sst"), "old".getBytes());
+    Files.write(tempDir.resolve("000004.sst"), "gone".getBytes());
+    List<BlobTransferFileInfo> existingFiles =
+        BlobTransferUtils.getExistingSstFilesAsync(tempDir.toString(), checksumValidationExecutorService).join();
+    Assert.assertEquals(existingFiles.size(), 3);
+
+    P2PFileTransferClientHandler incrementalFileHandler = new P2PFileTransferClientHandler(
+        baseDir.toString(),
+        inputStreamFuture,
+        TEST_STORE,
+        TEST_VERSION,
+        TEST_PARTITION,
+        BlobTransferUtils.BlobTransferTableFormat.BLOCK_BASED_TABLE,
+        existingFiles,
+        blobTransferStats,
+        checksumValidationExecutorService);
+    EmbeddedChannel incrementalChannel =
+        new EmbeddedChannel(new MetadataAggregator(1024 * 1024 * 100), incrementalFileHandler, clientMetadataHandler);
+
+    // 000001.sst is identical on the server
+    FullHttpResponse reusedResponse = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    reusedResponse.headers().add("Content-Disposition", "filename=\"000001.sst\"");
+    reusedResponse.headers().add("Content-Length", "0");
+    reusedResponse.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.REUSED_FILE);
+
+    // 000002.sst is different on the server
+    DefaultHttpResponse fileResponse = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    fileResponse.headers().add("Content-Disposition", "filename=\"000002.sst\"");
+    fileResponse.headers().add("Content-Length", "3");
+    fileResponse.headers().add(BLOB_TRANSFER_TYPE, BlobTransferType.FILE);
+    fileResponse.headers().add("Content-MD5", checksumGenerateHelper("new"));
+    HttpContent chunk = new DefaultLastHttpContent(Unpooled.copiedBuffer("new", CharsetUtil.UTF_8));
+
+    DefaultHttpResponse endOfTransfer = new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK);
+    endOfTransfer.headers().add(BLOB_TRANSFER_STATUS, BLOB_TRANSFER_COMPLETED);
+
+    incrementalChannel.writeInbound(reusedResponse);
+    incrementalChannel.writeInbound(fileResponse);
+    incrementalChannel.writeInbound(chunk);
+    incrementalChannel.writeInbound(endOfTransfer);
+    inputStreamFuture.toCompletableFuture().get(1, TimeUnit.MINUTES);
+    incrementalChannel.close();
+
+    Path dest = Paths.get(payload.getPartitionDir());
+    Assert.assertEquals(new String(Files.readAllBytes(dest.resolve("000001.sst"))), "same");
+    Assert.assertEquals(new String(Files.readAllBytes(dest.resolve("000002.sst"))), "new");
+    // retained files which are not part of the server snapshot are removed
+    Assert.assertFalse(Files.exists(dest.resolve("000004.sst")));
+    Assert.assertFalse(Files.exists(tempDir), "Temporary directory should be cleaned up after transfer.");
+  }
+
   @Test
   public void testMultipleFilesTransfer()
       throws ExecutionException, InterruptedException, IOException, TimeoutException {
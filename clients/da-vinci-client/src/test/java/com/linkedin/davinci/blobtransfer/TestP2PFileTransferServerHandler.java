@@ -21,25 +21,31 @@ import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
 import com.linkedin.venice.store.rocksdb.RocksDBUtils;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.FullHttpResponse;
-import io.netty.handler.codec.http.HttpChunkedInput;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
 import io.netty.handler.timeout.IdleStateEvent;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -279,11 +285,22 @@ public class TestP2PFileTransferServerHandler {
         "attachment; filename=\"file1\"");
     Assert.assertEquals(httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5), file1ChecksumHeader);
     Assert.assertEquals(httpResponse.headers().get(BLOB_TRANSFER_TYPE), BlobTransferType.FILE.toString());
-    // send the content in one chunk
+    // send the content with zero-copy, since the channel is not using SSL
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    Assert.assertEquals(((DefaultFileRegion) response).count(), "hello".length());
+    ((DefaultFileRegion) response).release();
+    response = ch.readOutbound();
+    Assert.assertSame(response, LastHttpContent.EMPTY_LAST_CONTENT);
     // end of file1
 
+    // the checksum was computed when creating the snapshot
+    Assert.assertEquals(
+        blobSnapshotManager.getSnapshotFileChecksum("myStore_v1", 10, file1.toFile()),
+        file1ChecksumHeader);
+    Files.write(file1.toAbsolutePath(), "hello world".getBytes());
+    Assert.assertNull(blobSnapshotManager.getSnapshotFileChecksum("myStore_v1", 10, file1.toFile()));
+
     // start of metadata
     response = ch.readOutbound();
     Assert.assertTrue(response instanceof DefaultHttpResponse);
@@ -350,7 +367,10 @@ public class TestP2PFileTransferServerHandler {
     fileNames.remove(httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION));
     fileChecksums.remove(httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5));
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    ((DefaultFileRegion) response).release();
+    response = ch.readOutbound();
+    Assert.assertSame(response, LastHttpContent.EMPTY_LAST_CONTENT);
     // end of file1
 
     // start of file2
@@ -360,7 +380,10 @@ public class TestP2PFileTransferServerHandler {
     Assert.assertTrue(fileNames.contains(httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION)));
     Assert.assertTrue(fileChecksums.contains(httpResponse.headers().get(HttpHeaderNames.CONTENT_MD5)));
     response = ch.readOutbound();
-    Assert.assertTrue(response instanceof HttpChunkedInput);
+    Assert.assertTrue(response instanceof DefaultFileRegion);
+    ((DefaultFileRegion) response).release();
+    response = ch.readOutbound();
+    Assert.assertSame(response, LastHttpContent.EMPTY_LAST_CONTENT);
     // end of a file2
 
     // start of metadata
@@ -402,6 +425,81 @@ public class TestP2PFileTransferServerHandler {
    * Test when fail to get the metadata from storageMetadataService, it should return error to client.
    * @throws IOException
    */
+  @Test
+  public void testTransferOnlyMissingSstFiles() throws IOException {
+    StorageEngine localStorageEngine = Mockito.mock(StorageEngine.class);
+    Mockito.doReturn(localStorageEngine).when(storageEngineRepository).getLocalStorageEngine(Mockito.any());
+    Mockito.doReturn(true).when(localStorageEngine).containsPartition(Mockito.anyInt());
+
+    // prepare response from metadata service
+    StoreVersionState storeVersionState = new StoreVersionState();
+    Mockito.doReturn(storeVersionState).when(storageMetadataService).getStoreVersionState(Mockito.any());
+
+    InternalAvroSpecificSerializer<PartitionState> partitionStateSerializer =
+        AvroProtocolDefinition.PARTITION_STATE.getSerializer();
+    OffsetRecord offsetRecord = new OffsetRecord(partitionStateSerializer, DEFAULT_PUBSUB_CONTEXT_FOR_UNIT_TESTING);
+    offsetRecord.setOffsetLag(1000L);
+    Mockito.doReturn(offsetRecord).when(storageMetadataService).getLastOffset(Mockito.any(), Mockito.anyInt(), any());
+
+    // prepare the snapshot
+    Path snapshotDir = Paths.get(RocksDBUtils.composeSnapshotDir(baseDir.toString(), "myStore_v1", 10));
+    Files.createDirectories(snapshotDir);
+    Path sameSstFile = snapshotDir.resolve("000001.sst");
+    Files.write(sameSstFile.toAbsolutePath(), "same".getBytes());
+    Path changedSstFile = snapshotDir.resolve("000002.sst");
+    Files.write(changedSstFile.toAbsolutePath(), "new".getBytes());
+    Path manifestFile = snapshotDir.resolve("MANIFEST-000003");
+    Files.write(manifestFile.toAbsolutePath(), "manifest".getBytes());
+    Mockito.doNothing().when(blobSnapshotManager).createSnapshot(Mockito.anyString(), Mockito.anyInt());
+
+    // the client holds an identical copy of 000001.sst, a different copy of 000002.sst and an older MANIFEST file
+    List<BlobTransferFileInfo> existingFiles = Arrays.asList(
+        new BlobTransferFileInfo("000001.sst", 4, BlobTransferUtils.generateFileChecksum(sameSstFile)),
+        new BlobTransferFileInfo("000002.sst", 3, "old"),
+        new BlobTransferFileInfo("MANIFEST-000003", 8, BlobTransferUtils.generateFileChecksum(manifestFile)));
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.GET,
+        "/myStore/1/10/BLOCK_BASED_TABLE",
+        Unpooled.wrappedBuffer(new ObjectMapper().writeValueAsBytes(existingFiles)));
+
+    ch.writeInbound(request);
+
+    Map<String, String> transferTypes = new HashMap<>();
+    Object response = ch.readOutbound();
+    while (response instanceof DefaultHttpResponse
+        && !BlobTransferUtils.isMetadataMessage((DefaultHttpResponse) response)) {
+      DefaultHttpResponse httpResponse = (DefaultHttpResponse) response;
+      String fileName = httpResponse.headers().get(HttpHeaderNames.CONTENT_DISPOSITION);
+      transferTypes.put(fileName, httpResponse.headers().get(BLOB_TRANSFER_TYPE));
+      if (BlobTransferUtils.isReusedFileMessage(httpResponse)) {
+        Assert.assertEquals(httpResponse.headers().getInt(HttpHeaderNames.CONTENT_LENGTH).intValue(), 0);
+      } else {
+        response = ch.readOutbound();
+        Assert.assertTrue(response instanceof DefaultFileRegion);
+        ((DefaultFileRegion) response).release();
+        response = ch.readOutbound();
+        Assert.assertSame(response, LastHttpContent.EMPTY_LAST_CONTENT);
+      }
+      response = ch.readOutbound();
+    }
+
+    Assert.assertEquals(transferTypes.size(), 3);
+    Assert.assertEquals(
+        transferTypes.get("attachment; filename=\"000001.sst\""),
+        BlobTransferType.REUSED_FILE.toString());
+    Assert.assertEquals(transferTypes.get("attachment; filename=\"000002.sst\""), BlobTransferType.FILE.toString());
+    // non SST files are always sent, since they are not immutable
+    Assert.assertEquals(
+        transferTypes.get("attachment; filename=\"MANIFEST-000003\""),
+        BlobTransferType.FILE.toString());
+
+    // metadata and end of transfer are sent as usual
+    Assert.assertTrue(BlobTransferUtils.isMetadataMessage((DefaultHttpResponse) response));
+    response = ch.readOutbound();
+    Assert.assertEquals(((DefaultHttpResponse) response).headers().get(BLOB_TRANSFER_STATUS), BLOB_TRANSFER_COMPLETED);
+  }
+
   @Test
   public void testWhenMetadataCreateError() throws IOException {
     // prepare the file request
@@ -8,6 +8,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -20,6 +21,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
 import static org.testng.Assert.assertThrows;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.expectThrows;
@@ -30,24 +32,32 @@ import com.linkedin.davinci.DaVinciBackend;
 import com.linkedin.davinci.StoreBackend;
 import com.linkedin.davinci.VersionBackend;
 import com.linkedin.davinci.consumer.VeniceChangeCoordinate;
+import com.linkedin.davinci.storage.chunking.AbstractAvroChunkingAdapter;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.memory.OffHeapInMemoryStoragePartition;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
 import com.linkedin.davinci.transformer.TestStringRecordTransformer;
 import com.linkedin.venice.client.exceptions.VeniceClientException;
 import com.linkedin.venice.client.store.ClientConfig;
 import com.linkedin.venice.client.store.schemas.TestValueRecord;
+import com.linkedin.venice.compression.NoopCompressor;
 import com.linkedin.venice.controllerapi.D2ServiceDiscoveryResponse;
 import com.linkedin.venice.exceptions.StoreDisabledException;
 import com.linkedin.venice.meta.ReadOnlySchemaRepository;
 import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.meta.SubscriptionBasedReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Version;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.service.ICProvider;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.PropertyBuilder;
 import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.Arrays;
@@ -62,7 +72,11 @@ import java.util.TreeSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.logging.log4j.LogManager;
 import org.mockito.ArgumentCaptor;
 import org.mockito.MockedStatic;
@@ -376,6 +390,119 @@ public class AvroGenericDaVinciClientTest {
     }
   }
 
+  @Test
+  public void testScan() throws Exception {
+    Schema keySchema = Schema.create(Schema.Type.STRING);
+    Schema valueSchema = new Schema.Parser().parse(
+        "{\"type\": \"record\", \"name\": \"TestRecord\", \"fields\": ["
+            + "{\"name\": \"name\", \"type\": \"string\"}, {\"name\": \"age\", \"type\": \"int\"}]}");
+    VeniceProperties backendConfig =
+        new PropertyBuilder().put(SERVER_DATABASE_CHECKSUM_VERIFICATION_ENABLED, false).build();
+    AvroGenericDaVinciClient<Object, GenericRecord> dvcClient = spy(
+        new AvroGenericDaVinciClient<>(
+            new DaVinciConfig(),
+            ClientConfig.defaultGenericClientConfig(storeName),
+            backendConfig,
+            Optional.empty()));
+    doNothing().when(dvcClient).initBackend(any(), any(), any(), any(), any());
+    D2ServiceDiscoveryResponse mockDiscoveryResponse = mock(D2ServiceDiscoveryResponse.class);
+    when(mockDiscoveryResponse.getCluster()).thenReturn("test_cluster");
+    when(mockDiscoveryResponse.getZkAddress()).thenReturn("mock_zk_address");
+    when(mockDiscoveryResponse.getKafkaBootstrapServers()).thenReturn("mock_kafka_bootstrap_servers");
+    doReturn(mockDiscoveryResponse).when(dvcClient).discoverService();
+
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
+    SchemaEntry valueSchemaEntry = new SchemaEntry(1, valueSchema);
+    doReturn(new SchemaEntry(1, keySchema)).when(schemaRepository).getKeySchema(storeName);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(storeName, 1);
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(storeName);
+    Store store = mock(Store.class);
+    doReturn(true).when(store).isEnableReads();
+    SubscriptionBasedReadOnlyStoreRepository storeRepository = mock(SubscriptionBasedReadOnlyStoreRepository.class);
+    doReturn(store).when(storeRepository).getStore(storeName);
+    doReturn(store).when(storeRepository).getStoreOrThrow(storeName);
+
+    // A chunked version with a single partition, in which the value of key_2 is a large value
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(0, 128 * 1024);
+    AvroSerializer<Object> keySerializer = new AvroSerializer<>(keySchema);
+    RecordSerializer<GenericRecord> valueSerializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(valueSchema);
+    for (int i = 0; i < 3; i++) {
+      GenericRecord value = new GenericData.Record(valueSchema);
+      value.put("name", "name_" + i);
+      value.put("age", i);
+      byte[] keyBytes = keySerializer.serialize("key_" + i);
+      byte[] valueBytes = valueSerializer.serialize(value);
+      if (i == 2) {
+        DaVinciStoreScanTest.putChunkedValue(partition, keyBytes, 1, valueBytes);
+      } else {
+        partition.put(
+            DaVinciStoreScanTest.topLevelKey(keyBytes),
+            ByteBuffer.allocate(Integer.BYTES + valueBytes.length).putInt(1).put(valueBytes).array());
+      }
+    }
+    Version version = mock(Version.class);
+    doReturn(true).when(version).isChunkingEnabled();
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    doReturn(version).when(versionBackend).getVersion();
+    doReturn(1).when(versionBackend).getPartitionCount();
+    doReturn(true).when(versionBackend).isPartitionReadyToServe(0);
+    doReturn(partition.getIterator()).when(versionBackend).getIterator(0);
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doReturn(storeName + "_v1").when(storageEngine).getStoreVersionName();
+    doAnswer(invocation -> {
+      AbstractAvroChunkingAdapter<GenericRecord> chunkingAdapter = invocation.getArgument(3);
+      return chunkingAdapter.getFromTopLevelValue(
+          storageEngine,
+          invocation.getArgument(0),
+          invocation.getArgument(1),
+          invocation.getArgument(2),
+          null,
+          invocation.getArgument(6),
+          invocation.getArgument(5),
+          invocation.getArgument(4),
+          new NoopCompressor());
+    }).when(versionBackend).decodeIteratedValue(any(), anyInt(), any(), any(), any(), anyInt(), any());
+    AtomicBoolean released = new AtomicBoolean(false);
+    StoreBackend storeBackend = mock(StoreBackend.class);
+    doReturn(new ReferenceCounted<>(versionBackend, v -> released.set(true))).when(storeBackend)
+        .getDaVinciCurrentVersion();
+
+    DaVinciBackend mockBackend = mock(DaVinciBackend.class);
+    doReturn(schemaRepository).when(mockBackend).getSchemaRepository();
+    doReturn(storeRepository).when(mockBackend).getStoreRepository();
+    doReturn(storeBackend).when(mockBackend).getStoreOrThrow(storeName);
+    Field backendField = AvroGenericDaVinciClient.class.getDeclaredField("daVinciBackend");
+    AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+      backendField.setAccessible(true);
+      return null;
+    });
+    backendField.set(null, new ReferenceCounted<>(mockBackend, ignored -> {}));
+    dvcClient.start();
+
+    DaVinciScanOptions<Object, GenericRecord> options =
+        new DaVinciScanOptions<Object, GenericRecord>().setProjectionFields(Collections.singletonList("name"))
+            .setKeyPredicate(key -> !key.toString().equals("key_0"));
+    Map<String, GenericRecord> entries;
+    try (DaVinciStoreScan<Object, GenericRecord> scan = dvcClient.scan(options)) {
+      // An update of the large value deletes its chunks, while the scan still reads the previous value
+      byte[] largeValueKeyBytes = keySerializer.serialize("key_2");
+      partition.delete(DaVinciStoreScanTest.chunkKey(largeValueKeyBytes, 0));
+      partition.delete(DaVinciStoreScanTest.chunkKey(largeValueKeyBytes, 1));
+      partition.delete(DaVinciStoreScanTest.topLevelKey(largeValueKeyBytes));
+
+      entries = scan.stream()
+          .collect(Collectors.toMap(entry -> entry.getKey().toString(), DaVinciScanEntry::getValue));
+    }
+    assertTrue(released.get(), "Closing the scan must release the version");
+    assertEquals(entries.size(), 2);
+    for (int i = 1; i < 3; i++) {
+      GenericRecord value = entries.get("key_" + i);
+      assertEquals(value.get("name").toString(), "name_" + i);
+      assertNull(value.getSchema().getField("age"), "Only the projected fields must be decoded");
+    }
+  }
+
   @Test
   public void testThrowIfReadsDisabled() {
     DaVinciBackend mockBackend = mock(DaVinciBackend.class);
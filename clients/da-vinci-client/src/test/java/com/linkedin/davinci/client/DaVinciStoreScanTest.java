@@ -0,0 +1,324 @@
+package com.linkedin.davinci.client;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.davinci.VersionBackend;
+import com.linkedin.davinci.storage.chunking.ChunkingUtils;
+import com.linkedin.davinci.storage.chunking.RawBytesChunkingAdapter;
+import com.linkedin.davinci.store.AbstractStorageIterator;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.memory.OffHeapInMemoryStoragePartition;
+import com.linkedin.venice.client.store.predicate.Predicate;
+import com.linkedin.venice.compression.NoopCompressor;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.meta.Version;
+import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.ReferenceCounted;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.testng.annotations.Test;
+
+
+public class DaVinciStoreScanTest {
+  private static final int MAX_SLAB_SIZE = 128 * 1024;
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final int CHUNK_SCHEMA_ID = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+  private static final int MANIFEST_SCHEMA_ID =
+      AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion();
+
+  private static byte[] valueBytes(int schemaId, String value) {
+    byte[] bytes = value.getBytes();
+    return ByteBuffer.allocate(Integer.BYTES + bytes.length).putInt(schemaId).put(bytes).array();
+  }
+
+  private static String decodeValue(byte[] valueBytes) {
+    return new String(valueBytes, Integer.BYTES, valueBytes.length - Integer.BYTES);
+  }
+
+  private static OffHeapInMemoryStoragePartition createPartition(int partitionId, int keyCount) {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(partitionId, MAX_SLAB_SIZE);
+    for (int i = 0; i < keyCount; i++) {
+      partition.put(("key_" + partitionId + "_" + i).getBytes(), valueBytes(VALUE_SCHEMA_ID, "value_" + i));
+    }
+    return partition;
+  }
+
+  static byte[] topLevelKey(byte[] key) {
+    return ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(key);
+  }
+
+  static byte[] chunkKey(byte[] key, int chunkIndex) {
+    ChunkedKeySuffix chunkedKeySuffix = new ChunkedKeySuffix();
+    chunkedKeySuffix.isChunk = true;
+    chunkedKeySuffix.chunkId = new ChunkId();
+    chunkedKeySuffix.chunkId.producerGUID = new GUID();
+    chunkedKeySuffix.chunkId.segmentNumber = 0;
+    chunkedKeySuffix.chunkId.messageSequenceNumber = 0;
+    chunkedKeySuffix.chunkId.chunkIndex = chunkIndex;
+    return ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeChunkedKey(key, chunkedKeySuffix).array();
+  }
+
+  /**
+   * Writes the value in two chunks and a manifest, like the ingestion of a chunked store.
+   */
+  static void putChunkedValue(OffHeapInMemoryStoragePartition partition, byte[] key, int schemaId, byte[] value) {
+    int cutOff = value.length / 2;
+    ChunkedValueManifest manifest = new ChunkedValueManifest();
+    manifest.schemaId = schemaId;
+    manifest.size = value.length;
+    manifest.keysWithChunkIdSuffix = new ArrayList<>(2);
+    for (int chunkIndex = 0; chunkIndex < 2; chunkIndex++) {
+      byte[] chunkKey = chunkKey(key, chunkIndex);
+      int chunkOffset = chunkIndex == 0 ? 0 : cutOff;
+      int chunkLength = chunkIndex == 0 ? cutOff : value.length - cutOff;
+      byte[] chunk = ByteBuffer.allocate(Integer.BYTES + chunkLength)
+          .putInt(CHUNK_SCHEMA_ID)
+          .put(value, chunkOffset, chunkLength)
+          .array();
+      partition.put(chunkKey, chunk);
+      manifest.keysWithChunkIdSuffix.add(ByteBuffer.wrap(chunkKey));
+    }
+    byte[] manifestBytes = ChunkingUtils.CHUNKED_VALUE_MANIFEST_SERIALIZER.serialize(null, manifest);
+    ByteUtils.writeInt(manifestBytes, MANIFEST_SCHEMA_ID, 0);
+    partition.put(topLevelKey(key), manifestBytes);
+  }
+
+  private static DaVinciPartitionScan<String, String> createPartitionScan(
+      OffHeapInMemoryStoragePartition partition,
+      boolean isChunked,
+      AtomicInteger decodedValueCount,
+      Predicate<String> keyPredicate,
+      Predicate<String> valuePredicate) {
+    return new DaVinciPartitionScan<>(
+        partition.getPartitionId(),
+        partition.getIterator(),
+        isChunked,
+        String::new,
+        valueBytes -> {
+          decodedValueCount.incrementAndGet();
+          return decodeValue(valueBytes);
+        },
+        keyPredicate,
+        valuePredicate);
+  }
+
+  @Test
+  public void testPartitionScan() {
+    OffHeapInMemoryStoragePartition partition = createPartition(3, 100);
+    AtomicInteger decodedValueCount = new AtomicInteger();
+    Map<String, String> entries = new HashMap<>();
+    try (DaVinciPartitionScan<String, String> partitionScan =
+        createPartitionScan(partition, false, decodedValueCount, null, null)) {
+      // The scan reads the partition as of its creation
+      partition.put("key_3_100".getBytes(), valueBytes(VALUE_SCHEMA_ID, "value_100"));
+      partition.delete("key_3_0".getBytes());
+
+      List<DaVinciScanEntry<String, String>> scannedEntries = new ArrayList<>();
+      while (partitionScan.tryAdvance(scannedEntries::add)) {
+        // Keep scanning
+      }
+      assertEquals(scannedEntries.size(), 100);
+      assertEquals(decodedValueCount.get(), 0, "The values must only be decoded when accessed");
+      for (DaVinciScanEntry<String, String> entry: scannedEntries) {
+        assertEquals(entry.getPartition(), 3);
+        entries.put(entry.getKey(), entry.getValue());
+      }
+      assertEquals(decodedValueCount.get(), 100);
+      assertFalse(partitionScan.tryAdvance(entry -> {}));
+    }
+    assertEquals(entries.get("key_3_0"), "value_0");
+    assertEquals(entries.get("key_3_99"), "value_99");
+    assertNull(entries.get("key_3_100"));
+  }
+
+  @Test
+  public void testPartitionScanWithPredicates() {
+    OffHeapInMemoryStoragePartition partition = createPartition(0, 100);
+    AtomicInteger decodedValueCount = new AtomicInteger();
+    try (DaVinciPartitionScan<String, String> partitionScan = createPartitionScan(
+        partition,
+        false,
+        decodedValueCount,
+        Predicate.anyOf("key_0_1", "key_0_2", "key_0_3"),
+        value -> !value.equals("value_2"))) {
+      Map<String, String> entries = partitionScan.stream()
+          .collect(Collectors.toMap(DaVinciScanEntry::getKey, DaVinciScanEntry::getValue));
+      assertEquals(entries.size(), 2);
+      assertEquals(entries.get("key_0_1"), "value_1");
+      assertEquals(entries.get("key_0_3"), "value_3");
+      assertEquals(decodedValueCount.get(), 3, "Only the values of the matching keys must be decoded");
+    }
+  }
+
+  @Test
+  public void testChunkedPartitionScan() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(0, MAX_SLAB_SIZE);
+    for (String key: new String[] { "key_1", "key_2" }) {
+      partition.put(topLevelKey(key.getBytes()), valueBytes(VALUE_SCHEMA_ID, key.replace("key", "value")));
+    }
+    putChunkedValue(partition, "key_3".getBytes(), VALUE_SCHEMA_ID, "large_value_3".getBytes());
+
+    AtomicInteger decodedValueCount = new AtomicInteger();
+    try (DaVinciPartitionScan<String, String> partitionScan =
+        createPartitionScan(partition, true, decodedValueCount, null, null)) {
+      Map<String, String> entries = partitionScan.stream()
+          .collect(Collectors.toMap(DaVinciScanEntry::getKey, DaVinciScanEntry::getValue));
+      assertEquals(entries.size(), 3, "The chunks must be skipped");
+      assertEquals(entries.get("key_1"), "value_1");
+      assertEquals(entries.get("key_2"), "value_2");
+      assertTrue(entries.containsKey("key_3"));
+    }
+
+    // The values of the chunks and of the keys which do not match are not even copied out of the partition
+    AtomicInteger copiedValueCount = new AtomicInteger();
+    AbstractStorageIterator iterator = new AbstractStorageIterator() {
+      private final AbstractStorageIterator delegate = partition.getIterator();
+
+      @Override
+      public boolean isValid() {
+        return delegate.isValid();
+      }
+
+      @Override
+      public byte[] key() {
+        return delegate.key();
+      }
+
+      @Override
+      public byte[] value() {
+        copiedValueCount.incrementAndGet();
+        return delegate.value();
+      }
+
+      @Override
+      public void next() {
+        delegate.next();
+      }
+
+      @Override
+      public void seekToFirst() {
+        delegate.seekToFirst();
+      }
+
+      @Override
+      public void close() {
+        delegate.close();
+      }
+    };
+    try (DaVinciPartitionScan<String, String> partitionScan = new DaVinciPartitionScan<>(
+        0,
+        iterator,
+        true,
+        String::new,
+        DaVinciStoreScanTest::decodeValue,
+        Predicate.anyOf("key_2", "key_3"),
+        null)) {
+      assertEquals(partitionScan.stream().count(), 2);
+    }
+    assertEquals(copiedValueCount.get(), 2);
+  }
+
+  @Test
+  public void testChunkedValueIsAssembledFromTheScannedView() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(0, MAX_SLAB_SIZE);
+    putChunkedValue(partition, "key_1".getBytes(), VALUE_SCHEMA_ID, "large_value_1".getBytes());
+    partition.put(topLevelKey("key_2".getBytes()), valueBytes(VALUE_SCHEMA_ID, "value_2"));
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doReturn("test_store_v1").when(storageEngine).getStoreVersionName();
+
+    AbstractStorageIterator iterator = partition.getIterator();
+    try (DaVinciPartitionScan<String, String> partitionScan = new DaVinciPartitionScan<>(
+        0,
+        iterator,
+        true,
+        String::new,
+        valueBytes -> new String(
+            ByteUtils.extractByteArray(
+                RawBytesChunkingAdapter.INSTANCE.getFromTopLevelValue(
+                    storageEngine,
+                    iterator,
+                    0,
+                    valueBytes,
+                    null,
+                    null,
+                    VALUE_SCHEMA_ID,
+                    RawBytesStoreDeserializerCache.getInstance(),
+                    new NoopCompressor()))),
+        null,
+        null)) {
+      // An update of the large value deletes its previous chunks, which the scan still reads
+      partition.delete(chunkKey("key_1".getBytes(), 0));
+      partition.delete(chunkKey("key_1".getBytes(), 1));
+      partition.put(topLevelKey("key_1".getBytes()), valueBytes(VALUE_SCHEMA_ID, "value_1"));
+      putChunkedValue(partition, "key_2".getBytes(), VALUE_SCHEMA_ID, "large_value_2".getBytes());
+
+      Map<String, String> entries = partitionScan.stream()
+          .collect(Collectors.toMap(DaVinciScanEntry::getKey, DaVinciScanEntry::getValue));
+      assertEquals(entries.size(), 2);
+      assertEquals(entries.get("key_1"), "large_value_1");
+      assertEquals(entries.get("key_2"), "value_2");
+    }
+  }
+
+  @Test
+  public void testStoreScan() {
+    int partitionCount = 8;
+    int keyCount = 1000;
+    VersionBackend versionBackend = mock(VersionBackend.class);
+    Version version = mock(Version.class);
+    doReturn(version).when(versionBackend).getVersion();
+    AtomicBoolean released = new AtomicBoolean(false);
+    ReferenceCounted<VersionBackend> versionRef = new ReferenceCounted<>(versionBackend, v -> released.set(true));
+
+    AtomicInteger decodedValueCount = new AtomicInteger();
+    List<DaVinciPartitionScan<String, String>> partitionScans = new ArrayList<>();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      partitionScans
+          .add(createPartitionScan(createPartition(partition, keyCount), false, decodedValueCount, null, null));
+    }
+    DaVinciStoreScan<String, String> storeScan = new DaVinciStoreScan<>(versionRef, partitionScans);
+    assertEquals(storeScan.getVersion(), version);
+    assertEquals(storeScan.getPartitionScans().size(), partitionCount);
+
+    Spliterator<DaVinciScanEntry<String, String>> spliterator = storeScan.spliterator();
+    assertNotNull(spliterator.trySplit(), "The partitions must be split");
+    assertNull(partitionScans.get(0).trySplit());
+
+    try (Stream<DaVinciScanEntry<String, String>> stream = storeScan.parallelStream()) {
+      Set<String> keys = stream.filter(entry -> entry.getValue().equals("value_7"))
+          .map(DaVinciScanEntry::getKey)
+          .collect(Collectors.toSet());
+      assertEquals(keys.size(), partitionCount);
+      for (int partition = 0; partition < partitionCount; partition++) {
+        assertTrue(keys.contains("key_" + partition + "_7"));
+      }
+    }
+    assertEquals(decodedValueCount.get(), partitionCount * keyCount);
+    assertTrue(released.get(), "Closing the stream must release the version");
+    assertEquals(versionRef.getReferenceCount(), 0);
+
+    // Closing again is a no-op
+    storeScan.close();
+    assertEquals(versionRef.getReferenceCount(), 0);
+  }
+}
@@ -3,9 +3,11 @@ package com.linkedin.davinci.kafka.consumer;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -34,14 +36,18 @@ import com.linkedin.venice.pubsub.api.PubSubPosition;
 import com.linkedin.venice.pubsub.api.PubSubTopic;
 import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
 import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import io.tehuti.metrics.MetricsRepository;
 import io.tehuti.metrics.Sensor;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -417,4 +423,146 @@ public class StoreBufferServiceTest {
 
     bufferService.stop();
   }
+
+  @Test
+  public void testBatchedDrainingKeepsRecordOrderPerPartition() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(2, 100000, 1000, false, 16, 0, mockedStats, null);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    int partitionCount = 4;
+    int recordCountPerPartition = 50;
+    List<List<DefaultPubSubMessage>> processedRecords = new ArrayList<>();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      processedRecords.add(Collections.synchronizedList(new ArrayList<>()));
+    }
+    doAnswer(invocation -> {
+      DefaultPubSubMessage record = invocation.getArgument(0);
+      processedRecords.get(record.getTopicPartition().getPartitionNumber()).add(record);
+      return null;
+    }).when(mockTask).processConsumerRecord(any(), any(), anyInt(), anyString(), anyLong());
+
+    List<DefaultPubSubMessage> records = new ArrayList<>();
+    for (int i = 0; i < recordCountPerPartition; i++) {
+      for (int partition = 0; partition < partitionCount; partition++) {
+        PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partition);
+        DefaultPubSubMessage record = new ImmutablePubSubMessage(key, value, topicPartition, mockPosition, i, 0);
+        records.add(record);
+        bufferService.putConsumerRecord(record, mockTask, null, partition, "blah", 0L);
+      }
+    }
+    bufferService.start();
+    for (int partition = 0; partition < partitionCount; partition++) {
+      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partition);
+      bufferService.drainBufferedRecordsFromTopicPartition(topicPartition, 10000);
+      Assert.assertEquals(bufferService.getAssignedDrainerIndex(topicPartition), -1);
+    }
+    for (int partition = 0; partition < partitionCount; partition++) {
+      List<DefaultPubSubMessage> processed = processedRecords.get(partition);
+      Assert.assertEquals(processed.size(), recordCountPerPartition);
+      for (int i = 0; i < recordCountPerPartition; i++) {
+        Assert.assertSame(processed.get(i), records.get(i * partitionCount + partition));
+      }
+    }
+    bufferService.stop();
+  }
+
+  @Test
+  public void testStoppedDrainerReleasesUnprocessedRecords() throws Exception {
+    StoreBufferService bufferService = new StoreBufferService(1, 100000, 1000, false, 16, 0, mockedStats, null);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    CountDownLatch processingStarted = new CountDownLatch(1);
+    CountDownLatch processingBlocker = new CountDownLatch(1);
+    doAnswer(invocation -> {
+      processingStarted.countDown();
+      try {
+        processingBlocker.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return null;
+    }).when(mockTask).processConsumerRecord(any(), any(), anyInt(), anyString(), anyLong());
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+    PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, 0);
+    for (int i = 0; i < 5; i++) {
+      DefaultPubSubMessage record = new ImmutablePubSubMessage(key, value, topicPartition, mockPosition, i, 0);
+      bufferService.putConsumerRecord(record, mockTask, null, 0, "blah", 0L);
+    }
+    bufferService.start();
+    Assert.assertTrue(processingStarted.await(TIMEOUT_IN_MS, MILLISECONDS));
+    Assert.assertTrue(bufferService.hasPendingRecords(topicPartition));
+
+    // The drainer is stopped while the rest of its batch is still waiting to be processed
+    bufferService.stop();
+    Assert.assertFalse(bufferService.hasPendingRecords(topicPartition));
+  }
+
+  @Test
+  public void testRebalanceDrainers() throws Exception {
+    // The rebalancing is triggered manually by the test
+    StoreBufferService bufferService =
+        new StoreBufferService(2, 10000, 1000, false, 1, TimeUnit.HOURS.toMillis(1), mockedStats, null);
+    StoreIngestionTask mockTask = mock(StoreIngestionTask.class);
+    doAnswer(invocation -> {
+      Thread.sleep(1);
+      return null;
+    }).when(mockTask).processConsumerRecord(any(), any(), anyInt(), anyString(), anyLong());
+    PubSubTopic pubSubTopic = pubSubTopicRepository.getTopic(Utils.getUniqueString("test_topic") + "_v1");
+
+    // Find two partitions which are hashed onto the same drainer
+    List<PubSubTopicPartition> topicPartitions = new ArrayList<>();
+    int sharedDrainerIndex = -1;
+    for (int partition = 0; topicPartitions.size() < 2; partition++) {
+      PubSubTopicPartition topicPartition = new PubSubTopicPartitionImpl(pubSubTopic, partition);
+      int drainerIndex = bufferService.getDrainerIndexForConsumerRecord(
+          new StoreBufferService.FakePubSubMessage(topicPartition),
+          partition);
+      if (sharedDrainerIndex == -1 || drainerIndex == sharedDrainerIndex) {
+        sharedDrainerIndex = drainerIndex;
+        topicPartitions.add(topicPartition);
+      }
+    }
+
+    bufferService.start();
+    for (PubSubTopicPartition topicPartition: topicPartitions) {
+      DefaultPubSubMessage record = new ImmutablePubSubMessage(key, value, topicPartition, mockPosition, 0, 0);
+      bufferService.putConsumerRecord(record, mockTask, null, topicPartition.getPartitionNumber(), "blah", 0L);
+      Assert.assertEquals(bufferService.getAssignedDrainerIndex(topicPartition), sharedDrainerIndex);
+    }
+    TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+      for (PubSubTopicPartition topicPartition: topicPartitions) {
+        Assert.assertFalse(bufferService.hasPendingRecords(topicPartition));
+      }
+    });
+
+    // One of the partitions moves to the idle drainer
+    bufferService.rebalanceDrainers();
+    int movedPartitionCount = 0;
+    for (PubSubTopicPartition topicPartition: topicPartitions) {
+      if (bufferService.getAssignedDrainerIndex(topicPartition) != sharedDrainerIndex) {
+        movedPartitionCount++;
+      }
+    }
+    Assert.assertEquals(movedPartitionCount, 1);
+
+    // The records of the moved partition are processed by its new drainer
+    for (PubSubTopicPartition topicPartition: topicPartitions) {
+      DefaultPubSubMessage record = new ImmutablePubSubMessage(key, value, topicPartition, mockPosition, 1, 0);
+      bufferService.putConsumerRecord(record, mockTask, null, topicPartition.getPartitionNumber(), "blah", 0L);
+      verify(mockTask, timeout(TIMEOUT_IN_MS))
+          .processConsumerRecord(record, null, topicPartition.getPartitionNumber(), "blah", 0L);
+    }
+    TestUtils.waitForNonDeterministicAssertion(5, TimeUnit.SECONDS, () -> {
+      for (PubSubTopicPartition topicPartition: topicPartitions) {
+        Assert.assertFalse(bufferService.hasPendingRecords(topicPartition));
+      }
+    });
+
+    // Then the partitions stop being tracked once they are idle for a whole round
+    bufferService.rebalanceDrainers();
+    bufferService.rebalanceDrainers();
+    for (PubSubTopicPartition topicPartition: topicPartitions) {
+      Assert.assertEquals(bufferService.getAssignedDrainerIndex(topicPartition), -1);
+    }
+    bufferService.stop();
+  }
 }
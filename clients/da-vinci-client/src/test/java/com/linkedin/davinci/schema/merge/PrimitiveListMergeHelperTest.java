@@ -0,0 +1,161 @@
+package com.linkedin.davinci.schema.merge;
+
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
+
+import com.linkedin.avro.api.PrimitiveIntList;
+import com.linkedin.avro.api.PrimitiveLongList;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+
+public class PrimitiveListMergeHelperTest {
+  private static final Schema VALUE_SCHEMA = AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(
+      "{\"type\":\"record\",\"name\":\"PrimitiveListRecord\",\"namespace\":\"com.linkedin.avro\",\"fields\":["
+          + "{\"name\":\"IntListField\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]},"
+          + "{\"name\":\"LongListField\",\"type\":{\"type\":\"array\",\"items\":\"long\"},\"default\":[]},"
+          + "{\"name\":\"StringListField\",\"type\":{\"type\":\"array\",\"items\":\"string\"},\"default\":[]}]}");
+  private static final Schema RMD_TIMESTAMP_SCHEMA = RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA)
+      .getField(RmdConstants.TIMESTAMP_FIELD_NAME)
+      .schema()
+      .getTypes()
+      .get(1);
+
+  private final SortBasedCollectionFieldOpHandler primitiveHandler =
+      new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, true);
+  private final SortBasedCollectionFieldOpHandler genericHandler =
+      new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, false);
+
+  @DataProvider
+  public Object[][] listFieldNames() {
+    return new Object[][] { { "IntListField" }, { "LongListField" }, { "StringListField" } };
+  }
+
+  @Test(dataProvider = "listFieldNames")
+  public void testPrimitiveMergeMatchesGenericMerge(String fieldName) {
+    Random random = new Random(fieldName.hashCode());
+    Schema.Field field = VALUE_SCHEMA.getField(fieldName);
+    for (int iteration = 0; iteration < 200; iteration++) {
+      // Start from a put-only list, which may hold duplicated elements.
+      List<Object> initialList = getRandomElements(random, fieldName, 20);
+      GenericRecord primitiveValueRecord = createValueRecord(field, initialList);
+      GenericRecord genericValueRecord = createValueRecord(field, initialList);
+      CollectionRmdTimestamp<Object> primitiveRmd = createPutOnlyRmd(fieldName, initialList.size());
+      CollectionRmdTimestamp<Object> genericRmd = createPutOnlyRmd(fieldName, initialList.size());
+
+      for (int operation = 0; operation < 5; operation++) {
+        long modifyTimestamp = 2 + random.nextInt(20);
+        List<Object> toAddElements = getRandomElements(random, fieldName, 8);
+        List<Object> toRemoveElements = getRandomElements(random, fieldName, 8);
+        UpdateResultStatus primitiveStatus = primitiveHandler.handleModifyList(
+            modifyTimestamp,
+            primitiveRmd,
+            primitiveValueRecord,
+            field,
+            new ArrayList<>(toAddElements),
+            new ArrayList<>(toRemoveElements));
+        UpdateResultStatus genericStatus = genericHandler.handleModifyList(
+            modifyTimestamp,
+            genericRmd,
+            genericValueRecord,
+            field,
+            new ArrayList<>(toAddElements),
+            new ArrayList<>(toRemoveElements));
+
+        Assert.assertEquals(primitiveStatus, genericStatus);
+        Assert.assertEquals(
+            new ArrayList<>((List<Object>) primitiveValueRecord.get(fieldName)),
+            new ArrayList<>((List<Object>) genericValueRecord.get(fieldName)));
+        Assert.assertEquals(primitiveRmd.getPutOnlyPartLength(), genericRmd.getPutOnlyPartLength());
+        Assert.assertEquals(
+            new ArrayList<>(primitiveRmd.getActiveElementTimestamps()),
+            new ArrayList<>(genericRmd.getActiveElementTimestamps()));
+        Assert.assertEquals(
+            new ArrayList<>(primitiveRmd.getDeletedElements()),
+            new ArrayList<>(genericRmd.getDeletedElements()));
+        Assert.assertEquals(
+            new ArrayList<>(primitiveRmd.getDeletedElementTimestamps()),
+            new ArrayList<>(genericRmd.getDeletedElementTimestamps()));
+      }
+    }
+  }
+
+  @Test
+  public void testPrimitiveMergeKeepsElementsUnboxed() {
+    Schema.Field intListField = VALUE_SCHEMA.getField("IntListField");
+    GenericRecord valueRecord = createValueRecord(intListField, new ArrayList<>(Collections.singletonList(3)));
+    CollectionRmdTimestamp<Object> rmd = createPutOnlyRmd("IntListField", 1);
+
+    UpdateResultStatus status = primitiveHandler.handleModifyList(
+        2L,
+        rmd,
+        valueRecord,
+        intListField,
+        Collections.singletonList(1),
+        Collections.singletonList(2));
+
+    Assert.assertEquals(status, UpdateResultStatus.PARTIALLY_UPDATED);
+    List<Object> newList = (List<Object>) valueRecord.get("IntListField");
+    Assert.assertTrue(newList instanceof PrimitiveIntList);
+    Assert.assertEquals(newList, Arrays.asList(3, 1));
+    Assert.assertEquals(rmd.getPutOnlyPartLength(), 1);
+    Assert.assertTrue(rmd.getActiveElementTimestamps() instanceof PrimitiveLongList);
+    Assert.assertEquals(rmd.getActiveElementTimestamps(), Collections.singletonList(2L));
+    Assert.assertTrue(rmd.getDeletedElements() instanceof PrimitiveIntList);
+    Assert.assertEquals(rmd.getDeletedElements(), Collections.singletonList(2));
+    Assert.assertEquals(rmd.getDeletedElementTimestamps(), Collections.singletonList(2L));
+  }
+
+  private static GenericRecord createValueRecord(Schema.Field field, List<Object> list) {
+    GenericRecord valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put(field.pos(), new ArrayList<>(list));
+    return valueRecord;
+  }
+
+  private static CollectionRmdTimestamp<Object> createPutOnlyRmd(String fieldName, int putOnlyPartLength) {
+    GenericRecord fieldRmdRecord = new GenericData.Record(RMD_TIMESTAMP_SCHEMA.getField(fieldName).schema());
+    fieldRmdRecord.put(TOP_LEVEL_TS_FIELD_NAME, 1L);
+    fieldRmdRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, 0);
+    fieldRmdRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, putOnlyPartLength);
+    fieldRmdRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, Collections.emptyList());
+    fieldRmdRecord.put(DELETED_ELEM_TS_FIELD_NAME, Collections.emptyList());
+    fieldRmdRecord.put(DELETED_ELEM_FIELD_NAME, Collections.emptyList());
+    return new CollectionRmdTimestamp<>(fieldRmdRecord);
+  }
+
+  private static List<Object> getRandomElements(Random random, String fieldName, int maxCount) {
+    int count = random.nextInt(maxCount);
+    List<Object> elements = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int element = random.nextInt(30);
+      switch (fieldName) {
+        case "IntListField":
+          elements.add(element);
+          break;
+        case "LongListField":
+          elements.add(element * 1_000_000_007L);
+          break;
+        default:
+          elements.add("element_" + element);
+      }
+    }
+    return elements;
+  }
+}
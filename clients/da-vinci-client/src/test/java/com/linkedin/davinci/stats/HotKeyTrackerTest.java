@@ -0,0 +1,86 @@
+package com.linkedin.davinci.stats;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+import io.tehuti.metrics.MetricsRepository;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.testng.annotations.Test;
+
+
+public class HotKeyTrackerTest {
+  private static final String TOPIC = "test_store_v1";
+
+  @Test
+  public void testSketchFindsTheHeavyHitters() {
+    HotKeySketch sketch = new HotKeySketch(3, 256, Long.MAX_VALUE);
+    for (int i = 0; i < 10000; i++) {
+      sketch.add(getKey("cold_key_" + i));
+      if (i % 2 == 0) {
+        sketch.add(getKey("hot_key_0"));
+      }
+      if (i % 5 == 0) {
+        sketch.add(getKey("hot_key_1"));
+      }
+      if (i % 10 == 0) {
+        sketch.add(getKey("hot_key_2"));
+      }
+    }
+
+    List<HotKeySketch.HotKey> hotKeys = sketch.getHotKeys();
+    assertEquals(hotKeys.size(), 3);
+    long[] expectedCounts = { 5000, 2000, 1000 };
+    for (int i = 0; i < 3; i++) {
+      assertEquals(new String(hotKeys.get(i).getKey(), StandardCharsets.UTF_8), "hot_key_" + i);
+      // Count-Min Sketch only overcounts
+      assertTrue(hotKeys.get(i).getEstimatedCount() >= expectedCounts[i]);
+      assertTrue(hotKeys.get(i).getEstimatedCount() < expectedCounts[i] * 1.2);
+    }
+    assertTrue(sketch.getTopKeyShare() > 0.25 && sketch.getTopKeyShare() < 0.35);
+  }
+
+  @Test
+  public void testSketchCountsDecay() {
+    HotKeySketch sketch = new HotKeySketch(2, 64, 100);
+    for (int i = 0; i < 99; i++) {
+      sketch.add(getKey("old_hot_key"));
+    }
+    // The 100th update halves all the counts
+    sketch.add(getKey("new_hot_key"));
+    assertEquals(sketch.getHotKeys().get(0).getEstimatedCount(), 49);
+    for (int i = 0; i < 60; i++) {
+      sketch.add(getKey("new_hot_key"));
+    }
+    assertEquals(new String(sketch.getHotKeys().get(0).getKey(), StandardCharsets.UTF_8), "new_hot_key");
+  }
+
+  @Test
+  public void testTrackerScalesCountsAndReportsMetrics() {
+    MetricsRepository metricsRepository = new MetricsRepository();
+    HotKeyTracker tracker = new HotKeyTracker(1, 2, metricsRepository);
+    byte[] paddedKey = "__hot_key__".getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < 9; i++) {
+      tracker.recordRead(TOPIC, ByteBuffer.wrap(paddedKey, 2, 7).slice());
+    }
+    tracker.recordRead(TOPIC, getKey("cold_key"));
+    tracker.recordWrite(TOPIC, getKey("hot_key"));
+
+    List<HotKeySketch.HotKey> readHotKeys = tracker.getHotKeys(TOPIC, HotKeyTracker.Operation.READ);
+    assertEquals(readHotKeys.size(), 2);
+    assertEquals(new String(readHotKeys.get(0).getKey(), StandardCharsets.UTF_8), "hot_key");
+    assertEquals(readHotKeys.get(0).getEstimatedCount(), 9);
+    assertEquals(tracker.getHotKeys(TOPIC, HotKeyTracker.Operation.WRITE).size(), 1);
+    assertEquals(metricsRepository.getMetric(".test_store--hot_key_read_top_key_share.Gauge").value(), 0.9);
+    assertEquals(metricsRepository.getMetric(".test_store--hot_key_write_top_key_share.Gauge").value(), 1.0);
+
+    tracker.removeVersion(TOPIC);
+    assertTrue(tracker.getHotKeys(TOPIC, HotKeyTracker.Operation.READ).isEmpty());
+    assertEquals(metricsRepository.getMetric(".test_store--hot_key_read_top_key_share.Gauge").value(), 0.0);
+  }
+
+  private static byte[] getKey(String key) {
+    return key.getBytes(StandardCharsets.UTF_8);
+  }
+}
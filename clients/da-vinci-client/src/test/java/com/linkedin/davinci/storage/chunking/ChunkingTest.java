@@ -1,8 +1,14 @@
 package com.linkedin.davinci.storage.chunking;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.github.luben.zstd.Zstd;
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
@@ -13,20 +19,35 @@ import com.linkedin.davinci.store.record.ByteBufferValueRecord;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.helix.HelixReadOnlySchemaRepository;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.SchemaEntry;
 import com.linkedin.venice.serialization.AvroStoreDeserializerCache;
 import com.linkedin.venice.serialization.RawBytesStoreDeserializerCache;
 import com.linkedin.venice.serialization.StoreDeserializerCache;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
 import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.utils.ByteUtils;
+import com.linkedin.venice.utils.ReferenceCounted;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -295,4 +316,205 @@ public class ChunkingTest {
       return null;
     }, true);
   }
+
+  @Test
+  public void testBatchGetChunkingAdapterGetInBatch() {
+    int partition = 3;
+    byte[] smallKey = "small".getBytes();
+    byte[] largeKey = "large".getBytes();
+    byte[] missingKey = "missing".getBytes();
+    byte[] smallValue = "small-value".getBytes();
+    byte[] largeValue = "large-value-split-in-two-chunks".getBytes();
+    int cutOff = largeValue.length / 2;
+
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(smallKey)),
+        ValueRecord.create(SCHEMA_ID, smallValue).serialize());
+    ByteBuffer firstChunkKey = ByteBuffer.wrap("large-chunk-0".getBytes());
+    ByteBuffer secondChunkKey = ByteBuffer.wrap("large-chunk-1".getBytes());
+    storage.put(
+        firstChunkKey,
+        ValueRecord.create(AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion(), Arrays.copyOf(largeValue, cutOff))
+            .serialize());
+    storage.put(
+        secondChunkKey,
+        ValueRecord
+            .create(
+                AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion(),
+                Arrays.copyOfRange(largeValue, cutOff, largeValue.length))
+            .serialize());
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = Arrays.asList(firstChunkKey, secondChunkKey);
+    chunkedValueManifest.schemaId = SCHEMA_ID;
+    chunkedValueManifest.size = largeValue.length;
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(largeKey)),
+        ValueRecord
+            .create(
+                AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(),
+                new ChunkedValueManifestSerializer(true).serialize("", chunkedValueManifest))
+            .serialize());
+
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doAnswer(invocation -> {
+      List<byte[]> keys = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keys.size());
+      keys.forEach(key -> values.add(storage.get(ByteBuffer.wrap(key))));
+      return values;
+    }).when(storageEngine).multiGet(eq(partition), any());
+
+    List<MultiGetResponseRecordV1> results = new ArrayList<>();
+    BatchGetChunkingAdapter.getInBatch(
+        storageEngine,
+        partition,
+        Arrays.asList(smallKey, missingKey, largeKey),
+        true,
+        NoOpReadResponseStats.SINGLETON,
+        (record, index) -> {
+          Assert.assertEquals(index, results.size());
+          results.add(record);
+        });
+
+    Assert.assertEquals(results.size(), 3);
+    Assert.assertEquals(ByteUtils.extractByteArray(results.get(0).value), smallValue);
+    Assert.assertEquals(results.get(0).schemaId, SCHEMA_ID);
+    Assert.assertNull(results.get(1));
+    Assert.assertEquals(ByteUtils.extractByteArray(results.get(2).value), largeValue);
+    Assert.assertEquals(results.get(2).schemaId, SCHEMA_ID);
+    // One lookup for the top-level keys, and one for all the chunks
+    verify(storageEngine, times(2)).multiGet(eq(partition), any());
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
+  @Test
+  public void testSingleGetChunkingAdapterGetWithoutAssembling() {
+    int partition = 3;
+    byte[] smallKey = "small".getBytes();
+    byte[] largeKey = "large".getBytes();
+    byte[] smallValue = "small-value".getBytes();
+    byte[] largeValue = "large-value-split-in-two-chunks".getBytes();
+    int cutOff = largeValue.length / 2;
+
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(smallKey)),
+        ValueRecord.create(SCHEMA_ID, smallValue).serialize());
+    ByteBuffer firstChunkKey = ByteBuffer.wrap("large-chunk-0".getBytes());
+    ByteBuffer secondChunkKey = ByteBuffer.wrap("large-chunk-1".getBytes());
+    storage.put(
+        firstChunkKey,
+        ValueRecord.create(AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion(), Arrays.copyOf(largeValue, cutOff))
+            .serialize());
+    storage.put(
+        secondChunkKey,
+        ValueRecord
+            .create(
+                AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion(),
+                Arrays.copyOfRange(largeValue, cutOff, largeValue.length))
+            .serialize());
+    ChunkedValueManifest chunkedValueManifest = new ChunkedValueManifest();
+    chunkedValueManifest.keysWithChunkIdSuffix = Arrays.asList(firstChunkKey, secondChunkKey);
+    chunkedValueManifest.schemaId = SCHEMA_ID;
+    chunkedValueManifest.size = largeValue.length;
+    storage.put(
+        ByteBuffer.wrap(ChunkingUtils.KEY_WITH_CHUNKING_SUFFIX_SERIALIZER.serializeNonChunkedKey(largeKey)),
+        ValueRecord
+            .create(
+                AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(),
+                new ChunkedValueManifestSerializer(true).serialize("", chunkedValueManifest))
+            .serialize());
+
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doAnswer(invocation -> storage.get((ByteBuffer) invocation.getArgument(1))).when(storageEngine)
+        .get(eq(partition), any(ByteBuffer.class));
+
+    // A small value is returned as usual
+    ChunkedValueManifestContainer manifestContainer = new ChunkedValueManifestContainer();
+    ValueRecord valueRecord = SingleGetChunkingAdapter
+        .getWithoutAssembling(storageEngine, partition, smallKey, NoOpReadResponseStats.SINGLETON, manifestContainer);
+    Assert.assertNotNull(valueRecord);
+    Assert.assertEquals(valueRecord.getDataInBytes(), smallValue);
+    Assert.assertNull(manifestContainer.getManifest());
+
+    // Only the manifest of a large value is fetched, and its chunks are read one at a time
+    Assert.assertNull(
+        SingleGetChunkingAdapter.getWithoutAssembling(
+            storageEngine,
+            partition,
+            largeKey,
+            NoOpReadResponseStats.SINGLETON,
+            manifestContainer));
+    Assert.assertNotNull(manifestContainer.getManifest());
+    verify(storageEngine, times(2)).get(eq(partition), any(ByteBuffer.class));
+
+    // The chunks are fetched on the executor, and the transfer is resumed once the awaited chunk is there
+    Deque<Runnable> pendingFetches = new ArrayDeque<>();
+    AtomicInteger resumeCount = new AtomicInteger();
+    List<Double> chunkReadLatencies = new ArrayList<>();
+    AtomicBoolean released = new AtomicBoolean(false);
+    LargeValueChunkedInput input = new LargeValueChunkedInput(
+        new ReferenceCounted<>(storageEngine, se -> released.set(true)),
+        partition,
+        manifestContainer.getManifest(),
+        pendingFetches::add,
+        1);
+    input.setChunkReadCallbacks(resumeCount::incrementAndGet, chunkReadLatencies::add);
+    Assert.assertEquals(input.getSchemaId(), SCHEMA_ID);
+    Assert.assertEquals(input.length(), largeValue.length);
+    Assert.assertNull(input.readChunk(UnpooledByteBufAllocator.DEFAULT));
+    Assert.assertNull(input.readChunk(UnpooledByteBufAllocator.DEFAULT));
+    Assert.assertEquals(pendingFetches.size(), 1, "Only one chunk must be read ahead");
+    Assert.assertEquals(resumeCount.get(), 0);
+    pendingFetches.poll().run();
+    Assert.assertEquals(resumeCount.get(), 1);
+    ByteBuf firstChunk = input.readChunk(UnpooledByteBufAllocator.DEFAULT);
+    Assert.assertFalse(input.isEndOfInput());
+    Assert.assertEquals(input.progress(), cutOff);
+    Assert.assertEquals(pendingFetches.size(), 1, "The next chunk must be read ahead");
+    pendingFetches.poll().run();
+    ByteBuf secondChunk = input.readChunk(UnpooledByteBufAllocator.DEFAULT);
+    Assert.assertTrue(input.isEndOfInput());
+    Assert.assertNull(input.readChunk(UnpooledByteBufAllocator.DEFAULT));
+    Assert.assertEquals(ByteBufUtil.getBytes(Unpooled.wrappedBuffer(firstChunk, secondChunk)), largeValue);
+    Assert.assertEquals(chunkReadLatencies.size(), 2);
+    Assert.assertFalse(released.get(), "The storage engine must be held until the input is closed");
+    input.close();
+    Assert.assertTrue(released.get());
+
+    // A chunk being fetched holds the storage engine, and skips the read once the input is closed
+    AtomicBoolean closedInputReleased = new AtomicBoolean(false);
+    LargeValueChunkedInput closedInput = new LargeValueChunkedInput(
+        new ReferenceCounted<>(storageEngine, se -> closedInputReleased.set(true)),
+        partition,
+        manifestContainer.getManifest(),
+        pendingFetches::add,
+        1);
+    Assert.assertNull(closedInput.readChunk(UnpooledByteBufAllocator.DEFAULT));
+    closedInput.close();
+    Assert.assertFalse(closedInputReleased.get(), "The storage engine must be held until the fetch is done");
+    pendingFetches.poll().run();
+    Assert.assertTrue(closedInputReleased.get());
+    verify(storageEngine, times(4)).get(eq(partition), any(ByteBuffer.class));
+
+    // The code paths which cannot stream read the remaining chunks on the calling thread
+    LargeValueChunkedInput assemblingInput = new LargeValueChunkedInput(
+        new ReferenceCounted<>(storageEngine, se -> {}),
+        partition,
+        manifestContainer.getManifest(),
+        Runnable::run,
+        2);
+    Assert.assertEquals(ByteBufUtil.getBytes(assemblingInput.readRemainingChunks()), largeValue);
+
+    // A missing chunk fails the read
+    storage.remove(secondChunkKey);
+    LargeValueChunkedInput brokenInput = new LargeValueChunkedInput(
+        new ReferenceCounted<>(storageEngine, se -> {}),
+        partition,
+        manifestContainer.getManifest(),
+        Runnable::run,
+        1);
+    brokenInput.readChunk(UnpooledByteBufAllocator.DEFAULT);
+    Assert.assertThrows(VeniceException.class, () -> brokenInput.readChunk(UnpooledByteBufAllocator.DEFAULT));
+  }
 }
@@ -0,0 +1,225 @@
+package com.linkedin.davinci.store.memory;
+
+import com.linkedin.davinci.callback.BytesStreamingCallback;
+import com.linkedin.davinci.store.AbstractStorageIterator;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class OffHeapInMemoryStoragePartitionTest {
+  private static final int PARTITION_NUM = 0;
+  private static final int MAX_SLAB_SIZE = 128 * 1024;
+
+  private static byte[] bytes(String s) {
+    return s.getBytes();
+  }
+
+  @Test
+  public void testPutGetDelete() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    Assert.assertNull(partition.get(bytes("key")));
+
+    partition.put(bytes("key"), bytes("value"));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("value"));
+    Assert.assertEquals(partition.get(ByteBuffer.wrap(bytes("key"))), bytes("value"));
+
+    partition.put(bytes("key"), ByteBuffer.wrap(bytes("__updated__"), 2, 7));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("updated"));
+
+    partition.delete(bytes("key"));
+    Assert.assertNull(partition.get(bytes("key")));
+    // Deleting an absent key is a no-op
+    partition.delete(bytes("key"));
+  }
+
+  @Test
+  public void testBuffersWithoutBackingArray() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    ByteBuffer directValue = ByteBuffer.allocateDirect(16);
+    directValue.put(bytes("__value__")).flip().position(2);
+    partition.put(bytes("key"), directValue);
+    Assert.assertEquals(directValue.position(), 2);
+    ByteBuffer readOnlyValue = ByteBuffer.wrap(bytes("value2")).asReadOnlyBuffer();
+    partition.putWithReplicationMetadata(bytes("key2"), readOnlyValue, bytes("rmd"));
+
+    ByteBuffer directKey = ByteBuffer.allocateDirect(8);
+    directKey.put(bytes("key")).flip();
+    Assert.assertEquals(partition.get(directKey), bytes("value__"));
+    ByteBuffer readOnlyKey = ByteBuffer.wrap(bytes("key2")).asReadOnlyBuffer();
+    Assert.assertEquals(partition.get(readOnlyKey), bytes("value2"));
+    Assert.assertEquals(partition.getReplicationMetadata(readOnlyKey), bytes("rmd"));
+  }
+
+  @Test
+  public void testDropWithOpenIterator() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    for (int i = 0; i < 100; i++) {
+      partition.put(bytes("key" + i), bytes("value" + i));
+    }
+    Map<String, String> iterated = new HashMap<>();
+    try (AbstractStorageIterator iterator = partition.getIterator()) {
+      partition.drop();
+      Assert.assertEquals(partition.getPartitionSizeInBytes(), 0);
+      Assert.assertNull(partition.get(bytes("key0")));
+      // The slabs of the iterator are only deallocated once it is closed
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        iterated.put(new String(iterator.key()), new String(iterator.value()));
+      }
+    }
+    Assert.assertEquals(iterated.size(), 100);
+    Assert.assertEquals(iterated.get("key99"), "value99");
+
+    // The partition remains usable after being dropped
+    partition.put(bytes("key"), bytes("value"));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("value"));
+    partition.drop();
+    Assert.assertNull(partition.get(bytes("key")));
+  }
+
+  @Test
+  public void testIteratorGetReadsTheSameView() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    for (int i = 0; i < 100; i++) {
+      partition.put(bytes("key" + i), bytes("value" + i));
+    }
+    try (AbstractStorageIterator iterator = partition.getIterator()) {
+      partition.delete(bytes("key0"));
+      partition.put(bytes("key100"), bytes("value100"));
+      // Enough overwrites to compact the partition
+      byte[] largeValue = new byte[1024];
+      for (int round = 0; round < 5; round++) {
+        for (int i = 1; i < 100; i++) {
+          partition.put(bytes("key" + i), largeValue);
+        }
+      }
+      Assert.assertTrue(partition.getPartitionSizeInBytes() < 5 * 99 * largeValue.length);
+      Assert.assertEquals(partition.get(bytes("key1")), largeValue);
+
+      Assert.assertEquals(iterator.get(bytes("key0")), bytes("value0"));
+      Assert.assertEquals(iterator.get(bytes("key1")), bytes("value1"));
+      Assert.assertEquals(iterator.get(bytes("key99")), bytes("value99"));
+      Assert.assertNull(iterator.get(bytes("key100")));
+    }
+  }
+
+  @Test
+  public void testGetWithReusedBuffer() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    partition.put(bytes("key"), bytes("value"));
+
+    ByteBuffer reused = ByteBuffer.allocate(16);
+    ByteBuffer result = partition.get(bytes("key"), reused);
+    Assert.assertSame(result, reused);
+    Assert.assertEquals(result.position(), 0);
+    Assert.assertEquals(result.remaining(), 5);
+
+    // Too small to be reused
+    result = partition.get(bytes("key"), ByteBuffer.allocate(2));
+    Assert.assertEquals(result.array(), bytes("value"));
+
+    Assert.assertNull(partition.get(bytes("absent"), reused));
+  }
+
+  @Test
+  public void testManyKeysWithOverwritesAndDeletes() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    int keyCount = 20000;
+    for (int round = 0; round < 5; round++) {
+      for (int i = 0; i < keyCount; i++) {
+        partition.put(bytes("key" + i), bytes("value" + i + "_" + round));
+      }
+    }
+    for (int i = 0; i < keyCount; i += 2) {
+      partition.delete(bytes("key" + i));
+    }
+    for (int i = 0; i < keyCount; i++) {
+      byte[] value = partition.get(bytes("key" + i));
+      if (i % 2 == 0) {
+        Assert.assertNull(value);
+      } else {
+        Assert.assertEquals(value, bytes("value" + i + "_4"));
+      }
+    }
+    // Overwritten and deleted entries must have been compacted away.
+    long liveBytes = 0;
+    for (int i = 1; i < keyCount; i += 2) {
+      liveBytes += 2 * Integer.BYTES + bytes("key" + i).length + bytes("value" + i + "_4").length;
+    }
+    Assert.assertTrue(partition.getPartitionSizeInBytes() <= 2 * liveBytes + MAX_SLAB_SIZE);
+  }
+
+  @Test
+  public void testLargeValue() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    byte[] largeValue = new byte[3 * MAX_SLAB_SIZE];
+    largeValue[largeValue.length - 1] = 1;
+    partition.put(bytes("small"), bytes("value"));
+    partition.put(bytes("large"), largeValue);
+    Assert.assertEquals(partition.get(bytes("large")), largeValue);
+    Assert.assertEquals(partition.get(bytes("small")), bytes("value"));
+  }
+
+  @Test
+  public void testReplicationMetadata() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    ByteBuffer key = ByteBuffer.wrap(bytes("key"));
+    partition.putWithReplicationMetadata(bytes("key"), bytes("value"), bytes("rmd1"));
+    Assert.assertEquals(partition.get(bytes("key")), bytes("value"));
+    Assert.assertEquals(partition.getReplicationMetadata(key), bytes("rmd1"));
+
+    partition.put(bytes("key"), bytes("value2"));
+    Assert.assertEquals(partition.getReplicationMetadata(key), bytes("rmd1"));
+
+    partition.deleteWithReplicationMetadata(bytes("key"), bytes("rmd2"));
+    Assert.assertNull(partition.get(bytes("key")));
+    Assert.assertEquals(partition.getReplicationMetadata(key), bytes("rmd2"));
+    Assert.assertTrue(partition.getRmdByteUsage() > 0);
+
+    partition.drop();
+    Assert.assertNull(partition.getReplicationMetadata(key));
+    Assert.assertEquals(partition.getPartitionSizeInBytes(), 0);
+  }
+
+  @Test
+  public void testIteratorAndKeyPrefix() {
+    OffHeapInMemoryStoragePartition partition = new OffHeapInMemoryStoragePartition(PARTITION_NUM, MAX_SLAB_SIZE);
+    Map<String, String> expected = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      String prefix = i % 2 == 0 ? "even_" : "odd_";
+      partition.put(bytes(prefix + i), bytes("value" + i));
+      expected.put(prefix + i, "value" + i);
+    }
+
+    Map<String, String> iterated = new HashMap<>();
+    try (AbstractStorageIterator iterator = partition.getIterator()) {
+      // Writes after the iterator creation are not visible to it.
+      partition.put(bytes("late"), bytes("value"));
+      partition.delete(bytes("odd_1"));
+      for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+        iterated.put(new String(iterator.key()), new String(iterator.value()));
+      }
+    }
+    Assert.assertEquals(iterated, expected);
+
+    Map<String, String> prefixed = new HashMap<>();
+    partition.getByKeyPrefix(bytes("even_"), new BytesStreamingCallback() {
+      @Override
+      public void onRecordReceived(byte[] key, byte[] value) {
+        prefixed.put(new String(key), new String(value));
+      }
+
+      @Override
+      public void onCompletion() {
+        prefixed.put("completed", "");
+      }
+    });
+    Assert.assertEquals(prefixed.size(), 51);
+    Assert.assertTrue(prefixed.containsKey("completed"));
+    for (String key: prefixed.keySet()) {
+      Assert.assertTrue(key.startsWith("even_") || key.equals("completed"));
+    }
+  }
+}
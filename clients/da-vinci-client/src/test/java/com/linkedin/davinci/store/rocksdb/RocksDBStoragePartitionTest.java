@@ -1554,8 +1554,8 @@ public class RocksDBStoragePartitionTest {
   }
 
   /**
-   * Concurrent writes during close — verifies no deadlock between the partition
-   * monitor (synchronized put) and readCloseRWLock (writeLock in close).
+   * Concurrent writes during close — verifies no deadlock between the writers
+   * (readLock of readCloseRWLock) and close (partition monitor, then writeLock).
    */
   @Test(timeOut = 30_000)
   public void testConcurrentWritesDuringClose() throws Exception {
@@ -1688,4 +1688,48 @@ public class RocksDBStoragePartitionTest {
       }
     }
   }
+
+  /**
+   * Non-deferred writes only coordinate with close/reopen, so they should neither wait for the partition monitor nor
+   * for each other.
+   */
+  @Test(timeOut = 30_000)
+  public void testConcurrentWritesDoNotSerializeOnPartitionMonitor() throws Exception {
+    RocksDBStoragePartition partition = createPartition(false);
+    String storeDir = lastCreatedStoreDir;
+    int numWriters = 4;
+    int numKeysPerWriter = 1000;
+    ExecutorService executor = Executors.newFixedThreadPool(numWriters);
+
+    try {
+      List<Future<?>> writers = new ArrayList<>();
+      synchronized (partition) {
+        for (int i = 0; i < numWriters; i++) {
+          final int writerId = i;
+          writers.add(executor.submit(() -> {
+            for (int j = 0; j < numKeysPerWriter; j++) {
+              partition.put(("key_" + writerId + "_" + j).getBytes(), ("value_" + j).getBytes());
+            }
+            partition.delete(("key_" + writerId + "_0").getBytes());
+            partition.sync();
+          }));
+        }
+        // The writers must be able to complete while the partition monitor is held by this thread
+        for (Future<?> writer: writers) {
+          writer.get(10, TimeUnit.SECONDS);
+        }
+      }
+
+      for (int i = 0; i < numWriters; i++) {
+        Assert.assertNull(partition.get(("key_" + i + "_0").getBytes()));
+        for (int j = 1; j < numKeysPerWriter; j++) {
+          Assert.assertEquals(partition.get(("key_" + i + "_" + j).getBytes()), ("value_" + j).getBytes());
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+      partition.drop();
+      removeDir(storeDir);
+    }
+  }
 }
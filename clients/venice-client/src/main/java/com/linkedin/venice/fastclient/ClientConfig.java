@@ -24,6 +24,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import org.apache.avro.specific.SpecificRecord;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -108,6 +109,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
   private final double storeLoadControllerMaxRejectionRatio;
   private final double storeLoadControllerAcceptMultiplier;
 
+  private final boolean nearCacheEnabled;
+  private final long nearCacheMaxEntryCount;
+  private final long nearCacheTtlInMs;
+
   /**
    * Optional factory for creating custom key serializers (e.g., for Protocol Buffers).
    * If not provided, the default Avro serializer will be used.
@@ -230,6 +235,16 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
         builder.storeLoadControllerRejectionRatioUpdateIntervalInSec;
     this.storeLoadControllerMaxRejectionRatio = builder.storeLoadControllerMaxRejectionRatio;
     this.storeLoadControllerAcceptMultiplier = builder.storeLoadControllerAcceptMultiplier;
+    this.nearCacheEnabled = builder.nearCacheEnabled;
+    this.nearCacheMaxEntryCount = builder.nearCacheMaxEntryCount;
+    this.nearCacheTtlInMs = builder.nearCacheTtlInMs;
+    if (this.nearCacheEnabled && this.nearCacheMaxEntryCount <= 0) {
+      throw new VeniceClientException(
+          "Invalid nearCacheMaxEntryCount value: " + nearCacheMaxEntryCount + ", should be positive");
+    }
+    if (this.nearCacheEnabled && this.nearCacheTtlInMs <= 0) {
+      throw new VeniceClientException("Invalid nearCacheTtlInMs value: " + nearCacheTtlInMs + ", should be positive");
+    }
     this.longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds =
         builder.longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds;
     this.longTailRangeBasedRetryThresholdForComputeInMilliSeconds =
@@ -400,6 +415,21 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     return storeLoadControllerAcceptMultiplier;
   }
 
+  public boolean isNearCacheEnabled() {
+    return nearCacheEnabled;
+  }
+
+  public long getNearCacheMaxEntryCount() {
+    return nearCacheMaxEntryCount;
+  }
+
+  /**
+   * @return how long a value can stay in the near cache
+   */
+  public long getNearCacheTtlInMs() {
+    return nearCacheTtlInMs;
+  }
+
   public String getLongTailRangeBasedRetryThresholdForBatchGetInMilliSeconds() {
     return longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds;
   }
@@ -476,6 +506,10 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
     private double storeLoadControllerMaxRejectionRatio = 0.9;
     private double storeLoadControllerAcceptMultiplier = 2.0;
 
+    private boolean nearCacheEnabled = false;
+    private long nearCacheMaxEntryCount = 100000;
+    private long nearCacheTtlInMs = TimeUnit.MINUTES.toMillis(5);
+
     private SerializerFactory<K> keySerializerFactory = null;
     private DeserializerFactory<V> valueDeserializerFactory = null;
 
@@ -685,6 +719,29 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
       return this;
     }
 
+    /**
+     * Enables a cache of the values of single gets and batch gets on the client side. See
+     * {@link NearCacheAvroGenericStoreClient}.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheEnabled(boolean nearCacheEnabled) {
+      this.nearCacheEnabled = nearCacheEnabled;
+      return this;
+    }
+
+    public ClientConfigBuilder<K, V, T> setNearCacheMaxEntryCount(long nearCacheMaxEntryCount) {
+      this.nearCacheMaxEntryCount = nearCacheMaxEntryCount;
+      return this;
+    }
+
+    /**
+     * Bounds how stale a value served by the near cache can be, for hybrid stores whose values keep changing within a
+     * version. Must be positive when the near cache is enabled.
+     */
+    public ClientConfigBuilder<K, V, T> setNearCacheTtlInMs(long nearCacheTtlInMs) {
+      this.nearCacheTtlInMs = nearCacheTtlInMs;
+      return this;
+    }
+
     public ClientConfigBuilder<K, V, T> setLongTailRangeBasedRetryThresholdForBatchGetInMilliSeconds(
         String longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds) {
       this.longTailRangeBasedRetryThresholdForBatchGetInMilliSeconds =
@@ -767,6 +824,9 @@ public class ClientConfig<K, V, T extends SpecificRecord> {
           .setLongTailRangeBasedRetryThresholdForComputeInMilliSeconds(
               longTailRangeBasedRetryThresholdForComputeInMilliSeconds)
           .setStoreLoadControllerAcceptMultiplier(storeLoadControllerAcceptMultiplier)
+          .setNearCacheEnabled(nearCacheEnabled)
+          .setNearCacheMaxEntryCount(nearCacheMaxEntryCount)
+          .setNearCacheTtlInMs(nearCacheTtlInMs)
           .setKeySerializerFactory(keySerializerFactory)
           .setValueDeserializerFactory(valueDeserializerFactory);
     }
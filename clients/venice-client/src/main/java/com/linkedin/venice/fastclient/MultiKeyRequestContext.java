@@ -72,8 +72,20 @@ public abstract class MultiKeyRequestContext<K, V> extends RequestContext {
   }
 
   public void addKey(String route, K key, byte[] serializedKey, int partitionId) {
+    addKeyToRoute(route, key, serializedKey, partitionId);
+    addRouteForPartition(partitionId, route);
+  }
+
+  /**
+   * Adds a key to the request of a route, without recording the route of its partition, which the caller is expected
+   * to do once per partition with {@link #addRouteForPartition(int, String)}.
+   */
+  public void addKeyToRoute(String route, K key, byte[] serializedKey, int partitionId) {
     Validate.notNull(route);
     routeRequests.computeIfAbsent(route, r -> new RouteRequestContext<>()).addKeyInfo(key, serializedKey, partitionId);
+  }
+
+  public void addRouteForPartition(int partitionId, String route) {
     routesForPartition.computeIfAbsent(partitionId, (k) -> ConcurrentHashMap.newKeySet()).add(route);
   }
 
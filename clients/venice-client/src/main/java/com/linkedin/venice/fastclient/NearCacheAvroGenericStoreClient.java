@@ -0,0 +1,209 @@
+package com.linkedin.venice.fastclient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.client.exceptions.VeniceClientException;
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * This class keeps the values of the hot keys on the client side, so that repeated single gets and batch gets of those
+ * keys do not go over the network.
+ *
+ * The cache is bounded by its number of entries, and only holds the values of one store version: it is dropped as soon
+ * as {@link StoreMetadata} swaps to a new current version, and the responses of any other version are not cached
+ * afterward. On top of that, entries expire {@link ClientConfig#getNearCacheTtlInMs()} after they were cached, which
+ * bounds how stale an entry can get for hybrid stores, whose values keep changing within a version.
+ *
+ * N.B.: The deserialized values are cached, so the same instance is handed to every caller reading the same key, and
+ *       must not be mutated. Keys which are not found are not cached, and compute requests always bypass the cache.
+ */
+public class NearCacheAvroGenericStoreClient<K, V> extends DelegatingAvroStoreClient<K, V> {
+  private final StoreMetadata storeMetadata;
+  private final FastClientStats clientStatsForSingleGet;
+  private final FastClientStats clientStatsForStreamingBatchGet;
+  private final long maxEntryCount;
+  private final long ttlInMs;
+  private volatile VersionCache<K, V> versionCache;
+
+  public NearCacheAvroGenericStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata storeMetadata) {
+    super(delegate, clientConfig);
+    this.storeMetadata = storeMetadata;
+    this.clientStatsForSingleGet = clientConfig.getStats(RequestType.SINGLE_GET);
+    this.clientStatsForStreamingBatchGet = clientConfig.getStats(RequestType.MULTI_GET_STREAMING);
+    this.maxEntryCount = clientConfig.getNearCacheMaxEntryCount();
+    this.ttlInMs = clientConfig.getNearCacheTtlInMs();
+    storeMetadata.registerCurrentVersionChangeListener(this::onCurrentVersionChange);
+  }
+
+  @Override
+  protected CompletableFuture<V> get(GetRequestContext<K> requestContext, K key) throws VeniceClientException {
+    /**
+     * The version is read before the request is sent out, so a response which races with a version swap is either
+     * dropped, or cached with the version it was read from and invalidated right after.
+     */
+    VersionCache<K, V> cache = getCache(storeMetadata.getCurrentStoreVersion());
+    if (cache == null) {
+      return super.get(requestContext, key);
+    }
+    CachedValue<V> cachedValue = cache.entries.getIfPresent(key);
+    if (cachedValue != null) {
+      clientStatsForSingleGet.recordNearCacheHits(1);
+      // The key count is otherwise tracked by the client which dispatches the request
+      requestContext.successRequestKeyCount.incrementAndGet();
+      return CompletableFuture.completedFuture(cachedValue.value);
+    }
+    clientStatsForSingleGet.recordNearCacheMisses(1);
+
+    CompletableFuture<V> future = super.get(requestContext, key);
+    future.whenComplete((fetchedValue, throwable) -> {
+      if (fetchedValue != null) {
+        put(cache, key, fetchedValue, clientStatsForSingleGet);
+      }
+    });
+    return future;
+  }
+
+  @Override
+  protected void streamingBatchGet(
+      BatchGetRequestContext<K, V> requestContext,
+      Set<K> keys,
+      StreamingCallback<K, V> callback) {
+    VersionCache<K, V> cache = getCache(storeMetadata.getCurrentStoreVersion());
+    if (cache == null) {
+      super.streamingBatchGet(requestContext, keys, callback);
+      return;
+    }
+    Map<K, CachedValue<V>> cachedValues = cache.entries.getAllPresent(keys);
+    clientStatsForStreamingBatchGet.recordNearCacheHits(cachedValues.size());
+    clientStatsForStreamingBatchGet.recordNearCacheMisses(keys.size() - cachedValues.size());
+    for (Map.Entry<K, CachedValue<V>> entry: cachedValues.entrySet()) {
+      callback.onRecordReceived(entry.getKey(), entry.getValue().value);
+    }
+    if (cachedValues.size() == keys.size()) {
+      callback.onCompletion(Optional.empty());
+      return;
+    }
+
+    Set<K> missingKeys = new HashSet<>(keys);
+    missingKeys.removeAll(cachedValues.keySet());
+    super.streamingBatchGet(requestContext, missingKeys, new StreamingCallback<K, V>() {
+      @Override
+      public void onRecordReceived(K key, V value) {
+        if (value != null) {
+          put(cache, key, value, clientStatsForStreamingBatchGet);
+        }
+        callback.onRecordReceived(key, value);
+      }
+
+      @Override
+      public void onCompletion(Optional<Exception> exception) {
+        callback.onCompletion(exception);
+      }
+    });
+  }
+
+  @Override
+  public void close() {
+    VersionCache<K, V> cache = versionCache;
+    if (cache != null) {
+      cache.entries.invalidateAll();
+    }
+    super.close();
+  }
+
+  /**
+   * Drops all the cached values, and only accepts values of the new current version from now on.
+   */
+  synchronized void onCurrentVersionChange(int newCurrentVersion) {
+    VersionCache<K, V> previousCache = versionCache;
+    versionCache = new VersionCache<>(newCurrentVersion, buildEntries());
+    if (previousCache != null) {
+      previousCache.entries.invalidateAll();
+    }
+  }
+
+  /**
+   * @return the cache of the given version, or null if the client has already moved on to another version
+   */
+  private VersionCache<K, V> getCache(int version) {
+    VersionCache<K, V> cache = versionCache;
+    if (cache == null || cache.version != version) {
+      /**
+       * The first version served by this client is not announced as a version change, so its cache is created by the
+       * first request.
+       */
+      synchronized (this) {
+        cache = versionCache;
+        if (cache == null) {
+          cache = new VersionCache<>(version, buildEntries());
+          versionCache = cache;
+        } else if (cache.version != version) {
+          return null;
+        }
+      }
+    }
+    return cache;
+  }
+
+  /**
+   * @param cachingStats the stats of the request type which fetched the value, which its eviction is recorded to
+   */
+  private void put(VersionCache<K, V> cache, K key, V value, FastClientStats cachingStats) {
+    if (cache == versionCache) {
+      cache.entries.put(key, new CachedValue<>(value, cachingStats));
+    }
+  }
+
+  private Cache<K, CachedValue<V>> buildEntries() {
+    return Caffeine.newBuilder()
+        .maximumSize(maxEntryCount)
+        .expireAfterWrite(ttlInMs, TimeUnit.MILLISECONDS)
+        .<K, CachedValue<V>>removalListener((key, cachedValue, cause) -> {
+          if (cause.wasEvicted() && cachedValue != null) {
+            cachedValue.cachingStats.recordNearCacheEviction();
+          }
+        })
+        .build();
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  long getEstimatedSize() {
+    VersionCache<K, V> cache = versionCache;
+    return cache == null ? 0 : cache.entries.estimatedSize();
+  }
+
+  private static class VersionCache<K, V> {
+    private final int version;
+    private final Cache<K, CachedValue<V>> entries;
+
+    VersionCache(int version, Cache<K, CachedValue<V>> entries) {
+      this.version = version;
+      this.entries = entries;
+    }
+  }
+
+  private static class CachedValue<V> {
+    private final V value;
+    private final FastClientStats cachingStats;
+
+    CachedValue(V value, FastClientStats cachingStats) {
+      this.value = value;
+      this.cachingStats = cachingStats;
+    }
+  }
+}
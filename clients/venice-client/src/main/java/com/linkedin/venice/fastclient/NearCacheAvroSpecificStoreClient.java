@@ -0,0 +1,16 @@
+package com.linkedin.venice.fastclient;
+
+import com.linkedin.venice.client.store.AvroSpecificStoreClient;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import org.apache.avro.specific.SpecificRecord;
+
+
+public class NearCacheAvroSpecificStoreClient<K, V extends SpecificRecord> extends NearCacheAvroGenericStoreClient<K, V>
+    implements AvroSpecificStoreClient<K, V> {
+  public NearCacheAvroSpecificStoreClient(
+      InternalAvroStoreClient<K, V> delegate,
+      ClientConfig clientConfig,
+      StoreMetadata storeMetadata) {
+    super(delegate, clientConfig, storeMetadata);
+  }
+}
@@ -15,6 +15,8 @@ import com.linkedin.venice.fastclient.DualReadAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.InternalAvroStoreClient;
 import com.linkedin.venice.fastclient.LoadControlledAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.LoadControlledAvroSpecificStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroGenericStoreClient;
+import com.linkedin.venice.fastclient.NearCacheAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroGenericStoreClient;
 import com.linkedin.venice.fastclient.RetriableAvroSpecificStoreClient;
 import com.linkedin.venice.fastclient.StatsAvroGenericStoreClient;
@@ -85,8 +87,13 @@ public class ClientFactory {
       loadControlClient = new LoadControlledAvroGenericStoreClient<>(retryClient, clientConfig);
     }
 
+    InternalAvroStoreClient<K, V> nearCacheClient = loadControlClient;
+    if (clientConfig.isNearCacheEnabled()) {
+      nearCacheClient = new NearCacheAvroGenericStoreClient<>(loadControlClient, clientConfig, storeMetadata);
+    }
+
     StatsAvroGenericStoreClient<K, V> statsStoreClient =
-        new StatsAvroGenericStoreClient<>(loadControlClient, clientConfig);
+        new StatsAvroGenericStoreClient<>(nearCacheClient, clientConfig);
 
     AvroGenericStoreClient<K, V> dualReadClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
@@ -117,8 +124,13 @@ public class ClientFactory {
       loadControlClient = new LoadControlledAvroSpecificStoreClient<>(retryClient, clientConfig);
     }
 
+    InternalAvroStoreClient<K, V> nearCacheClient = loadControlClient;
+    if (clientConfig.isNearCacheEnabled()) {
+      nearCacheClient = new NearCacheAvroSpecificStoreClient<>(loadControlClient, clientConfig, storeMetadata);
+    }
+
     StatsAvroSpecificStoreClient<K, V> statsStoreClient =
-        new StatsAvroSpecificStoreClient<>(loadControlClient, clientConfig);
+        new StatsAvroSpecificStoreClient<>(nearCacheClient, clientConfig);
     AvroSpecificStoreClient<K, V> dualReadClient = statsStoreClient;
     if (clientConfig.isDualReadEnabled()) {
       dualReadClient = new DualReadAvroSpecificStoreClient<>(statsStoreClient, clientConfig);
@@ -19,12 +19,13 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntConsumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -36,6 +37,7 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
   private final InstanceHealthMonitor instanceHealthMonitor;
   protected volatile AbstractClientRoutingStrategy routingStrategy;
   protected final String storeName;
+  private final List<IntConsumer> currentVersionChangeListeners = new CopyOnWriteArrayList<>();
 
   public AbstractStoreMetadata(ClientConfig clientConfig) {
     this.clientConfig = clientConfig;
@@ -88,6 +90,28 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
     return getPartitionId(version, ByteBuffer.wrap(key));
   }
 
+  @Override
+  public void getPartitionIds(int version, byte[][] keys, int[] partitionIds) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(version, keys[i]);
+    }
+  }
+
+  @Override
+  public void registerCurrentVersionChangeListener(IntConsumer listener) {
+    currentVersionChangeListeners.add(listener);
+  }
+
+  protected void notifyCurrentVersionChange(int newCurrentVersion) {
+    for (IntConsumer listener: currentVersionChangeListeners) {
+      try {
+        listener.accept(newCurrentVersion);
+      } catch (Exception e) {
+        LOGGER.error("Current version change listener failed for store: {}", storeName, e);
+      }
+    }
+  }
+
   @Override
   public String getReplica(long requestId, int groupId, int version, int partitionId, Set<String> excludedInstances) {
     List<String> replicas = getReplicas(version, partitionId);
@@ -220,29 +244,48 @@ public abstract class AbstractStoreMetadata implements StoreMetadata {
       MultiKeyRequestContext<K, Object> multiKeyRequestContext = (MultiKeyRequestContext) requestContext;
       Set<K> keys = multiKeyRequestContext.getKeys();
 
-      Map<Integer, String> partitionRouteMap = new HashMap<>();
-      final int currentVersionFinal = currentVersion;
-      for (K key: keys) {
-        byte[] keyBytes = keySerializer.serialize(key);
-        // For each key determine partition
-        int partitionId = getPartitionId(currentVersion, keyBytes);
-        // Find routes for each partition
-        String route = partitionRouteMap.computeIfAbsent(
-            partitionId,
-            (ignored) -> getReplica(
-                requestContext.getRequestId(),
-                groupId,
-                currentVersionFinal,
-                partitionId,
-                multiKeyRequestContext.getRoutesForPartitionMapping()
-                    .getOrDefault(Integer.valueOf(partitionId), Collections.emptySet())));
-        if (route == null) {
-          /* If a partition doesn't have an available route then there is something wrong about or metadata and this is
-           * an error */
-          multiKeyRequestContext.addNonAvailableReplicaPartition(partitionId);
-          continue;
+      List<K> keyList = new ArrayList<>(keys);
+      byte[][] keyBytesArray = new byte[keyList.size()][];
+      for (int i = 0; i < keyBytesArray.length; i++) {
+        keyBytesArray[i] = keySerializer.serialize(keyList.get(i));
+      }
+      // Determine the partition of all the keys at once
+      int[] partitionIds = new int[keyBytesArray.length];
+      getPartitionIds(currentVersion, keyBytesArray, partitionIds);
+      int maxPartitionId = -1;
+      for (int partitionId: partitionIds) {
+        maxPartitionId = Math.max(maxPartitionId, partitionId);
+      }
+      /**
+       * The route of each partition is only looked up once, by the first of its keys, and kept in arrays indexed by
+       * partition id, so that the keys sharing a partition neither box its id nor allocate anything else.
+       */
+      String[] partitionRoutes = new String[maxPartitionId + 1];
+      boolean[] isPartitionRouted = new boolean[maxPartitionId + 1];
+      Map<Integer, Set<String>> routesForPartitionMapping = multiKeyRequestContext.getRoutesForPartitionMapping();
+      for (int i = 0; i < keyBytesArray.length; i++) {
+        int partitionId = partitionIds[i];
+        if (!isPartitionRouted[partitionId]) {
+          isPartitionRouted[partitionId] = true;
+          String route = getReplica(
+              requestContext.getRequestId(),
+              groupId,
+              currentVersion,
+              partitionId,
+              routesForPartitionMapping.getOrDefault(partitionId, Collections.emptySet()));
+          if (route == null) {
+            /* If a partition doesn't have an available route then there is something wrong about or metadata and this
+             * is an error */
+            multiKeyRequestContext.addNonAvailableReplicaPartition(partitionId);
+          } else {
+            partitionRoutes[partitionId] = route;
+            multiKeyRequestContext.addRouteForPartition(partitionId, route);
+          }
+        }
+        String route = partitionRoutes[partitionId];
+        if (route != null) {
+          multiKeyRequestContext.addKeyToRoute(route, keyList.get(i), keyBytesArray[i], partitionId);
         }
-        multiKeyRequestContext.addKey(route, key, keyBytes, partitionId);
       }
       multiKeyRequestContext.setFanoutSize(multiKeyRequestContext.getRoutes().size());
       return;
@@ -39,6 +39,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -57,6 +58,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
 import org.apache.avro.Schema;
 import org.apache.http.HttpStatus;
@@ -69,7 +71,6 @@ import org.apache.logging.log4j.Logger;
  */
 public class RequestBasedMetadata extends AbstractStoreMetadata {
   private static final Logger LOGGER = LogManager.getLogger(RequestBasedMetadata.class);
-  private static final String VERSION_PARTITION_SEPARATOR = "_";
 
   public static final long DEFAULT_REFRESH_INTERVAL_IN_SECONDS = 60;
   private static final long ZSTD_DICT_FETCH_TIMEOUT_IN_SECONDS = 10;
@@ -94,10 +95,12 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
   private final AtomicInteger currentVersion = new AtomicInteger(-1);
   private final AtomicInteger latestSuperSetValueSchemaId = new AtomicInteger();
   private final AtomicReference<SchemaData> schemas = new AtomicReference<>();
-  private final Map<String, List<String>> readyToServeInstancesMap = new VeniceConcurrentHashMap<>();
+  /**
+   * The routing tables of all the active versions. Each of them is immutable, and the array is replaced as a whole by
+   * {@link #updateCache(boolean)}, so that the lookups of the read path take no lock and allocate nothing.
+   */
+  private volatile VersionRouting[] versionRoutings = new VersionRouting[0];
   private Map<String, CompletableFuture> warmUpInstancesFutures = new VeniceConcurrentHashMap<>();
-  private final Map<Integer, VenicePartitioner> versionPartitionerMap = new VeniceConcurrentHashMap<>();
-  private final Map<Integer, Integer> versionPartitionCountMap = new VeniceConcurrentHashMap<>();
   private final Map<Integer, ByteBuffer> versionZstdDictionaryMap = new VeniceConcurrentHashMap<>();
   private final Map<String, Integer> helixGroupInfo = new VeniceConcurrentHashMap<>();
   private final CompressorFactory compressorFactory;
@@ -165,31 +168,43 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
 
   @Override
   public int getPartitionId(int version, ByteBuffer key) {
-    VenicePartitioner partitioner = versionPartitionerMap.get(version);
-    if (partitioner == null) {
-      throw new VeniceClientException("Unknown version number: " + version + " for store: " + storeName);
-    }
-    return partitioner.getPartitionId(key, versionPartitionCountMap.get(version));
+    VersionRouting routing = getVersionRoutingOrThrow(version);
+    return routing.partitioner.getPartitionId(key, routing.partitionCount);
   }
 
   @Override
-  public List<String> getReplicas(int version, int partitionId) {
-    String key = getVersionPartitionMapKey(version, partitionId);
-    return Collections.unmodifiableList(readyToServeInstancesMap.getOrDefault(key, Collections.emptyList()));
+  public void getPartitionIds(int version, byte[][] keys, int[] partitionIds) {
+    VersionRouting routing = getVersionRoutingOrThrow(version);
+    routing.partitioner.getPartitionIds(keys, partitionIds, routing.partitionCount);
   }
 
-  private String getVersionPartitionMapKey(int version, int partition) {
-    return version + VERSION_PARTITION_SEPARATOR + partition;
+  @Override
+  public List<String> getReplicas(int version, int partitionId) {
+    VersionRouting routing = getVersionRouting(version);
+    if (routing == null || partitionId < 0 || partitionId >= routing.partitionCount) {
+      return Collections.emptyList();
+    }
+    return routing.replicas[partitionId];
   }
 
   /**
-   * Given a version partitioner key formatted as "1_0" which represents partition 0 of version 1, return the version
-   * number.
-   * @param key
-   * @return version number
+   * There are only a handful of active versions, so a linear scan is cheaper than a map lookup, and needs no boxing.
    */
-  private int getVersionFromKey(String key) {
-    return Integer.parseInt(key.split(VERSION_PARTITION_SEPARATOR)[0]);
+  private VersionRouting getVersionRouting(int version) {
+    for (VersionRouting routing: versionRoutings) {
+      if (routing.version == version) {
+        return routing;
+      }
+    }
+    return null;
+  }
+
+  private VersionRouting getVersionRoutingOrThrow(int version) {
+    VersionRouting routing = getVersionRouting(version);
+    if (routing == null) {
+      throw new VeniceClientException("Unknown version number: " + version + " for store: " + storeName);
+    }
+    return routing;
   }
 
   @Override
@@ -405,16 +420,13 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
         dictionaryFetchFuture = fetchCompressionDictionary(fetchedCurrentVersion);
       }
 
-      // Update partitioner pair map (versionPartitionerMap)
       int partitionCount = versionMetadata.getPartitionCount();
       Properties params = new Properties();
       params.putAll(versionMetadata.getPartitionerParams());
       VenicePartitioner partitioner = PartitionUtils
           .getVenicePartitioner(versionMetadata.getPartitionerClass().toString(), new VeniceProperties(params));
-      versionPartitionerMap.put(fetchedCurrentVersion, partitioner);
-      versionPartitionCountMap.put(fetchedCurrentVersion, partitionCount);
 
-      // Update readyToServeInstanceMap
+      // Update the routing table of the fetched version
       Map<Integer, List<String>> routingInfo = metadataResponse.getRoutingInfo()
           .entrySet()
           .stream()
@@ -423,13 +435,22 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
                   e -> Integer.valueOf(e.getKey().toString()),
                   e -> e.getValue().stream().map(CharSequence::toString).collect(Collectors.toList())));
 
+      VersionRouting previousRouting = getVersionRouting(fetchedCurrentVersion);
+      List<String>[] replicasByPartition = new List[partitionCount];
       for (int partitionId = 0; partitionId < partitionCount; partitionId++) {
-        String key = getVersionPartitionMapKey(fetchedCurrentVersion, partitionId);
         List<String> replicas = routingInfo.get(partitionId);
-        if (!replicas.isEmpty()) {
-          readyToServeInstancesMap.put(key, replicas);
+        if (replicas != null && !replicas.isEmpty()) {
+          replicasByPartition[partitionId] = Collections.unmodifiableList(replicas);
+        } else if (previousRouting != null && partitionId < previousRouting.partitionCount) {
+          // Keep the last known replicas of the partition
+          replicasByPartition[partitionId] = previousRouting.replicas[partitionId];
+        } else {
+          replicasByPartition[partitionId] = Collections.emptyList();
         }
       }
+      VersionRouting fetchedRouting =
+          new VersionRouting(fetchedCurrentVersion, partitioner, partitionCount, replicasByPartition);
+      versionRoutings = retainVersionRoutings(version -> version != fetchedCurrentVersion, fetchedRouting);
 
       // Update schemas
       Map.Entry<CharSequence, CharSequence> lastEntry = null;
@@ -476,10 +497,7 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
 
       // Evict entries from inactive versions
       Set<Integer> activeVersions = new HashSet<>(metadataResponse.getVersions());
-      readyToServeInstancesMap.entrySet()
-          .removeIf(entry -> !activeVersions.contains(getVersionFromKey(entry.getKey())));
-      versionPartitionerMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
-      versionPartitionCountMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
+      versionRoutings = retainVersionRoutings(activeVersions::contains, null);
       versionZstdDictionaryMap.entrySet().removeIf(entry -> !activeVersions.contains(entry.getKey()));
       if (whetherToSwitchToFetchedCurrentVersion(
           storeName,
@@ -498,6 +516,7 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
         currentVersion.set(fetchedCurrentVersion);
         clusterStats.updateCurrentVersion(fetchedCurrentVersion);
         fetchedCurrentVersionPartitionResourceInCompletionRetries.set(0);
+        notifyCurrentVersionChange(fetchedCurrentVersion);
       } else {
         if (currentVersion.get() != fetchedCurrentVersion) {
           int retries = fetchedCurrentVersionPartitionResourceInCompletionRetries.incrementAndGet();
@@ -544,6 +563,22 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     }
   }
 
+  /**
+   * @return a copy of the routing tables of the versions matching the filter, plus the given routing table if any
+   */
+  private VersionRouting[] retainVersionRoutings(IntPredicate versionFilter, VersionRouting addedRouting) {
+    List<VersionRouting> retainedRoutings = new ArrayList<>(versionRoutings.length + 1);
+    for (VersionRouting routing: versionRoutings) {
+      if (versionFilter.test(routing.version)) {
+        retainedRoutings.add(routing);
+      }
+    }
+    if (addedRouting != null) {
+      retainedRoutings.add(addedRouting);
+    }
+    return retainedRoutings.toArray(new VersionRouting[0]);
+  }
+
   public static boolean whetherToSwitchToFetchedCurrentVersion(
       String storeName,
       Set<Integer> activeVersions,
@@ -674,8 +709,7 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
     }
-    readyToServeInstancesMap.clear();
-    versionPartitionerMap.clear();
+    versionRoutings = new VersionRouting[0];
     Utils.closeQuietlyWithErrorLogged(metadataResponseSchemaReader);
     Utils.closeQuietlyWithErrorLogged(compressorFactory);
   }
@@ -725,6 +759,24 @@ public class RequestBasedMetadata extends AbstractStoreMetadata {
     return getCompressor(compressionStrategy, version, compressorFactory, versionZstdDictionaryMap);
   }
 
+  /**
+   * The immutable routing table of a version: the partitioner, and the ready-to-serve replicas of each partition,
+   * indexed by partition id.
+   */
+  private static final class VersionRouting {
+    private final int version;
+    private final VenicePartitioner partitioner;
+    private final int partitionCount;
+    private final List<String>[] replicas;
+
+    VersionRouting(int version, VenicePartitioner partitioner, int partitionCount, List<String>[] replicas) {
+      this.version = version;
+      this.partitioner = partitioner;
+      this.partitionCount = partitionCount;
+      this.replicas = replicas;
+    }
+  }
+
   @Override
   public Schema getKeySchema() {
     return schemas.get().getKeySchema().getSchema();
@@ -11,6 +11,7 @@ import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
 
 
 /**
@@ -29,6 +30,17 @@ public interface StoreMetadata extends SchemaReader {
 
   int getPartitionId(int version, byte[] key);
 
+  /**
+   * Batch variant of {@link #getPartitionId(int, byte[])}, which fills {@param partitionIds} with the partition of each
+   * key, at the same index.
+   */
+  void getPartitionIds(int version, byte[][] keys, int[] partitionIds);
+
+  /**
+   * Registers a listener, which is called with the new current version every time the store swaps to a new one.
+   */
+  void registerCurrentVersionChangeListener(IntConsumer listener);
+
   List<String> getReplicas(int version, int partitionId);
 
   /**
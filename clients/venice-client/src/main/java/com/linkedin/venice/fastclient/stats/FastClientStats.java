@@ -49,6 +49,9 @@ public class FastClientStats extends ClientStats {
   private final Sensor dualReadThinClientFastClientLatencyDeltaSensor;
 
   private final Sensor leakedRequestCountSensor;
+  private final Sensor nearCacheHitCountSensor;
+  private final Sensor nearCacheMissCountSensor;
+  private final Sensor nearCacheEvictionCountSensor;
   private final MetricEntityStateOneEnum<RejectionReason> rejectionRatio;
 
   // OTel metrics
@@ -112,6 +115,9 @@ public class FastClientStats extends ClientStats {
     this.dualReadThinClientFastClientLatencyDeltaSensor =
         registerSensorWithDetailedPercentiles("dual_read_thinclient_fastclient_latency_delta", new Max(), new Avg());
     this.leakedRequestCountSensor = registerSensor("leaked_request_count", new OccurrenceRate());
+    this.nearCacheHitCountSensor = registerSensor("near_cache_hit_count", new Rate());
+    this.nearCacheMissCountSensor = registerSensor("near_cache_miss_count", new Rate());
+    this.nearCacheEvictionCountSensor = registerSensor("near_cache_eviction_count", new OccurrenceRate());
 
     this.rejectionRatio = MetricEntityStateOneEnum.create(
         FastClientMetricEntity.REQUEST_REJECTION_RATIO.getMetricEntity(),
@@ -234,6 +240,18 @@ public class FastClientStats extends ClientStats {
     retryFanoutSize.record(size, RequestFanoutType.RETRY);
   }
 
+  public void recordNearCacheHits(int keyCount) {
+    nearCacheHitCountSensor.record(keyCount);
+  }
+
+  public void recordNearCacheMisses(int keyCount) {
+    nearCacheMissCountSensor.record(keyCount);
+  }
+
+  public void recordNearCacheEviction() {
+    nearCacheEvictionCountSensor.record();
+  }
+
   public void recordRejectedRequestByLoadController() {
     rejectedRequestCountByLoadController.record(1, RejectionReason.THROTTLED_BY_LOAD_CONTROLLER);
   }
@@ -66,6 +66,20 @@ public class ClientConfigTest {
     clientConfigBuilder.build();
   }
 
+  @Test(expectedExceptions = VeniceClientException.class, expectedExceptionsMessageRegExp = "Invalid nearCacheTtlInMs value: 0.*")
+  public void testClientWithNearCacheWithoutTtl() {
+    ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
+    clientConfigBuilder.setNearCacheEnabled(true);
+    clientConfigBuilder.setNearCacheTtlInMs(0);
+    clientConfigBuilder.build();
+  }
+
+  @Test
+  public void testDefaultNearCacheTtl() {
+    ClientConfig clientConfig = getClientConfigWithMinimumRequiredInputs().setNearCacheEnabled(true).build();
+    assertTrue(clientConfig.getNearCacheTtlInMs() > 0);
+  }
+
   @Test
   public void testLongTailRetryWithDualRead() {
     ClientConfig.ClientConfigBuilder clientConfigBuilder = getClientConfigWithMinimumRequiredInputs();
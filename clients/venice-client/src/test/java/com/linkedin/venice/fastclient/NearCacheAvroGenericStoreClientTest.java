@@ -0,0 +1,136 @@
+package com.linkedin.venice.fastclient;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+
+import com.linkedin.venice.client.store.streaming.StreamingCallback;
+import com.linkedin.venice.fastclient.meta.StoreMetadata;
+import com.linkedin.venice.fastclient.stats.FastClientStats;
+import com.linkedin.venice.read.RequestType;
+import com.linkedin.venice.utils.Utils;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class NearCacheAvroGenericStoreClientTest {
+  private InternalAvroStoreClient<String, String> innerClient;
+  private StoreMetadata storeMetadata;
+  private FastClientStats stats;
+  private FastClientStats batchGetStats;
+  private NearCacheAvroGenericStoreClient<String, String> client;
+
+  @BeforeMethod
+  public void setUp() {
+    innerClient = mock(DispatchingAvroGenericStoreClient.class);
+    storeMetadata = mock(StoreMetadata.class);
+    doReturn(1).when(storeMetadata).getCurrentStoreVersion();
+    stats = mock(FastClientStats.class);
+    ClientConfig clientConfig = mock(ClientConfig.class);
+    doReturn(stats).when(clientConfig).getStats(RequestType.SINGLE_GET);
+    batchGetStats = mock(FastClientStats.class);
+    doReturn(batchGetStats).when(clientConfig).getStats(RequestType.MULTI_GET_STREAMING);
+    doReturn(100L).when(clientConfig).getNearCacheMaxEntryCount();
+    doReturn(60000L).when(clientConfig).getNearCacheTtlInMs();
+    client = new NearCacheAvroGenericStoreClient<>(innerClient, clientConfig, storeMetadata);
+    verify(storeMetadata).registerCurrentVersionChangeListener(any());
+
+    doAnswer(invocation -> CompletableFuture.completedFuture("value_of_" + invocation.getArgument(1)))
+        .when(innerClient)
+        .get(any(GetRequestContext.class), any());
+    doAnswer(invocation -> {
+      Set<String> keys = invocation.getArgument(1);
+      StreamingCallback<String, String> callback = invocation.getArgument(2);
+      keys.forEach(key -> callback.onRecordReceived(key, "value_of_" + key));
+      callback.onCompletion(Optional.empty());
+      return null;
+    }).when(innerClient).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+  }
+
+  @Test
+  public void testSingleGetIsServedFromCache() throws Exception {
+    assertEquals(client.get("key").get(), "value_of_key");
+    assertEquals(client.get("key").get(), "value_of_key");
+    verify(innerClient, times(1)).get(any(GetRequestContext.class), eq("key"));
+    verify(stats).recordNearCacheHits(1);
+    verify(stats).recordNearCacheMisses(1);
+  }
+
+  @Test
+  public void testSingleGetHitCountsAsSuccessfulKey() throws Exception {
+    client.get("key").get();
+    GetRequestContext<String> requestContext = new GetRequestContext<>();
+    assertEquals(client.get(requestContext, "key").get(), "value_of_key");
+    assertEquals(requestContext.successRequestKeyCount.get(), 1);
+  }
+
+  @Test
+  public void testMissingKeysAreNotCached() throws Exception {
+    doReturn(CompletableFuture.completedFuture(null)).when(innerClient).get(any(GetRequestContext.class), any());
+    assertEquals(client.get("missing_key").get(), null);
+    assertEquals(client.get("missing_key").get(), null);
+    verify(innerClient, times(2)).get(any(GetRequestContext.class), eq("missing_key"));
+    assertEquals(client.getEstimatedSize(), 0);
+  }
+
+  @Test
+  public void testCacheIsDroppedOnCurrentVersionChange() throws Exception {
+    client.get("key").get();
+    assertEquals(client.getEstimatedSize(), 1);
+
+    client.onCurrentVersionChange(2);
+    assertEquals(client.getEstimatedSize(), 0);
+
+    // A request which still sees the previous version bypasses the cache
+    client.get("key").get();
+    assertEquals(client.getEstimatedSize(), 0);
+
+    doReturn(2).when(storeMetadata).getCurrentStoreVersion();
+    client.get("key").get();
+    client.get("key").get();
+    assertEquals(client.getEstimatedSize(), 1);
+    verify(innerClient, times(3)).get(any(GetRequestContext.class), eq("key"));
+  }
+
+  @Test
+  public void testResponseOfPreviousVersionIsNotCached() throws Exception {
+    CompletableFuture<String> inFlightResponse = new CompletableFuture<>();
+    doReturn(inFlightResponse).when(innerClient).get(any(GetRequestContext.class), any());
+    CompletableFuture<String> future = client.get("key");
+
+    client.onCurrentVersionChange(2);
+    inFlightResponse.complete("stale_value");
+    assertEquals(future.get(), "stale_value");
+    assertEquals(client.getEstimatedSize(), 0);
+  }
+
+  @Test
+  public void testBatchGetOnlyFetchesMissingKeys() throws Exception {
+    client.get("key_1").get();
+
+    Map<String, String> result = client.batchGet(Utils.setOf("key_1", "key_2")).get();
+    assertEquals(result.size(), 2);
+    assertEquals(result.get("key_1"), "value_of_key_1");
+    assertEquals(result.get("key_2"), "value_of_key_2");
+    verify(innerClient).streamingBatchGet(any(BatchGetRequestContext.class), eq(Collections.singleton("key_2")), any());
+    verify(stats).recordNearCacheMisses(1);
+    verify(batchGetStats).recordNearCacheMisses(1);
+    verify(batchGetStats).recordNearCacheHits(1);
+
+    // All the keys are cached by now, so no request goes out
+    result = client.batchGet(Utils.setOf("key_1", "key_2")).get();
+    assertEquals(result.size(), 2);
+    verify(innerClient, times(1)).streamingBatchGet(any(BatchGetRequestContext.class), any(), any());
+    verify(batchGetStats).recordNearCacheHits(2);
+  }
+}
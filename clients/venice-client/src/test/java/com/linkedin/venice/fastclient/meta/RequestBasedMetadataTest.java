@@ -328,6 +328,9 @@ public class RequestBasedMetadataTest {
       assertEquals(
           requestBasedMetadata.getReplicas(CURRENT_VERSION, 1),
           Collections.singletonList(RequestBasedMetadataTestUtils.REPLICA2_NAME));
+      // Unknown partitions and versions have no replicas
+      assertTrue(requestBasedMetadata.getReplicas(CURRENT_VERSION, 100).isEmpty());
+      assertTrue(requestBasedMetadata.getReplicas(CURRENT_VERSION + 100, 0).isEmpty());
       assertEquals(requestBasedMetadata.getKeySchema().toString(), KEY_SCHEMA);
       assertEquals(requestBasedMetadata.getValueSchema(1).toString(), VALUE_SCHEMA);
       assertEquals(requestBasedMetadata.getLatestValueSchemaId(), Integer.valueOf(1));
@@ -35,11 +35,16 @@ import com.linkedin.venice.writer.update.UpdateBuilderImpl;
 import io.tehuti.metrics.MetricsRepository;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericContainer;
@@ -304,16 +309,7 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
         try {
           byte[] keyBytes = getKeyBytes(key, serializedKeyBytes);
           Schema valueSchema = getSchemaFromObject(value);
-          int valueSchemaId;
-          try {
-            valueSchemaId = schemaReader.getValueSchemaId(valueSchema);
-          } catch (Exception e) {
-            throw new VeniceException(
-                "Could not find a registered schema id for schema: " + valueSchema
-                    + ". This might be transient if the schema has been registered recently.",
-                e);
-          }
-
+          int valueSchemaId = getValueSchemaId(valueSchema);
           byte[] valueBytes = getSerializer(valueSchema).serialize(value);
           long preprocessEndNanos = System.nanoTime();
           producerMetrics.recordPreprocessingLatency(convertNSToMS(preprocessEndNanos - preprocessStartNanos));
@@ -437,27 +433,8 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
         try {
           byte[] keyBytes = getKeyBytes(key, serializedKeyBytes);
           // Caching to avoid race conditions during processing of the function
-          DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
-
-          if (updateSchemaEntry == null) {
-            throw new VeniceException(
-                "Update schema not found. Check if partial update is enabled for the store. This error"
-                    + " might also be transient if partial update has been enabled recently.");
-          }
-
-          Schema updateSchema = updateSchemaEntry.getSchema();
-
-          if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
-              || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
-            throw new VeniceException(
-                "Could not find a registered schema id for schema: " + updateSchema
-                    + ". This might be transient if the schema has been registered recently.");
-          }
-
-          UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
-          updateFunction.accept(updateBuilder);
-          GenericRecord updateRecord = updateBuilder.build();
-          byte[] updateBytes = getSerializer(updateSchema).serialize(updateRecord);
+          DerivedSchemaEntry updateSchemaEntry = getLatestUpdateSchema();
+          byte[] updateBytes = serializeUpdate(updateSchemaEntry, updateFunction);
 
           long preprocessEndNanos = System.nanoTime();
           producerMetrics.recordPreprocessingLatency(convertNSToMS(preprocessEndNanos - preprocessStartNanos));
@@ -484,6 +461,283 @@ public abstract class AbstractVeniceProducer<K, V> implements VeniceProducer<K,
     return durableWriteFuture;
   }
 
+  @Override
+  public CompletableFuture<DurableWrite> asyncPutAll(Map<K, V> records) {
+    ProducerBatch<K, V> batch = new ProducerBatch<>(records.size());
+    records.forEach(batch::put);
+    return asyncWrite(batch);
+  }
+
+  @Override
+  public CompletableFuture<DurableWrite> asyncPutAll(long logicalTime, Map<K, V> records) {
+    if (logicalTime < 0) {
+      return getFutureCompletedExceptionally("Logical time must be a non-negative value. Got: " + logicalTime);
+    }
+
+    ProducerBatch<K, V> batch = new ProducerBatch<>(records.size());
+    records.forEach((key, value) -> batch.put(logicalTime, key, value));
+    return asyncWrite(batch);
+  }
+
+  /**
+   * Unlike the single record APIs, which serialize the key and submit a task for every record, this serializes and
+   * partitions all the keys at once, and submits one task per partition, which writes the records of that partition
+   * back to back to the {@link VeniceWriter}. All the records share one {@link BatchProducerCallback}, which completes
+   * the future of the batch once the last record is acknowledged.
+   *
+   * Since the records of a partition are written by the same worker as the single record APIs, in the order of the
+   * batch, the per-key ordering guarantees are the same.
+   */
+  @Override
+  public CompletableFuture<DurableWrite> asyncWrite(ProducerBatch<K, V> batch) {
+    String error = validateProducer();
+    if (!StringUtils.isEmpty(error)) {
+      return getFutureCompletedExceptionally(error);
+    }
+    List<ProducerBatch.Operation<K, V>> operations = batch.getOperations();
+    int recordCount = operations.size();
+    if (recordCount == 0) {
+      return CompletableFuture.completedFuture(DURABLE_WRITE);
+    }
+
+    for (ProducerBatch.Operation<K, V> operation: operations) {
+      recordRequest(operation.type);
+    }
+    // Capture submission time at method entry for consistent end-to-end latency measurement
+    long submissionTimeNanos = System.nanoTime();
+    CompletableFuture<DurableWrite> durableWriteFuture = new CompletableFuture<>();
+    BatchProducerCallback callback = new BatchProducerCallback(durableWriteFuture, recordCount, submissionTimeNanos);
+
+    if (!needsPartitionRouting) {
+      int[] recordIndexes = new int[recordCount];
+      for (int i = 0; i < recordCount; i++) {
+        recordIndexes[i] = i;
+      }
+      submitBatch(0, operations, null, recordIndexes, 0, recordCount, callback);
+      return durableWriteFuture;
+    }
+
+    byte[][] serializedKeys = new byte[recordCount][];
+    try {
+      for (int i = 0; i < recordCount; i++) {
+        serializedKeys[i] = keySerializer.serialize(operations.get(i).key);
+      }
+    } catch (Exception e) {
+      callback.onRecordsFailed(recordCount, new VeniceException("Key serialization failed", e));
+      return durableWriteFuture;
+    }
+    int[] partitionIds = new int[recordCount];
+    partitioner.getPartitionIds(serializedKeys, partitionIds, partitionCount);
+
+    /**
+     * Counting sort of the record indexes by partition, which keeps the order of the batch within each partition:
+     * the records of partition p end up in recordIndexes[partitionOffsets[p], partitionOffsets[p + 1]).
+     */
+    int[] partitionOffsets = new int[partitionCount + 1];
+    for (int partitionId: partitionIds) {
+      partitionOffsets[partitionId + 1]++;
+    }
+    for (int p = 0; p < partitionCount; p++) {
+      partitionOffsets[p + 1] += partitionOffsets[p];
+    }
+    int[] recordIndexes = new int[recordCount];
+    int[] nextPositions = Arrays.copyOf(partitionOffsets, partitionCount);
+    for (int i = 0; i < recordCount; i++) {
+      recordIndexes[nextPositions[partitionIds[i]]++] = i;
+    }
+
+    for (int p = 0; p < partitionCount; p++) {
+      if (partitionOffsets[p] < partitionOffsets[p + 1]) {
+        submitBatch(
+            p,
+            operations,
+            serializedKeys,
+            recordIndexes,
+            partitionOffsets[p],
+            partitionOffsets[p + 1],
+            callback);
+      }
+    }
+    return durableWriteFuture;
+  }
+
+  private void recordRequest(ProducerBatch.OperationType type) {
+    switch (type) {
+      case PUT:
+        producerMetrics.recordPutRequest();
+        break;
+      case DELETE:
+        producerMetrics.recordDeleteRequest();
+        break;
+      case UPDATE:
+        producerMetrics.recordUpdateRequest();
+        break;
+      default:
+        throw new VeniceException("Unknown operation type: " + type);
+    }
+  }
+
+  /**
+   * Submits the records recordIndexes[from, to) of a batch, which all belong to the given partition, as one task.
+   *
+   * @param serializedKeys the serialized keys of the batch, or null if they are serialized by the task
+   */
+  private void submitBatch(
+      int partition,
+      List<ProducerBatch.Operation<K, V>> operations,
+      byte[][] serializedKeys,
+      int[] recordIndexes,
+      int from,
+      int to,
+      BatchProducerCallback callback) {
+    try {
+      asyncDispatcher.submit(partition, () -> {
+        long preprocessStartNanos = System.nanoTime();
+        producerMetrics.recordQueueWaitLatency(convertNSToMS(preprocessStartNanos - callback.submissionTimeNanos));
+        // Schema lookups are shared by all the records of the task
+        Map<Schema, Integer> valueSchemaIds = new IdentityHashMap<>();
+        DerivedSchemaEntry updateSchemaEntry = null;
+        for (int i = from; i < to; i++) {
+          int recordIndex = recordIndexes[i];
+          ProducerBatch.Operation<K, V> operation = operations.get(recordIndex);
+          try {
+            byte[] keyBytes = getKeyBytes(operation.key, serializedKeys == null ? null : serializedKeys[recordIndex]);
+            switch (operation.type) {
+              case PUT:
+                Schema valueSchema = getSchemaFromObject(operation.value);
+                Integer valueSchemaId = valueSchemaIds.get(valueSchema);
+                if (valueSchemaId == null) {
+                  valueSchemaId = getValueSchemaId(valueSchema);
+                  valueSchemaIds.put(valueSchema, valueSchemaId);
+                }
+                byte[] valueBytes = getSerializer(valueSchema).serialize(operation.value);
+                veniceWriter.put(keyBytes, valueBytes, valueSchemaId, operation.logicalTime, callback);
+                break;
+              case DELETE:
+                veniceWriter.delete(keyBytes, operation.logicalTime, callback);
+                break;
+              case UPDATE:
+                if (updateSchemaEntry == null) {
+                  updateSchemaEntry = getLatestUpdateSchema();
+                }
+                byte[] updateBytes = serializeUpdate(updateSchemaEntry, operation.updateFunction);
+                veniceWriter.update(
+                    keyBytes,
+                    updateBytes,
+                    updateSchemaEntry.getValueSchemaID(),
+                    updateSchemaEntry.getId(),
+                    callback,
+                    operation.logicalTime);
+                break;
+              default:
+                throw new VeniceException("Unknown operation type: " + operation.type);
+            }
+          } catch (Exception e) {
+            callback.onRecordsFailed(1, e);
+          }
+        }
+        producerMetrics.recordPreprocessingLatency(getElapsedTimeFromNSToMS(preprocessStartNanos));
+        producerMetrics.recordCallerToPubSubBufferLatency(getElapsedTimeFromNSToMS(callback.submissionTimeNanos));
+      });
+    } catch (RejectedExecutionException e) {
+      callback.onRecordsFailed(to - from, e);
+    }
+  }
+
+  private int getValueSchemaId(Schema valueSchema) {
+    try {
+      return schemaReader.getValueSchemaId(valueSchema);
+    } catch (Exception e) {
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + valueSchema
+              + ". This might be transient if the schema has been registered recently.",
+          e);
+    }
+  }
+
+  private DerivedSchemaEntry getLatestUpdateSchema() {
+    DerivedSchemaEntry updateSchemaEntry = schemaReader.getLatestUpdateSchema();
+
+    if (updateSchemaEntry == null) {
+      throw new VeniceException(
+          "Update schema not found. Check if partial update is enabled for the store. This error"
+              + " might also be transient if partial update has been enabled recently.");
+    }
+
+    if (updateSchemaEntry.getValueSchemaID() == SchemaData.INVALID_VALUE_SCHEMA_ID
+        || updateSchemaEntry.getId() == SchemaData.INVALID_VALUE_SCHEMA_ID) {
+      throw new VeniceException(
+          "Could not find a registered schema id for schema: " + updateSchemaEntry.getSchema()
+              + ". This might be transient if the schema has been registered recently.");
+    }
+    return updateSchemaEntry;
+  }
+
+  private byte[] serializeUpdate(DerivedSchemaEntry updateSchemaEntry, Consumer<UpdateBuilder> updateFunction) {
+    Schema updateSchema = updateSchemaEntry.getSchema();
+    UpdateBuilder updateBuilder = new UpdateBuilderImpl(updateSchema);
+    updateFunction.accept(updateBuilder);
+    GenericRecord updateRecord = updateBuilder.build();
+    return getSerializer(updateSchema).serialize(updateRecord);
+  }
+
+  /**
+   * The PubSub callback shared by all the records of a batch. It completes the future of the batch once all the records
+   * are acknowledged, or fails it on the first failure.
+   */
+  private class BatchProducerCallback implements PubSubProducerCallback {
+    private final CompletableFuture<DurableWrite> durableWriteFuture;
+    private final AtomicInteger pendingRecordCount;
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final long submissionTimeNanos;
+
+    BatchProducerCallback(
+        CompletableFuture<DurableWrite> durableWriteFuture,
+        int recordCount,
+        long submissionTimeNanos) {
+      this.durableWriteFuture = durableWriteFuture;
+      this.pendingRecordCount = new AtomicInteger(recordCount);
+      this.submissionTimeNanos = submissionTimeNanos;
+    }
+
+    @Override
+    public void onCompletion(PubSubProduceResult produceResult, Exception exception) {
+      if (exception != null) {
+        onRecordsFailed(1, new VeniceException("Failed to write the record to the PubSub system", exception));
+        return;
+      }
+      // The records of a batch are not timed individually, so the latency is measured from the submission of the batch
+      producerMetrics.recordSuccessfulRequestWithLatency(getElapsedTimeFromNSToMS(submissionTimeNanos));
+      if (pendingRecordCount.decrementAndGet() == 0 && !failed.get()) {
+        complete(() -> {
+          durableWriteFuture.complete(DURABLE_WRITE);
+          producerMetrics.recordEndToEndLatency(getElapsedTimeFromNSToMS(submissionTimeNanos));
+        });
+      }
+    }
+
+    void onRecordsFailed(int recordCount, Exception exception) {
+      for (int i = 0; i < recordCount; i++) {
+        producerMetrics.recordFailedRequest();
+      }
+      pendingRecordCount.addAndGet(-recordCount);
+      if (failed.compareAndSet(false, true)) {
+        complete(
+            () -> durableWriteFuture.completeExceptionally(
+                new VeniceException("Batch write operation failed: " + exception.getMessage(), exception)));
+      }
+    }
+
+    private void complete(Runnable completion) {
+      try {
+        asyncDispatcher.executeCallback(completion);
+      } catch (RejectedExecutionException e) {
+        // Callback executor rejected - complete future exceptionally without blocking Kafka I/O thread
+        durableWriteFuture.completeExceptionally(new VeniceException("Callback executor rejected during shutdown", e));
+      }
+    }
+  }
+
   /**
    * Create a callback for the PubSub producer that completes the durable write future.
    *
@@ -0,0 +1,126 @@
+package com.linkedin.venice.producer;
+
+import static com.linkedin.venice.writer.VeniceWriter.APP_DEFAULT_LOGICAL_TS;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.writer.update.UpdateBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+
+/**
+ * A group of write operations which is handed to {@link VeniceProducer#asyncWrite(ProducerBatch)} as a whole.
+ *
+ * <p>Operations are appended in order, and the operations on the same key are applied in that order. The batch is not
+ * atomic: it only shares one future across all its operations, which completes once every one of them is durable, or
+ * fails as soon as one of them fails, in which case the other operations may or may not have been persisted.</p>
+ *
+ * <p>A batch is not thread-safe, and must not be modified after it has been handed to the producer.</p>
+ *
+ * @param <K> Key of the records that need to be updated
+ * @param <V> Value that needs to be written
+ */
+public class ProducerBatch<K, V> {
+  enum OperationType {
+    PUT, DELETE, UPDATE
+  }
+
+  static class Operation<K, V> {
+    final OperationType type;
+    final long logicalTime;
+    final K key;
+    final V value;
+    final Consumer<UpdateBuilder> updateFunction;
+
+    Operation(OperationType type, long logicalTime, K key, V value, Consumer<UpdateBuilder> updateFunction) {
+      this.type = type;
+      this.logicalTime = logicalTime;
+      this.key = key;
+      this.value = value;
+      this.updateFunction = updateFunction;
+    }
+  }
+
+  private final List<Operation<K, V>> operations;
+
+  public ProducerBatch() {
+    this.operations = new ArrayList<>();
+  }
+
+  /**
+   * @param expectedSize the number of operations the batch is expected to hold, to size it upfront
+   */
+  public ProducerBatch(int expectedSize) {
+    this.operations = new ArrayList<>(expectedSize);
+  }
+
+  /**
+   * Appends a write of a full value, see {@link VeniceProducer#asyncPut(Object, Object)}.
+   */
+  public ProducerBatch<K, V> put(K key, V value) {
+    return add(new Operation<>(OperationType.PUT, APP_DEFAULT_LOGICAL_TS, key, value, null));
+  }
+
+  /**
+   * Appends a write of a full value with a logical time, see {@link VeniceProducer#asyncPut(long, Object, Object)}.
+   */
+  public ProducerBatch<K, V> put(long logicalTime, K key, V value) {
+    validateLogicalTime(logicalTime);
+    return add(new Operation<>(OperationType.PUT, logicalTime, key, value, null));
+  }
+
+  /**
+   * Appends a delete, see {@link VeniceProducer#asyncDelete(Object)}.
+   */
+  public ProducerBatch<K, V> delete(K key) {
+    return add(new Operation<>(OperationType.DELETE, APP_DEFAULT_LOGICAL_TS, key, null, null));
+  }
+
+  /**
+   * Appends a delete with a logical time, see {@link VeniceProducer#asyncDelete(long, Object)}.
+   */
+  public ProducerBatch<K, V> delete(long logicalTime, K key) {
+    validateLogicalTime(logicalTime);
+    return add(new Operation<>(OperationType.DELETE, logicalTime, key, null, null));
+  }
+
+  /**
+   * Appends a partial update, see {@link VeniceProducer#asyncUpdate(Object, Consumer)}.
+   */
+  public ProducerBatch<K, V> update(K key, Consumer<UpdateBuilder> updateFunction) {
+    return add(new Operation<>(OperationType.UPDATE, APP_DEFAULT_LOGICAL_TS, key, null, updateFunction));
+  }
+
+  /**
+   * Appends a partial update with a logical time, see {@link VeniceProducer#asyncUpdate(long, Object, Consumer)}.
+   */
+  public ProducerBatch<K, V> update(long logicalTime, K key, Consumer<UpdateBuilder> updateFunction) {
+    validateLogicalTime(logicalTime);
+    return add(new Operation<>(OperationType.UPDATE, logicalTime, key, null, updateFunction));
+  }
+
+  public int size() {
+    return operations.size();
+  }
+
+  public boolean isEmpty() {
+    return operations.isEmpty();
+  }
+
+  List<Operation<K, V>> getOperations() {
+    return Collections.unmodifiableList(operations);
+  }
+
+  private ProducerBatch<K, V> add(Operation<K, V> operation) {
+    operations.add(operation);
+    return this;
+  }
+
+  private static void validateLogicalTime(long logicalTime) {
+    if (logicalTime < 0) {
+      throw new VeniceException("Logical time must be a non-negative value. Got: " + logicalTime);
+    }
+  }
+}
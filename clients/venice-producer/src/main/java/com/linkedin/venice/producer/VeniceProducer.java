@@ -2,6 +2,7 @@ package com.linkedin.venice.producer;
 
 import com.linkedin.venice.writer.update.UpdateBuilder;
 import java.io.Closeable;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -88,4 +89,36 @@ public interface VeniceProducer<K, V> extends Closeable {
    *         data is available to readers.
    */
   CompletableFuture<DurableWrite> asyncUpdate(long logicalTime, K key, Consumer<UpdateBuilder> updateFunction);
+
+  /**
+   * A write operation where full values are written to replace the existing values of several keys. The keys are
+   * serialized and grouped by partition upfront, and the records of each partition are written together, which is
+   * much cheaper than calling {@link #asyncPut(Object, Object)} for each of them.
+   * @param records The full values that need to be written, by key
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or fails as soon as
+   *         one of them fails. The batch is not atomic, so the other records may still have been written. It does not
+   *         imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncPutAll(Map<K, V> records);
+
+  /**
+   * A write operation where full values are written to replace the existing values of several keys, with the same
+   * logical time. See {@link #asyncPutAll(Map)}.
+   * @param logicalTime The value used during conflict resolution in Active/Active replication
+   * @param records The full values that need to be written, by key
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or fails as soon as
+   *         one of them fails. It does not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncPutAll(long logicalTime, Map<K, V> records);
+
+  /**
+   * Writes all the operations of a {@link ProducerBatch}, which can mix puts, deletes and updates. The operations are
+   * grouped by partition like in {@link #asyncPutAll(Map)}, and the operations on the same key are applied in the order
+   * of the batch.
+   * @param batch The operations that need to be written
+   * @return A {@link CompletableFuture} that completes when all the write operations are durable, or fails as soon as
+   *         one of them fails. The batch is not atomic, so the other operations may still have been written. It does
+   *         not imply that the data is available to readers.
+   */
+  CompletableFuture<DurableWrite> asyncWrite(ProducerBatch<K, V> batch);
 }
@@ -9,16 +9,20 @@ import static org.mockito.Mockito.when;
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
 
 import com.linkedin.venice.controllerapi.VersionCreationResponse;
 import com.linkedin.venice.partitioner.DefaultVenicePartitioner;
 import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
 import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.VeniceProperties;
 import com.linkedin.venice.writer.VeniceWriter;
 import com.linkedin.venice.writer.VeniceWriterOptions;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -26,6 +30,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -432,6 +437,101 @@ public class AbstractVeniceProducerAsyncBehaviorTest {
     }
   }
 
+  /**
+   * Validates that a batch writes all its records, keeps the order of the records of the same key, and completes its
+   * future only once every record has been acknowledged.
+   */
+  @Test(timeOut = 30000)
+  public void testBatchWritesAllRecordsInOrderPerKey() throws Exception {
+    int keyCount = 20;
+    int recordsPerKey = 5;
+
+    Map<String, List<String>> valuesByKey = new HashMap<>();
+    List<PubSubProducerCallback> pendingCallbacks = Collections.synchronizedList(new ArrayList<>());
+    doAnswer(invocation -> {
+      String key = Arrays.toString((byte[]) invocation.getArgument(0));
+      String value = Arrays.toString((byte[]) invocation.getArgument(1));
+      synchronized (valuesByKey) {
+        valuesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+      }
+      pendingCallbacks.add(invocation.getArgument(4));
+      return null;
+    }).when(mockVeniceWriter).put(any(byte[].class), any(byte[].class), anyInt(), anyLong(), any());
+
+    TestableVeniceProducer producer = createProducer(4, 10000);
+
+    try {
+      ProducerBatch<Integer, String> batch = new ProducerBatch<>();
+      for (int i = 0; i < recordsPerKey; i++) {
+        for (int key = 0; key < keyCount; key++) {
+          batch.put(key, "value-" + i);
+        }
+      }
+      CompletableFuture<DurableWrite> future = producer.asyncWrite(batch);
+
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (pendingCallbacks.size() < keyCount * recordsPerKey && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+      assertEquals(pendingCallbacks.size(), keyCount * recordsPerKey, "All records should be written");
+      assertEquals(valuesByKey.size(), keyCount);
+      RecordSerializer<Object> valueSerializer =
+          FastSerializerDeserializerFactory.getFastAvroGenericSerializer(Schema.create(Schema.Type.STRING));
+      List<String> expectedValues = new ArrayList<>();
+      for (int i = 0; i < recordsPerKey; i++) {
+        expectedValues.add(Arrays.toString(valueSerializer.serialize("value-" + i)));
+      }
+      for (List<String> values: valuesByKey.values()) {
+        assertEquals(values, expectedValues, "Records of the same key should be written in order");
+      }
+
+      for (int i = 0; i < pendingCallbacks.size() - 1; i++) {
+        pendingCallbacks.get(i).onCompletion(null, null);
+      }
+      assertFalse(future.isDone(), "Batch should not complete before every record is acknowledged");
+      pendingCallbacks.get(pendingCallbacks.size() - 1).onCompletion(null, null);
+      future.get(5, TimeUnit.SECONDS);
+
+      // An empty batch completes right away
+      producer.asyncPutAll(Collections.emptyMap()).get(5, TimeUnit.SECONDS);
+    } finally {
+      producer.close();
+    }
+  }
+
+  /**
+   * Validates that the future of a batch fails as soon as one of its records fails.
+   */
+  @Test(timeOut = 30000)
+  public void testBatchFailsWhenOneRecordFails() throws Exception {
+    AtomicInteger putCallCount = new AtomicInteger(0);
+    doAnswer(invocation -> {
+      PubSubProducerCallback callback = invocation.getArgument(4);
+      if (putCallCount.incrementAndGet() == 1) {
+        callback.onCompletion(null, new RuntimeException("Broker is unavailable"));
+      }
+      return null;
+    }).when(mockVeniceWriter).put(any(byte[].class), any(byte[].class), anyInt(), anyLong(), any());
+
+    TestableVeniceProducer producer = createProducer(4, 10000);
+
+    try {
+      Map<Integer, String> records = new HashMap<>();
+      for (int i = 0; i < 10; i++) {
+        records.put(i, "value-" + i);
+      }
+      CompletableFuture<DurableWrite> future = producer.asyncPutAll(records);
+      try {
+        future.get(5, TimeUnit.SECONDS);
+        fail("Batch should fail when one of its records fails");
+      } catch (ExecutionException e) {
+        assertTrue(e.getCause().getMessage().contains("Broker is unavailable"));
+      }
+    } finally {
+      producer.close();
+    }
+  }
+
   private TestableVeniceProducer createProducer(int workerCount, int queueCapacity) {
     Properties props = new Properties();
     props.setProperty("client.producer.worker.count", String.valueOf(workerCount));
@@ -456,7 +456,11 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
     ClientComputeRecordStreamDecoder.Callback<K, GenericRecord> decoderCallback =
         new ClientComputeRecordStreamDecoder.Callback<K, GenericRecord>(
             DelegatingTrackingCallback.wrap((StreamingCallback) callback)) {
-          private final Map<String, Object> sharedContext = new HashMap<>();
+          /**
+           * The records are decoded by several threads of the deserialization executor at once, and the compute
+           * context holds buffers which are reused across records, so each thread gets its own context.
+           */
+          private final ThreadLocal<Map<String, Object>> sharedContext = ThreadLocal.withInitial(HashMap::new);
 
           @Override
           public void onRawRecordReceived(K key, GenericRecord value) {
@@ -464,7 +468,7 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
               value = ComputeUtils.computeResult(
                   computeRequest.getOperations(),
                   computeRequest.getOperationResultFields(),
-                  sharedContext,
+                  sharedContext.get(),
                   value,
                   resultSchema);
               getStats().ifPresent(stats -> stats.recordMultiGetFallback(1));
@@ -493,7 +497,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         streamingFooterRecordDeserializer,
         () -> getComputeResultRecordDeserializer(resultSchema),
         schemaId -> (RecordDeserializer) getDataRecordDeserializerFromCache(schemaId),
-        this::decompressRecord);
+        this::decompressRecord,
+        clientConfig.getMaxRecordsPerDeserializationTask(),
+        clientConfig.getMaxInFlightDeserializationBytes());
 
     if (clientConfig.isRemoteComputationOnly() || remoteComputationAllowed.get()) {
       compute(computeRequest, keyList, decoder, decoderCallback.getStats());
@@ -703,7 +709,9 @@ public abstract class AbstractAvroStoreClient<K, V> extends InternalAvroStoreCli
         getDeserializationExecutor(),
         streamingFooterRecordDeserializer,
         this::getDataRecordDeserializerFromCache,
-        this::decompressRecord);
+        this::decompressRecord,
+        clientConfig.getMaxRecordsPerDeserializationTask(),
+        clientConfig.getMaxInFlightDeserializationBytes());
     streamingBatchGet(keyList, decoder, decoderCallback.getStats());
   }
 
@@ -3,6 +3,7 @@ package com.linkedin.venice.client.store;
 import com.linkedin.d2.balancer.D2Client;
 import com.linkedin.venice.client.store.deserialization.BatchDeserializer;
 import com.linkedin.venice.client.store.deserialization.BatchDeserializerType;
+import com.linkedin.venice.client.store.streaming.AbstractRecordStreamDecoder;
 import com.linkedin.venice.security.SSLFactory;
 import com.linkedin.venice.serializer.AvroGenericDeserializer;
 import io.tehuti.metrics.MetricsRepository;
@@ -47,6 +48,8 @@ public class ClientConfig<T extends SpecificRecord> {
   // Performance-related settings
   private MetricsRepository metricsRepository = null;
   private Executor deserializationExecutor = null;
+  private int maxRecordsPerDeserializationTask = AbstractRecordStreamDecoder.DEFAULT_MAX_RECORDS_PER_TASK;
+  private long maxInFlightDeserializationBytes = AbstractRecordStreamDecoder.DEFAULT_MAX_IN_FLIGHT_BYTES;
   private BatchDeserializerType batchDeserializerType = BatchDeserializerType.BLOCKING;
   private boolean useFastAvro = true;
   private boolean retryOnRouterError = false;
@@ -116,6 +119,8 @@ public class ClientConfig<T extends SpecificRecord> {
         // Performance-related settings
         .setMetricsRepository(config.getMetricsRepository())
         .setDeserializationExecutor(config.getDeserializationExecutor())
+        .setMaxRecordsPerDeserializationTask(config.getMaxRecordsPerDeserializationTask())
+        .setMaxInFlightDeserializationBytes(config.getMaxInFlightDeserializationBytes())
         .setUseFastAvro(config.isUseFastAvro())
         .setRetryOnRouterError(config.isRetryOnRouterErrorEnabled())
         .setRetryOnAllErrors(config.isRetryOnAllErrorsEnabled())
@@ -366,6 +371,32 @@ public class ClientConfig<T extends SpecificRecord> {
     return this;
   }
 
+  public int getMaxRecordsPerDeserializationTask() {
+    return maxRecordsPerDeserializationTask;
+  }
+
+  /**
+   * The records of a streaming batch-get response are decompressed and deserialized in ranges of at most this many
+   * records, each range being a separate task of the deserialization executor.
+   */
+  public ClientConfig<T> setMaxRecordsPerDeserializationTask(int maxRecordsPerDeserializationTask) {
+    this.maxRecordsPerDeserializationTask = maxRecordsPerDeserializationTask;
+    return this;
+  }
+
+  public long getMaxInFlightDeserializationBytes() {
+    return maxInFlightDeserializationBytes;
+  }
+
+  /**
+   * Bounds the value bytes of a streaming batch-get response which are queued in the deserialization executor. Past
+   * this budget, the records are decoded in the transport thread, which slows down the consumption of the response.
+   */
+  public ClientConfig<T> setMaxInFlightDeserializationBytes(long maxInFlightDeserializationBytes) {
+    this.maxInFlightDeserializationBytes = maxInFlightDeserializationBytes;
+    return this;
+  }
+
   @Deprecated
   public boolean isVsonClient() {
     return isVsonClient;
@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 
@@ -34,11 +35,20 @@ import java.util.concurrent.atomic.LongAdder;
  * {@link D2TransportClient}, and both the record deserialization and application's callback will be executed in
  * Venice thread pool: {@link #deserializationExecutor},
  *
+ * The records available after each data chunk are split into ranges of at most {@link #maxRecordsPerTask} records, and
+ * each range is decompressed and deserialized by its own task, so that a large response is decoded by several threads
+ * in parallel instead of one. The value bytes handed to the executor and not decoded yet are bounded by
+ * {@link #maxInFlightBytes}: once the budget is used up, the next range is decoded in the TransportClient thread, which
+ * stops it from reading more of the response until the executor catches up.
+ *
  * @param <ENVELOPE>
  * @param <K>
  * @param <V>
  */
 public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements RecordStreamDecoder {
+  public static final int DEFAULT_MAX_RECORDS_PER_TASK = 100;
+  public static final long DEFAULT_MAX_IN_FLIGHT_BYTES = 16 * 1024 * 1024;
+
   private final List<K> keyList;
   private final TrackingStreamingCallback<K, V> callback;
   private final List<CompletableFuture<Void>> deserializationFutures = new ArrayList<>();
@@ -46,7 +56,11 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
   private final AtomicInteger successfulKeyCnt = new AtomicInteger(0);
   private final long preSubmitTimeInNS;
   private final LongAdder deserializationTimeInNS = new LongAdder();
+  private final LongAdder decompressionTimeInNS = new LongAdder();
   private final Executor deserializationExecutor;
+  private final int maxRecordsPerTask;
+  private final long maxInFlightBytes;
+  private final AtomicLong inFlightBytes = new AtomicLong(0);
 
   // non-final state
   private int duplicateEntryCount = 0;
@@ -60,9 +74,23 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
       List<K> keyList,
       TrackingStreamingCallback<K, V> callback,
       Executor deserializationExecutor) {
+    this(keyList, callback, deserializationExecutor, DEFAULT_MAX_RECORDS_PER_TASK, DEFAULT_MAX_IN_FLIGHT_BYTES);
+  }
+
+  public AbstractRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      int maxRecordsPerTask,
+      long maxInFlightBytes) {
+    if (maxRecordsPerTask <= 0) {
+      throw new IllegalArgumentException("maxRecordsPerTask must be positive, but got: " + maxRecordsPerTask);
+    }
     this.keyList = keyList;
     this.callback = callback;
     this.deserializationExecutor = deserializationExecutor;
+    this.maxRecordsPerTask = maxRecordsPerTask;
+    this.maxInFlightBytes = maxInFlightBytes;
     this.preSubmitTimeInNS = System.nanoTime();
     this.receivedKeySet = new BitSet(keyList.size());
   }
@@ -111,73 +139,112 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
       // no full record is available
       return;
     }
-    CompletableFuture<Void> deserializationFuture = CompletableFuture.runAsync(() -> {
-      Map<K, V> resultMap = new HashMap<>();
-      for (ENVELOPE record: availableRecords) {
-        final int keyIdx = getKeyIndex(record);
-        validateKeyIdx(keyIdx);
-        if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
-          // Deserialize footer record
-          streamingFooterRecord = Optional.of(getStreamingFooterRecord(record));
-          break;
-        }
-        final int absKeyIdx = Math.abs(keyIdx);
-        // Track duplicate entries per request
-        if (absKeyIdx < keyList.size()) {
-          synchronized (receivedKeySet) {
-            if (receivedKeySet.get(absKeyIdx)) {
-              // Encounter duplicate entry because of retrying logic in Venice Router
-              ++duplicateEntryCount;
-              continue;
-            }
-            receivedKeySet.set(absKeyIdx);
-          }
+    int recordCount = availableRecords.size();
+    if (recordCount <= maxRecordsPerTask) {
+      submitRange(availableRecords);
+      return;
+    }
+    // The consumed records are held in a linked list, which is copied once to make the ranges cheap to index
+    List<ENVELOPE> records = new ArrayList<>(availableRecords);
+    for (int rangeStart = 0; rangeStart < recordCount; rangeStart += maxRecordsPerTask) {
+      submitRange(records.subList(rangeStart, Math.min(rangeStart + maxRecordsPerTask, recordCount)));
+    }
+  }
+
+  private void submitRange(List<ENVELOPE> records) {
+    long rangeBytes = 0;
+    for (ENVELOPE record: records) {
+      rangeBytes += getValueSize(record);
+    }
+    CompletableFuture<Void> deserializationFuture;
+    if (inFlightBytes.get() > 0 && inFlightBytes.get() + rangeBytes > maxInFlightBytes) {
+      // Over budget, so decode the range in the calling thread to hold back the rest of the response
+      deserializationFuture = new CompletableFuture<>();
+      try {
+        decodeRange(records);
+        deserializationFuture.complete(null);
+      } catch (Throwable t) {
+        deserializationFuture.completeExceptionally(t);
+      }
+    } else {
+      final long bytes = rangeBytes;
+      inFlightBytes.addAndGet(bytes);
+      deserializationFuture = CompletableFuture.runAsync(() -> {
+        try {
+          decodeRange(records);
+        } finally {
+          inFlightBytes.addAndGet(-bytes);
         }
-        K key = keyList.get(absKeyIdx);
-
-        V value;
-        if (keyIdx < 0) {
-          // Key doesn't exist
-          value = null;
-        } else {
-          /**
-           * The above condition could NOT capture the non-existing key with index: 0,
-           * so {@link DeserializerFunc#deserialize(Object, CompressionStrategy)} needs to handle it by checking
-           * whether the value is an empty byte array or not, and essentially the deserialization function should
-           * return null in this situation.
-           */
-          long preRecordDeserializationInNS = System.nanoTime();
-          value = getValueRecord(record, compressionStrategy);
-          deserializationTimeInNS.add(System.nanoTime() - preRecordDeserializationInNS);
-          /**
-           * If key index is not 0, it is unexpected to receive non-null value.
-           */
-          if (value == null && keyIdx != 0) {
-            throw new VeniceClientException("Expected to receive non-null value for key: " + keyList.get(keyIdx));
+      }, deserializationExecutor);
+    }
+    deserializationFutures.add(deserializationFuture);
+  }
+
+  private void decodeRange(List<ENVELOPE> records) {
+    Map<K, V> resultMap = new HashMap<>();
+    for (ENVELOPE record: records) {
+      final int keyIdx = getKeyIndex(record);
+      validateKeyIdx(keyIdx);
+      if (KEY_ID_FOR_STREAMING_FOOTER == keyIdx) {
+        // Deserialize footer record
+        streamingFooterRecord = Optional.of(getStreamingFooterRecord(record));
+        break;
+      }
+      final int absKeyIdx = Math.abs(keyIdx);
+      // Track duplicate entries per request
+      if (absKeyIdx < keyList.size()) {
+        synchronized (receivedKeySet) {
+          if (receivedKeySet.get(absKeyIdx)) {
+            // Encounter duplicate entry because of retrying logic in Venice Router
+            ++duplicateEntryCount;
+            continue;
           }
+          receivedKeySet.set(absKeyIdx);
         }
-        callback.onRecordDeserialized();
-        resultMap.put(key, value);
-        if (value != null) {
-          successfulKeyCnt.incrementAndGet();
+      }
+      K key = keyList.get(absKeyIdx);
+
+      V value;
+      if (keyIdx < 0) {
+        // Key doesn't exist
+        value = null;
+      } else {
+        /**
+         * The above condition could NOT capture the non-existing key with index: 0,
+         * so {@link DeserializerFunc#deserialize(Object, CompressionStrategy)} needs to handle it by checking
+         * whether the value is an empty byte array or not, and essentially the deserialization function should
+         * return null in this situation.
+         */
+        long preRecordDeserializationInNS = System.nanoTime();
+        value = getValueRecord(record, compressionStrategy);
+        deserializationTimeInNS.add(System.nanoTime() - preRecordDeserializationInNS);
+        /**
+         * If key index is not 0, it is unexpected to receive non-null value.
+         */
+        if (value == null && keyIdx != 0) {
+          throw new VeniceClientException("Expected to receive non-null value for key: " + keyList.get(keyIdx));
         }
       }
-      if (resultMap.isEmpty()) {
-        return;
+      callback.onRecordDeserialized();
+      resultMap.put(key, value);
+      if (value != null) {
+        successfulKeyCnt.incrementAndGet();
       }
-      /**
-       * Execute the user callback in the same thread.
-       *
-       * There is a bug in JDK8, which could cause {@link CompletableFuture#allOf(CompletableFuture[])} if there
-       * are multiple layers of async processing:
-       * https://bugs.openjdk.java.net/browse/JDK-8201576
-       * So if the user's callback is executed in another async handler, {@link CompletableFuture#allOf(CompletableFuture[])}
-       * will hang sometimes.
-       * Also with this way, the context switches are also reduced.
-        */
-      resultMap.forEach(callback::onRecordReceived);
-    }, deserializationExecutor);
-    deserializationFutures.add(deserializationFuture);
+    }
+    if (resultMap.isEmpty()) {
+      return;
+    }
+    /**
+     * Execute the user callback in the same thread.
+     *
+     * There is a bug in JDK8, which could cause {@link CompletableFuture#allOf(CompletableFuture[])} if there
+     * are multiple layers of async processing:
+     * https://bugs.openjdk.java.net/browse/JDK-8201576
+     * So if the user's callback is executed in another async handler, {@link CompletableFuture#allOf(CompletableFuture[])}
+     * will hang sometimes.
+     * Also with this way, the context switches are also reduced.
+      */
+    resultMap.forEach(callback::onRecordReceived);
   }
 
   @Override
@@ -222,10 +289,12 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
           }
           callback.onCompletion(completedException);
           callback.onDeserializationCompletion(completedException, successfulKeyCnt.get(), duplicateEntryCount);
-          callback.getStats()
-              .ifPresent(
-                  stats -> stats
-                      .recordResponseDeserializationTime(LatencyUtils.convertNSToMS(deserializationTimeInNS.sum())));
+          callback.getStats().ifPresent(stats -> {
+            long decompressionTime = decompressionTimeInNS.sum();
+            stats.recordResponseDecompressionTime(LatencyUtils.convertNSToMS(decompressionTime));
+            stats.recordResponseDeserializationTime(
+                LatencyUtils.convertNSToMS(deserializationTimeInNS.sum() - decompressionTime));
+          });
         });
   }
 
@@ -236,4 +305,17 @@ public abstract class AbstractRecordStreamDecoder<ENVELOPE, K, V> implements Rec
   protected abstract V getValueRecord(ENVELOPE envelope, CompressionStrategy compression);
 
   protected abstract int getKeyIndex(ENVELOPE envelope);
+
+  /**
+   * @return the size of the serialized value carried by the envelope, which is charged against the in-flight budget
+   */
+  protected abstract int getValueSize(ENVELOPE envelope);
+
+  /**
+   * Lets {@link #getValueRecord} report the part of its time spent on decompression, which is then recorded apart from
+   * the deserialization time.
+   */
+  protected final void recordDecompressionTime(long decompressionTimeInNS) {
+    this.decompressionTimeInNS.add(decompressionTimeInNS);
+  }
 }
@@ -39,6 +39,28 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
       Supplier<RecordDeserializer<V>> computeDeserializerProvider,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
       BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
+    this(
+        keyList,
+        callback,
+        deserializationExecutor,
+        streamingFooterRecordDeserializer,
+        computeDeserializerProvider,
+        valueDeserializerProvider,
+        decompressor,
+        AbstractRecordStreamDecoder.DEFAULT_MAX_RECORDS_PER_TASK,
+        AbstractRecordStreamDecoder.DEFAULT_MAX_IN_FLIGHT_BYTES);
+  }
+
+  public ClientComputeRecordStreamDecoder(
+      List<K> keyList,
+      Callback<K, V> callback,
+      Executor deserializationExecutor,
+      RecordDeserializer<StreamingFooterRecordV1> streamingFooterRecordDeserializer,
+      Supplier<RecordDeserializer<V>> computeDeserializerProvider,
+      Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
+      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor,
+      int maxRecordsPerTask,
+      long maxInFlightBytes) {
     this.decoderProvider = responseHeaders -> {
       if (responseHeaders.containsKey(HttpConstants.VENICE_CLIENT_COMPUTE)) {
         /*
@@ -59,14 +81,18 @@ public class ClientComputeRecordStreamDecoder<K, V> implements RecordStreamDecod
             deserializationExecutor,
             streamingFooterRecordDeserializer,
             valueDeserializerProvider,
-            decompressor);
+            decompressor,
+            maxRecordsPerTask,
+            maxInFlightBytes);
       } else {
         return new ComputeRecordStreamDecoder<>(
             keyList,
             callback,
             deserializationExecutor,
             streamingFooterRecordDeserializer,
-            computeDeserializerProvider.get());
+            computeDeserializerProvider.get(),
+            maxRecordsPerTask,
+            maxInFlightBytes);
       }
     };
   }
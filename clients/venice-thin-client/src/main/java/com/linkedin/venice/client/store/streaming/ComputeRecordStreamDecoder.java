@@ -20,7 +20,25 @@ public class ComputeRecordStreamDecoder<K, V> extends AbstractRecordStreamDecode
       Executor deserializationExecutor,
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
       RecordDeserializer<V> valueDeserializer) {
-    super(keyList, callback, deserializationExecutor);
+    this(
+        keyList,
+        callback,
+        deserializationExecutor,
+        streamingFooterDeserializer,
+        valueDeserializer,
+        DEFAULT_MAX_RECORDS_PER_TASK,
+        DEFAULT_MAX_IN_FLIGHT_BYTES);
+  }
+
+  public ComputeRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
+      RecordDeserializer<V> valueDeserializer,
+      int maxRecordsPerTask,
+      long maxInFlightBytes) {
+    super(keyList, callback, deserializationExecutor, maxRecordsPerTask, maxInFlightBytes);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializer = valueDeserializer;
   }
@@ -55,4 +73,9 @@ public class ComputeRecordStreamDecoder<K, V> extends AbstractRecordStreamDecode
   protected int getKeyIndex(ComputeResponseRecordV1 envelope) {
     return envelope.getKeyIndex();
   }
+
+  @Override
+  protected int getValueSize(ComputeResponseRecordV1 envelope) {
+    return envelope.value.remaining();
+  }
 }
@@ -25,7 +25,27 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
       RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
       Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
       BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor) {
-    super(keyList, callback, deserializationExecutor);
+    this(
+        keyList,
+        callback,
+        deserializationExecutor,
+        streamingFooterDeserializer,
+        valueDeserializerProvider,
+        decompressor,
+        DEFAULT_MAX_RECORDS_PER_TASK,
+        DEFAULT_MAX_IN_FLIGHT_BYTES);
+  }
+
+  public MultiGetRecordStreamDecoder(
+      List<K> keyList,
+      TrackingStreamingCallback<K, V> callback,
+      Executor deserializationExecutor,
+      RecordDeserializer<StreamingFooterRecordV1> streamingFooterDeserializer,
+      Function<Integer, RecordDeserializer<V>> valueDeserializerProvider,
+      BiFunction<CompressionStrategy, ByteBuffer, ByteBuffer> decompressor,
+      int maxRecordsPerTask,
+      long maxInFlightBytes) {
+    super(keyList, callback, deserializationExecutor, maxRecordsPerTask, maxInFlightBytes);
     this.streamingFooterDeserializer = streamingFooterDeserializer;
     this.valueDeserializerProvider = valueDeserializerProvider;
     this.decompressor = decompressor;
@@ -52,7 +72,9 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
       return null;
     }
     RecordDeserializer<V> deserializer = valueDeserializerProvider.apply(envelope.schemaId);
+    long preDecompressionTimeInNS = System.nanoTime();
     ByteBuffer decompressedValue = decompressor.apply(compression, envelope.value);
+    recordDecompressionTime(System.nanoTime() - preDecompressionTimeInNS);
     return deserializer.deserialize(decompressedValue);
   }
 
@@ -60,4 +82,9 @@ public class MultiGetRecordStreamDecoder<K, V> extends AbstractRecordStreamDecod
   protected int getKeyIndex(MultiGetResponseRecordV1 envelope) {
     return envelope.getKeyIndex();
   }
+
+  @Override
+  protected int getValueSize(MultiGetResponseRecordV1 envelope) {
+    return envelope.value.remaining();
+  }
 }
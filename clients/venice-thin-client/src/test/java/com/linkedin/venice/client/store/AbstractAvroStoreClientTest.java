@@ -50,6 +50,8 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
@@ -290,6 +292,104 @@ public class AbstractAvroStoreClientTest {
     Assert.assertEquals(resultForKey2.get("hadamard_product_for_float_array_field1"), hadamardProductResult2);
   }
 
+  @Test
+  public void testComputeWithConcurrentMultiGetFallback() throws ExecutionException, InterruptedException {
+    int recordCount = 2000;
+    int vectorSize = 64;
+    Schema recordFieldSchema = VALUE_SCHEMA.getField("record_field").schema();
+    List<MultiGetResponseRecordV1> responseRecordV1List = new ArrayList<>();
+    Set<String> keySet = new HashSet<>();
+    for (int i = 0; i < recordCount; i++) {
+      GenericRecord recordFieldValue = new GenericData.Record(recordFieldSchema);
+      recordFieldValue.put("nested_field1", 1.0d);
+      List<Float> vector = new ArrayList<>(vectorSize);
+      for (int j = 0; j < vectorSize; j++) {
+        vector.add((float) ((i * 31 + j * 7) % 97));
+      }
+      GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+      value.put("int_field", i);
+      value.put("float_field", 1.0f);
+      value.put("record_field", recordFieldValue);
+      value.put("float_array_field1", vector);
+      value.put("float_array_field2", vector);
+      value.put("int_array_field2", Collections.emptyList());
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.value = ByteBuffer.wrap(valueSerializer.serialize(value));
+      record.schemaId = 1;
+      responseRecordV1List.add(record);
+      keySet.add("key" + i);
+    }
+    byte[] serializedResponse = SerializerDeserializerFactory
+        .getAvroGenericSerializer(MultiGetResponseRecordV1.SCHEMA$)
+        .serializeObjects(responseRecordV1List);
+
+    // The router answers with the values instead of the computed results, so that the client computes them itself
+    TransportClient mockTransportClient =
+        new ParameterizedComputeTransportClient(Optional.of(serializedResponse), Optional.empty()) {
+          @Override
+          public void streamPost(
+              String requestPath,
+              Map<String, String> headers,
+              byte[] requestBody,
+              TransportClientStreamingCallback callback,
+              int keyCount) {
+            Map<String, String> headerMap = new HashMap<>();
+            headerMap.put(
+                HttpConstants.VENICE_SCHEMA_ID,
+                Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+            headerMap.put(HttpConstants.VENICE_CLIENT_COMPUTE, HttpConstants.VENICE_CLIENT_COMPUTE_TRUE);
+            callback.onHeaderReceived(headerMap);
+            callback.onDataReceived(ByteBuffer.wrap(serializedResponse));
+            callback.onCompletion(Optional.empty());
+          }
+        };
+
+    ExecutorService deserializationExecutor = Executors.newFixedThreadPool(8);
+    try {
+      SimpleStoreClient<String, GenericRecord> storeClient =
+          new SimpleStoreClient<>(mockTransportClient, "test_store", true, deserializationExecutor);
+      List<Float> dotProductVector = new ArrayList<>(vectorSize);
+      List<Float> cosineSimilarityVector = new ArrayList<>(vectorSize);
+      for (int j = 0; j < vectorSize; j++) {
+        dotProductVector.add((float) (j % 5));
+        cosineSimilarityVector.add((float) (j % 3 + 1));
+      }
+      // Every key is decoded and computed concurrently by several threads, each check would fail if they shared any
+      // of the buffers reused across records.
+      Map<String, ComputeGenericRecord> computeResult = storeClient.compute()
+          .project("float_array_field1")
+          .dotProduct("float_array_field1", dotProductVector, "dot_product")
+          .cosineSimilarity("float_array_field2", cosineSimilarityVector, "cosine_similarity")
+          .hadamardProduct("float_array_field1", dotProductVector, "hadamard_product")
+          .execute(keySet)
+          .get();
+      Assert.assertEquals(computeResult.size(), recordCount);
+      for (ComputeGenericRecord result: computeResult.values()) {
+        List<Float> vector = (List<Float>) result.get("float_array_field1");
+        float dotProduct = 0;
+        float paramDotProduct = 0;
+        float squaredNorm = 0;
+        float squaredParamNorm = 0;
+        for (int j = 0; j < vectorSize; j++) {
+          dotProduct += vector.get(j) * dotProductVector.get(j);
+          paramDotProduct += vector.get(j) * cosineSimilarityVector.get(j);
+          squaredNorm += vector.get(j) * vector.get(j);
+          squaredParamNorm += cosineSimilarityVector.get(j) * cosineSimilarityVector.get(j);
+          float hadamardProduct = ((List<Float>) result.get("hadamard_product")).get(j);
+          Assert.assertEquals(hadamardProduct, vector.get(j) * dotProductVector.get(j));
+        }
+        Assert.assertEquals((float) result.get("dot_product"), dotProduct, 0.001f * Math.abs(dotProduct));
+        Assert.assertEquals(
+            (float) result.get("cosine_similarity"),
+            (float) (paramDotProduct / Math.sqrt(squaredNorm * squaredParamNorm)),
+            0.001f);
+      }
+    } finally {
+      deserializationExecutor.shutdownNow();
+    }
+  }
+
   @Test
   public void testComputeFailure() throws ExecutionException, InterruptedException {
     // Mock a transport client response
@@ -0,0 +1,157 @@
+package com.linkedin.venice.client.store.streaming;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.client.stats.ClientStats;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class MultiGetRecordStreamDecoderTest {
+  private static final int VALUE_SIZE = 100;
+
+  @Test
+  public void testRecordsAreDecodedInRanges() throws Exception {
+    int keyCount = 250;
+    AtomicInteger taskCount = new AtomicInteger();
+    Executor executor = task -> {
+      taskCount.incrementAndGet();
+      task.run();
+    };
+    ClientStats stats = mock(ClientStats.class);
+    Map<String, String> received = new ConcurrentHashMap<>();
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    MultiGetRecordStreamDecoder<String, String> decoder =
+        createDecoder(keyCount, received, completion, stats, executor, 10, Long.MAX_VALUE);
+
+    decoder.onHeaderReceived(getHeaders());
+    decoder.onDataReceived(ByteBuffer.wrap(serializeRecords(keyCount)));
+    decoder.onCompletion(Optional.empty());
+
+    Assert.assertFalse(completion.get(10, TimeUnit.SECONDS).isPresent());
+    Assert.assertEquals(taskCount.get(), 25);
+    Assert.assertEquals(received.size(), keyCount);
+    for (int i = 0; i < keyCount; i++) {
+      Assert.assertEquals(received.get("key_" + i), getValue(i));
+    }
+    verify(stats).recordResponseDecompressionTime(anyDouble());
+    verify(stats).recordResponseDeserializationTime(anyDouble());
+  }
+
+  @Test
+  public void testRangesAreDecodedInlineOverMemoryBudget() throws Exception {
+    int keyCount = 50;
+    List<Runnable> queuedTasks = new ArrayList<>();
+    Map<String, String> received = new ConcurrentHashMap<>();
+    CompletableFuture<Optional<Exception>> completion = new CompletableFuture<>();
+    // Each range of 10 records holds 1000 value bytes, so only one range fits in the budget at a time
+    MultiGetRecordStreamDecoder<String, String> decoder =
+        createDecoder(keyCount, received, completion, null, queuedTasks::add, 10, 1500);
+
+    decoder.onHeaderReceived(getHeaders());
+    decoder.onDataReceived(ByteBuffer.wrap(serializeRecords(keyCount)));
+    Assert.assertEquals(queuedTasks.size(), 1);
+    Assert.assertEquals(received.size(), 40);
+
+    decoder.onCompletion(Optional.empty());
+    Assert.assertFalse(completion.isDone());
+    queuedTasks.forEach(Runnable::run);
+    Assert.assertFalse(completion.get(10, TimeUnit.SECONDS).isPresent());
+    Assert.assertEquals(received.size(), keyCount);
+  }
+
+  private static MultiGetRecordStreamDecoder<String, String> createDecoder(
+      int keyCount,
+      Map<String, String> received,
+      CompletableFuture<Optional<Exception>> completion,
+      ClientStats stats,
+      Executor executor,
+      int maxRecordsPerTask,
+      long maxInFlightBytes) {
+    List<String> keyList = new ArrayList<>(keyCount);
+    for (int i = 0; i < keyCount; i++) {
+      keyList.add("key_" + i);
+    }
+    TrackingStreamingCallback<String, String> callback =
+        new DelegatingTrackingCallback<String, String>(new StreamingCallback<String, String>() {
+          @Override
+          public void onRecordReceived(String key, String value) {
+            received.put(key, value);
+          }
+
+          @Override
+          public void onCompletion(Optional<Exception> exception) {
+            completion.complete(exception);
+          }
+        }) {
+          @Override
+          public Optional<ClientStats> getStats() {
+            return Optional.ofNullable(stats);
+          }
+        };
+    RecordDeserializer<String> valueDeserializer = mock(RecordDeserializer.class);
+    doAnswer(invocation -> StandardCharsets.UTF_8.decode(invocation.getArgument(0)).toString()).when(valueDeserializer)
+        .deserialize(any(ByteBuffer.class));
+    return new MultiGetRecordStreamDecoder<>(
+        keyList,
+        callback,
+        executor,
+        null,
+        schemaId -> valueDeserializer,
+        (compression, value) -> value,
+        maxRecordsPerTask,
+        maxInFlightBytes);
+  }
+
+  private static Map<String, String> getHeaders() {
+    Map<String, String> headers = new HashMap<>();
+    headers.put(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
+    headers.put(
+        HttpConstants.VENICE_SCHEMA_ID,
+        Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion()));
+    headers.put(HttpConstants.VENICE_COMPRESSION_STRATEGY, Integer.toString(CompressionStrategy.NO_OP.getValue()));
+    return headers;
+  }
+
+  private static byte[] serializeRecords(int keyCount) {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(keyCount);
+    for (int i = 0; i < keyCount; i++) {
+      MultiGetResponseRecordV1 record = new MultiGetResponseRecordV1();
+      record.keyIndex = i;
+      record.value = ByteBuffer.wrap(getValue(i).getBytes(StandardCharsets.UTF_8));
+      record.schemaId = 1;
+      records.add(record);
+    }
+    return new AvroSerializer<MultiGetResponseRecordV1>(MultiGetResponseRecordV1.SCHEMA$).serializeObjects(records);
+  }
+
+  private static String getValue(int index) {
+    StringBuilder value = new StringBuilder(VALUE_SIZE).append("value_").append(index);
+    while (value.length() < VALUE_SIZE) {
+      value.append('.');
+    }
+    return value.toString();
+  }
+}
@@ -11,14 +11,21 @@ import com.linkedin.venice.sql.AvroToSQL;
 import com.linkedin.venice.sql.PreparedStatementProcessor;
 import com.linkedin.venice.sql.SQLUtils;
 import com.linkedin.venice.sql.TableDefinition;
+import com.linkedin.venice.utils.DaemonThreadFactory;
 import com.linkedin.venice.utils.concurrent.CloseableThreadLocal;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericRecord;
@@ -38,6 +45,14 @@ import org.apache.logging.log4j.Logger;
  * - Keep the tables updated with Venice data changes
  * - Handle new Venice store versions by managing SQL table versions
  * - Provide a SQL view that always points to the current data
+ *
+ * By default, each record is written to DuckDB as soon as it is received. When batching is enabled, records are
+ * instead buffered per partition, and each buffer is flushed in a single transaction once it reaches the max batch
+ * size, or once its oldest record is older than the max batch delay: the puts are inserted into a staging table with
+ * a JDBC batch, and then merged into the version table with a single set-based statement, which is much cheaper
+ * than upserting the records one at a time, especially while bootstrapping a version. The buffer of a partition is
+ * also flushed before each checkpoint of the partition, so that the checkpointed offset never gets ahead of the rows
+ * written to DuckDB.
  */
 public class DuckDBDaVinciRecordTransformer
     extends DaVinciRecordTransformer<GenericRecord, GenericRecord, GenericRecord> {
@@ -45,6 +60,11 @@ public class DuckDBDaVinciRecordTransformer
   private static final String duckDBFilePath = "my_database.duckdb";
   private static final String createViewStatementTemplate = "CREATE OR REPLACE VIEW \"%s\" AS SELECT * FROM \"%s\";";
   private static final String dropTableStatementTemplate = "DROP TABLE \"%s\";";
+  private static final String createStagingTableStatementTemplate =
+      "CREATE TEMP TABLE IF NOT EXISTS \"%s\" AS SELECT * FROM \"%s\" LIMIT 0;";
+  private static final String mergeStagingTableStatementTemplate =
+      "INSERT OR REPLACE INTO \"%s\" SELECT * FROM \"%s\";";
+  private static final String clearStagingTableStatementTemplate = "DELETE FROM \"%s\";";
   private final AtomicBoolean setUpComplete = new AtomicBoolean();
   private final String versionTableName;
   private final String duckDBUrl;
@@ -55,6 +75,14 @@ public class DuckDBDaVinciRecordTransformer
   private final PreparedStatementProcessor upsertProcessor;
   private final PreparedStatementProcessor deleteProcessor;
 
+  /** Only used when batching is enabled. */
+  private final int maxBatchSize;
+  private final long maxBatchDelayMs;
+  private final String stagingTableName;
+  private final CloseableThreadLocal<PreparedStatement> stagingInsertPreparedStatement;
+  private final Map<Integer, PartitionBuffer> partitionBuffers = new VeniceConcurrentHashMap<>();
+  private final ScheduledExecutorService batchFlusher;
+
   /**
    * @param baseDir directory where DuckDB files will be stored
    * @param columnsToProject specific columns to include (leave null/empty for all columns)
@@ -69,7 +97,42 @@ public class DuckDBDaVinciRecordTransformer
       DaVinciRecordTransformerConfig recordTransformerConfig,
       String baseDir,
       Set<String> columnsToProject) {
+    this(
+        storeName,
+        storeVersion,
+        keySchema,
+        inputValueSchema,
+        outputValueSchema,
+        recordTransformerConfig,
+        baseDir,
+        columnsToProject,
+        1,
+        0);
+  }
+
+  /**
+   * @param baseDir directory where DuckDB files will be stored
+   * @param columnsToProject specific columns to include (leave null/empty for all columns)
+   * @param maxBatchSize max number of distinct keys buffered per partition before flushing them to DuckDB, batching
+   *                     is disabled if this is 1 or less
+   * @param maxBatchDelayMs max time a record can stay buffered before being flushed to DuckDB, when batching is enabled
+   * @throws VeniceException if database setup fails
+   */
+  public DuckDBDaVinciRecordTransformer(
+      String storeName,
+      int storeVersion,
+      Schema keySchema,
+      Schema inputValueSchema,
+      Schema outputValueSchema,
+      DaVinciRecordTransformerConfig recordTransformerConfig,
+      String baseDir,
+      Set<String> columnsToProject,
+      int maxBatchSize,
+      long maxBatchDelayMs) {
     super(storeName, storeVersion, keySchema, inputValueSchema, outputValueSchema, recordTransformerConfig);
+    if (maxBatchSize > 1 && maxBatchDelayMs <= 0) {
+      throw new IllegalArgumentException("maxBatchDelayMs must be positive when batching is enabled");
+    }
     this.versionTableName = buildStoreNameWithVersion(storeVersion);
     this.duckDBUrl = "jdbc:duckdb:" + baseDir + "/" + duckDBFilePath;
     this.columnsToProject = columnsToProject;
@@ -98,6 +161,31 @@ public class DuckDBDaVinciRecordTransformer
     });
     this.upsertProcessor = AvroToSQL.upsertProcessor(keySchema, inputValueSchema, columnsToProject);
     this.deleteProcessor = AvroToSQL.deleteProcessor(keySchema);
+
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchDelayMs = maxBatchDelayMs;
+    this.stagingTableName = versionTableName + "_staging";
+    String createStagingTableStatement =
+        String.format(createStagingTableStatementTemplate, stagingTableName, versionTableName);
+    String stagingInsertStatement =
+        AvroToSQL.insertStatement(stagingTableName, keySchema, inputValueSchema, columnsToProject);
+    // Temporary tables are private to each connection, so each thread gets its own staging table.
+    this.stagingInsertPreparedStatement = CloseableThreadLocal.withInitial(() -> {
+      try (Statement stmt = this.connection.get().createStatement()) {
+        stmt.execute(createStagingTableStatement);
+        return this.connection.get().prepareStatement(stagingInsertStatement);
+      } catch (SQLException e) {
+        throw new VeniceException("Failed to create PreparedStatement for: " + stagingInsertStatement, e);
+      }
+    });
+    if (isBatchingEnabled()) {
+      this.batchFlusher = Executors.newSingleThreadScheduledExecutor(
+          new DaemonThreadFactory("DuckDBDaVinciRecordTransformer-batch-flusher-" + versionTableName));
+      this.batchFlusher
+          .scheduleWithFixedDelay(this::flushStaleBuffers, maxBatchDelayMs, maxBatchDelayMs, TimeUnit.MILLISECONDS);
+    } else {
+      this.batchFlusher = null;
+    }
   }
 
   /**
@@ -121,6 +209,10 @@ public class DuckDBDaVinciRecordTransformer
       Lazy<GenericRecord> value,
       int partitionId,
       DaVinciRecordTransformerRecordMetadata recordMetadata) {
+    if (isBatchingEnabled()) {
+      bufferRecord(partitionId, key.get(), value.get());
+      return;
+    }
     this.upsertProcessor.process(key.get(), value.get(), this.upsertPreparedStatement.get());
   }
 
@@ -132,6 +224,10 @@ public class DuckDBDaVinciRecordTransformer
       Lazy<GenericRecord> key,
       int partitionId,
       DaVinciRecordTransformerRecordMetadata recordMetadata) {
+    if (isBatchingEnabled()) {
+      bufferRecord(partitionId, key.get(), null);
+      return;
+    }
     this.deleteProcessor.process(key.get(), null, this.deletePreparedStatement.get());
   }
 
@@ -198,6 +294,7 @@ public class DuckDBDaVinciRecordTransformer
    */
   @Override
   public void onEndVersionIngestion(int currentVersion) {
+    flushAllBuffers();
     try (Connection connection = DriverManager.getConnection(duckDBUrl);
         Statement stmt = connection.createStatement()) {
       // Swap to current version
@@ -216,6 +313,23 @@ public class DuckDBDaVinciRecordTransformer
     }
   }
 
+  /**
+   * Flushes the records buffered for the partition, since they would be lost on a restart once checkpointed, in
+   * particular when the records are not stored in DaVinci as well.
+   */
+  @Override
+  public void onBeforeCheckpoint(int partitionId) {
+    if (!isBatchingEnabled()) {
+      return;
+    }
+    PartitionBuffer buffer = this.partitionBuffers.get(partitionId);
+    if (buffer != null) {
+      synchronized (buffer) {
+        flush(buffer);
+      }
+    }
+  }
+
   /**
    * Indicates this transformer works with consistent record schemas.
    *
@@ -251,8 +365,142 @@ public class DuckDBDaVinciRecordTransformer
    */
   @Override
   public void close() {
+    if (this.batchFlusher != null) {
+      this.batchFlusher.shutdownNow();
+      try {
+        this.batchFlusher.awaitTermination(maxBatchDelayMs, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      flushAllBuffers();
+    }
+    this.stagingInsertPreparedStatement.close();
     this.deletePreparedStatement.close();
     this.upsertPreparedStatement.close();
     this.connection.close();
   }
+
+  private boolean isBatchingEnabled() {
+    return this.maxBatchSize > 1;
+  }
+
+  private void bufferRecord(int partitionId, GenericRecord key, GenericRecord value) {
+    PartitionBuffer buffer = this.partitionBuffers.computeIfAbsent(partitionId, p -> new PartitionBuffer());
+    synchronized (buffer) {
+      buffer.add(key, value);
+      if (buffer.size() >= this.maxBatchSize) {
+        flush(buffer);
+      }
+    }
+  }
+
+  private void flushStaleBuffers() {
+    long now = System.currentTimeMillis();
+    for (Map.Entry<Integer, PartitionBuffer> entry: this.partitionBuffers.entrySet()) {
+      PartitionBuffer buffer = entry.getValue();
+      try {
+        synchronized (buffer) {
+          if (buffer.size() > 0 && now - buffer.getOldestRecordTimeMs() >= this.maxBatchDelayMs) {
+            flush(buffer);
+          }
+        }
+      } catch (Exception e) {
+        // The records stay buffered, so the flush will be retried on the next run.
+        LOGGER.error(
+            "Failed to flush buffered records of table: {}, partition: {}",
+            this.versionTableName,
+            entry.getKey(),
+            e);
+      }
+    }
+  }
+
+  private void flushAllBuffers() {
+    for (PartitionBuffer buffer: this.partitionBuffers.values()) {
+      synchronized (buffer) {
+        flush(buffer);
+      }
+    }
+  }
+
+  /**
+   * Writes the buffered records in a single transaction, and clears the buffer if it succeeds. The caller must hold
+   * the lock of the buffer.
+   */
+  private void flush(PartitionBuffer buffer) {
+    if (buffer.size() == 0) {
+      return;
+    }
+    Connection connection = this.connection.get();
+    PreparedStatement stagingInsert = this.stagingInsertPreparedStatement.get();
+    PreparedStatement delete = this.deletePreparedStatement.get();
+    int putCount = 0;
+    int deleteCount = 0;
+    try {
+      connection.setAutoCommit(false);
+      try (Statement stmt = connection.createStatement()) {
+        for (Map.Entry<GenericRecord, GenericRecord> record: buffer.getRecords().entrySet()) {
+          if (record.getValue() == null) {
+            this.deleteProcessor.processInBatch(record.getKey(), null, delete);
+            deleteCount++;
+          } else {
+            this.upsertProcessor.processInBatch(record.getKey(), record.getValue(), stagingInsert);
+            putCount++;
+          }
+        }
+        // The buffer holds a single operation per key, so the deletes and the puts can be applied in any order.
+        if (deleteCount > 0) {
+          delete.executeBatch();
+        }
+        if (putCount > 0) {
+          stagingInsert.executeBatch();
+          stmt.execute(String.format(mergeStagingTableStatementTemplate, versionTableName, stagingTableName));
+          stmt.execute(String.format(clearStagingTableStatementTemplate, stagingTableName));
+        }
+        connection.commit();
+      } catch (SQLException | RuntimeException e) {
+        delete.clearBatch();
+        stagingInsert.clearBatch();
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      throw new VeniceException("Failed to flush " + buffer.size() + " records to table: " + versionTableName, e);
+    }
+    buffer.clear();
+  }
+
+  /**
+   * The records buffered for a partition, keeping only the latest operation for each key, with a null value standing
+   * for a delete.
+   */
+  private static class PartitionBuffer {
+    private final Map<GenericRecord, GenericRecord> records = new HashMap<>();
+    private long oldestRecordTimeMs;
+
+    void add(GenericRecord key, GenericRecord value) {
+      if (records.isEmpty()) {
+        oldestRecordTimeMs = System.currentTimeMillis();
+      }
+      records.put(key, value);
+    }
+
+    int size() {
+      return records.size();
+    }
+
+    long getOldestRecordTimeMs() {
+      return oldestRecordTimeMs;
+    }
+
+    Map<GenericRecord, GenericRecord> getRecords() {
+      return records;
+    }
+
+    void clear() {
+      records.clear();
+    }
+  }
 }
@@ -107,9 +107,32 @@ public class AvroToSQL {
       @Nonnull Schema keySchema,
       @Nonnull Schema valueSchema,
       @Nonnull Set<String> columnsToProject) {
+    return insertStatement("INSERT OR REPLACE INTO ", tableName, keySchema, valueSchema, columnsToProject);
+  }
+
+  /**
+   * Same as {@link #upsertStatement(String, Schema, Schema, Set)}, but without the replacement of existing rows, which
+   * is suitable for tables without a primary key, such as staging tables.
+   */
+  @Nonnull
+  public static String insertStatement(
+      @Nonnull String tableName,
+      @Nonnull Schema keySchema,
+      @Nonnull Schema valueSchema,
+      @Nonnull Set<String> columnsToProject) {
+    return insertStatement("INSERT INTO ", tableName, keySchema, valueSchema, columnsToProject);
+  }
+
+  @Nonnull
+  private static String insertStatement(
+      @Nonnull String insertClause,
+      @Nonnull String tableName,
+      @Nonnull Schema keySchema,
+      @Nonnull Schema valueSchema,
+      @Nonnull Set<String> columnsToProject) {
     Set<Schema.Field> allColumns = combineColumns(keySchema, valueSchema, columnsToProject);
     StringBuffer stringBuffer = new StringBuffer();
-    stringBuffer.append("INSERT OR REPLACE INTO " + SQLUtils.cleanTableName(tableName) + " VALUES (");
+    stringBuffer.append(insertClause + SQLUtils.cleanTableName(tableName) + " VALUES (");
     boolean firstColumn = true;
 
     for (Schema.Field field: allColumns) {
@@ -39,13 +39,29 @@ public class KeyOnlyPreparedStatementProcessor implements PreparedStatementProce
   @Override
   public void process(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement) {
     try {
-      processKey(key, preparedStatement);
+      populate(key, value, preparedStatement);
       preparedStatement.execute();
     } catch (SQLException e) {
       throw new VeniceException("Failed to execute prepared statement!", e);
     }
   }
 
+  @Override
+  public void processInBatch(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement) {
+    try {
+      populate(key, value, preparedStatement);
+      preparedStatement.addBatch();
+    } catch (SQLException e) {
+      throw new VeniceException("Failed to add prepared statement to batch!", e);
+    }
+  }
+
+  /** Sets all the parameters of the {@link PreparedStatement}, without executing it. */
+  protected void populate(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement)
+      throws SQLException {
+    processKey(key, preparedStatement);
+  }
+
   protected void processKey(GenericRecord key, PreparedStatement preparedStatement) throws SQLException {
     processRecord(
         key,
@@ -1,6 +1,5 @@
 package com.linkedin.venice.sql;
 
-import com.linkedin.venice.exceptions.VeniceException;
 import java.sql.JDBCType;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
@@ -40,20 +39,15 @@ public class KeyValuePreparedStatementProcessor extends KeyOnlyPreparedStatement
   }
 
   @Override
-  public void process(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement) {
-    try {
-      processKey(key, preparedStatement);
-
-      processRecord(
-          value,
-          preparedStatement,
-          this.valueFieldIndexToJdbcIndexMapping,
-          this.valueFieldIndexToUnionBranchIndex,
-          this.valueFieldIndexToCorrespondingType);
-
-      preparedStatement.execute();
-    } catch (SQLException e) {
-      throw new VeniceException("Failed to execute prepared statement!", e);
-    }
+  protected void populate(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement)
+      throws SQLException {
+    processKey(key, preparedStatement);
+
+    processRecord(
+        value,
+        preparedStatement,
+        this.valueFieldIndexToJdbcIndexMapping,
+        this.valueFieldIndexToUnionBranchIndex,
+        this.valueFieldIndexToCorrespondingType);
   }
 }
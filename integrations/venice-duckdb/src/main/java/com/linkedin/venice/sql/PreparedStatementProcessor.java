@@ -7,4 +7,10 @@ import org.apache.avro.generic.GenericRecord;
 /** Populates a {@link PreparedStatement} from Avro key/value records. */
 public interface PreparedStatementProcessor {
   void process(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement);
+
+  /**
+   * Same as {@link #process(GenericRecord, GenericRecord, PreparedStatement)}, except that the populated statement is
+   * added to the batch of the {@link PreparedStatement}, to be run later by {@link PreparedStatement#executeBatch()}.
+   */
+  void processInBatch(GenericRecord key, GenericRecord value, PreparedStatement preparedStatement);
 }
@@ -16,6 +16,7 @@ import com.linkedin.venice.kafka.protocol.state.PartitionState;
 import com.linkedin.venice.offsets.OffsetRecord;
 import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
 import com.linkedin.venice.serialization.avro.InternalAvroSpecificSerializer;
+import com.linkedin.venice.utils.TestUtils;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.lazy.Lazy;
 import java.sql.Connection;
@@ -25,6 +26,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -261,6 +263,138 @@ public class DuckDBDaVinciRecordTransformerTest {
     }
   }
 
+  @Test
+  public void testBatching() throws SQLException {
+    String tempDir = Utils.getTempDataDirectory().getAbsolutePath();
+
+    DaVinciRecordTransformerConfig dummyRecordTransformerConfig = new DaVinciRecordTransformerConfig.Builder()
+        .setRecordTransformerFunction(
+            (storeName, storeVersion, keySchema, inputValueSchema, outputValueSchema, config) -> null)
+        .setStoreRecordsInDaVinci(false)
+        .build();
+
+    int maxBatchSize = 3;
+    long maxBatchDelayMs = 200;
+    try (DuckDBDaVinciRecordTransformer recordTransformer = new DuckDBDaVinciRecordTransformer(
+        storeName,
+        storeVersion,
+        SINGLE_FIELD_RECORD_SCHEMA,
+        NAME_RECORD_V1_SCHEMA,
+        NAME_RECORD_V1_SCHEMA,
+        dummyRecordTransformerConfig,
+        tempDir,
+        columnsToProject,
+        maxBatchSize,
+        maxBatchDelayMs)) {
+      recordTransformer.onStartVersionIngestion(partitionId, true);
+
+      try (Connection connection = DriverManager.getConnection(recordTransformer.getDuckDBUrl());
+          Statement stmt = connection.createStatement()) {
+        // The same key is only counted once towards the max batch size
+        recordTransformer.processPut(lazyKey("key0"), lazyValue("Duck", "Goose"), partitionId, null);
+        recordTransformer.processPut(lazyKey("key0"), lazyValue("Goose", "Duck"), partitionId, null);
+        recordTransformer.processPut(lazyKey("key1"), lazyValue("Duck", "Goose"), partitionId, null);
+        assertEquals(getRowCount(stmt, storeName), 0);
+
+        // Reaching the max batch size flushes the buffered records
+        recordTransformer.processPut(lazyKey("key2"), lazyValue("Duck", "Goose"), partitionId, null);
+        assertEquals(getRowCount(stmt, storeName), 3);
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM " + storeName + " WHERE key = 'key0'")) {
+          assertTrue(rs.next());
+          assertEquals(rs.getString("firstName"), "Goose");
+          assertEquals(rs.getString("lastName"), "Duck");
+        }
+
+        // Buffered records are flushed once older than the max batch delay
+        recordTransformer.processDelete(lazyKey("key1"), partitionId, null);
+        recordTransformer.processPut(lazyKey("key3"), lazyValue("Duck", "Goose"), partitionId, null);
+        TestUtils.waitForNonDeterministicAssertion(10, TimeUnit.SECONDS, () -> {
+          try (ResultSet rs = stmt.executeQuery("SELECT * FROM " + storeName + " WHERE key = 'key1'")) {
+            assertFalse(rs.next());
+          }
+        });
+        assertEquals(getRowCount(stmt, storeName), 3);
+
+        // Ending the ingestion flushes the remaining buffered records
+        recordTransformer.processDelete(lazyKey("key3"), partitionId, null);
+        recordTransformer.onEndVersionIngestion(storeVersion);
+        assertEquals(getRowCount(stmt, storeName), 2);
+      }
+    }
+  }
+
+  @Test
+  public void testBatchingFlushesBeforeCheckpoint() throws SQLException {
+    String tempDir = Utils.getTempDataDirectory().getAbsolutePath();
+
+    DaVinciRecordTransformerConfig dummyRecordTransformerConfig = new DaVinciRecordTransformerConfig.Builder()
+        .setRecordTransformerFunction(
+            (storeName, storeVersion, keySchema, inputValueSchema, outputValueSchema, config) -> null)
+        .setStoreRecordsInDaVinci(false)
+        .build();
+
+    int otherPartitionId = partitionId + 1;
+    try (DuckDBDaVinciRecordTransformer recordTransformer = new DuckDBDaVinciRecordTransformer(
+        storeName,
+        storeVersion,
+        SINGLE_FIELD_RECORD_SCHEMA,
+        NAME_RECORD_V1_SCHEMA,
+        NAME_RECORD_V1_SCHEMA,
+        dummyRecordTransformerConfig,
+        tempDir,
+        columnsToProject,
+        100,
+        TimeUnit.HOURS.toMillis(1))) {
+      recordTransformer.onStartVersionIngestion(partitionId, true);
+
+      try (Connection connection = DriverManager.getConnection(recordTransformer.getDuckDBUrl());
+          Statement stmt = connection.createStatement()) {
+        recordTransformer.processPut(lazyKey("key0"), lazyValue("Duck", "Goose"), partitionId, null);
+        recordTransformer.processPut(lazyKey("key1"), lazyValue("Duck", "Goose"), partitionId, null);
+        recordTransformer.processPut(lazyKey("key2"), lazyValue("Duck", "Goose"), otherPartitionId, null);
+        assertEquals(getRowCount(stmt, storeName), 0);
+
+        // Only the buffer of the checkpointed partition is flushed
+        recordTransformer.onBeforeCheckpoint(partitionId);
+        assertEquals(getRowCount(stmt, storeName), 2);
+        try (ResultSet rs = stmt.executeQuery("SELECT * FROM " + storeName + " WHERE key = 'key2'")) {
+          assertFalse(rs.next());
+        }
+
+        recordTransformer.processDelete(lazyKey("key0"), partitionId, null);
+        recordTransformer.onBeforeCheckpoint(otherPartitionId);
+        assertEquals(getRowCount(stmt, storeName), 3);
+        recordTransformer.onBeforeCheckpoint(partitionId);
+        assertEquals(getRowCount(stmt, storeName), 2);
+
+        // Nothing buffered
+        recordTransformer.onBeforeCheckpoint(partitionId);
+        recordTransformer.onBeforeCheckpoint(otherPartitionId + 1);
+        assertEquals(getRowCount(stmt, storeName), 2);
+      }
+    }
+  }
+
+  private Lazy<GenericRecord> lazyKey(String key) {
+    GenericRecord keyRecord = new GenericData.Record(SINGLE_FIELD_RECORD_SCHEMA);
+    keyRecord.put("key", key);
+    return Lazy.of(() -> keyRecord);
+  }
+
+  private Lazy<GenericRecord> lazyValue(String firstName, String lastName) {
+    GenericRecord valueRecord = new GenericData.Record(NAME_RECORD_V1_SCHEMA);
+    valueRecord.put("firstName", firstName);
+    valueRecord.put("lastName", lastName);
+    return Lazy.of(() -> valueRecord);
+  }
+
+  private int getRowCount(Statement statement, String tableName) throws SQLException {
+    try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM " + tableName)) {
+      assertTrue(rs.next());
+      return rs.getInt(1);
+    }
+  }
+
   private void assertDataset1(Statement statement, String storeName) throws SQLException {
     try (ResultSet rs = statement.executeQuery("SELECT * FROM " + storeName)) {
       assertTrue(rs.next(), "There should be a first row!");
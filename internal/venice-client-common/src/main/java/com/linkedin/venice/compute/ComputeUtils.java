@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -42,6 +43,8 @@ import org.apache.logging.log4j.Logger;
 public class ComputeUtils {
   private static final Logger LOGGER = LogManager.getLogger(ComputeUtils.class);
   public static final String CACHED_SQUARED_L2_NORM_KEY = "CACHED_SQUARED_L2_NORM_KEY";
+  public static final String CACHED_FLOAT_ARRAY_KEY = "CACHED_FLOAT_ARRAY_KEY";
+  public static final String CACHED_VALUE_VECTOR_BUFFER_KEY = "CACHED_VALUE_VECTOR_BUFFER_KEY";
   public static final Pattern VALID_AVRO_NAME_PATTERN = Pattern.compile("\\A[A-Za-z_][A-Za-z0-9_]*\\z");
   public static final String ILLEGAL_AVRO_CHARACTER = "[^A-Za-z0-9_]";
   public static final String ILLEGAL_AVRO_CHARACTER_REPLACEMENT = "_";
@@ -258,6 +261,111 @@ public class ComputeUtils {
     return CollectionUtils.asUnmodifiableList(floats);
   }
 
+  /**
+   * Array based variant of {@link #dotProduct(List, List)}, which the JIT can compile into a tight loop without any
+   * boxing or virtual call per element. The summation order is the same as the list based variant, so that both
+   * return the exact same result.
+   */
+  public static float dotProduct(float[] array1, float[] array2, int size) {
+    float dotProductResult = 0.0f;
+
+    int i = 0;
+    int limit = (size >> 2) << 2;
+    for (; i < limit; i += 4) {
+      float s0 = array1[i] * array2[i];
+      float s1 = array1[i + 1] * array2[i + 1];
+      float s2 = array1[i + 2] * array2[i + 2];
+      float s3 = array1[i + 3] * array2[i + 3];
+
+      dotProductResult += (s0 + s1 + s2 + s3);
+    }
+
+    for (; i < size; i++) {
+      dotProductResult += array1[i] * array2[i];
+    }
+    return dotProductResult;
+  }
+
+  public static float squaredL2Norm(float[] array, int size) {
+    return dotProduct(array, array, size);
+  }
+
+  public static List<Float> hadamardProduct(float[] array1, float[] array2, int size) {
+    float[] floats = new float[size];
+
+    int i = 0;
+    int limit = (size >> 2) << 2;
+    for (; i < limit; i += 4) {
+      floats[i] = array1[i] * array2[i];
+      floats[i + 1] = array1[i + 1] * array2[i + 1];
+      floats[i + 2] = array1[i + 2] * array2[i + 2];
+      floats[i + 3] = array1[i + 3] * array2[i + 3];
+    }
+
+    for (; i < size; i++) {
+      floats[i] = array1[i] * array2[i];
+    }
+    return CollectionUtils.asUnmodifiableList(floats);
+  }
+
+  /**
+   * Copy the given float list into a primitive array, reading the primitive values directly from a
+   * {@link PrimitiveFloatList} to avoid boxing.
+   *
+   * @param list the float list to copy
+   * @param reuse the array to copy into if it is large enough, can be null
+   * @return an array holding the values of the list in its first {@code list.size()} elements
+   */
+  public static float[] toFloatArray(List<Float> list, float[] reuse) {
+    int size = list.size();
+    float[] array = (reuse != null && reuse.length >= size) ? reuse : new float[size];
+    if (list instanceof PrimitiveFloatList) {
+      PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
+      for (int i = 0; i < size; i++) {
+        array[i] = primitiveFloatList.getPrimitive(i);
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        array[i] = list.get(i);
+      }
+    }
+    return array;
+  }
+
+  /**
+   * Copy the float list of the operation parameter into a primitive array once per request, instead of once per key.
+   * Like {@link #CACHED_SQUARED_L2_NORM_KEY}, this is assuming the parameter is immutable, which is the case for
+   * compute. The context must not be shared by concurrent threads.
+   */
+  public static float[] getCachedFloatArray(List<Float> operationParam, Map<String, Object> context) {
+    IdentityHashMap<List<Float>, float[]> cachedFloatArrays =
+        (IdentityHashMap<List<Float>, float[]>) context.get(CACHED_FLOAT_ARRAY_KEY);
+    if (cachedFloatArrays == null) {
+      cachedFloatArrays = new IdentityHashMap<>();
+      context.put(CACHED_FLOAT_ARRAY_KEY, cachedFloatArrays);
+    }
+    float[] cachedArray = cachedFloatArrays.get(operationParam);
+    if (cachedArray == null) {
+      cachedArray = toFloatArray(operationParam, null);
+      cachedFloatArrays.put(operationParam, cachedArray);
+    }
+    return cachedArray;
+  }
+
+  /**
+   * Copy the float list of a value record into a primitive array, which is reused by all the keys of a request.
+   * The returned array is only valid until the next call with the same context, so the context must not be shared by
+   * concurrent threads.
+   */
+  public static float[] toReusableFloatArray(List<Float> valueVector, Map<String, Object> context) {
+    float[] buffer = (float[]) context.get(CACHED_VALUE_VECTOR_BUFFER_KEY);
+    float[] array = toFloatArray(valueVector, buffer);
+    if (array != buffer) {
+      context.put(CACHED_VALUE_VECTOR_BUFFER_KEY, array);
+    }
+    return array;
+  }
+
   public static float squaredL2Norm(List<Float> list) {
     if (list instanceof PrimitiveFloatList) {
       PrimitiveFloatList primitiveFloatList = (PrimitiveFloatList) list;
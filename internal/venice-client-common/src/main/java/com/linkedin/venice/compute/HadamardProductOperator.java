@@ -36,7 +36,10 @@ public class HadamardProductOperator implements ReadComputeOperator {
         return;
       }
 
-      List<Float> hadamardProductResult = ComputeUtils.hadamardProduct(dotProductParam, valueVector);
+      List<Float> hadamardProductResult = ComputeUtils.hadamardProduct(
+          ComputeUtils.getCachedFloatArray(dotProductParam, context),
+          ComputeUtils.toReusableFloatArray(valueVector, context),
+          valueVector.size());
       putResult(resultRecord, resultField, hadamardProductResult);
     } catch (Exception e) {
       putResult(resultRecord, resultField, null);
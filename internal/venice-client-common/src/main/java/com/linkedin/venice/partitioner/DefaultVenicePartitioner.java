@@ -5,6 +5,7 @@ import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.List;
 import org.apache.avro.Schema;
 
 
@@ -53,8 +54,40 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
   }
 
   public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return getPartitionId(partitionerState.get(), keyBytes, offset, length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    return getPartitionId(keyByteBuffer.array(), keyByteBuffer.position(), keyByteBuffer.remaining(), numPartitions);
+  }
+
+  /**
+   * Looks up the thread-local state only once for the whole batch.
+   */
+  @Override
+  public void getPartitionIds(byte[][] keys, int[] partitionIds, int numPartitions) {
+    PartitionerState ps = partitionerState.get();
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(ps, keys[i], 0, keys[i].length, numPartitions);
+    }
+  }
+
+  @Override
+  public void getPartitionIds(List<ByteBuffer> keys, int[] partitionIds, int numPartitions) {
     PartitionerState ps = partitionerState.get();
+    for (int i = 0; i < keys.size(); i++) {
+      ByteBuffer key = keys.get(i);
+      partitionIds[i] = getPartitionId(ps, key.array(), key.position(), key.remaining(), numPartitions);
+    }
+  }
 
+  private static int getPartitionId(PartitionerState ps, byte[] keyBytes, int offset, int length, int numPartitions) {
     ps.md.update(keyBytes, offset, length);
     try {
       ps.digestSize = ps.md.digest(ps.digestOutput, 0, ps.digestOutput.length);
@@ -75,14 +108,4 @@ public class DefaultVenicePartitioner extends VenicePartitioner {
     ps.md.reset();
     return partition;
   }
-
-  @Override
-  public int getPartitionId(byte[] keyBytes, int numPartitions) {
-    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
-  }
-
-  @Override
-  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
-    return getPartitionId(keyByteBuffer.array(), keyByteBuffer.position(), keyByteBuffer.remaining(), numPartitions);
-  }
 }
@@ -0,0 +1,108 @@
+package com.linkedin.venice.partitioner;
+
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.ByteBuffer;
+import org.apache.avro.Schema;
+
+
+/**
+ * A {@link VenicePartitioner} based on the 32 bits variant of MurmurHash3, which is several times cheaper to compute
+ * than the MD5 digest of {@link DefaultVenicePartitioner}, and keeps no per-thread state.
+ *
+ * The hash is mapped to a partition with a multiply and shift rather than a modulo, so that no division is needed
+ * either. The hash is seeded with 0 and reads the key in little-endian blocks, as in the reference implementation, so
+ * that clients in other languages can reproduce it.
+ *
+ * N.B.: The partitions are unrelated to the ones of {@link DefaultVenicePartitioner}, so this partitioner must be
+ *       picked through the partitioner class of the store, which only applies to the versions pushed afterward.
+ */
+public class Murmur3VenicePartitioner extends VenicePartitioner {
+  private static final int C1 = 0xCC9E2D51;
+  private static final int C2 = 0x1B873593;
+
+  public Murmur3VenicePartitioner() {
+    super();
+  }
+
+  public Murmur3VenicePartitioner(VeniceProperties props) {
+    this(props, null);
+  }
+
+  public Murmur3VenicePartitioner(VeniceProperties props, Schema schema) {
+    super(props, schema);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int offset, int length, int numPartitions) {
+    return toPartition(hash(keyBytes, offset, length), numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(byte[] keyBytes, int numPartitions) {
+    return getPartitionId(keyBytes, 0, keyBytes.length, numPartitions);
+  }
+
+  @Override
+  public int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions) {
+    if (keyByteBuffer.hasArray()) {
+      return getPartitionId(
+          keyByteBuffer.array(),
+          keyByteBuffer.arrayOffset() + keyByteBuffer.position(),
+          keyByteBuffer.remaining(),
+          numPartitions);
+    }
+    byte[] keyBytes = new byte[keyByteBuffer.remaining()];
+    keyByteBuffer.duplicate().get(keyBytes);
+    return getPartitionId(keyBytes, numPartitions);
+  }
+
+  /**
+   * Maps the hash uniformly onto [0, numPartitions), see "A fast alternative to the modulo reduction" by D. Lemire.
+   */
+  static int toPartition(int hash, int numPartitions) {
+    return (int) (((hash & 0xFFFFFFFFL) * numPartitions) >>> 32);
+  }
+
+  /**
+   * MurmurHash3_x86_32, with a seed of 0.
+   */
+  static int hash(byte[] data, int offset, int length) {
+    int h = 0;
+    int blocksEnd = offset + (length & ~3);
+    for (int i = offset; i < blocksEnd; i += 4) {
+      int k = (data[i] & 0xFF) | (data[i + 1] & 0xFF) << 8 | (data[i + 2] & 0xFF) << 16 | data[i + 3] << 24;
+      h ^= mixK(k);
+      h = Integer.rotateLeft(h, 13) * 5 + 0xE6546B64;
+    }
+
+    int k = 0;
+    switch (length & 3) {
+      case 3:
+        k ^= (data[blocksEnd + 2] & 0xFF) << 16;
+        // fall through
+      case 2:
+        k ^= (data[blocksEnd + 1] & 0xFF) << 8;
+        // fall through
+      case 1:
+        k ^= data[blocksEnd] & 0xFF;
+        h ^= mixK(k);
+        break;
+      default:
+        break;
+    }
+
+    h ^= length;
+    h ^= h >>> 16;
+    h *= 0x85EBCA6B;
+    h ^= h >>> 13;
+    h *= 0xC2B2AE35;
+    h ^= h >>> 16;
+    return h;
+  }
+
+  private static int mixK(int k) {
+    k *= C1;
+    k = Integer.rotateLeft(k, 15);
+    return k * C2;
+  }
+}
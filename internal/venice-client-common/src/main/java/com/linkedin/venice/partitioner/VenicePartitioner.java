@@ -3,6 +3,7 @@ package com.linkedin.venice.partitioner;
 import com.linkedin.venice.exceptions.PartitionerSchemaMismatchException;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.nio.ByteBuffer;
+import java.util.List;
 import javax.annotation.Nonnull;
 import org.apache.avro.Schema;
 
@@ -60,6 +61,29 @@ public abstract class VenicePartitioner {
 
   public abstract int getPartitionId(ByteBuffer keyByteBuffer, int numPartitions);
 
+  /**
+   * Batch variant of {@link #getPartitionId(byte[], int)}, for multi-key requests and bulk writes. Implementors can
+   * override it to amortize per-call costs, such as fetching thread-local state, across the whole batch.
+   *
+   * @param keys          - The keys to be mapped into partitions
+   * @param partitionIds  - Receives the partition of each key, at the same index; must be at least as long as keys
+   * @param numPartitions - The number of total partitions available in Kafka/storage
+   */
+  public void getPartitionIds(byte[][] keys, int[] partitionIds, int numPartitions) {
+    for (int i = 0; i < keys.length; i++) {
+      partitionIds[i] = getPartitionId(keys[i], numPartitions);
+    }
+  }
+
+  /**
+   * Same as {@link #getPartitionIds(byte[][], int[], int)}, for keys held in {@link ByteBuffer}s.
+   */
+  public void getPartitionIds(List<ByteBuffer> keys, int[] partitionIds, int numPartitions) {
+    for (int i = 0; i < keys.size(); i++) {
+      partitionIds[i] = getPartitionId(keys.get(i), numPartitions);
+    }
+  }
+
   /**
    * Implementors of this class can optionally provide an implementation of this function,
    * which can perform validation of schemas to be certain that they are compatible with the
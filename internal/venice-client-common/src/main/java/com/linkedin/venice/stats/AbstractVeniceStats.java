@@ -175,11 +175,14 @@ public class AbstractVeniceStats {
   /**
    * N.B.: {@link LongAdderRateGauge} is just an implementation detail, and we do not wish to alter metric names
    * due to it, so we call it the same as {@link Rate}. Same for {@link AsyncGauge}, we don't want to alter any existing
-   * metric names, so we call it the same as {@link Gauge}.
+   * metric names, so we call it the same as {@link Gauge}. The stats of {@link ThreadLocalHistogram} are called the
+   * same as the Tehuti stats they replace.
    */
   private String metricNameSuffix(MeasurableStat stat) {
     if (stat instanceof LongAdderRateGauge) {
       return Rate.class.getSimpleName();
+    } else if (stat instanceof ThreadLocalHistogram.HistogramStat) {
+      return ((ThreadLocalHistogram.HistogramStat) stat).getMetricNameSuffix();
     } else if (stat.getClass() == AsyncGauge.class) {
       return Gauge.class.getSimpleName();
     } else {
@@ -115,6 +115,13 @@ public class TehutiUtils {
   }
 
   private static Percentile getPercentile(String name, double percentile) {
+    return new Percentile(name + "." + getPercentileSuffix(percentile), percentile);
+  }
+
+  /**
+   * @return the suffix of the name of the metric of a percentile, e.g. 50thPercentile or 99_9thPercentile
+   */
+  static String getPercentileSuffix(double percentile) {
     String stringPercentile = Double.toString(percentile);
     // Clip decimals for round numbers.
     if (stringPercentile.endsWith(ROUND_NUMBER_SUFFIX)) {
@@ -125,7 +132,7 @@ public class TehutiUtils {
     if (stringPercentile.contains(".")) {
       stringPercentile = stringPercentile.replace(".", "_");
     }
-    return new Percentile(name + "." + stringPercentile + "thPercentile", percentile);
+    return stringPercentile + "thPercentile";
   }
 
   /**
@@ -0,0 +1,404 @@
+package com.linkedin.venice.stats;
+
+import com.linkedin.venice.utils.SystemTime;
+import com.linkedin.venice.utils.Time;
+import io.tehuti.metrics.MeasurableStat;
+import io.tehuti.metrics.MetricConfig;
+import io.tehuti.metrics.stats.Gauge;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+import javax.annotation.Nullable;
+
+
+/**
+ * This metric class is to pre-aggregate the values recorded on hot paths, instead of recording each of them into a
+ * Tehuti {@link io.tehuti.metrics.Sensor}, which serializes the recordings behind its lock and the locks of its parents.
+ *
+ * Each thread records into its own recording: count, sum, min, max and, if percentiles are enabled, the counts of
+ * log-linear buckets, whose width is 1/8th of their lower bound. Recording never waits for another thread. When a stat
+ * returned by this class is measured, the recordings of all the threads since the previous snapshot are merged into a
+ * new {@link Snapshot}, which is then kept for {@link #SNAPSHOT_INTERVAL_MS}, like {@link LongAdderRateGauge}, so that
+ * all the stats measured in the same reporting cycle are consistent with each other.
+ *
+ * The values recorded into a histogram are recorded into its parent as well, if any, e.g. into the histogram of the
+ * total stats.
+ *
+ * The recordings of a thread only allocate the buckets covering the range of the values it recorded, e.g. ~90 buckets
+ * for latencies between 0.1ms and 100ms, at 4 bytes per bucket and two recordings per thread, rather than all the
+ * {@link #BUCKET_COUNT} buckets, which would cost ~2.7KB per thread and histogram.
+ */
+public class ThreadLocalHistogram {
+  public static final long SNAPSHOT_INTERVAL_MS = 30 * Time.MS_PER_SECOND;
+
+  /**
+   * Values are bucketed between 2^-10 (~0.001) and 2^31 (~2 billion), the smaller ones are all counted in the first
+   * bucket, and the bigger ones in the last bucket.
+   */
+  private static final int MIN_EXPONENT = -10;
+  private static final int MAX_EXPONENT = 30;
+  private static final int SUB_BUCKET_BITS = 3;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final double MIN_BUCKETED_VALUE = Math.scalb(1.0, MIN_EXPONENT);
+  static final int BUCKET_COUNT = 2 + ((MAX_EXPONENT - MIN_EXPONENT + 1) << SUB_BUCKET_BITS);
+
+  private final ThreadLocalHistogram parent;
+  private final boolean percentilesEnabled;
+  private final ThreadLocal<ThreadRecorder> threadRecorder = ThreadLocal.withInitial(this::createThreadRecorder);
+  private final List<ThreadRecorder> threadRecorders = new CopyOnWriteArrayList<>();
+  private final long creationTimeMs;
+  private volatile Snapshot lastSnapshot = null;
+
+  public ThreadLocalHistogram(@Nullable ThreadLocalHistogram parent, boolean percentilesEnabled) {
+    this(parent, percentilesEnabled, new SystemTime());
+  }
+
+  public ThreadLocalHistogram(@Nullable ThreadLocalHistogram parent, boolean percentilesEnabled, Time time) {
+    this.parent = parent;
+    this.percentilesEnabled = percentilesEnabled;
+    this.creationTimeMs = time.getMilliseconds();
+  }
+
+  public void record(double value) {
+    threadRecorder.get().record(value);
+    if (parent != null) {
+      parent.record(value);
+    }
+  }
+
+  /**
+   * @return the snapshot taken less than {@link #SNAPSHOT_INTERVAL_MS} before {@param currentTimeMs}, or else a new
+   *         snapshot of the values recorded since the previous one
+   */
+  public Snapshot getSnapshot(long currentTimeMs) {
+    Snapshot snapshot = lastSnapshot;
+    if (snapshot != null && currentTimeMs - snapshot.endTimeMs < SNAPSHOT_INTERVAL_MS) {
+      return snapshot;
+    }
+    synchronized (this) {
+      snapshot = lastSnapshot;
+      if (snapshot != null && currentTimeMs - snapshot.endTimeMs < SNAPSHOT_INTERVAL_MS) {
+        return snapshot;
+      }
+      long startTimeMs = snapshot == null ? creationTimeMs : snapshot.endTimeMs;
+      Snapshot newSnapshot = new Snapshot(startTimeMs, currentTimeMs, percentilesEnabled);
+      for (ThreadRecorder recorder: threadRecorders) {
+        // Checked before draining, so that no value can be recorded after the last drain of a dead thread
+        boolean isOwnerAlive = recorder.owner.isAlive();
+        recorder.drainTo(newSnapshot);
+        if (!isOwnerAlive) {
+          threadRecorders.remove(recorder);
+        }
+      }
+      lastSnapshot = newSnapshot;
+      return newSnapshot;
+    }
+  }
+
+  public HistogramStat getAvgStat() {
+    return new HistogramStat("Avg", Snapshot::getAvg);
+  }
+
+  public HistogramStat getMinStat() {
+    return new HistogramStat("Min", Snapshot::getMin);
+  }
+
+  public HistogramStat getMaxStat() {
+    return new HistogramStat("Max", Snapshot::getMax);
+  }
+
+  /**
+   * Same as {@link io.tehuti.metrics.stats.Rate}: the sum of the values recorded per second.
+   */
+  public HistogramStat getRateStat() {
+    return new HistogramStat("Rate", snapshot -> snapshot.getSum() / snapshot.getElapsedTimeInSeconds());
+  }
+
+  /**
+   * Same as {@link io.tehuti.metrics.stats.OccurrenceRate}: the number of values recorded per second.
+   */
+  public HistogramStat getOccurrenceRateStat() {
+    return new HistogramStat("OccurrenceRate", snapshot -> snapshot.getCount() / snapshot.getElapsedTimeInSeconds());
+  }
+
+  /**
+   * @return a stat named like the percentiles of {@link TehutiUtils#getPercentileStat(String, int, double, double...)}
+   */
+  public HistogramStat getPercentileStat(double percentile) {
+    if (!percentilesEnabled) {
+      throw new IllegalStateException("Percentiles are not enabled for this histogram");
+    }
+    return new HistogramStat(TehutiUtils.getPercentileSuffix(percentile), snapshot -> snapshot.getPercentile(percentile));
+  }
+
+  /**
+   * Same stats as {@link TehutiUtils#getPercentileStatWithAvgAndMax(String, String)}, with the given percentiles.
+   */
+  public List<MeasurableStat> getPercentileStatsWithAvgAndMax(double... percentiles) {
+    List<MeasurableStat> stats = getPercentileStats(percentiles);
+    stats.add(getAvgStat());
+    stats.add(getMaxStat());
+    return stats;
+  }
+
+  public List<MeasurableStat> getPercentileStats(double... percentiles) {
+    List<MeasurableStat> stats = new ArrayList<>(percentiles.length + 2);
+    for (double percentile: percentiles) {
+      stats.add(getPercentileStat(percentile));
+    }
+    return stats;
+  }
+
+  private ThreadRecorder createThreadRecorder() {
+    ThreadRecorder recorder = new ThreadRecorder(Thread.currentThread(), percentilesEnabled);
+    threadRecorders.add(recorder);
+    return recorder;
+  }
+
+  static int getBucketIndex(double value) {
+    // Also true for NaN
+    if (!(value >= MIN_BUCKETED_VALUE)) {
+      return 0;
+    }
+    int exponent = Math.getExponent(value);
+    if (exponent > MAX_EXPONENT) {
+      return BUCKET_COUNT - 1;
+    }
+    int subBucket = (int) ((Double.doubleToRawLongBits(value) & 0xFFFFFFFFFFFFFL) >>> (52 - SUB_BUCKET_BITS));
+    return 1 + ((exponent - MIN_EXPONENT) << SUB_BUCKET_BITS) + subBucket;
+  }
+
+  /**
+   * @return the value in the middle of the bucket, or NaN for the first and last buckets, which are unbounded
+   */
+  static double getBucketMidpoint(int bucketIndex) {
+    if (bucketIndex <= 0 || bucketIndex >= BUCKET_COUNT - 1) {
+      return Double.NaN;
+    }
+    int exponent = MIN_EXPONENT + ((bucketIndex - 1) >> SUB_BUCKET_BITS);
+    int subBucket = (bucketIndex - 1) & (SUB_BUCKET_COUNT - 1);
+    return Math.scalb(1.0 + (subBucket + 0.5) / SUB_BUCKET_COUNT, exponent);
+  }
+
+  /**
+   * A Tehuti stat measured from the snapshot of a {@link ThreadLocalHistogram}. The values are recorded directly into
+   * the histogram rather than into the sensor of the stat, so {@link #record(double, long)} ignores them.
+   */
+  public final class HistogramStat extends Gauge {
+    private final String metricNameSuffix;
+    private final ToDoubleFunction<Snapshot> measurement;
+
+    private HistogramStat(String metricNameSuffix, ToDoubleFunction<Snapshot> measurement) {
+      this.metricNameSuffix = metricNameSuffix;
+      this.measurement = measurement;
+    }
+
+    /**
+     * @return the suffix of the name of the metric, which is the same as for the equivalent Tehuti stat
+     */
+    public String getMetricNameSuffix() {
+      return metricNameSuffix;
+    }
+
+    @Override
+    public void record(double value, long now) {
+    }
+
+    @Override
+    public double measure(MetricConfig config, long currentTimeMs) {
+      return measurement.applyAsDouble(getSnapshot(currentTimeMs));
+    }
+  }
+
+  /**
+   * The merged recordings of all the threads between two snapshots.
+   */
+  public static final class Snapshot {
+    private final long startTimeMs;
+    private final long endTimeMs;
+    private final long[] bucketCounts;
+    private long count = 0;
+    private double sum = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    private Snapshot(long startTimeMs, long endTimeMs, boolean percentilesEnabled) {
+      this.startTimeMs = startTimeMs;
+      this.endTimeMs = endTimeMs;
+      this.bucketCounts = percentilesEnabled ? new long[BUCKET_COUNT] : null;
+    }
+
+    private void merge(Recording recording) {
+      count += recording.count;
+      sum += recording.sum;
+      min = Math.min(min, recording.min);
+      max = Math.max(max, recording.max);
+      if (bucketCounts != null) {
+        int[] recordedCounts = recording.bucketCounts;
+        for (int i = 0; i < recordedCounts.length; i++) {
+          bucketCounts[recording.firstBucketIndex + i] += recordedCounts[i];
+        }
+      }
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public double getSum() {
+      return sum;
+    }
+
+    public double getAvg() {
+      return count == 0 ? Double.NaN : sum / count;
+    }
+
+    public double getMin() {
+      return count == 0 ? Double.NaN : min;
+    }
+
+    public double getMax() {
+      return count == 0 ? Double.NaN : max;
+    }
+
+    public double getElapsedTimeInSeconds() {
+      // At least 1ms, to not divide by 0
+      return (double) Math.max(endTimeMs - startTimeMs, 1) / Time.MS_PER_SECOND;
+    }
+
+    /**
+     * @return the middle of the bucket of the value at the given percentile, within the min and max of the snapshot,
+     *         so the error is at most 1/16th of the value
+     */
+    public double getPercentile(double percentile) {
+      if (count == 0 || bucketCounts == null) {
+        return Double.NaN;
+      }
+      long rank = Math.max((long) Math.ceil(percentile / 100 * count), 1);
+      long seen = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        seen += bucketCounts[i];
+        if (seen >= rank) {
+          if (i == 0) {
+            return min;
+          } else if (i == BUCKET_COUNT - 1) {
+            return max;
+          }
+          return Math.min(Math.max(getBucketMidpoint(i), min), max);
+        }
+      }
+      return max;
+    }
+  }
+
+  /**
+   * The values recorded by one thread. The bucket counts only cover the buckets from {@link #firstBucketIndex} to the
+   * highest one recorded so far, in blocks of {@link #SUB_BUCKET_COUNT} buckets, and grow as needed.
+   */
+  private static final class Recording {
+    private static final int[] NO_BUCKETS = new int[0];
+
+    private final boolean percentilesEnabled;
+    private int[] bucketCounts = NO_BUCKETS;
+    private int firstBucketIndex = 0;
+    private long count = 0;
+    private double sum = 0;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    private Recording(boolean percentilesEnabled) {
+      this.percentilesEnabled = percentilesEnabled;
+    }
+
+    private void record(double value) {
+      count++;
+      sum += value;
+      if (value < min) {
+        min = value;
+      }
+      if (value > max) {
+        max = value;
+      }
+      if (percentilesEnabled) {
+        int bucketIndex = getBucketIndex(value);
+        int offset = bucketIndex - firstBucketIndex;
+        if (offset < 0 || offset >= bucketCounts.length) {
+          growBuckets(bucketIndex);
+          offset = bucketIndex - firstBucketIndex;
+        }
+        bucketCounts[offset]++;
+      }
+    }
+
+    private void growBuckets(int bucketIndex) {
+      int blockMask = SUB_BUCKET_COUNT - 1;
+      int newFirstBucketIndex = bucketIndex & ~blockMask;
+      int newEndBucketIndex = Math.min((bucketIndex | blockMask) + 1, BUCKET_COUNT);
+      if (bucketCounts.length > 0) {
+        newFirstBucketIndex = Math.min(newFirstBucketIndex, firstBucketIndex);
+        newEndBucketIndex = Math.max(newEndBucketIndex, firstBucketIndex + bucketCounts.length);
+      }
+      int[] newBucketCounts = new int[newEndBucketIndex - newFirstBucketIndex];
+      if (bucketCounts.length > 0) {
+        System.arraycopy(bucketCounts, 0, newBucketCounts, firstBucketIndex - newFirstBucketIndex, bucketCounts.length);
+      }
+      bucketCounts = newBucketCounts;
+      firstBucketIndex = newFirstBucketIndex;
+    }
+
+    private void reset() {
+      count = 0;
+      sum = 0;
+      min = Double.POSITIVE_INFINITY;
+      max = Double.NEGATIVE_INFINITY;
+      Arrays.fill(bucketCounts, 0);
+    }
+  }
+
+  /**
+   * The recordings of one thread. The thread records into the active one of two recordings, while the other one is
+   * merged into the snapshots. {@link #sequence} is odd while the thread records, so that the snapshot can wait for
+   * the thread to be done with a recording before merging it, after making the other one active.
+   */
+  private static final class ThreadRecorder {
+    private final Thread owner;
+    private final Recording[] recordings;
+    private volatile int activeIndex = 0;
+    private volatile long sequence = 0;
+
+    private ThreadRecorder(Thread owner, boolean percentilesEnabled) {
+      this.owner = owner;
+      this.recordings = new Recording[] { new Recording(percentilesEnabled), new Recording(percentilesEnabled) };
+    }
+
+    /**
+     * Only called by the owner thread.
+     */
+    private void record(double value) {
+      long currentSequence = sequence;
+      sequence = currentSequence + 1;
+      recordings[activeIndex].record(value);
+      sequence = currentSequence + 2;
+    }
+
+    /**
+     * Only called while holding the lock of the histogram.
+     */
+    private void drainTo(Snapshot snapshot) {
+      int drainedIndex = activeIndex;
+      activeIndex = 1 - drainedIndex;
+      long currentSequence = sequence;
+      // The owner may still be recording into the drained recording, which it read as the active one before the swap
+      if ((currentSequence & 1) != 0) {
+        while (sequence == currentSequence) {
+          Thread.yield();
+        }
+      }
+      Recording recording = recordings[drainedIndex];
+      snapshot.merge(recording);
+      recording.reset();
+    }
+  }
+}
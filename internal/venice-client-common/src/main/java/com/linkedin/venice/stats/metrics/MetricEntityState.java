@@ -1,5 +1,6 @@
 package com.linkedin.venice.stats.metrics;
 
+import com.linkedin.venice.stats.ThreadLocalHistogram;
 import com.linkedin.venice.stats.VeniceOpenTelemetryMetricsRepository;
 import com.linkedin.venice.stats.dimensions.VeniceMetricsDimensions;
 import io.opentelemetry.api.common.Attributes;
@@ -30,6 +31,8 @@ public abstract class MetricEntityState extends AsyncMetricEntityState {
   /** define both long and double consumer to avoid unnecessary conversions **/
   private final ObjDoubleConsumer<MetricAttributesData> otelDoubleRecordingStrategy;
   private final ObjLongConsumer<MetricAttributesData> otelLongRecordingStrategy;
+  /** Pre-aggregates the Tehuti recordings instead of the Tehuti sensor when set, see {@link #setTehutiHistogram} */
+  private ThreadLocalHistogram tehutiHistogram = null;
 
   public MetricEntityState(
       MetricEntity metricEntity,
@@ -173,9 +176,26 @@ public abstract class MetricEntityState extends AsyncMetricEntityState {
     }
   }
 
+  /**
+   * Records the Tehuti values into {@param tehutiHistogram} instead of the Tehuti sensor, whose stats are expected to
+   * be measured from the histogram, e.g. {@link ThreadLocalHistogram#getPercentileStatsWithAvgAndMax}. The values are
+   * still only recorded if this metric has a Tehuti sensor, i.e. if Tehuti metrics are enabled.
+   */
+  public void setTehutiHistogram(ThreadLocalHistogram tehutiHistogram) {
+    this.tehutiHistogram = tehutiHistogram;
+  }
+
+  public ThreadLocalHistogram getTehutiHistogram() {
+    return tehutiHistogram;
+  }
+
   void recordTehutiMetric(double value) {
     if (tehutiSensor != null) {
-      tehutiSensor.record(value);
+      if (tehutiHistogram != null) {
+        tehutiHistogram.record(value);
+      } else {
+        tehutiSensor.record(value);
+      }
     }
   }
 
@@ -162,6 +162,44 @@ public class ComputeUtilsTest {
     Assert.assertEquals(result, expectedOutput);
   }
 
+  @Test
+  public void testFloatArrayKernelsMatchListBasedOnes() {
+    int size = 259;
+    PrimitiveFloatList primitiveList1 = createPrimitiveFloatList();
+    List<Float> list2 = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      primitiveList1.addPrimitive(i * 0.37f - 11.3f);
+      list2.add(((i * 7) % 13) * 0.91f + 0.05f);
+    }
+    float[] array1 = ComputeUtils.toFloatArray(primitiveList1, null);
+    // a larger array is reused as is, and only its first elements are used
+    float[] array2 = ComputeUtils.toFloatArray(list2, new float[size + 5]);
+    assertEquals(array2.length, size + 5);
+
+    assertEquals(ComputeUtils.dotProduct(array1, array2, size), ComputeUtils.dotProduct(primitiveList1, list2));
+    assertEquals(ComputeUtils.squaredL2Norm(array2, size), ComputeUtils.squaredL2Norm(list2));
+    assertEquals(
+        ComputeUtils.hadamardProduct(array1, array2, size),
+        ComputeUtils.hadamardProduct(primitiveList1, list2));
+  }
+
+  @Test
+  public void testFloatArrayCaching() {
+    Map<String, Object> context = new HashMap<>();
+    List<Float> param = Arrays.asList(1.0f, 2.0f, 3.0f);
+    float[] cachedParam = ComputeUtils.getCachedFloatArray(param, context);
+    Assert.assertSame(ComputeUtils.getCachedFloatArray(param, context), cachedParam);
+    // the cache is by identity
+    Assert.assertNotSame(ComputeUtils.getCachedFloatArray(new ArrayList<>(param), context), cachedParam);
+
+    float[] valueBuffer = ComputeUtils.toReusableFloatArray(createPrimitiveFloatList(4.0f, 5.0f, 6.0f), context);
+    Assert.assertSame(ComputeUtils.toReusableFloatArray(Arrays.asList(7.0f, 8.0f), context), valueBuffer);
+    assertEquals(valueBuffer[0], 7.0f);
+    assertEquals(valueBuffer[1], 8.0f);
+    // a longer value vector grows the buffer
+    Assert.assertNotSame(ComputeUtils.toReusableFloatArray(Arrays.asList(1f, 2f, 3f, 4f), context), valueBuffer);
+  }
+
   private static GenericRecord createGetNullableFieldValueAsListRecord() {
     Schema schema = SchemaBuilder.record("SampleSchema")
         .fields()
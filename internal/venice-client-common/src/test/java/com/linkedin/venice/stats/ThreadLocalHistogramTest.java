@@ -0,0 +1,190 @@
+package com.linkedin.venice.stats;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestMockTime;
+import io.tehuti.metrics.MetricConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class ThreadLocalHistogramTest {
+  private static final MetricConfig METRIC_CONFIG = new MetricConfig();
+
+  @Test
+  public void testBuckets() {
+    assertEquals(ThreadLocalHistogram.getBucketIndex(0), 0);
+    assertEquals(ThreadLocalHistogram.getBucketIndex(-1), 0);
+    assertEquals(ThreadLocalHistogram.getBucketIndex(Double.NaN), 0);
+    assertEquals(ThreadLocalHistogram.getBucketIndex(0.0001), 0);
+    assertEquals(ThreadLocalHistogram.getBucketIndex(1e12), ThreadLocalHistogram.BUCKET_COUNT - 1);
+    assertEquals(ThreadLocalHistogram.getBucketIndex(Double.POSITIVE_INFINITY), ThreadLocalHistogram.BUCKET_COUNT - 1);
+
+    int previousIndex = 0;
+    for (double value = 0.001; value < 1e9; value *= 1.01) {
+      int index = ThreadLocalHistogram.getBucketIndex(value);
+      assertTrue(index >= previousIndex, "Buckets must be ordered like the values");
+      double midpoint = ThreadLocalHistogram.getBucketMidpoint(index);
+      assertTrue(Math.abs(midpoint - value) <= value / 16, value + " is too far from its bucket midpoint " + midpoint);
+      previousIndex = index;
+    }
+    assertTrue(Double.isNaN(ThreadLocalHistogram.getBucketMidpoint(0)));
+    assertTrue(Double.isNaN(ThreadLocalHistogram.getBucketMidpoint(ThreadLocalHistogram.BUCKET_COUNT - 1)));
+  }
+
+  @Test
+  public void testStats() {
+    TestMockTime time = new TestMockTime();
+    ThreadLocalHistogram histogram = new ThreadLocalHistogram(null, true, time);
+    ThreadLocalHistogram.HistogramStat avg = histogram.getAvgStat();
+    ThreadLocalHistogram.HistogramStat min = histogram.getMinStat();
+    ThreadLocalHistogram.HistogramStat max = histogram.getMaxStat();
+    ThreadLocalHistogram.HistogramStat rate = histogram.getRateStat();
+    ThreadLocalHistogram.HistogramStat occurrenceRate = histogram.getOccurrenceRateStat();
+    ThreadLocalHistogram.HistogramStat p50 = histogram.getPercentileStat(50);
+    ThreadLocalHistogram.HistogramStat p99 = histogram.getPercentileStat(99);
+    ThreadLocalHistogram.HistogramStat p999 = histogram.getPercentileStat(99.9);
+    assertEquals(p50.getMetricNameSuffix(), "50thPercentile");
+    assertEquals(p999.getMetricNameSuffix(), "99_9thPercentile");
+    assertEquals(occurrenceRate.getMetricNameSuffix(), "OccurrenceRate");
+
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i);
+    }
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+
+    long now = time.getMilliseconds();
+    assertEquals(avg.measure(METRIC_CONFIG, now), 500.5);
+    assertEquals(min.measure(METRIC_CONFIG, now), 1.0);
+    assertEquals(max.measure(METRIC_CONFIG, now), 1000.0);
+    assertEquals(rate.measure(METRIC_CONFIG, now), 500500.0 / 30);
+    assertEquals(occurrenceRate.measure(METRIC_CONFIG, now), 1000.0 / 30);
+    assertEquals(p50.measure(METRIC_CONFIG, now), 500, 500 / 16.0);
+    assertEquals(p99.measure(METRIC_CONFIG, now), 990, 990 / 16.0);
+    assertEquals(p999.measure(METRIC_CONFIG, now), 999, 999 / 16.0);
+
+    // The snapshot is kept until the next interval
+    histogram.record(5000);
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS - 1);
+    assertEquals(max.measure(METRIC_CONFIG, time.getMilliseconds()), 1000.0);
+    time.addMilliseconds(1);
+    assertEquals(max.measure(METRIC_CONFIG, time.getMilliseconds()), 5000.0);
+    assertEquals(p50.measure(METRIC_CONFIG, time.getMilliseconds()), 5000.0, "Percentiles must be within min and max");
+    assertEquals(occurrenceRate.measure(METRIC_CONFIG, time.getMilliseconds()), 1.0 / 30);
+
+    // Nothing was recorded in the last interval
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+    assertTrue(Double.isNaN(avg.measure(METRIC_CONFIG, time.getMilliseconds())));
+    assertTrue(Double.isNaN(p50.measure(METRIC_CONFIG, time.getMilliseconds())));
+    assertEquals(rate.measure(METRIC_CONFIG, time.getMilliseconds()), 0.0);
+  }
+
+  @Test
+  public void testBucketsCoverTheRecordedRange() throws InterruptedException {
+    TestMockTime time = new TestMockTime();
+    ThreadLocalHistogram histogram = new ThreadLocalHistogram(null, true, time);
+    // The buckets of the recordings grow both ways, and the threads cover different ranges
+    for (double value: new double[] { 100, 0.5, 1e12, 0 }) {
+      histogram.record(value);
+    }
+    Thread thread = new Thread(() -> {
+      for (int i = 0; i < 96; i++) {
+        histogram.record(10);
+      }
+    });
+    thread.start();
+    thread.join();
+
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+    ThreadLocalHistogram.Snapshot snapshot = histogram.getSnapshot(time.getMilliseconds());
+    assertEquals(snapshot.getCount(), 100);
+    assertEquals(snapshot.getPercentile(1), 0.0);
+    assertEquals(snapshot.getPercentile(2), 0.5, 0.5 / 16);
+    assertEquals(snapshot.getPercentile(50), 10, 10 / 16.0);
+    assertEquals(snapshot.getPercentile(99), 100, 100 / 16.0);
+    assertEquals(snapshot.getPercentile(100), 1e12);
+
+    // The recordings are reset after being drained
+    histogram.record(1);
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+    snapshot = histogram.getSnapshot(time.getMilliseconds());
+    assertEquals(snapshot.getCount(), 1);
+    assertEquals(snapshot.getPercentile(99), 1.0);
+  }
+
+  @Test
+  public void testRecordIntoParent() {
+    TestMockTime time = new TestMockTime();
+    ThreadLocalHistogram total = new ThreadLocalHistogram(null, false, time);
+    ThreadLocalHistogram store1 = new ThreadLocalHistogram(total, false, time);
+    ThreadLocalHistogram store2 = new ThreadLocalHistogram(total, false, time);
+    store1.record(10);
+    store2.record(20);
+    store2.record(30);
+
+    long now = time.getMilliseconds();
+    assertEquals(store1.getSnapshot(now).getCount(), 1);
+    assertEquals(store2.getSnapshot(now).getMax(), 30.0);
+    ThreadLocalHistogram.Snapshot totalSnapshot = total.getSnapshot(now);
+    assertEquals(totalSnapshot.getCount(), 3);
+    assertEquals(totalSnapshot.getSum(), 60.0);
+    assertEquals(totalSnapshot.getMin(), 10.0);
+    assertSame(total.getSnapshot(now), totalSnapshot);
+
+    Assert.expectThrows(IllegalStateException.class, () -> total.getPercentileStat(99));
+  }
+
+  @Test(timeOut = 60000)
+  public void testConcurrentRecording() throws InterruptedException {
+    TestMockTime time = new TestMockTime();
+    ThreadLocalHistogram histogram = new ThreadLocalHistogram(null, true, time);
+    int threadCount = 8;
+    int recordsPerThread = 100_000;
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        for (int j = 0; j < recordsPerThread; j++) {
+          histogram.record(1);
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    startLatch.countDown();
+
+    // Snapshots taken while the threads are recording must not lose any value
+    long count = 0;
+    boolean threadsAlive = true;
+    while (threadsAlive) {
+      threadsAlive = false;
+      for (Thread thread: threads) {
+        threadsAlive |= thread.isAlive();
+      }
+      time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+      ThreadLocalHistogram.Snapshot snapshot = histogram.getSnapshot(time.getMilliseconds());
+      count += snapshot.getCount();
+      assertEquals(snapshot.getSum(), (double) snapshot.getCount());
+    }
+    assertEquals(count, (long) threadCount * recordsPerThread);
+
+    // The recordings of the dead threads have all been drained
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+    histogram.record(2);
+    time.addMilliseconds(ThreadLocalHistogram.SNAPSHOT_INTERVAL_MS);
+    ThreadLocalHistogram.Snapshot snapshot = histogram.getSnapshot(time.getMilliseconds());
+    assertEquals(snapshot.getCount(), 1);
+    assertEquals(snapshot.getPercentile(50), 2.0);
+  }
+}
@@ -764,7 +764,25 @@ public class ConfigKeys {
   public static final String SERVER_INGESTION_TASK_MAX_IDLE_COUNT = "server.ingestion.task.max.idle.count";
   public static final String STORE_WRITER_BUFFER_MEMORY_CAPACITY = "store.writer.buffer.memory.capacity";
   public static final String STORE_WRITER_BUFFER_NOTIFY_DELTA = "store.writer.buffer.notify.delta";
+  /**
+   * The max number of buffered records a store writer takes out of its queue at once. 1 takes them one by one.
+   */
+  public static final String STORE_WRITER_DRAIN_BATCH_SIZE = "store.writer.drain.batch.size";
+  /**
+   * How often the topic-partitions are reassigned across the store writers, based on the time each writer spent on
+   * them. 0 keeps the static hash-based assignment.
+   */
+  public static final String STORE_WRITER_REBALANCE_INTERVAL_MS = "store.writer.rebalance.interval.ms";
   public static final String SERVER_REST_SERVICE_STORAGE_THREAD_NUM = "server.rest.service.storage.thread.num";
+  /**
+   * One out of this many reads and ingested writes is sampled to track the hot keys of each store version. 0 disables
+   * the tracking.
+   */
+  public static final String SERVER_HOT_KEY_TRACKING_SAMPLE_INTERVAL = "server.hot.key.tracking.sample.interval";
+  /**
+   * The number of hot keys tracked per store version, for reads and writes each.
+   */
+  public static final String SERVER_HOT_KEY_TRACKING_TOP_K = "server.hot.key.tracking.top.k";
   public static final String SERVER_NETTY_IDLE_TIME_SECONDS = "server.netty.idle.time.seconds";
   public static final String SERVER_MAX_REQUEST_SIZE = "server.max.request.size";
   public static final String SERVER_SOURCE_TOPIC_OFFSET_CHECK_INTERVAL_MS =
@@ -1058,6 +1076,33 @@ public class ConfigKeys {
    */
   public static final String SERVER_PARALLEL_BATCH_GET_CHUNK_SIZE = "server.parallel.batch.get.chunk.size";
 
+  /**
+   * Whether to resolve the keys of batch get and compute requests with one storage engine MultiGet per partition,
+   * instead of one lookup per key. When parallel batch get is enabled, this applies to each chunk of keys.
+   */
+  public static final String SERVER_BATCH_GET_MULTI_GET_LOOKUP_ENABLED = "server.batch.get.multi.get.lookup.enabled";
+
+  /**
+   * Whether to stream the chunks of large values out of single get responses with chunked transfer encoding, one chunk
+   * at a time as the channel becomes writable, instead of assembling the whole value in memory before responding.
+   */
+  public static final String SERVER_SINGLE_GET_LARGE_VALUE_STREAMING_ENABLED =
+      "server.single.get.large.value.streaming.enabled";
+
+  /**
+   * The number of chunks of a streamed large value which are read ahead on the storage execution threads, while the
+   * previous chunks are being written out.
+   */
+  public static final String SERVER_SINGLE_GET_LARGE_VALUE_STREAMING_READ_AHEAD_CHUNKS =
+      "server.single.get.large.value.streaming.read.ahead.chunks";
+
+  /**
+   * Max size of each off-heap slab allocated by the {@link com.linkedin.venice.meta.PersistenceType#OFF_HEAP_IN_MEMORY}
+   * storage engine. Slabs start small and double up to this size, and larger records get a dedicated slab.
+   */
+  public static final String SERVER_OFF_HEAP_IN_MEMORY_MAX_SLAB_SIZE_IN_BYTES =
+      "server.off.heap.in.memory.max.slab.size.in.bytes";
+
   /**
    * The request early termination threshold map:
    * The key will be store name, and the value will be the actual threshold.
@@ -2087,6 +2132,18 @@ public class ConfigKeys {
   public static final String ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED =
       "router.http.client5.skip.cipher.check.enabled";
 
+  /**
+   * Number of HTTP/2 connections to each storage node when using the Netty HTTP/2 storage node client.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_CONNECTIONS_PER_HOST =
+      "router.netty.http2.client.connections.per.host";
+
+  /**
+   * Maximum size in bytes of a response which the Netty HTTP/2 storage node client accepts from a storage node.
+   */
+  public static final String ROUTER_NETTY_HTTP2_CLIENT_MAX_RESPONSE_SIZE =
+      "router.netty.http2.client.max.response.size";
+
   /**
    * Number of IO threads used for AHAC client.
    */
@@ -2207,6 +2264,12 @@ public class ConfigKeys {
    */
   public static final String BLOB_TRANSFER_DISABLED_TIME_LAG_THRESHOLD_IN_MINUTES =
       "blob.transfer.disabled.time.lag.threshold.in.minutes";
+  /**
+   * Whether a replica bootstrapping from blob transfer should keep the SST files it already holds locally and only
+   * fetch the missing ones from the peer. SST files are immutable, so a local file with the same name, size and
+   * checksum as the one in the peer snapshot can be reused as is.
+   */
+  public static final String BLOB_TRANSFER_INCREMENTAL_TRANSFER_ENABLED = "blob.transfer.incremental.transfer.enabled";
   // This is a freshness in sec to measure the connectivity between the peers,
   // if the connectivity is not fresh, then retry the connection.
   public static final String BLOB_TRANSFER_PEERS_CONNECTIVITY_FRESHNESS_IN_SECONDS =
@@ -2533,6 +2596,21 @@ public class ConfigKeys {
    */
   public static final String SERVER_READ_OTEL_STATS_ENABLED = "server.read.otel.stats.enabled";
 
+  /**
+   * Whether to pre-aggregate the Tehuti metrics recorded for each read request, such as the request latency and the
+   * storage engine query latency, in per-thread histograms instead of recording them into the Tehuti sensors, which
+   * serialize the recordings of all the request handling threads. The metrics are then measured from snapshots of the
+   * histograms, which are taken at most once per 30 seconds.
+   *
+   * This costs heap: each request handling thread keeps its own recordings for every histogram it records into, i.e.
+   * for each metric of each store it serves and for the total metrics. That is ~200 bytes per thread and histogram,
+   * plus 8 bytes per percentile bucket in the range of the recorded values, e.g. ~700 bytes for latencies between
+   * 0.1ms and 100ms, and at most ~2.7KB. With 64 threads and 100 stores, this amounts to tens of MB.
+   * See {@link com.linkedin.venice.stats.ThreadLocalHistogram}.
+   */
+  public static final String SERVER_READ_METRICS_PRE_AGGREGATION_ENABLED =
+      "server.read.metrics.pre.aggregation.enabled";
+
   /**
    * A config to control which status store to use for fetching incremental push job status from the controller. This config
    * should be removed once the migration of push status to push status system store is complete.
@@ -2937,6 +3015,19 @@ public class ConfigKeys {
    */
   public static final String ROUTER_RESPONSE_AGGREGATION_QUEUE_CAPACITY = "router.response.aggregation.queue.capacity";
 
+  /**
+   * Comma-separated list of stores whose single-get responses will be cached in Router, keyed by store version and
+   * key bytes. The cache is dropped whenever Router swaps to a new current version, so it is only suitable for
+   * batch-only stores whose data doesn't change within a version. The cache is disabled when the list is empty.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_STORES = "router.response.cache.stores";
+  /**
+   * Maximum size of the response cache of each store listed in {@link #ROUTER_RESPONSE_CACHE_STORES}, accounting for
+   * both key and value bytes.
+   */
+  public static final String ROUTER_RESPONSE_CACHE_MAX_SIZE_PER_STORE_IN_BYTES =
+      "router.response.cache.max.size.per.store.in.bytes";
+
   /**
    * Server configs to enable the topic partition re-subscription during ingestion to let bottom ingestion service aware
    * of store version's ingestion context changed (workload type {#@link PartitionReplicaIngestionContext.WorkloadType} or
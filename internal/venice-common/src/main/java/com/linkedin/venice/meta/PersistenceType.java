@@ -33,7 +33,12 @@ public enum PersistenceType {
   /**
    * Similar to IN_MEMORY but with different retention rules of data (that is, data is evicted under certain circumstances)
    */
-  CACHE(4);
+  CACHE(4),
+
+  /**
+   * Volatile storage engine based on an open-addressing hash table which keeps keys and values in off-heap slabs.
+   */
+  OFF_HEAP_IN_MEMORY(5);
 
   public final int value;
 
@@ -5,6 +5,8 @@ import static com.linkedin.venice.ConfigKeys.PUBSUB_TYPE_ID_TO_POSITION_CLASS_NA
 import com.linkedin.venice.ConfigKeys;
 import com.linkedin.venice.annotation.VisibleForTesting;
 import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.adapter.file.FileLogPosition;
+import com.linkedin.venice.pubsub.adapter.file.FileLogPositionFactory;
 import com.linkedin.venice.pubsub.adapter.kafka.common.ApacheKafkaOffsetPosition;
 import com.linkedin.venice.pubsub.adapter.kafka.common.ApacheKafkaOffsetPositionFactory;
 import com.linkedin.venice.pubsub.api.PubSubPosition;
@@ -57,6 +59,7 @@ public class PubSubPositionTypeRegistry {
    *   <li>{@code -2} —> {@link PubSubSymbolicPosition#EARLIEST}: Marker for the earliest retrievable position in a partition</li>
    *   <li>{@code -1} —> {@link PubSubSymbolicPosition#LATEST}: Marker for the latest retrievable position in a partition</li>
    *   <li>{@code  0} —> {@link ApacheKafkaOffsetPosition}: Standard Kafka offset-based position</li>
+   *   <li>{@code  1} —> {@link FileLogPosition}: Position in the local append-only logs of the file-backed adapter</li>
    * </ul>
    * <p>
    * {@link #POSITION_TYPE_INVALID_MAGIC_VALUE} is used as a sentinel value to indicate that a position
@@ -65,6 +68,7 @@ public class PubSubPositionTypeRegistry {
   public static final int EARLIEST_POSITION_RESERVED_TYPE_ID = -2;
   public static final int LATEST_POSITION_RESERVED_TYPE_ID = -1;
   public static final int APACHE_KAFKA_OFFSET_POSITION_TYPE_ID = 0;
+  public static final int FILE_LOG_POSITION_TYPE_ID = 1;
   public static final int POSITION_TYPE_INVALID_MAGIC_VALUE = Integer.MIN_VALUE;
 
   /**
@@ -77,10 +81,11 @@ public class PubSubPositionTypeRegistry {
   public static final Int2ObjectMap<String> RESERVED_POSITION_TYPE_ID_TO_CLASS_NAME_MAP;
 
   static {
-    Int2ObjectMap<String> tempMap = new Int2ObjectOpenHashMap<>(3);
+    Int2ObjectMap<String> tempMap = new Int2ObjectOpenHashMap<>(4);
     tempMap.put(EARLIEST_POSITION_RESERVED_TYPE_ID, EarliestPositionFactory.class.getName());
     tempMap.put(LATEST_POSITION_RESERVED_TYPE_ID, LatestPositionFactory.class.getName());
     tempMap.put(APACHE_KAFKA_OFFSET_POSITION_TYPE_ID, ApacheKafkaOffsetPositionFactory.class.getName());
+    tempMap.put(FILE_LOG_POSITION_TYPE_ID, FileLogPositionFactory.class.getName());
     RESERVED_POSITION_TYPE_ID_TO_CLASS_NAME_MAP = Int2ObjectMaps.unmodifiable(tempMap);
   }
 
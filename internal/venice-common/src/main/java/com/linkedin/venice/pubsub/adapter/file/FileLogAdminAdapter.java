@@ -0,0 +1,119 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.PubSubConstants;
+import com.linkedin.venice.pubsub.PubSubTopicConfiguration;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.PubSubAdminAdapter;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+
+/**
+ * A {@link PubSubAdminAdapter} which manages the topics of a {@link FileLogBroker}.
+ *
+ * Topics are created and deleted synchronously. The replication factor is ignored, since each log only lives in one
+ * directory, and so is log compaction: the retention is the only config which is enforced.
+ */
+public class FileLogAdminAdapter implements PubSubAdminAdapter {
+  private final FileLogBroker broker;
+  private final PubSubTopicRepository pubSubTopicRepository;
+  private boolean closed = false;
+
+  FileLogAdminAdapter(FileLogBroker broker, PubSubTopicRepository pubSubTopicRepository) {
+    this.broker = broker;
+    this.pubSubTopicRepository = pubSubTopicRepository;
+  }
+
+  @Override
+  public void createTopic(
+      PubSubTopic pubSubTopic,
+      int numPartitions,
+      int replicationFactor,
+      PubSubTopicConfiguration pubSubTopicConfiguration) {
+    broker.createTopic(pubSubTopic.getName(), numPartitions, pubSubTopicConfiguration);
+  }
+
+  @Override
+  public void deleteTopic(PubSubTopic pubSubTopic, Duration timeout) {
+    broker.deleteTopic(pubSubTopic.getName());
+  }
+
+  @Override
+  public PubSubTopicConfiguration getTopicConfig(PubSubTopic pubSubTopic) {
+    return broker.getTopicConfig(pubSubTopic.getName());
+  }
+
+  @Override
+  public Set<PubSubTopic> listAllTopics() {
+    Set<PubSubTopic> topics = new HashSet<>();
+    for (String topicName: broker.listTopics()) {
+      topics.add(pubSubTopicRepository.getTopic(topicName));
+    }
+    return topics;
+  }
+
+  @Override
+  public void setTopicConfig(PubSubTopic pubSubTopic, PubSubTopicConfiguration pubSubTopicConfiguration)
+      throws PubSubTopicDoesNotExistException {
+    broker.setTopicConfig(pubSubTopic.getName(), pubSubTopicConfiguration);
+  }
+
+  @Override
+  public boolean containsTopic(PubSubTopic pubSubTopic) {
+    return broker.containsTopic(pubSubTopic.getName());
+  }
+
+  @Override
+  public boolean containsTopicWithPartitionCheck(PubSubTopicPartition pubSubTopicPartition) {
+    String topicName = pubSubTopicPartition.getTopicName();
+    try {
+      return pubSubTopicPartition.getPartitionNumber() < broker.getPartitionCount(topicName);
+    } catch (PubSubTopicDoesNotExistException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public Map<PubSubTopic, Long> getAllTopicRetentions() {
+    Map<PubSubTopic, Long> retentions = new HashMap<>();
+    for (PubSubTopic pubSubTopic: listAllTopics()) {
+      try {
+        Optional<Long> retentionMs = broker.getTopicConfig(pubSubTopic.getName()).retentionInMs();
+        retentions.put(pubSubTopic, retentionMs.orElse(PubSubConstants.PUBSUB_TOPIC_UNKNOWN_RETENTION));
+      } catch (PubSubTopicDoesNotExistException e) {
+        // Deleted in the meantime
+      }
+    }
+    return retentions;
+  }
+
+  @Override
+  public String getClassName() {
+    return FileLogAdminAdapter.class.getName();
+  }
+
+  @Override
+  public Map<PubSubTopic, PubSubTopicConfiguration> getSomeTopicConfigs(Set<PubSubTopic> pubSubTopics) {
+    Map<PubSubTopic, PubSubTopicConfiguration> topicConfigs = new HashMap<>(pubSubTopics.size());
+    for (PubSubTopic pubSubTopic: pubSubTopics) {
+      topicConfigs.put(pubSubTopic, getTopicConfig(pubSubTopic));
+    }
+    return topicConfigs;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    broker.release();
+  }
+}
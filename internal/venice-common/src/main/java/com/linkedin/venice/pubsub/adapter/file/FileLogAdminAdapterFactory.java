@@ -0,0 +1,36 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.PubSubAdminAdapterContext;
+import com.linkedin.venice.pubsub.PubSubAdminAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubAdminAdapter;
+import java.io.IOException;
+
+
+/**
+ * Creates {@link FileLogAdminAdapter}s, whose broker address is the directory holding the logs.
+ */
+public class FileLogAdminAdapterFactory extends PubSubAdminAdapterFactory<PubSubAdminAdapter> {
+  private static final String NAME = "FileLogAdminAdapter";
+
+  /**
+   * Constructor for FileLogAdminAdapterFactory used mainly for reflective instantiation.
+   */
+  public FileLogAdminAdapterFactory() {
+    // no-op
+  }
+
+  @Override
+  public FileLogAdminAdapter create(PubSubAdminAdapterContext context) {
+    FileLogConfig config = new FileLogConfig(context.getPubSubBrokerAddress(), context.getVeniceProperties());
+    return new FileLogAdminAdapter(FileLogBroker.acquire(config), context.getPubSubTopicRepository());
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void close() throws IOException {
+  }
+}
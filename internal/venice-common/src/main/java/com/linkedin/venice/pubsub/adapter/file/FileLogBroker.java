@@ -0,0 +1,291 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.PubSubTopicConfiguration;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicExistsException;
+import com.linkedin.venice.utils.DaemonThreadFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The topics stored in one local directory, which are shared by all the file-backed adapters of the JVM pointing at
+ * that directory. It is opened by the first adapter, and closed when the last one is closed.
+ *
+ * The directory holds one sub-directory per topic, with the config of the topic in {@link #TOPIC_CONFIG_FILE_NAME},
+ * and one sub-directory per partition, holding the segments of the partition. The topics found in the directory are
+ * loaded when it is opened, so the logs survive restarts.
+ *
+ * Records are durable against a crash of the process as soon as they are appended, since they are written to the page
+ * cache through the memory-mapped segments, but only durable against a crash of the host once they are flushed.
+ *
+ * N.B.: The directory must only be used by one process at a time.
+ */
+class FileLogBroker {
+  private static final Logger LOGGER = LogManager.getLogger(FileLogBroker.class);
+  private static final Map<Path, FileLogBroker> OPEN_BROKERS = new HashMap<>();
+
+  static final String TOPIC_CONFIG_FILE_NAME = "topic.properties";
+  private static final String PARTITION_COUNT = "partition.count";
+  private static final String RETENTION_MS = "retention.ms";
+  private static final String LOG_COMPACTED = "log.compacted";
+  private static final String MIN_IN_SYNC_REPLICAS = "min.in.sync.replicas";
+  private static final String MIN_LOG_COMPACTION_LAG_MS = "min.log.compaction.lag.ms";
+  private static final String MAX_LOG_COMPACTION_LAG_MS = "max.log.compaction.lag.ms";
+
+  private final FileLogConfig config;
+  private final Map<String, TopicLog> topics = new VeniceConcurrentHashMap<>();
+  private final ScheduledExecutorService retentionExecutor;
+  // Guarded by OPEN_BROKERS
+  private int referenceCount = 0;
+
+  private FileLogBroker(FileLogConfig config) throws IOException {
+    this.config = config;
+    Path rootDirectory = config.getRootDirectory();
+    Files.createDirectories(rootDirectory);
+    try (Stream<Path> topicDirectories = Files.list(rootDirectory)) {
+      for (Path topicDirectory: (Iterable<Path>) topicDirectories::iterator) {
+        if (Files.isRegularFile(topicDirectory.resolve(TOPIC_CONFIG_FILE_NAME))) {
+          String topicName = topicDirectory.getFileName().toString();
+          topics.put(topicName, loadTopic(topicName, topicDirectory));
+        }
+      }
+    }
+    this.retentionExecutor = Executors
+        .newSingleThreadScheduledExecutor(new DaemonThreadFactory("FileLogBroker-retention-" + rootDirectory));
+    long retentionCheckIntervalMs = config.getRetentionCheckIntervalMs();
+    retentionExecutor.scheduleWithFixedDelay(
+        this::enforceRetention,
+        retentionCheckIntervalMs,
+        retentionCheckIntervalMs,
+        TimeUnit.MILLISECONDS);
+    LOGGER.info("Opened file log broker with {} topics and config: {}", topics.size(), config);
+  }
+
+  /**
+   * @return the broker of the directory of the given config, which is opened if no other adapter uses it yet. Each
+   *         call must be paired with a call to {@link #release()}.
+   */
+  static FileLogBroker acquire(FileLogConfig config) {
+    synchronized (OPEN_BROKERS) {
+      FileLogBroker broker = OPEN_BROKERS.get(config.getRootDirectory());
+      if (broker == null) {
+        try {
+          broker = new FileLogBroker(config);
+        } catch (IOException e) {
+          throw new VeniceException("Failed to open the file logs in: " + config.getRootDirectory(), e);
+        }
+        OPEN_BROKERS.put(config.getRootDirectory(), broker);
+      }
+      broker.referenceCount++;
+      return broker;
+    }
+  }
+
+  /**
+   * Releases a reference acquired by {@link #acquire(FileLogConfig)}, and closes the broker once it is not used
+   * anymore.
+   */
+  void release() {
+    synchronized (OPEN_BROKERS) {
+      if (--referenceCount > 0) {
+        return;
+      }
+      OPEN_BROKERS.remove(config.getRootDirectory());
+    }
+    retentionExecutor.shutdownNow();
+    for (TopicLog topic: topics.values()) {
+      for (FileLogPartition partition: topic.partitions) {
+        partition.close();
+      }
+    }
+    LOGGER.info("Closed file log broker of: {}", config.getRootDirectory());
+  }
+
+  String getAddress() {
+    return FileLogConfig.FILE_LOG_BROKER_ADDRESS_SCHEME + config.getRootDirectory();
+  }
+
+  int getConsumerMaxPollRecords() {
+    return config.getConsumerMaxPollRecords();
+  }
+
+  synchronized void createTopic(String topicName, int partitionCount, PubSubTopicConfiguration topicConfig) {
+    if (topics.containsKey(topicName)) {
+      throw new PubSubTopicExistsException("Topic " + topicName + " already exists");
+    }
+    if (partitionCount <= 0) {
+      throw new PubSubClientException("Invalid partition count: " + partitionCount + " for topic: " + topicName);
+    }
+    Path topicDirectory = config.getRootDirectory().resolve(topicName);
+    try {
+      FileLogPartition[] partitions = new FileLogPartition[partitionCount];
+      for (int i = 0; i < partitionCount; i++) {
+        partitions[i] = FileLogPartition.open(topicName + "-" + i, topicDirectory.resolve(Integer.toString(i)), config);
+      }
+      // Written last, so that a topic whose creation was interrupted is not loaded
+      storeTopicConfig(topicDirectory, partitionCount, topicConfig);
+      topics.put(topicName, new TopicLog(partitions, topicConfig));
+    } catch (IOException e) {
+      throw new PubSubClientException("Failed to create topic: " + topicName, e);
+    }
+    LOGGER.info("Created topic: {} with {} partitions and config: {}", topicName, partitionCount, topicConfig);
+  }
+
+  synchronized void deleteTopic(String topicName) {
+    TopicLog topic = topics.remove(topicName);
+    if (topic == null) {
+      throw new PubSubTopicDoesNotExistException("Topic " + topicName + " does not exist");
+    }
+    for (FileLogPartition partition: topic.partitions) {
+      partition.markDeleted();
+    }
+    try {
+      FileUtils.deleteDirectory(config.getRootDirectory().resolve(topicName).toFile());
+    } catch (IOException e) {
+      throw new PubSubClientException("Failed to delete the files of topic: " + topicName, e);
+    }
+    LOGGER.info("Deleted topic: {}", topicName);
+  }
+
+  synchronized void setTopicConfig(String topicName, PubSubTopicConfiguration topicConfig) {
+    TopicLog topic = getTopic(topicName);
+    try {
+      storeTopicConfig(config.getRootDirectory().resolve(topicName), topic.partitions.length, topicConfig);
+    } catch (IOException e) {
+      throw new PubSubClientException("Failed to update the config of topic: " + topicName, e);
+    }
+    topic.config = topicConfig;
+  }
+
+  PubSubTopicConfiguration getTopicConfig(String topicName) {
+    try {
+      return getTopic(topicName).config.clone();
+    } catch (CloneNotSupportedException e) {
+      throw new PubSubClientException("Failed to copy the config of topic: " + topicName, e);
+    }
+  }
+
+  boolean containsTopic(String topicName) {
+    return topics.containsKey(topicName);
+  }
+
+  Set<String> listTopics() {
+    return Collections.unmodifiableSet(topics.keySet());
+  }
+
+  int getPartitionCount(String topicName) {
+    return getTopic(topicName).partitions.length;
+  }
+
+  FileLogPartition getPartition(String topicName, int partition) {
+    FileLogPartition[] partitions = getTopic(topicName).partitions;
+    if (partition < 0 || partition >= partitions.length) {
+      throw new PubSubTopicDoesNotExistException(
+          "Partition " + partition + " of topic " + topicName + " does not exist");
+    }
+    return partitions[partition];
+  }
+
+  /**
+   * Deletes the segments which are past the retention of their topic.
+   */
+  void enforceRetention() {
+    long now = System.currentTimeMillis();
+    for (TopicLog topic: topics.values()) {
+      Optional<Long> retentionMs = topic.config.retentionInMs();
+      if (!retentionMs.isPresent() || retentionMs.get() < 0) {
+        continue;
+      }
+      for (FileLogPartition partition: topic.partitions) {
+        try {
+          partition.deleteSegmentsOlderThan(now - retentionMs.get());
+        } catch (Exception e) {
+          LOGGER.error("Failed to enforce the retention of partition: {}", partition, e);
+        }
+      }
+    }
+  }
+
+  private TopicLog getTopic(String topicName) {
+    TopicLog topic = topics.get(topicName);
+    if (topic == null) {
+      throw new PubSubTopicDoesNotExistException("Topic " + topicName + " does not exist");
+    }
+    return topic;
+  }
+
+  private TopicLog loadTopic(String topicName, Path topicDirectory) throws IOException {
+    Properties properties = new Properties();
+    try (InputStream inputStream = Files.newInputStream(topicDirectory.resolve(TOPIC_CONFIG_FILE_NAME))) {
+      properties.load(inputStream);
+    }
+    int partitionCount = Integer.parseInt(properties.getProperty(PARTITION_COUNT));
+    FileLogPartition[] partitions = new FileLogPartition[partitionCount];
+    for (int i = 0; i < partitionCount; i++) {
+      partitions[i] = FileLogPartition.open(topicName + "-" + i, topicDirectory.resolve(Integer.toString(i)), config);
+    }
+    PubSubTopicConfiguration topicConfig = new PubSubTopicConfiguration(
+        Optional.ofNullable(properties.getProperty(RETENTION_MS)).map(Long::valueOf),
+        Boolean.parseBoolean(properties.getProperty(LOG_COMPACTED)),
+        Optional.ofNullable(properties.getProperty(MIN_IN_SYNC_REPLICAS)).map(Integer::valueOf),
+        Optional.ofNullable(properties.getProperty(MIN_LOG_COMPACTION_LAG_MS)).map(Long::valueOf).orElse(null),
+        Optional.ofNullable(properties.getProperty(MAX_LOG_COMPACTION_LAG_MS)).map(Long::valueOf));
+    return new TopicLog(partitions, topicConfig);
+  }
+
+  private static void storeTopicConfig(Path topicDirectory, int partitionCount, PubSubTopicConfiguration topicConfig)
+      throws IOException {
+    Properties properties = new Properties();
+    properties.setProperty(PARTITION_COUNT, Integer.toString(partitionCount));
+    properties.setProperty(LOG_COMPACTED, Boolean.toString(topicConfig.isLogCompacted()));
+    topicConfig.retentionInMs().ifPresent(value -> properties.setProperty(RETENTION_MS, value.toString()));
+    topicConfig.minInSyncReplicas().ifPresent(value -> properties.setProperty(MIN_IN_SYNC_REPLICAS, value.toString()));
+    if (topicConfig.minLogCompactionLagMs() != null) {
+      properties.setProperty(MIN_LOG_COMPACTION_LAG_MS, topicConfig.minLogCompactionLagMs().toString());
+    }
+    topicConfig.getMaxLogCompactionLagMs()
+        .ifPresent(value -> properties.setProperty(MAX_LOG_COMPACTION_LAG_MS, value.toString()));
+
+    // Replaced atomically, so that a crash never leaves a partially written config behind
+    Path tempFile = topicDirectory.resolve(TOPIC_CONFIG_FILE_NAME + ".tmp");
+    try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+      properties.store(outputStream, null);
+    }
+    Files.move(
+        tempFile,
+        topicDirectory.resolve(TOPIC_CONFIG_FILE_NAME),
+        StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private static class TopicLog {
+    private final FileLogPartition[] partitions;
+    private volatile PubSubTopicConfiguration config;
+
+    TopicLog(FileLogPartition[] partitions, PubSubTopicConfiguration config) {
+      this.partitions = partitions;
+      this.config = config;
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import static com.linkedin.venice.pubsub.PubSubConstants.PUBSUB_CLIENT_CONFIG_PREFIX;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The configs of the file-backed PubSub adapters.
+ *
+ * The broker address of these adapters is the directory holding the logs, optionally prefixed with
+ * {@link #FILE_LOG_BROKER_ADDRESS_SCHEME}, e.g. {@code file:///var/lib/venice/pubsub}. All the adapters of a JVM which
+ * point at the same directory share one {@link FileLogBroker}, so the settings of the adapter which opened it first
+ * apply to all of them.
+ */
+public class FileLogConfig {
+  public static final String FILE_LOG_BROKER_ADDRESS_SCHEME = "file://";
+  public static final String FILE_LOG_CONFIG_PREFIX = PUBSUB_CLIENT_CONFIG_PREFIX + "file.log.";
+
+  /**
+   * The size at which a segment file is rolled over. Each segment is memory-mapped as a whole, so a record cannot be
+   * larger than a segment.
+   */
+  public static final String FILE_LOG_SEGMENT_SIZE_BYTES = FILE_LOG_CONFIG_PREFIX + "segment.size.bytes";
+  public static final int FILE_LOG_SEGMENT_SIZE_BYTES_DEFAULT_VALUE = 64 * 1024 * 1024;
+
+  /**
+   * The number of bytes between two entries of the sparse in-memory offset index of a segment.
+   */
+  public static final String FILE_LOG_INDEX_INTERVAL_BYTES = FILE_LOG_CONFIG_PREFIX + "index.interval.bytes";
+  public static final int FILE_LOG_INDEX_INTERVAL_BYTES_DEFAULT_VALUE = 4096;
+
+  /**
+   * How often the segments which are past the retention of their topic are looked for and deleted.
+   */
+  public static final String FILE_LOG_RETENTION_CHECK_INTERVAL_MS =
+      FILE_LOG_CONFIG_PREFIX + "retention.check.interval.ms";
+  public static final long FILE_LOG_RETENTION_CHECK_INTERVAL_MS_DEFAULT_VALUE = TimeUnit.MINUTES.toMillis(5);
+
+  /**
+   * The maximum number of records returned by one poll of a consumer, across all its partitions.
+   */
+  public static final String FILE_LOG_CONSUMER_MAX_POLL_RECORDS = FILE_LOG_CONFIG_PREFIX + "consumer.max.poll.records";
+  public static final int FILE_LOG_CONSUMER_MAX_POLL_RECORDS_DEFAULT_VALUE = 500;
+
+  private final Path rootDirectory;
+  private final int segmentSizeBytes;
+  private final int indexIntervalBytes;
+  private final long retentionCheckIntervalMs;
+  private final int consumerMaxPollRecords;
+
+  public FileLogConfig(String brokerAddress, VeniceProperties veniceProperties) {
+    if (brokerAddress == null || brokerAddress.isEmpty()) {
+      throw new VeniceException("The file-backed PubSub adapters require the log directory as their broker address");
+    }
+    String directory = brokerAddress.startsWith(FILE_LOG_BROKER_ADDRESS_SCHEME)
+        ? brokerAddress.substring(FILE_LOG_BROKER_ADDRESS_SCHEME.length())
+        : brokerAddress;
+    this.rootDirectory = Paths.get(directory).toAbsolutePath().normalize();
+    this.segmentSizeBytes =
+        veniceProperties.getInt(FILE_LOG_SEGMENT_SIZE_BYTES, FILE_LOG_SEGMENT_SIZE_BYTES_DEFAULT_VALUE);
+    this.indexIntervalBytes =
+        veniceProperties.getInt(FILE_LOG_INDEX_INTERVAL_BYTES, FILE_LOG_INDEX_INTERVAL_BYTES_DEFAULT_VALUE);
+    this.retentionCheckIntervalMs = veniceProperties
+        .getLong(FILE_LOG_RETENTION_CHECK_INTERVAL_MS, FILE_LOG_RETENTION_CHECK_INTERVAL_MS_DEFAULT_VALUE);
+    this.consumerMaxPollRecords =
+        veniceProperties.getInt(FILE_LOG_CONSUMER_MAX_POLL_RECORDS, FILE_LOG_CONSUMER_MAX_POLL_RECORDS_DEFAULT_VALUE);
+    if (segmentSizeBytes <= FileLogSegment.RECORD_OVERHEAD_BYTES) {
+      throw new VeniceException(FILE_LOG_SEGMENT_SIZE_BYTES + " is too small: " + segmentSizeBytes);
+    }
+    if (indexIntervalBytes <= 0) {
+      throw new VeniceException(FILE_LOG_INDEX_INTERVAL_BYTES + " must be positive. Got: " + indexIntervalBytes);
+    }
+  }
+
+  public Path getRootDirectory() {
+    return rootDirectory;
+  }
+
+  public int getSegmentSizeBytes() {
+    return segmentSizeBytes;
+  }
+
+  public int getIndexIntervalBytes() {
+    return indexIntervalBytes;
+  }
+
+  public long getRetentionCheckIntervalMs() {
+    return retentionCheckIntervalMs;
+  }
+
+  public int getConsumerMaxPollRecords() {
+    return consumerMaxPollRecords;
+  }
+
+  @Override
+  public String toString() {
+    return "FileLogConfig{rootDirectory=" + rootDirectory + ", segmentSizeBytes=" + segmentSizeBytes
+        + ", indexIntervalBytes=" + indexIntervalBytes + ", retentionCheckIntervalMs=" + retentionCheckIntervalMs
+        + "}";
+  }
+}
@@ -0,0 +1,401 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import static com.linkedin.venice.pubsub.PubSubPositionTypeRegistry.FILE_LOG_POSITION_TYPE_ID;
+
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionInfo;
+import com.linkedin.venice.pubsub.PubSubUtil;
+import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubSymbolicPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubUnsubscribedTopicPartitionException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nonnull;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link PubSubConsumerAdapter} which reads the messages from the local logs of a {@link FileLogBroker}.
+ *
+ * The records are read straight from the memory-mapped segments: the key and the value of each record are copied once
+ * out of the mapping, and handed to the {@link PubSubMessageDeserializer} without any further copy. A poll which finds
+ * no record waits until one is appended to a partition it reads, or the timeout elapses, so an idle consumer does not
+ * spin.
+ *
+ * Like the Kafka consumer, this consumer is meant to be used by one thread at a time, and its methods are synchronized
+ * to stay safe when it is not.
+ */
+public class FileLogConsumerAdapter implements PubSubConsumerAdapter {
+  private static final Logger LOGGER = LogManager.getLogger(FileLogConsumerAdapter.class);
+
+  private final FileLogBroker broker;
+  private final PubSubMessageDeserializer pubSubMessageDeserializer;
+  private final int maxPollRecords;
+  private final Map<PubSubTopicPartition, Subscription> subscriptions = new LinkedHashMap<>();
+  // Notified by the partitions this consumer waits for
+  private final Object appendMonitor = new Object();
+  private int pollRotation = 0;
+  private boolean closed = false;
+
+  FileLogConsumerAdapter(FileLogBroker broker, PubSubMessageDeserializer pubSubMessageDeserializer) {
+    this.broker = broker;
+    this.pubSubMessageDeserializer =
+        Objects.requireNonNull(pubSubMessageDeserializer, "PubSubMessageDeserializer cannot be null");
+    this.maxPollRecords = broker.getConsumerMaxPollRecords();
+  }
+
+  @Override
+  public synchronized void subscribe(
+      @Nonnull PubSubTopicPartition pubSubTopicPartition,
+      @Nonnull PubSubPosition lastReadPubSubPosition) {
+    subscribe(pubSubTopicPartition, lastReadPubSubPosition, false);
+  }
+
+  @Override
+  public synchronized void subscribe(
+      @Nonnull PubSubTopicPartition pubSubTopicPartition,
+      @Nonnull PubSubPosition position,
+      boolean isInclusive) {
+    if (position == null) {
+      throw new IllegalArgumentException("Last read position cannot be null");
+    }
+    if (subscriptions.containsKey(pubSubTopicPartition)) {
+      LOGGER.warn(
+          "Already subscribed to topic-partition: {}, ignoring subscription request with position: {}",
+          pubSubTopicPartition,
+          position);
+      return;
+    }
+    FileLogPartition partition = getPartition(pubSubTopicPartition);
+    long seekOffset;
+    if (PubSubSymbolicPosition.EARLIEST.equals(position)) {
+      seekOffset = partition.getStartOffset();
+    } else if (PubSubSymbolicPosition.LATEST.equals(position)) {
+      seekOffset = partition.getEndOffset();
+    } else {
+      // Positions of other types, e.g. checkpointed by another adapter, fall back on their numeric offset
+      seekOffset = PubSubUtil.calculateSeekOffset(position.getNumericOffset(), isInclusive);
+    }
+    subscriptions.put(pubSubTopicPartition, new Subscription(partition, seekOffset));
+    LOGGER.info("Subscribed to topic-partition: {} from offset: {}", pubSubTopicPartition, seekOffset);
+  }
+
+  @Override
+  public synchronized void unSubscribe(PubSubTopicPartition pubSubTopicPartition) {
+    subscriptions.remove(pubSubTopicPartition);
+  }
+
+  @Override
+  public synchronized void batchUnsubscribe(Set<PubSubTopicPartition> pubSubTopicPartitionSet) {
+    subscriptions.keySet().removeAll(pubSubTopicPartitionSet);
+  }
+
+  @Override
+  public synchronized void resetOffset(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    if (subscription == null) {
+      throw new PubSubUnsubscribedTopicPartitionException(pubSubTopicPartition);
+    }
+    subscription.nextOffset = subscription.partition.getStartOffset();
+  }
+
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    subscriptions.clear();
+    broker.release();
+  }
+
+  @Override
+  public synchronized Map<PubSubTopicPartition, List<DefaultPubSubMessage>> poll(long timeoutMs) {
+    long deadline = System.currentTimeMillis() + timeoutMs;
+    while (true) {
+      Map<PubSubTopicPartition, List<DefaultPubSubMessage>> polledMessages = readAvailableRecords();
+      long remainingMs = deadline - System.currentTimeMillis();
+      if (!polledMessages.isEmpty() || remainingMs <= 0) {
+        return polledMessages;
+      }
+      try {
+        awaitAppend(remainingMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return polledMessages;
+      }
+    }
+  }
+
+  @Override
+  public synchronized boolean hasAnySubscription() {
+    return !subscriptions.isEmpty();
+  }
+
+  @Override
+  public synchronized boolean hasSubscription(PubSubTopicPartition pubSubTopicPartition) {
+    return subscriptions.containsKey(pubSubTopicPartition);
+  }
+
+  @Override
+  public synchronized void pause(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    if (subscription != null) {
+      subscription.paused = true;
+    }
+  }
+
+  @Override
+  public synchronized void resume(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    if (subscription != null) {
+      subscription.paused = false;
+    }
+  }
+
+  @Override
+  public synchronized Set<PubSubTopicPartition> getAssignment() {
+    return Collections.unmodifiableSet(new HashSet<>(subscriptions.keySet()));
+  }
+
+  @Override
+  public synchronized long getOffsetLag(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    return subscription == null ? -1 : Math.max(0, subscription.partition.getEndOffset() - subscription.nextOffset);
+  }
+
+  @Override
+  public synchronized long getLatestOffset(PubSubTopicPartition pubSubTopicPartition) {
+    Subscription subscription = subscriptions.get(pubSubTopicPartition);
+    return subscription == null ? -1 : subscription.partition.getEndOffset();
+  }
+
+  @Override
+  public PubSubPosition getPositionByTimestamp(
+      PubSubTopicPartition pubSubTopicPartition,
+      long timestamp,
+      Duration timeout) {
+    return getPositionByTimestamp(pubSubTopicPartition, timestamp);
+  }
+
+  @Override
+  public PubSubPosition getPositionByTimestamp(PubSubTopicPartition pubSubTopicPartition, long timestamp) {
+    long offset = getPartition(pubSubTopicPartition).getOffsetByTimestamp(timestamp);
+    return offset < 0 ? null : FileLogPosition.of(offset);
+  }
+
+  @Override
+  public PubSubPosition beginningPosition(PubSubTopicPartition pubSubTopicPartition, Duration timeout) {
+    return FileLogPosition.of(getPartition(pubSubTopicPartition).getStartOffset());
+  }
+
+  @Override
+  public Map<PubSubTopicPartition, PubSubPosition> beginningPositions(
+      Collection<PubSubTopicPartition> partitions,
+      Duration timeout) {
+    Map<PubSubTopicPartition, PubSubPosition> positions = new HashMap<>(partitions.size());
+    for (PubSubTopicPartition pubSubTopicPartition: partitions) {
+      positions.put(pubSubTopicPartition, beginningPosition(pubSubTopicPartition, timeout));
+    }
+    return positions;
+  }
+
+  @Override
+  public Map<PubSubTopicPartition, PubSubPosition> endPositions(
+      Collection<PubSubTopicPartition> partitions,
+      Duration timeout) {
+    Map<PubSubTopicPartition, PubSubPosition> positions = new HashMap<>(partitions.size());
+    for (PubSubTopicPartition pubSubTopicPartition: partitions) {
+      positions.put(pubSubTopicPartition, endPosition(pubSubTopicPartition));
+    }
+    return positions;
+  }
+
+  @Override
+  public PubSubPosition endPosition(PubSubTopicPartition pubSubTopicPartition) {
+    return FileLogPosition.of(getPartition(pubSubTopicPartition).getEndOffset());
+  }
+
+  @Override
+  public List<PubSubTopicPartitionInfo> partitionsFor(PubSubTopic pubSubTopic) {
+    if (!broker.containsTopic(pubSubTopic.getName())) {
+      return null;
+    }
+    int partitionCount = broker.getPartitionCount(pubSubTopic.getName());
+    List<PubSubTopicPartitionInfo> partitionInfos = new ArrayList<>(partitionCount);
+    for (int i = 0; i < partitionCount; i++) {
+      partitionInfos.add(new PubSubTopicPartitionInfo(pubSubTopic, i, true));
+    }
+    return partitionInfos;
+  }
+
+  @Override
+  public long comparePositions(PubSubTopicPartition partition, PubSubPosition position1, PubSubPosition position2) {
+    return positionDifference(partition, position1, position2);
+  }
+
+  @Override
+  public long positionDifference(PubSubTopicPartition partition, PubSubPosition position1, PubSubPosition position2) {
+    return PubSubUtil.computeOffsetDelta(partition, position1, position2, this);
+  }
+
+  @Override
+  public PubSubPosition advancePosition(PubSubTopicPartition tp, PubSubPosition startInclusive, long n) {
+    Objects.requireNonNull(tp, "tp");
+    Objects.requireNonNull(startInclusive, "startInclusive");
+    if (n < 0) {
+      throw new IllegalArgumentException("n must be >= 0");
+    }
+    return FileLogPosition.of(Math.addExact(startInclusive.getNumericOffset(), n));
+  }
+
+  @Override
+  public PubSubPosition decodePosition(PubSubTopicPartition partition, int positionTypeId, ByteBuffer buffer) {
+    if (buffer == null || buffer.remaining() == 0) {
+      throw new VeniceException("Buffer cannot be null or empty for partition: " + partition);
+    }
+    if (positionTypeId != FILE_LOG_POSITION_TYPE_ID) {
+      throw new VeniceException(
+          "Position type ID: " + positionTypeId + " is not supported for partition: " + partition
+              + ". Expected type ID: " + FILE_LOG_POSITION_TYPE_ID);
+    }
+    return FileLogPosition.of(buffer);
+  }
+
+  private FileLogPartition getPartition(PubSubTopicPartition pubSubTopicPartition) {
+    return broker.getPartition(pubSubTopicPartition.getTopicName(), pubSubTopicPartition.getPartitionNumber());
+  }
+
+  private Map<PubSubTopicPartition, List<DefaultPubSubMessage>> readAvailableRecords() {
+    if (subscriptions.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    List<Map.Entry<PubSubTopicPartition, Subscription>> entries = new ArrayList<>(subscriptions.entrySet());
+    // Starts from another partition on each poll, so that a busy partition cannot starve the others
+    int start = pollRotation++ % entries.size();
+    int budget = maxPollRecords;
+    Map<PubSubTopicPartition, List<DefaultPubSubMessage>> polledMessages = new HashMap<>();
+    List<FileLogRecord> records = new ArrayList<>();
+    for (int i = 0; i < entries.size() && budget > 0; i++) {
+      Map.Entry<PubSubTopicPartition, Subscription> entry = entries.get((start + i) % entries.size());
+      PubSubTopicPartition pubSubTopicPartition = entry.getKey();
+      Subscription subscription = entry.getValue();
+      if (subscription.paused || !refreshPartition(pubSubTopicPartition, subscription)) {
+        continue;
+      }
+      long startOffset = subscription.partition.getStartOffset();
+      if (subscription.nextOffset < startOffset) {
+        LOGGER.warn(
+            "Offset: {} of topic-partition: {} is not retained anymore, resetting to the earliest offset: {}",
+            subscription.nextOffset,
+            pubSubTopicPartition,
+            startOffset);
+        subscription.nextOffset = startOffset;
+      }
+      records.clear();
+      int count = subscription.partition.read(subscription.nextOffset, budget, records);
+      if (count == 0) {
+        continue;
+      }
+      List<DefaultPubSubMessage> messages = new ArrayList<>(count);
+      for (FileLogRecord record: records) {
+        messages.add(
+            pubSubMessageDeserializer.deserialize(
+                pubSubTopicPartition,
+                record.key,
+                record.value,
+                record.headers,
+                FileLogPosition.of(record.offset),
+                record.timestamp));
+      }
+      polledMessages.put(pubSubTopicPartition, messages);
+      subscription.nextOffset += count;
+      budget -= count;
+    }
+    return polledMessages;
+  }
+
+  /**
+   * Waits until a record is appended to one of the partitions being read or the timeout elapses, unless records are
+   * already available.
+   */
+  private void awaitAppend(long timeoutMs) throws InterruptedException {
+    synchronized (appendMonitor) {
+      for (Subscription subscription: subscriptions.values()) {
+        subscription.partition.registerAppendWaiter(appendMonitor);
+      }
+      try {
+        if (!hasAvailableRecords()) {
+          appendMonitor.wait(timeoutMs);
+        }
+      } finally {
+        for (Subscription subscription: subscriptions.values()) {
+          subscription.partition.unregisterAppendWaiter(appendMonitor);
+        }
+      }
+    }
+  }
+
+  private boolean hasAvailableRecords() {
+    for (Subscription subscription: subscriptions.values()) {
+      if (!subscription.paused && subscription.nextOffset < subscription.partition.getEndOffset()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Picks up the new log of a topic which was deleted and created again since the subscription, which is read from
+   * its start, since the offsets of the previous log are meaningless in the new one.
+   *
+   * @return false if the topic does not exist anymore
+   */
+  private boolean refreshPartition(PubSubTopicPartition pubSubTopicPartition, Subscription subscription) {
+    if (!subscription.partition.isDeleted()) {
+      return true;
+    }
+    FileLogPartition partition;
+    try {
+      partition = getPartition(pubSubTopicPartition);
+    } catch (PubSubTopicDoesNotExistException e) {
+      return false;
+    }
+    LOGGER.info(
+        "Topic-partition: {} was created again, resetting from offset: {} to offset: {}",
+        pubSubTopicPartition,
+        subscription.nextOffset,
+        partition.getStartOffset());
+    subscription.partition = partition;
+    subscription.nextOffset = partition.getStartOffset();
+    return true;
+  }
+
+  private static class Subscription {
+    private FileLogPartition partition;
+    private long nextOffset;
+    private boolean paused = false;
+
+    Subscription(FileLogPartition partition, long nextOffset) {
+      this.partition = partition;
+      this.nextOffset = nextOffset;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.PubSubConsumerAdapterContext;
+import com.linkedin.venice.pubsub.PubSubConsumerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubConsumerAdapter;
+import java.io.IOException;
+
+
+/**
+ * Creates {@link FileLogConsumerAdapter}s, whose broker address is the directory holding the logs.
+ */
+public class FileLogConsumerAdapterFactory extends PubSubConsumerAdapterFactory<PubSubConsumerAdapter> {
+  private static final String NAME = "FileLogConsumerAdapter";
+
+  /**
+   * Constructor for FileLogConsumerAdapterFactory used mainly for reflective instantiation.
+   */
+  public FileLogConsumerAdapterFactory() {
+    // no-op
+  }
+
+  @Override
+  public FileLogConsumerAdapter create(PubSubConsumerAdapterContext context) {
+    FileLogConfig config = new FileLogConfig(context.getPubSubBrokerAddress(), context.getVeniceProperties());
+    return new FileLogConsumerAdapter(FileLogBroker.acquire(config), context.getPubSubMessageDeserializer());
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void close() throws IOException {
+  }
+}
@@ -0,0 +1,317 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * The log of one partition of a topic of the {@link FileLogBroker}: a directory of {@link FileLogSegment}s, of which
+ * only the last one is appended to, and which is rolled over to a new segment once it is full.
+ *
+ * Appends and segment deletions are serialized on the partition, while reads and flushes are lock-free: they work on
+ * a snapshot of the segments, which is replaced as a whole whenever a segment is added or deleted.
+ *
+ * The consumers waiting for new records register a monitor with each partition they read, which is notified by
+ * {@link #signalAppend()}, so that an append only wakes up the consumers of its partition.
+ */
+class FileLogPartition {
+  private static final Logger LOGGER = LogManager.getLogger(FileLogPartition.class);
+
+  private final String name;
+  private final Path directory;
+  private final int segmentSizeBytes;
+  private final int indexIntervalBytes;
+  // Sorted by base offset, and never empty
+  private volatile FileLogSegment[] segments;
+  private volatile boolean deleted = false;
+  private volatile boolean closed = false;
+  private final Set<Object> appendWaiters = VeniceConcurrentHashMap.newKeySet();
+
+  private FileLogPartition(
+      String name,
+      Path directory,
+      int segmentSizeBytes,
+      int indexIntervalBytes,
+      FileLogSegment[] segments) {
+    this.name = name;
+    this.directory = directory;
+    this.segmentSizeBytes = segmentSizeBytes;
+    this.indexIntervalBytes = indexIntervalBytes;
+    this.segments = segments;
+  }
+
+  /**
+   * Opens the partition stored in the given directory, or creates it if the directory holds no segment yet.
+   */
+  static FileLogPartition open(String name, Path directory, FileLogConfig config) throws IOException {
+    Files.createDirectories(directory);
+    List<Path> segmentPaths;
+    try (Stream<Path> paths = Files.list(directory)) {
+      segmentPaths = paths.filter(FileLogSegment::isSegmentFile)
+          .sorted(Comparator.comparingLong(FileLogSegment::parseBaseOffset))
+          .collect(Collectors.toList());
+    }
+    FileLogSegment[] segments;
+    if (segmentPaths.isEmpty()) {
+      segments = new FileLogSegment[] {
+          FileLogSegment.create(directory, 0, config.getSegmentSizeBytes(), config.getIndexIntervalBytes()) };
+    } else {
+      segments = new FileLogSegment[segmentPaths.size()];
+      for (int i = 0; i < segments.length; i++) {
+        // Only the last segment is appended to, so the others are mapped at their current size
+        int minSizeInBytes = i == segments.length - 1 ? config.getSegmentSizeBytes() : 0;
+        segments[i] = FileLogSegment.open(segmentPaths.get(i), minSizeInBytes, config.getIndexIntervalBytes());
+        if (i > 0 && segments[i].getBaseOffset() != segments[i - 1].getEndOffset()) {
+          throw new IOException(
+              "Segment " + segments[i].getPath() + " does not follow segment " + segments[i - 1].getPath());
+        }
+      }
+    }
+    LOGGER.info(
+        "Opened partition: {} with {} segments, from offset: {} to offset: {}",
+        name,
+        segments.length,
+        segments[0].getBaseOffset(),
+        segments[segments.length - 1].getEndOffset());
+    return new FileLogPartition(
+        name,
+        directory,
+        config.getSegmentSizeBytes(),
+        config.getIndexIntervalBytes(),
+        segments);
+  }
+
+  /**
+   * @return the offset of the appended record
+   */
+  synchronized long append(long timestamp, byte[] key, byte[] value, PubSubMessageHeaders headers) {
+    if (deleted) {
+      throw new PubSubTopicDoesNotExistException("Partition " + name + " has been deleted");
+    }
+    if (closed) {
+      throw new PubSubClientException("Partition " + name + " is closed");
+    }
+    byte[][] encodedHeaders = FileLogSegment.encodeHeaders(headers);
+    int recordSize = FileLogSegment.getRecordSize(key, value, encodedHeaders);
+    if (recordSize > segmentSizeBytes) {
+      throw new PubSubClientException(
+          "Record of " + recordSize + " bytes is larger than the segment size of " + segmentSizeBytes + " bytes");
+    }
+    FileLogSegment activeSegment = segments[segments.length - 1];
+    long offset = activeSegment.append(timestamp, key, value, encodedHeaders);
+    if (offset < 0) {
+      activeSegment = roll(activeSegment);
+      offset = activeSegment.append(timestamp, key, value, encodedHeaders);
+    }
+    return offset;
+  }
+
+  /**
+   * Reads up to maxRecords records, from the given offset on, into the given list. Nothing is read if the offset is
+   * below {@link #getStartOffset()}.
+   *
+   * @return the number of records read
+   */
+  int read(long fromOffset, int maxRecords, List<FileLogRecord> records) {
+    FileLogSegment[] currentSegments = segments;
+    int segmentIndex = findSegment(currentSegments, fromOffset);
+    if (segmentIndex < 0) {
+      return 0;
+    }
+    int count = 0;
+    while (segmentIndex < currentSegments.length && count < maxRecords) {
+      FileLogSegment segment = currentSegments[segmentIndex++];
+      count += segment.read(fromOffset + count, maxRecords - count, records);
+      if (fromOffset + count < segment.getEndOffset()) {
+        // Either maxRecords was reached, or this is the segment being appended to
+        break;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * @return the offset of the first record whose timestamp is greater than or equal to the given one, or -1 if there
+   *         is no such record
+   */
+  long getOffsetByTimestamp(long timestamp) {
+    for (FileLogSegment segment: segments) {
+      long offset = segment.findOffsetByTimestamp(timestamp);
+      if (offset >= 0) {
+        return offset;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the offset of the first record which is still retained
+   */
+  long getStartOffset() {
+    return segments[0].getBaseOffset();
+  }
+
+  /**
+   * @return the offset of the next record to be appended, i.e. the offset of the last record + 1
+   */
+  long getEndOffset() {
+    FileLogSegment[] currentSegments = segments;
+    return currentSegments[currentSegments.length - 1].getEndOffset();
+  }
+
+  boolean isDeleted() {
+    return deleted;
+  }
+
+  /**
+   * Deletes the oldest segments whose records are all older than the given timestamp. The segment which is appended to
+   * is never deleted, so the records it holds outlive the retention until it is rolled over.
+   *
+   * @return the number of deleted segments
+   */
+  synchronized int deleteSegmentsOlderThan(long minTimestamp) {
+    if (closed) {
+      return 0;
+    }
+    FileLogSegment[] currentSegments = segments;
+    int expiredCount = 0;
+    while (expiredCount < currentSegments.length - 1
+        && currentSegments[expiredCount].getMaxTimestamp() < minTimestamp) {
+      expiredCount++;
+    }
+    if (expiredCount == 0) {
+      return 0;
+    }
+    segments = Arrays.copyOfRange(currentSegments, expiredCount, currentSegments.length);
+    for (int i = 0; i < expiredCount; i++) {
+      try {
+        currentSegments[i].delete();
+      } catch (IOException e) {
+        LOGGER.warn("Failed to delete expired segment: {}", currentSegments[i].getPath(), e);
+      }
+    }
+    LOGGER.info(
+        "Deleted {} expired segments of partition: {}, which now starts at offset: {}",
+        expiredCount,
+        name,
+        getStartOffset());
+    return expiredCount;
+  }
+
+  /**
+   * Forces the records appended so far to the disk. This does not block the appends, and the segments rolled over
+   * before were already flushed when they were.
+   */
+  void flush() {
+    FileLogSegment[] currentSegments = segments;
+    currentSegments[currentSegments.length - 1].flush();
+  }
+
+  /**
+   * Flushes the records and releases the mappings of the segments, so that nothing can be appended to the partition
+   * anymore.
+   */
+  synchronized void close() {
+    flush();
+    closeSegments();
+  }
+
+  /**
+   * Marks the partition as deleted, so that nothing can be appended to it anymore, releases the mappings of the
+   * segments, and wakes up its consumers so that they pick up the partition of a topic created again. The files are
+   * deleted along with the directory of the topic.
+   */
+  synchronized void markDeleted() {
+    deleted = true;
+    closeSegments();
+    signalAppend();
+  }
+
+  /**
+   * Registers a monitor to be notified by {@link #signalAppend()}, until it is unregistered.
+   */
+  void registerAppendWaiter(Object monitor) {
+    appendWaiters.add(monitor);
+  }
+
+  void unregisterAppendWaiter(Object monitor) {
+    appendWaiters.remove(monitor);
+  }
+
+  /**
+   * Wakes up the consumers waiting for a record of this partition. Must be called after a record is appended.
+   */
+  void signalAppend() {
+    // The end offset is published before the waiters are read, so a consumer which is not registered yet is
+    // guaranteed to see the new record when it checks for data right before waiting
+    for (Object monitor: appendWaiters) {
+      synchronized (monitor) {
+        monitor.notifyAll();
+      }
+    }
+  }
+
+  private void closeSegments() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (FileLogSegment segment: segments) {
+      segment.close();
+    }
+  }
+
+  private FileLogSegment roll(FileLogSegment activeSegment) {
+    activeSegment.flush();
+    FileLogSegment newSegment;
+    try {
+      newSegment = FileLogSegment
+          .create(directory, activeSegment.getEndOffset(), segmentSizeBytes, indexIntervalBytes);
+    } catch (IOException e) {
+      throw new PubSubClientException("Failed to roll over segment: " + activeSegment.getPath(), e);
+    }
+    FileLogSegment[] newSegments = Arrays.copyOf(segments, segments.length + 1);
+    newSegments[newSegments.length - 1] = newSegment;
+    segments = newSegments;
+    LOGGER.debug("Rolled over partition: {} to segment: {}", name, newSegment.getPath());
+    return newSegment;
+  }
+
+  /**
+   * @return the index of the segment holding the given offset, or -1 if the offset is below the first segment
+   */
+  private static int findSegment(FileLogSegment[] segments, long offset) {
+    int low = 0;
+    int high = segments.length - 1;
+    if (offset < segments[0].getBaseOffset()) {
+      return -1;
+    }
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (segments[mid].getBaseOffset() <= offset) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  @Override
+  public String toString() {
+    return "FileLogPartition{" + name + "}";
+  }
+}
@@ -0,0 +1,86 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import static com.linkedin.venice.pubsub.PubSubPositionTypeRegistry.FILE_LOG_POSITION_TYPE_ID;
+
+import com.linkedin.venice.memory.ClassSizeEstimator;
+import com.linkedin.venice.pubsub.PubSubPositionFactory;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubPositionWireFormat;
+import java.nio.ByteBuffer;
+
+
+/**
+ * The position of a record in a partition of the {@link FileLogBroker}, i.e. the logical offset of the record, which
+ * starts at 0 and grows by one with every record appended to the partition.
+ */
+public class FileLogPosition implements PubSubPosition {
+  private static final int SHALLOW_CLASS_OVERHEAD = ClassSizeEstimator.getClassOverhead(FileLogPosition.class);
+
+  private final long offset;
+
+  private FileLogPosition(long offset) {
+    this.offset = offset;
+  }
+
+  public static FileLogPosition of(long offset) {
+    return new FileLogPosition(offset);
+  }
+
+  public static FileLogPosition of(ByteBuffer buffer) {
+    if (buffer == null || buffer.remaining() < Long.BYTES) {
+      throw new IllegalArgumentException("Buffer must contain at least " + Long.BYTES + " bytes");
+    }
+    return of(buffer.getLong(buffer.position())); // peek without advancing
+  }
+
+  public long getOffset() {
+    return offset;
+  }
+
+  @Override
+  public long getNumericOffset() {
+    return offset;
+  }
+
+  @Override
+  public PubSubPositionWireFormat getPositionWireFormat() {
+    PubSubPositionWireFormat wireFormat = new PubSubPositionWireFormat();
+    wireFormat.type = FILE_LOG_POSITION_TYPE_ID;
+    ByteBuffer buffer = ByteBuffer.allocate(Long.BYTES);
+    buffer.putLong(offset);
+    buffer.flip();
+    wireFormat.rawBytes = buffer;
+    return wireFormat;
+  }
+
+  @Override
+  public Class<? extends PubSubPositionFactory> getFactoryClass() {
+    return FileLogPositionFactory.class;
+  }
+
+  @Override
+  public int getHeapSize() {
+    return SHALLOW_CLASS_OVERHEAD;
+  }
+
+  @Override
+  public String toString() {
+    return "FileLogPosition{" + offset + '}';
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    return offset == ((FileLogPosition) o).offset;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(offset);
+  }
+}
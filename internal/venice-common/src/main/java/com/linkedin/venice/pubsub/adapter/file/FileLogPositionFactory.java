@@ -0,0 +1,25 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.PubSubPositionFactory;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import java.nio.ByteBuffer;
+
+
+/**
+ * A {@link PubSubPositionFactory} for creating {@link FileLogPosition} instances.
+ */
+public class FileLogPositionFactory extends PubSubPositionFactory {
+  public FileLogPositionFactory(int positionTypeId) {
+    super(positionTypeId);
+  }
+
+  @Override
+  public PubSubPosition fromPositionRawBytes(ByteBuffer buffer) {
+    return FileLogPosition.of(buffer);
+  }
+
+  @Override
+  public String getPubSubPositionClassName() {
+    return FileLogPosition.class.getName();
+  }
+}
@@ -0,0 +1,113 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.adapter.SimplePubSubProduceResultImpl;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubMessageSerializer;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import com.linkedin.venice.pubsub.api.PubSubProducerCallback;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubClientException;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Object2DoubleMaps;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+
+/**
+ * A {@link PubSubProducerAdapter} which appends the messages to the local logs of a {@link FileLogBroker}.
+ *
+ * Messages are appended synchronously on the calling thread, so the callback is invoked, and the returned future is
+ * completed, before {@link #sendMessage} returns. A message is durable against a crash of the host only once
+ * {@link #flush()} has returned.
+ */
+public class FileLogProducerAdapter implements PubSubProducerAdapter {
+  private final FileLogBroker broker;
+  private final PubSubMessageSerializer pubSubMessageSerializer;
+  private final Set<FileLogPartition> unflushedPartitions = VeniceConcurrentHashMap.newKeySet();
+  private volatile boolean closed = false;
+
+  FileLogProducerAdapter(FileLogBroker broker, PubSubMessageSerializer pubSubMessageSerializer) {
+    this.broker = broker;
+    this.pubSubMessageSerializer = pubSubMessageSerializer;
+  }
+
+  @Override
+  public int getNumberOfPartitions(String topic) {
+    return broker.getPartitionCount(topic);
+  }
+
+  @Override
+  public CompletableFuture<PubSubProduceResult> sendMessage(
+      String topic,
+      Integer partition,
+      KafkaKey key,
+      KafkaMessageEnvelope value,
+      PubSubMessageHeaders pubSubMessageHeaders,
+      PubSubProducerCallback pubSubProducerCallback) {
+    PubSubProduceResult produceResult;
+    try {
+      if (closed) {
+        throw new PubSubClientException("Producer of " + broker.getAddress() + " is closed");
+      }
+      if (partition == null) {
+        throw new PubSubClientException("The file-backed producer requires the partition of the message");
+      }
+      byte[] keyBytes = pubSubMessageSerializer.serializeKey(topic, key);
+      byte[] valueBytes = pubSubMessageSerializer.serializeValue(topic, value);
+      FileLogPartition fileLogPartition = broker.getPartition(topic, partition);
+      long offset = fileLogPartition.append(System.currentTimeMillis(), keyBytes, valueBytes, pubSubMessageHeaders);
+      unflushedPartitions.add(fileLogPartition);
+      fileLogPartition.signalAppend();
+      produceResult = new SimplePubSubProduceResultImpl(
+          topic,
+          partition,
+          FileLogPosition.of(offset),
+          keyBytes.length + valueBytes.length);
+    } catch (Exception e) {
+      if (pubSubProducerCallback != null) {
+        pubSubProducerCallback.onCompletion(null, e);
+      }
+      CompletableFuture<PubSubProduceResult> future = new CompletableFuture<>();
+      future.completeExceptionally(e);
+      return future;
+    }
+    if (pubSubProducerCallback != null) {
+      pubSubProducerCallback.onCompletion(produceResult, null);
+    }
+    return CompletableFuture.completedFuture(produceResult);
+  }
+
+  /**
+   * Forces the messages sent so far to the disk.
+   */
+  @Override
+  public void flush() {
+    for (FileLogPartition partition: unflushedPartitions) {
+      unflushedPartitions.remove(partition);
+      partition.flush();
+    }
+  }
+
+  @Override
+  public synchronized void close(long closeTimeOutMs) {
+    if (closed) {
+      return;
+    }
+    flush();
+    closed = true;
+    broker.release();
+  }
+
+  @Override
+  public Object2DoubleMap<String> getMeasurableProducerMetrics() {
+    return Object2DoubleMaps.emptyMap();
+  }
+
+  @Override
+  public String getBrokerAddress() {
+    return broker.getAddress();
+  }
+}
@@ -0,0 +1,36 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.PubSubProducerAdapterContext;
+import com.linkedin.venice.pubsub.PubSubProducerAdapterFactory;
+import com.linkedin.venice.pubsub.api.PubSubProducerAdapter;
+import java.io.IOException;
+
+
+/**
+ * Creates {@link FileLogProducerAdapter}s, whose broker address is the directory holding the logs.
+ */
+public class FileLogProducerAdapterFactory extends PubSubProducerAdapterFactory<PubSubProducerAdapter> {
+  private static final String NAME = "FileLogProducerAdapter";
+
+  /**
+   * Constructor for FileLogProducerAdapterFactory used mainly for reflective instantiation.
+   */
+  public FileLogProducerAdapterFactory() {
+    // no-op
+  }
+
+  @Override
+  public FileLogProducerAdapter create(PubSubProducerAdapterContext context) {
+    FileLogConfig config = new FileLogConfig(context.getBrokerAddress(), context.getVeniceProperties());
+    return new FileLogProducerAdapter(FileLogBroker.acquire(config), context.getPubSubMessageSerializer());
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public void close() throws IOException {
+  }
+}
@@ -0,0 +1,23 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+
+
+/**
+ * A record as it was read back from a {@link FileLogSegment}, before it is deserialized by the consumer.
+ */
+class FileLogRecord {
+  final long offset;
+  final long timestamp;
+  final byte[] key;
+  final byte[] value;
+  final PubSubMessageHeaders headers;
+
+  FileLogRecord(long offset, long timestamp, byte[] key, byte[] value, PubSubMessageHeaders headers) {
+    this.offset = offset;
+    this.timestamp = timestamp;
+    this.key = key;
+    this.value = value;
+    this.headers = headers;
+  }
+}
@@ -0,0 +1,468 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import com.linkedin.venice.pubsub.api.PubSubMessageHeader;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * One memory-mapped file of a {@link FileLogPartition}, holding the consecutive records from its base offset on.
+ *
+ * The records are laid out back to back as:
+ * <pre>
+ *   int size | int crc | long offset | long timestamp | int keyLength | key | int valueLength | value | int headerCount
+ *   | (int headerKeyLength | headerKey | int headerValueLength | headerValue)*
+ * </pre>
+ * where size is the number of bytes following the crc, which itself covers those bytes. A null header value is stored
+ * with a length of -1. The file is mapped at its full size when it is created, so that appends never remap it, and the
+ * unwritten tail of the file reads as zeros.
+ *
+ * Appends are made by one thread at a time, which is guaranteed by the owning {@link FileLogPartition}, while any
+ * number of threads read concurrently. The end offset is published after the bytes of a record are written, and
+ * readers never look past it, so they never see a partially written record.
+ *
+ * A sparse offset index is kept in memory, with an entry every {@link FileLogConfig#FILE_LOG_INDEX_INTERVAL_BYTES}, so
+ * that a read from a given offset only scans the records following the closest entry. It is rebuilt by scanning the
+ * file when the segment is opened, which also drops any record torn by a crash, detected by its crc or its offset.
+ *
+ * The mapping is released as soon as the segment is closed or deleted, rather than when it is garbage collected, so
+ * that the segments dropped by the retention do not keep their memory and disk space. The readers hold a reference on
+ * the segment while they access the mapping, and the last one to let go of it after it was closed releases it.
+ */
+class FileLogSegment {
+  private static final Logger LOGGER = LogManager.getLogger(FileLogSegment.class);
+
+  static final String FILE_SUFFIX = ".log";
+  static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+  static final int RECORD_OVERHEAD_BYTES = RECORD_HEADER_BYTES + 2 * Long.BYTES + 3 * Integer.BYTES;
+  private static final int NULL_LENGTH = -1;
+  private static final Consumer<MappedByteBuffer> UNMAPPER = createUnmapper();
+
+  private final Path path;
+  private final long baseOffset;
+  private final MappedByteBuffer buffer;
+  private final int indexIntervalBytes;
+  private final long[] indexOffsets;
+  private final int[] indexPositions;
+  // One reference held by the owning partition until the segment is closed, plus one per reader
+  private final AtomicInteger referenceCount = new AtomicInteger(1);
+  private final AtomicBoolean closed = new AtomicBoolean(false);
+  // Only used by the appending thread
+  private final CRC32 crc32 = new CRC32();
+  private int bytesSinceLastIndexEntry;
+
+  private volatile int indexSize;
+  private volatile int writePosition;
+  private volatile long maxTimestamp = -1;
+  private volatile long endOffset;
+
+  private FileLogSegment(Path path, long baseOffset, MappedByteBuffer buffer, int indexIntervalBytes) {
+    this.path = path;
+    this.baseOffset = baseOffset;
+    this.buffer = buffer;
+    this.indexIntervalBytes = indexIntervalBytes;
+    // One entry for the first record, and at most one for each index interval after it
+    int maxIndexEntries = buffer.capacity() / indexIntervalBytes + 1;
+    this.indexOffsets = new long[maxIndexEntries];
+    this.indexPositions = new int[maxIndexEntries];
+    this.endOffset = baseOffset;
+  }
+
+  /**
+   * Creates a new empty segment in the given directory, mapped at the given size.
+   */
+  static FileLogSegment create(Path directory, long baseOffset, int sizeInBytes, int indexIntervalBytes)
+      throws IOException {
+    Path path = directory.resolve(getFileName(baseOffset));
+    return new FileLogSegment(path, baseOffset, map(path, sizeInBytes), indexIntervalBytes);
+  }
+
+  /**
+   * Opens an existing segment, and recovers its records. The file is mapped at the larger of its current size and the
+   * given size, so that more records can be appended to the last segment of a partition.
+   */
+  static FileLogSegment open(Path path, int minSizeInBytes, int indexIntervalBytes) throws IOException {
+    long fileSize = Files.size(path);
+    if (fileSize > Integer.MAX_VALUE) {
+      throw new IOException("Segment " + path + " is too large to be mapped: " + fileSize + " bytes");
+    }
+    int sizeInBytes = Math.max((int) fileSize, minSizeInBytes);
+    FileLogSegment segment =
+        new FileLogSegment(path, parseBaseOffset(path), map(path, sizeInBytes), indexIntervalBytes);
+    segment.recover();
+    return segment;
+  }
+
+  static boolean isSegmentFile(Path path) {
+    return path.getFileName().toString().endsWith(FILE_SUFFIX);
+  }
+
+  static long parseBaseOffset(Path path) {
+    String fileName = path.getFileName().toString();
+    return Long.parseLong(fileName.substring(0, fileName.length() - FILE_SUFFIX.length()));
+  }
+
+  private static String getFileName(long baseOffset) {
+    // Zero-padded, so that the files of a partition sort by offset
+    return String.format("%020d%s", baseOffset, FILE_SUFFIX);
+  }
+
+  private static MappedByteBuffer map(Path path, int sizeInBytes) throws IOException {
+    try (FileChannel channel = FileChannel
+        .open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      // The mapping stays valid after the channel is closed
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, sizeInBytes);
+    }
+  }
+
+  /**
+   * @return the number of bytes a record would take in a segment
+   */
+  static int getRecordSize(byte[] key, byte[] value, byte[][] encodedHeaders) {
+    long size = RECORD_OVERHEAD_BYTES + (long) key.length + value.length;
+    for (byte[] encodedHeader: encodedHeaders) {
+      size += encodedHeader == null ? Integer.BYTES : Integer.BYTES + encodedHeader.length;
+    }
+    return size > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) size;
+  }
+
+  /**
+   * Flattens the headers into their key and value bytes, as they are written in the segment.
+   */
+  static byte[][] encodeHeaders(PubSubMessageHeaders headers) {
+    if (headers == null || headers.isEmpty()) {
+      return new byte[0][];
+    }
+    List<PubSubMessageHeader> headerList = headers.toList();
+    byte[][] encodedHeaders = new byte[2 * headerList.size()][];
+    for (int i = 0; i < headerList.size(); i++) {
+      PubSubMessageHeader header = headerList.get(i);
+      encodedHeaders[2 * i] = header.key().getBytes(StandardCharsets.UTF_8);
+      encodedHeaders[2 * i + 1] = header.value();
+    }
+    return encodedHeaders;
+  }
+
+  /**
+   * Appends a record at the end of the segment. Must only be called by one thread at a time, and never once the
+   * segment is closed.
+   *
+   * @return the offset of the record, or -1 if the segment has no room left for it
+   */
+  long append(long timestamp, byte[] key, byte[] value, byte[][] encodedHeaders) {
+    int recordSize = getRecordSize(key, value, encodedHeaders);
+    int position = writePosition;
+    if (recordSize > buffer.capacity() - position) {
+      return -1;
+    }
+    long offset = endOffset;
+    ByteBuffer writeBuffer = buffer.duplicate();
+    writeBuffer.position(position + RECORD_HEADER_BYTES);
+    writeBuffer.putLong(offset);
+    writeBuffer.putLong(timestamp);
+    writeBuffer.putInt(key.length);
+    writeBuffer.put(key);
+    writeBuffer.putInt(value.length);
+    writeBuffer.put(value);
+    writeBuffer.putInt(encodedHeaders.length / 2);
+    for (byte[] encodedHeader: encodedHeaders) {
+      if (encodedHeader == null) {
+        writeBuffer.putInt(NULL_LENGTH);
+      } else {
+        writeBuffer.putInt(encodedHeader.length);
+        writeBuffer.put(encodedHeader);
+      }
+    }
+    int bodySize = recordSize - RECORD_HEADER_BYTES;
+    writeBuffer.putInt(position + Integer.BYTES, computeCrc(writeBuffer, position + RECORD_HEADER_BYTES, bodySize));
+    writeBuffer.putInt(position, bodySize);
+
+    onRecordWritten(offset, position, recordSize, timestamp);
+    return offset;
+  }
+
+  /**
+   * Reads up to maxRecords records, from the given offset on, into the given list.
+   *
+   * @return the number of records read
+   */
+  int read(long fromOffset, int maxRecords, List<FileLogRecord> records) {
+    long end = endOffset;
+    if (fromOffset < baseOffset || fromOffset >= end || maxRecords <= 0 || !retain()) {
+      return 0;
+    }
+    try {
+      return read(fromOffset, end, maxRecords, records);
+    } finally {
+      release();
+    }
+  }
+
+  private int read(long fromOffset, long end, int maxRecords, List<FileLogRecord> records) {
+    ByteBuffer readBuffer = buffer.duplicate();
+    int entry = findIndexEntry(fromOffset);
+    long offset = indexOffsets[entry];
+    int position = indexPositions[entry];
+    while (offset < fromOffset) {
+      position += RECORD_HEADER_BYTES + readBuffer.getInt(position);
+      offset++;
+    }
+    int count = 0;
+    while (offset < end && count < maxRecords) {
+      records.add(readRecord(readBuffer, position));
+      position += RECORD_HEADER_BYTES + readBuffer.getInt(position);
+      offset++;
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * @return the offset of the first record whose timestamp is greater than or equal to the given one, or -1 if there
+   *         is no such record in this segment
+   */
+  long findOffsetByTimestamp(long timestamp) {
+    long end = endOffset;
+    if (maxTimestamp < timestamp || !retain()) {
+      return -1;
+    }
+    try {
+      ByteBuffer readBuffer = buffer.duplicate();
+      int position = 0;
+      for (long offset = baseOffset; offset < end; offset++) {
+        if (readBuffer.getLong(position + RECORD_HEADER_BYTES + Long.BYTES) >= timestamp) {
+          return offset;
+        }
+        position += RECORD_HEADER_BYTES + readBuffer.getInt(position);
+      }
+      return -1;
+    } finally {
+      release();
+    }
+  }
+
+  void flush() {
+    if (retain()) {
+      try {
+        buffer.force();
+      } finally {
+        release();
+      }
+    }
+  }
+
+  /**
+   * Releases the mapping of the segment, once the readers which are accessing it are done. Nothing can be read from or
+   * appended to the segment afterward.
+   */
+  void close() {
+    if (closed.compareAndSet(false, true)) {
+      release();
+    }
+  }
+
+  /**
+   * Closes the segment and deletes its file. The records which were already read stay valid.
+   */
+  void delete() throws IOException {
+    close();
+    Files.deleteIfExists(path);
+  }
+
+  long getBaseOffset() {
+    return baseOffset;
+  }
+
+  /**
+   * @return the offset of the next record to be appended, i.e. the offset of the last record + 1
+   */
+  long getEndOffset() {
+    return endOffset;
+  }
+
+  /**
+   * @return the highest timestamp of the records, or -1 if the segment is empty
+   */
+  long getMaxTimestamp() {
+    return maxTimestamp;
+  }
+
+  int getSizeInBytes() {
+    return writePosition;
+  }
+
+  Path getPath() {
+    return path;
+  }
+
+  /**
+   * @return true if the mapping can be accessed until {@link #release()} is called, or false if it was released
+   */
+  private boolean retain() {
+    while (true) {
+      int count = referenceCount.get();
+      if (count == 0) {
+        return false;
+      }
+      if (referenceCount.compareAndSet(count, count + 1)) {
+        return true;
+      }
+    }
+  }
+
+  private void release() {
+    if (referenceCount.decrementAndGet() == 0) {
+      UNMAPPER.accept(buffer);
+    }
+  }
+
+  /**
+   * Mappings can only be released explicitly through JDK internals, which differ between Java 8 and 9+. If neither is
+   * accessible, the mappings are left to the GC.
+   */
+  private static Consumer<MappedByteBuffer> createUnmapper() {
+    try {
+      // Java 9+
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+      Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+      Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+      theUnsafe.setAccessible(true);
+      Object unsafe = theUnsafe.get(null);
+      return buffer -> invokeQuietly(invokeCleaner, unsafe, buffer);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // Fall through
+    }
+    try {
+      // Java 8
+      Method cleanerGetter = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+      Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+      return buffer -> invokeQuietly(clean, invokeQuietly(cleanerGetter, buffer));
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOGGER.warn("Mapped buffers cannot be released explicitly, the segments will be left to the GC", e);
+      return buffer -> {};
+    }
+  }
+
+  private static Object invokeQuietly(Method method, Object target, Object... args) {
+    try {
+      return method.invoke(target, args);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Failed to release a mapped segment", e);
+    }
+  }
+
+  private void recover() {
+    ByteBuffer readBuffer = buffer.duplicate();
+    int capacity = buffer.capacity();
+    int position = 0;
+    long offset = baseOffset;
+    while (capacity - position >= RECORD_OVERHEAD_BYTES && isValidRecord(readBuffer, position, offset)) {
+      int recordSize = RECORD_HEADER_BYTES + readBuffer.getInt(position);
+      onRecordWritten(offset, position, recordSize, readBuffer.getLong(position + RECORD_HEADER_BYTES + Long.BYTES));
+      position += recordSize;
+      offset++;
+    }
+    if (capacity - position >= Integer.BYTES && readBuffer.getInt(position) != 0) {
+      LOGGER.warn("Dropped a torn record at offset: {} in segment: {}", offset, path);
+    }
+  }
+
+  private boolean isValidRecord(ByteBuffer readBuffer, int position, long expectedOffset) {
+    int bodySize = readBuffer.getInt(position);
+    if (bodySize < RECORD_OVERHEAD_BYTES - RECORD_HEADER_BYTES
+        || bodySize > readBuffer.capacity() - position - RECORD_HEADER_BYTES) {
+      return false;
+    }
+    // A stale record left behind a torn one can have a valid crc, but not the expected offset
+    return readBuffer.getLong(position + RECORD_HEADER_BYTES) == expectedOffset && readBuffer
+        .getInt(position + Integer.BYTES) == computeCrc(readBuffer, position + RECORD_HEADER_BYTES, bodySize);
+  }
+
+  private void onRecordWritten(long offset, int position, int recordSize, long timestamp) {
+    if (position == 0 || bytesSinceLastIndexEntry >= indexIntervalBytes) {
+      int entry = indexSize;
+      indexOffsets[entry] = offset;
+      indexPositions[entry] = position;
+      indexSize = entry + 1;
+      bytesSinceLastIndexEntry = 0;
+    }
+    bytesSinceLastIndexEntry += recordSize;
+    if (timestamp > maxTimestamp) {
+      maxTimestamp = timestamp;
+    }
+    writePosition = position + recordSize;
+    // Published last, as it makes the record visible to the readers
+    endOffset = offset + 1;
+  }
+
+  /**
+   * @return the last index entry whose offset is less than or equal to the given one
+   */
+  private int findIndexEntry(long offset) {
+    int low = 0;
+    int high = indexSize - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (indexOffsets[mid] <= offset) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return low;
+  }
+
+  private FileLogRecord readRecord(ByteBuffer readBuffer, int position) {
+    readBuffer.position(position + RECORD_HEADER_BYTES);
+    long offset = readBuffer.getLong();
+    long timestamp = readBuffer.getLong();
+    byte[] key = new byte[readBuffer.getInt()];
+    readBuffer.get(key);
+    byte[] value = new byte[readBuffer.getInt()];
+    readBuffer.get(value);
+    int headerCount = readBuffer.getInt();
+    PubSubMessageHeaders headers = new PubSubMessageHeaders();
+    for (int i = 0; i < headerCount; i++) {
+      byte[] headerKey = new byte[readBuffer.getInt()];
+      readBuffer.get(headerKey);
+      int headerValueLength = readBuffer.getInt();
+      byte[] headerValue = null;
+      if (headerValueLength != NULL_LENGTH) {
+        headerValue = new byte[headerValueLength];
+        readBuffer.get(headerValue);
+      }
+      headers.add(new String(headerKey, StandardCharsets.UTF_8), headerValue);
+    }
+    return new FileLogRecord(offset, timestamp, key, value, headers);
+  }
+
+  private int computeCrc(ByteBuffer source, int position, int length) {
+    ByteBuffer body = source.duplicate();
+    body.limit(position + length).position(position);
+    crc32.reset();
+    crc32.update(body);
+    return (int) crc32.getValue();
+  }
+
+  @Override
+  public String toString() {
+    return "FileLogSegment{path=" + path + ", baseOffset=" + baseOffset + ", endOffset=" + endOffset + "}";
+  }
+}
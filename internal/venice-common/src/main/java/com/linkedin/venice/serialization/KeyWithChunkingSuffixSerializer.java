@@ -3,6 +3,7 @@ package com.linkedin.venice.serialization;
 import com.linkedin.venice.serialization.avro.ChunkedKeySuffixSerializer;
 import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 
 
 public class KeyWithChunkingSuffixSerializer {
@@ -49,6 +50,31 @@ public class KeyWithChunkingSuffixSerializer {
     return target;
   }
 
+  /**
+   * @return the key without the standard suffix for non-chunked keys, i.e. the reverse of
+   *         {@link #serializeNonChunkedKey(byte[])}
+   */
+  public byte[] getKeyFromNonChunkedKey(byte[] keyWithSuffix) {
+    return Arrays.copyOf(keyWithSuffix, keyWithSuffix.length - serializedNonChunkKeySuffix.length);
+  }
+
+  /**
+   * @return whether the key ends with the standard suffix for non-chunked keys, i.e. it is the key of a full value or
+   *         of a {@link com.linkedin.venice.storage.protocol.ChunkedValueManifest}, rather than the key of a chunk
+   */
+  public boolean isNonChunkedKey(byte[] keyWithSuffix) {
+    int suffixOffset = keyWithSuffix.length - serializedNonChunkKeySuffix.length;
+    if (suffixOffset < 0) {
+      return false;
+    }
+    for (int i = 0; i < serializedNonChunkKeySuffix.length; i++) {
+      if (keyWithSuffix[suffixOffset + i] != serializedNonChunkKeySuffix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public ByteBuffer serializeNonChunkedKey(ByteBuffer key) {
     return serialize(key, serializedNonChunkKeySuffix);
   }
@@ -136,7 +136,7 @@ public enum AvroProtocolDefinition {
   /**
    * Response record for admin request.
    */
-  SERVER_ADMIN_RESPONSE(2, AdminResponseRecord.class),
+  SERVER_ADMIN_RESPONSE(3, AdminResponseRecord.class),
 
   /**
    * Response record for metadata fetch request.
@@ -0,0 +1,263 @@
+package com.linkedin.venice.throttle;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * A {@link TokenBucket} split into stripes, so that the threads which consume tokens concurrently, e.g. the IO threads
+ * of a server, mostly update their own stripe instead of all contending on the same tokens.
+ *
+ * Each stripe borrows a small batch of tokens at a time from the shared bucket, and its thread consumes them locally.
+ * The tokens left in the stripes are returned to the shared bucket at each refill, and before a request is rejected,
+ * at most once per refill interval so that a burst of rejections doesn't keep sweeping all the stripes. A request can
+ * thus be rejected while the other stripes still hold tokens, at most 1/16th of a refill in total, until the next
+ * refill. Like {@link TokenBucket}, it never grants more tokens than its capacity plus what it was refilled with.
+ */
+public class StripedTokenBucket implements VeniceRateLimiter {
+  /**
+   * The stripes are 16 longs apart in {@link #stripeTokens}, so that no two stripes share a cache line.
+   */
+  private static final int STRIPE_PADDING = 16;
+  /**
+   * The stripes borrow at most 1/16th of a refill from the shared bucket at once, in total.
+   */
+  private static final int BORROW_FRACTION = 16;
+
+  private final long capacity;
+  private final long refillAmount;
+  private final long refillIntervalMs;
+  private final int stripeCount;
+  private final int stripeMask;
+  private final long borrowAmount;
+  private final Clock clock;
+  private final AtomicLong sharedTokens;
+  private final AtomicLongArray stripeTokens;
+  private volatile long nextUpdateTime;
+  private volatile long nextReconcileTime;
+
+  // Only used in helper methods
+  private long quota;
+
+  /**
+   * @param stripeCount rounded up to the next power of 2
+   */
+  public StripedTokenBucket(
+      long capacity,
+      long refillAmount,
+      long refillInterval,
+      TimeUnit refillUnit,
+      int stripeCount,
+      Clock clock) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket capacity " + capacity + " is not valid.  Must be greater than 0");
+    }
+    this.capacity = capacity;
+
+    if (refillAmount <= 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket refillAmount " + refillAmount + " is not valid.  Must be greater than 0");
+    }
+    this.refillAmount = refillAmount;
+
+    if (refillInterval <= 0) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket refillInterval " + refillInterval + " is not valid.  Must be greater than 0");
+    }
+    this.refillIntervalMs = refillUnit.toMillis(refillInterval);
+
+    if (stripeCount <= 0 || stripeCount > 1 << 16) {
+      throw new IllegalArgumentException(
+          "StripedTokenBucket stripeCount " + stripeCount + " is not valid.  Must be between 1 and 65536");
+    }
+    this.stripeCount = stripeCount == 1 ? 1 : Integer.highestOneBit(stripeCount - 1) << 1;
+    this.stripeMask = this.stripeCount - 1;
+    this.borrowAmount = Math.max(1, refillAmount / ((long) this.stripeCount * BORROW_FRACTION));
+    this.clock = clock;
+
+    this.sharedTokens = new AtomicLong(capacity);
+    this.stripeTokens = new AtomicLongArray(this.stripeCount * STRIPE_PADDING);
+    this.nextUpdateTime = clock.millis() + refillIntervalMs;
+    this.nextReconcileTime = clock.millis();
+  }
+
+  /**
+   * Same as {@link TokenBucket#tokenBucketFromRcuPerSecond}, with the tokens split into {@param stripeCount} stripes.
+   */
+  public static StripedTokenBucket stripedTokenBucketFromRcuPerSecond(
+      long totalRcuPerSecond,
+      double thisBucketProportionOfTotalRcu,
+      long enforcementIntervalMilliseconds,
+      int enforcementCapacityMultiple,
+      int stripeCount,
+      Clock clock) {
+    TokenBucket tokenBucket = TokenBucket.tokenBucketFromRcuPerSecond(
+        totalRcuPerSecond,
+        thisBucketProportionOfTotalRcu,
+        enforcementIntervalMilliseconds,
+        enforcementCapacityMultiple,
+        clock);
+    return new StripedTokenBucket(
+        tokenBucket.getCapacity(),
+        tokenBucket.getRefillAmount(),
+        tokenBucket.getEnforcementInterval(),
+        MILLISECONDS,
+        stripeCount,
+        clock);
+  }
+
+  public boolean tryConsume(long tokensToConsume) {
+    int stripe = (int) Thread.currentThread().getId() & stripeMask;
+    if (tryConsumeFromStripe(stripe, tokensToConsume) || tryBorrow(stripe, tokensToConsume)) {
+      return true;
+    }
+    update();
+    if (tryBorrow(stripe, tokensToConsume)) {
+      return true;
+    }
+    // Last resort before rejecting, the tokens may be left in the other stripes
+    return tryReconcile() && tryBorrow(stripe, tokensToConsume);
+  }
+
+  private boolean tryConsumeFromStripe(int stripe, long tokensToConsume) {
+    int index = stripe * STRIPE_PADDING;
+    long available = stripeTokens.get(index);
+    while (available >= tokensToConsume) {
+      if (stripeTokens.compareAndSet(index, available, available - tokensToConsume)) {
+        return true;
+      }
+      available = stripeTokens.get(index);
+    }
+    return false;
+  }
+
+  /**
+   * Take the tokens to consume from the shared bucket, along with a batch of tokens for the next requests of the stripe
+   * if there are enough.
+   */
+  private boolean tryBorrow(int stripe, long tokensToConsume) {
+    long available = sharedTokens.get();
+    while (available >= tokensToConsume) {
+      long borrowed = Math.min(available, tokensToConsume + borrowAmount);
+      if (sharedTokens.compareAndSet(available, available - borrowed)) {
+        if (borrowed > tokensToConsume) {
+          stripeTokens.addAndGet(stripe * STRIPE_PADDING, borrowed - tokensToConsume);
+        }
+        return true;
+      }
+      available = sharedTokens.get();
+    }
+    return false;
+  }
+
+  /**
+   * Reconcile the stripes for a request which is about to be rejected, unless they were already reconciled during the
+   * current refill interval.
+   *
+   * @return whether the stripes were reconciled
+   */
+  private boolean tryReconcile() {
+    if (clock.millis() < nextReconcileTime) {
+      return false;
+    }
+    synchronized (this) {
+      long timeNow = clock.millis();
+      if (timeNow < nextReconcileTime) {
+        return false;
+      }
+      reconcileAndRefill(0);
+      nextReconcileTime = timeNow + refillIntervalMs;
+      return true;
+    }
+  }
+
+  /**
+   * Reconcile the stripes and add tokens if conditions are met, see {@link TokenBucket}.
+   */
+  private void update() {
+    if (clock.millis() > nextUpdateTime) {
+      synchronized (this) {
+        long timeNow = clock.millis();
+        if (timeNow > nextUpdateTime) {
+          long refillCount = (timeNow - nextUpdateTime) / refillIntervalMs + 1;
+          reconcileAndRefill(refillCount * refillAmount);
+          nextUpdateTime = timeNow + refillIntervalMs;
+          nextReconcileTime = timeNow + refillIntervalMs;
+        }
+      }
+    }
+  }
+
+  /**
+   * Return the tokens of all the stripes to the shared bucket along with the refilled ones, without going over the
+   * capacity. Must be called while holding the monitor of the bucket.
+   */
+  private void reconcileAndRefill(long refilledTokens) {
+    long returnedTokens = 0;
+    for (int index = 0; index < stripeTokens.length(); index += STRIPE_PADDING) {
+      // Only write to the stripes which have tokens
+      if (stripeTokens.get(index) > 0) {
+        returnedTokens += stripeTokens.getAndSet(index, 0);
+      }
+    }
+    sharedTokens.getAndAccumulate(
+        returnedTokens + refilledTokens,
+        (existing, toAdd) -> Math.min(existing + toAdd, capacity));
+  }
+
+  /**
+   * This method does not call #update(), so it is only accurate as of the last time #tryConsume() was called
+   * @return number of tokens remaining in the shared bucket and in the stripes
+   */
+  public long getStaleTokenCount() {
+    long tokens = sharedTokens.get();
+    for (int index = 0; index < stripeTokens.length(); index += STRIPE_PADDING) {
+      tokens += stripeTokens.get(index);
+    }
+    return tokens;
+  }
+
+  @Override
+  public boolean tryAcquirePermit(int units) {
+    return tryConsume(units);
+  }
+
+  @Override
+  public void setQuota(long quota) {
+    this.quota = quota;
+  }
+
+  @Override
+  public long getQuota() {
+    return quota;
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public long getRefillAmount() {
+    return refillAmount;
+  }
+
+  public long getEnforcementInterval() {
+    return refillIntervalMs;
+  }
+
+  public int getStripeCount() {
+    return stripeCount;
+  }
+
+  @Override
+  public String toString() {
+    return "StripedTokenBucket{" + "capacity=" + capacity + ", refillAmount=" + refillAmount + ", refillIntervalMs="
+        + refillIntervalMs + ", stripeCount=" + stripeCount + ", borrowAmount=" + borrowAmount + ", tokens="
+        + getStaleTokenCount() + ", nextUpdateTime=" + nextUpdateTime + ", nextReconcileTime=" + nextReconcileTime
+        + '}';
+  }
+}
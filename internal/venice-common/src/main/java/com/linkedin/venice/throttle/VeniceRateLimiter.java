@@ -3,7 +3,7 @@ package com.linkedin.venice.throttle;
 public interface VeniceRateLimiter {
   enum RateLimiterType {
     EVENT_THROTTLER_WITH_SILENT_REJECTION, GUAVA_RATE_LIMITER, TOKEN_BUCKET_INCREMENTAL_REFILL,
-    TOKEN_BUCKET_GREEDY_REFILL,
+    TOKEN_BUCKET_GREEDY_REFILL, STRIPED_TOKEN_BUCKET,
   }
 
   /**
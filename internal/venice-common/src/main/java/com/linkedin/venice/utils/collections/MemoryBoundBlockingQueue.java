@@ -120,17 +120,7 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
       while ((record = this.queue.poll()) == null) {
         notEmpty.await();
       }
-      long recordSize = getRecordSize(record);
-      currentFreedMemoryInBytes += recordSize;
-      /**
-       * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
-       * pre-defined {@link #notifyDeltaInByte}.
-       */
-      if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
-        remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
-        currentFreedMemoryInBytes = 0;
-        hasEnoughMemory.signalAll();
-      }
+      freeMemory(getRecordSize(record));
     } finally {
       memoryLock.unlock();
     }
@@ -138,6 +128,22 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     return record;
   }
 
+  /**
+   * Must be called while holding {@link #memoryLock}.
+   */
+  private void freeMemory(long recordSize) {
+    currentFreedMemoryInBytes += recordSize;
+    /**
+     * It won't notify the blocked {@link #put(Measurable)}  thread until the freed memory exceeds
+     * pre-defined {@link #notifyDeltaInByte}.
+     */
+    if (currentFreedMemoryInBytes >= notifyDeltaInByte) {
+      remainingMemoryCapacityInByte.getAndAdd(currentFreedMemoryInBytes);
+      currentFreedMemoryInBytes = 0;
+      hasEnoughMemory.signalAll();
+    }
+  }
+
   @Override
   public boolean offer(T t, long timeout, TimeUnit unit) throws InterruptedException {
     throw new VeniceException("Operation is not supported yet!");
@@ -248,9 +254,28 @@ public class MemoryBoundBlockingQueue<T extends Measurable> implements BlockingQ
     throw new VeniceException("Operation is not supported yet!");
   }
 
+  /**
+   * Moves up to {@param maxElements} of the buffered records into {@param c} without blocking, so that a consumer can
+   * take several records with a single acquisition of the lock.
+   */
   @Override
   public int drainTo(Collection<? super T> c, int maxElements) {
-    throw new VeniceException("Operation is not supported yet!");
+    if (c == this) {
+      throw new IllegalArgumentException("Cannot drain a queue into itself");
+    }
+    int drained = 0;
+    memoryLock.lock();
+    try {
+      T record;
+      while (drained < maxElements && (record = queue.poll()) != null) {
+        c.add(record);
+        freeMemory(getRecordSize(record));
+        drained++;
+      }
+    } finally {
+      memoryLock.unlock();
+    }
+    return drained;
   }
 
   /**
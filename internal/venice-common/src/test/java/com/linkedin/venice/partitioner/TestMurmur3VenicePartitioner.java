@@ -0,0 +1,82 @@
+package com.linkedin.venice.partitioner;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class TestMurmur3VenicePartitioner {
+  @Test
+  public void testHashMatchesReferenceImplementation() {
+    Assert.assertEquals(hash(""), 0);
+    Assert.assertEquals(hash("test"), 0xBA6BD213);
+    Assert.assertEquals(hash("Hello, world!"), 0xC0363E43);
+    Assert.assertEquals(hash("The quick brown fox jumps over the lazy dog"), 0x2E4FF723);
+  }
+
+  @Test
+  public void testPartitionsAreInRangeAndBalanced() {
+    VenicePartitioner partitioner = new Murmur3VenicePartitioner();
+    int numPartitions = 7;
+    int[] counts = new int[numPartitions];
+    int numKeys = 70000;
+    for (int i = 0; i < numKeys; i++) {
+      int partition = partitioner.getPartitionId(("key_" + i).getBytes(StandardCharsets.UTF_8), numPartitions);
+      Assert.assertTrue(partition >= 0 && partition < numPartitions);
+      counts[partition]++;
+    }
+    for (int count: counts) {
+      Assert.assertTrue(Math.abs(count - numKeys / numPartitions) < numKeys / numPartitions / 10);
+    }
+  }
+
+  @Test
+  public void testAllKeyRepresentationsAgree() {
+    VenicePartitioner partitioner = new Murmur3VenicePartitioner();
+    byte[] key = "some_key".getBytes(StandardCharsets.UTF_8);
+    byte[] paddedKey = "prefix_some_key_suffix".getBytes(StandardCharsets.UTF_8);
+    int numPartitions = 1000;
+    int partition = partitioner.getPartitionId(key, numPartitions);
+
+    Assert.assertEquals(partitioner.getPartitionId(paddedKey, 7, key.length, numPartitions), partition);
+    ByteBuffer wrappedKey = ByteBuffer.wrap(paddedKey, 7, key.length);
+    Assert.assertEquals(partitioner.getPartitionId(wrappedKey, numPartitions), partition);
+    ByteBuffer slicedKey = wrappedKey.slice();
+    Assert.assertEquals(partitioner.getPartitionId(slicedKey, numPartitions), partition);
+    ByteBuffer directKey = ByteBuffer.allocateDirect(key.length);
+    directKey.put(key).flip();
+    Assert.assertEquals(partitioner.getPartitionId(directKey, numPartitions), partition);
+    Assert.assertEquals(directKey.remaining(), key.length);
+  }
+
+  @Test
+  public void testBatchPartitioningMatchesSingleKeyPartitioning() {
+    int numPartitions = 13;
+    byte[][] keys = new byte[100][];
+    List<ByteBuffer> keyBuffers = new ArrayList<>(keys.length);
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = ("key_" + i).getBytes(StandardCharsets.UTF_8);
+      keyBuffers.add(ByteBuffer.wrap(keys[i]));
+    }
+
+    for (VenicePartitioner partitioner: new VenicePartitioner[] { new DefaultVenicePartitioner(),
+        new Murmur3VenicePartitioner() }) {
+      int[] partitionIds = new int[keys.length];
+      partitioner.getPartitionIds(keys, partitionIds, numPartitions);
+      int[] partitionIdsFromBuffers = new int[keys.length];
+      partitioner.getPartitionIds(keyBuffers, partitionIdsFromBuffers, numPartitions);
+      for (int i = 0; i < keys.length; i++) {
+        Assert.assertEquals(partitionIds[i], partitioner.getPartitionId(keys[i], numPartitions));
+        Assert.assertEquals(partitionIdsFromBuffers[i], partitionIds[i]);
+      }
+    }
+  }
+
+  private static int hash(String key) {
+    byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+    return Murmur3VenicePartitioner.hash(keyBytes, 0, keyBytes.length);
+  }
+}
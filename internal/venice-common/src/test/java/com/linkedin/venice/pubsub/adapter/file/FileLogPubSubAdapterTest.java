@@ -0,0 +1,341 @@
+package com.linkedin.venice.pubsub.adapter.file;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.KafkaMessageEnvelope;
+import com.linkedin.venice.kafka.protocol.ProducerMetadata;
+import com.linkedin.venice.kafka.protocol.Put;
+import com.linkedin.venice.kafka.protocol.enums.MessageType;
+import com.linkedin.venice.message.KafkaKey;
+import com.linkedin.venice.pubsub.PubSubPositionTypeRegistry;
+import com.linkedin.venice.pubsub.PubSubTopicConfiguration;
+import com.linkedin.venice.pubsub.PubSubTopicPartitionImpl;
+import com.linkedin.venice.pubsub.PubSubTopicRepository;
+import com.linkedin.venice.pubsub.api.DefaultPubSubMessage;
+import com.linkedin.venice.pubsub.api.PubSubMessageDeserializer;
+import com.linkedin.venice.pubsub.api.PubSubMessageHeaders;
+import com.linkedin.venice.pubsub.api.PubSubMessageSerializer;
+import com.linkedin.venice.pubsub.api.PubSubPosition;
+import com.linkedin.venice.pubsub.api.PubSubProduceResult;
+import com.linkedin.venice.pubsub.api.PubSubSymbolicPosition;
+import com.linkedin.venice.pubsub.api.PubSubTopic;
+import com.linkedin.venice.pubsub.api.PubSubTopicPartition;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicDoesNotExistException;
+import com.linkedin.venice.pubsub.api.exceptions.PubSubTopicExistsException;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.apache.commons.io.FileUtils;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+
+public class FileLogPubSubAdapterTest {
+  private static final int SEGMENT_SIZE_BYTES = 2048;
+
+  private final PubSubTopicRepository topicRepository = new PubSubTopicRepository();
+  private File rootDirectory;
+  private FileLogConfig config;
+  private FileLogAdminAdapter adminAdapter;
+  private FileLogProducerAdapter producerAdapter;
+  private FileLogConsumerAdapter consumerAdapter;
+
+  @BeforeMethod
+  public void setUp() {
+    rootDirectory = Utils.getTempDataDirectory("file-log");
+    Properties properties = new Properties();
+    properties.setProperty(FileLogConfig.FILE_LOG_SEGMENT_SIZE_BYTES, Integer.toString(SEGMENT_SIZE_BYTES));
+    properties.setProperty(FileLogConfig.FILE_LOG_INDEX_INTERVAL_BYTES, "256");
+    // Retention is enforced explicitly by the tests
+    properties.setProperty(FileLogConfig.FILE_LOG_RETENTION_CHECK_INTERVAL_MS, "3600000");
+    config = new FileLogConfig(
+        FileLogConfig.FILE_LOG_BROKER_ADDRESS_SCHEME + rootDirectory.getAbsolutePath(),
+        new VeniceProperties(properties));
+    openAdapters();
+  }
+
+  @AfterMethod
+  public void cleanUp() throws Exception {
+    closeAdapters();
+    FileUtils.deleteDirectory(rootDirectory);
+  }
+
+  @Test
+  public void testProduceAndConsume() throws Exception {
+    PubSubTopic topic = createTopic("test_topic_v1", Optional.empty());
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(topic, 1);
+    assertEquals(producerAdapter.getNumberOfPartitions(topic.getName()), 2);
+
+    for (int i = 0; i < 10; i++) {
+      PubSubMessageHeaders headers = new PubSubMessageHeaders().add("header", new byte[] { (byte) i });
+      PubSubProduceResult result = produce(partition, i, headers);
+      assertEquals(result.getPubSubPosition(), FileLogPosition.of(i));
+    }
+    assertEquals(consumerAdapter.beginningPosition(partition, null), FileLogPosition.of(0));
+    assertEquals(consumerAdapter.endPosition(partition), FileLogPosition.of(10));
+
+    consumerAdapter.subscribe(partition, PubSubSymbolicPosition.EARLIEST);
+    List<DefaultPubSubMessage> messages = pollAll(partition, 10);
+    for (int i = 0; i < 10; i++) {
+      DefaultPubSubMessage message = messages.get(i);
+      assertEquals(message.getPosition(), FileLogPosition.of(i));
+      assertEquals(message.getKey().getKey(), getKey(i));
+      assertEquals(((Put) message.getValue().payloadUnion).putValue, ByteBuffer.wrap(getValue(i)));
+      assertEquals(message.getPubSubMessageHeaders().get("header").value(), new byte[] { (byte) i });
+    }
+    assertTrue(consumerAdapter.poll(0).isEmpty());
+    assertEquals(consumerAdapter.getOffsetLag(partition), 0);
+
+    // Resubscribing after a checkpointed position resumes right after it
+    consumerAdapter.unSubscribe(partition);
+    consumerAdapter.subscribe(partition, FileLogPosition.of(4));
+    assertEquals(pollAll(partition, 5).get(0).getPosition(), FileLogPosition.of(5));
+
+    // The other partition of the topic is untouched
+    PubSubTopicPartition otherPartition = new PubSubTopicPartitionImpl(topic, 0);
+    assertEquals(consumerAdapter.endPosition(otherPartition), FileLogPosition.of(0));
+  }
+
+  @Test
+  public void testPausedPartitionIsNotPolled() throws Exception {
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(createTopic("test_topic_v1", Optional.empty()), 0);
+    produce(partition, 0, new PubSubMessageHeaders());
+    consumerAdapter.subscribe(partition, PubSubSymbolicPosition.EARLIEST);
+    consumerAdapter.pause(partition);
+    assertTrue(consumerAdapter.poll(10).isEmpty());
+    consumerAdapter.resume(partition);
+    assertEquals(pollAll(partition, 1).size(), 1);
+  }
+
+  @Test
+  public void testWaitingConsumerIsWokenUpByAppend() throws Exception {
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(createTopic("test_topic_v1", Optional.empty()), 0);
+    consumerAdapter.subscribe(partition, PubSubSymbolicPosition.LATEST);
+    CompletableFuture<Map<PubSubTopicPartition, List<DefaultPubSubMessage>>> polledMessages =
+        CompletableFuture.supplyAsync(() -> consumerAdapter.poll(60_000));
+    Utils.sleep(100);
+    produce(partition, 0, new PubSubMessageHeaders());
+    assertEquals(polledMessages.get(10, TimeUnit.SECONDS).get(partition).size(), 1);
+  }
+
+  @Test
+  public void testSegmentsAreRolledOverAndRecovered() throws Exception {
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(createTopic("test_topic_v1", Optional.empty()), 0);
+    int recordCount = 200;
+    for (int i = 0; i < recordCount; i++) {
+      produce(partition, i, new PubSubMessageHeaders());
+    }
+    producerAdapter.flush();
+    assertTrue(getSegmentFiles(partition).size() > 1);
+
+    // Everything is recovered from the files once the directory is opened again
+    closeAdapters();
+    openAdapters();
+    assertTrue(adminAdapter.containsTopic(partition.getPubSubTopic()));
+    assertEquals(consumerAdapter.endPosition(partition), FileLogPosition.of(recordCount));
+    assertEquals(
+        produce(partition, recordCount, new PubSubMessageHeaders()).getPubSubPosition(),
+        FileLogPosition.of(recordCount));
+
+    consumerAdapter.subscribe(partition, FileLogPosition.of(recordCount / 2), true);
+    List<DefaultPubSubMessage> messages = pollAll(partition, recordCount / 2 + 1);
+    for (int i = 0; i < messages.size(); i++) {
+      assertEquals(messages.get(i).getPosition(), FileLogPosition.of(recordCount / 2 + i));
+      assertEquals(messages.get(i).getKey().getKey(), getKey(recordCount / 2 + i));
+    }
+  }
+
+  @Test
+  public void testRetentionDeletesExpiredSegments() throws Exception {
+    PubSubTopic topic = createTopic("test_topic_rt", Optional.of(1L));
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(topic, 0);
+    for (int i = 0; i < 100; i++) {
+      produce(partition, i, new PubSubMessageHeaders());
+    }
+    int segmentCount = getSegmentFiles(partition).size();
+    assertTrue(segmentCount > 1);
+    Utils.sleep(10);
+
+    FileLogBroker broker = FileLogBroker.acquire(config);
+    try {
+      broker.enforceRetention();
+    } finally {
+      broker.release();
+    }
+    // Only the segment being appended to is left
+    assertEquals(getSegmentFiles(partition).size(), 1);
+    long startOffset = consumerAdapter.beginningPosition(partition, null).getNumericOffset();
+    assertTrue(startOffset > 0);
+
+    // A consumer behind the retention is moved to the earliest retained record
+    consumerAdapter.subscribe(partition, FileLogPosition.of(0), true);
+    assertEquals(pollAll(partition, (int) (100 - startOffset)).get(0).getPosition(), FileLogPosition.of(startOffset));
+  }
+
+  @Test
+  public void testTopicLifecycle() {
+    PubSubTopic topic = createTopic("test_topic_v1", Optional.of(1000L));
+    expectThrows(PubSubTopicExistsException.class, () -> createTopic(topic.getName(), Optional.empty()));
+    assertTrue(adminAdapter.listAllTopics().contains(topic));
+    assertTrue(adminAdapter.containsTopicWithPartitionCheck(new PubSubTopicPartitionImpl(topic, 1)));
+    assertFalse(adminAdapter.containsTopicWithPartitionCheck(new PubSubTopicPartitionImpl(topic, 2)));
+    assertEquals(adminAdapter.getTopicConfig(topic).retentionInMs(), Optional.of(1000L));
+
+    PubSubTopicConfiguration topicConfig = adminAdapter.getTopicConfig(topic);
+    topicConfig.setRetentionInMs(Optional.of(2000L));
+    adminAdapter.setTopicConfig(topic, topicConfig);
+    Map<PubSubTopic, Long> retentions = adminAdapter.getAllTopicRetentions();
+    assertEquals(retentions.get(topic), Long.valueOf(2000L));
+
+    adminAdapter.deleteTopic(topic, null);
+    assertFalse(adminAdapter.containsTopic(topic));
+    assertFalse(Files.exists(rootDirectory.toPath().resolve(topic.getName())));
+    assertNull(consumerAdapter.partitionsFor(topic));
+    expectThrows(
+        PubSubTopicDoesNotExistException.class,
+        () -> consumerAdapter.subscribe(new PubSubTopicPartitionImpl(topic, 0), PubSubSymbolicPosition.EARLIEST));
+    assertTrue(producerAdapter.sendMessage(topic.getName(), 0, createKey(0), createValue(0), null, null)
+        .isCompletedExceptionally());
+  }
+
+  @Test
+  public void testConsumerReadsRecreatedTopicFromStart() throws Exception {
+    PubSubTopic topic = createTopic("test_topic_v1", Optional.empty());
+    PubSubTopicPartition partition = new PubSubTopicPartitionImpl(topic, 0);
+    for (int i = 0; i < 5; i++) {
+      produce(partition, i, new PubSubMessageHeaders());
+    }
+    consumerAdapter.subscribe(partition, PubSubSymbolicPosition.EARLIEST);
+    pollAll(partition, 5);
+
+    adminAdapter.deleteTopic(topic, null);
+    createTopic(topic.getName(), Optional.empty());
+    produce(partition, 0, new PubSubMessageHeaders());
+    List<DefaultPubSubMessage> messages = pollAll(partition, 1);
+    assertEquals(messages.get(0).getPosition(), FileLogPosition.of(0));
+    assertEquals(consumerAdapter.getOffsetLag(partition), 0);
+  }
+
+  @Test
+  public void testPositionIsDecodedThroughTheReservedTypeRegistry() {
+    PubSubPosition position = FileLogPosition.of(42);
+    PubSubPosition decodedPosition = PubSubPositionTypeRegistry.RESERVED_POSITION_TYPE_REGISTRY
+        .getFactoryByTypeId(PubSubPositionTypeRegistry.FILE_LOG_POSITION_TYPE_ID)
+        .fromWireFormat(position.getPositionWireFormat());
+    assertEquals(decodedPosition, position);
+    assertEquals(
+        consumerAdapter.decodePosition(
+            null,
+            PubSubPositionTypeRegistry.FILE_LOG_POSITION_TYPE_ID,
+            position.getPositionWireFormat().rawBytes),
+        position);
+    assertEquals(consumerAdapter.advancePosition(null, position, 8), FileLogPosition.of(50));
+  }
+
+  private void openAdapters() {
+    adminAdapter = new FileLogAdminAdapter(FileLogBroker.acquire(config), topicRepository);
+    producerAdapter =
+        new FileLogProducerAdapter(FileLogBroker.acquire(config), PubSubMessageSerializer.DEFAULT_PUBSUB_SERIALIZER);
+    consumerAdapter = new FileLogConsumerAdapter(
+        FileLogBroker.acquire(config),
+        PubSubMessageDeserializer.createDefaultDeserializer());
+  }
+
+  private void closeAdapters() {
+    consumerAdapter.close();
+    producerAdapter.close(0);
+    adminAdapter.close();
+  }
+
+  private PubSubTopic createTopic(String topicName, Optional<Long> retentionInMs) {
+    PubSubTopic topic = topicRepository.getTopic(topicName);
+    adminAdapter.createTopic(
+        topic,
+        2,
+        1,
+        new PubSubTopicConfiguration(retentionInMs, false, Optional.empty(), 0L, Optional.empty()));
+    return topic;
+  }
+
+  private PubSubProduceResult produce(PubSubTopicPartition partition, int index, PubSubMessageHeaders headers)
+      throws Exception {
+    return producerAdapter
+        .sendMessage(
+            partition.getTopicName(),
+            partition.getPartitionNumber(),
+            createKey(index),
+            createValue(index),
+            headers,
+            null)
+        .get();
+  }
+
+  private List<DefaultPubSubMessage> pollAll(PubSubTopicPartition partition, int expectedCount) {
+    List<DefaultPubSubMessage> messages = new ArrayList<>();
+    long deadline = System.currentTimeMillis() + 10_000;
+    while (messages.size() < expectedCount && System.currentTimeMillis() < deadline) {
+      List<DefaultPubSubMessage> polledMessages = consumerAdapter.poll(100).get(partition);
+      if (polledMessages != null) {
+        messages.addAll(polledMessages);
+      }
+    }
+    assertEquals(messages.size(), expectedCount);
+    return messages;
+  }
+
+  private List<Path> getSegmentFiles(PubSubTopicPartition partition) throws Exception {
+    Path partitionDirectory = rootDirectory.toPath()
+        .resolve(partition.getTopicName())
+        .resolve(Integer.toString(partition.getPartitionNumber()));
+    List<Path> segmentFiles = new ArrayList<>();
+    try (Stream<Path> paths = Files.list(partitionDirectory)) {
+      paths.filter(FileLogSegment::isSegmentFile).forEach(segmentFiles::add);
+    }
+    return segmentFiles;
+  }
+
+  private static byte[] getKey(int index) {
+    return ("key_" + index).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] getValue(int index) {
+    return ("value_" + index).getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static KafkaKey createKey(int index) {
+    return new KafkaKey(MessageType.PUT, getKey(index));
+  }
+
+  private static KafkaMessageEnvelope createValue(int index) {
+    KafkaMessageEnvelope value = new KafkaMessageEnvelope();
+    value.messageType = MessageType.PUT.getValue();
+    value.producerMetadata = new ProducerMetadata();
+    value.producerMetadata.messageTimestamp = 0;
+    value.producerMetadata.messageSequenceNumber = index;
+    value.producerMetadata.segmentNumber = 0;
+    value.producerMetadata.producerGUID = new GUID();
+    Put put = new Put();
+    put.putValue = ByteBuffer.wrap(getValue(index));
+    put.replicationMetadataPayload = ByteBuffer.allocate(0);
+    value.payloadUnion = put;
+    return value;
+  }
+}
@@ -0,0 +1,155 @@
+package com.linkedin.venice.throttle;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+
+public class StripedTokenBucketTest {
+  @Test
+  public void testConsume() {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(100, 10, 1, TimeUnit.SECONDS, 4, mockClock);
+    assertEquals(tokenBucket.getStaleTokenCount(), 100, "StripedTokenBucket must start with full capacity");
+    assertTrue(tokenBucket.tryConsume(80), "StripedTokenBucket must allow consuming available tokens");
+    assertEquals(tokenBucket.getStaleTokenCount(), 20);
+    assertFalse(tokenBucket.tryConsume(40), "StripedTokenBucket must not allow consuming more tokens than available");
+    assertEquals(tokenBucket.getStaleTokenCount(), 20);
+    // The tokens borrowed by the stripe of this thread can all be consumed
+    for (int i = 0; i < 20; i++) {
+      assertTrue(tokenBucket.tryConsume(1));
+    }
+    assertFalse(tokenBucket.tryConsume(1));
+
+    doReturn(start + 3500).when(mockClock).millis(); // 3 refills of 10 each puts bucket at 30.
+    assertTrue(tokenBucket.tryConsume(25), "After refill, bucket must support consumption");
+    assertEquals(tokenBucket.getStaleTokenCount(), 5, "After refill and consumption, bucket must have correct tokens");
+
+    doReturn(start + 100_000).when(mockClock).millis();
+    assertFalse(tokenBucket.tryConsume(101), "Refills must not go beyond the capacity");
+    assertTrue(tokenBucket.tryConsume(100));
+  }
+
+  @Test
+  public void testTokensAreSharedAcrossThreads() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    doReturn(System.currentTimeMillis()).when(mockClock).millis();
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(100, 100, 1, TimeUnit.SECONDS, 2, mockClock);
+
+    // The other thread borrows a batch of tokens into its stripe
+    Thread thread = new Thread(() -> assertTrue(tokenBucket.tryConsume(1)));
+    thread.start();
+    thread.join();
+
+    // The tokens left in the stripe of the other thread are not lost for this one
+    assertTrue(tokenBucket.tryConsume(99));
+    assertFalse(tokenBucket.tryConsume(1));
+  }
+
+  @Test
+  public void testRejectionsReconcileAtMostOncePerRefillInterval() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(100, 100, 1, TimeUnit.SECONDS, 2, mockClock);
+    assertTrue(tokenBucket.tryConsume(90));
+
+    // The other thread, on the other stripe, is rejected by the shared bucket and reconciles the stripes
+    Runnable otherConsumer = () -> assertTrue(tokenBucket.tryConsume(8));
+    Thread thread;
+    do {
+      thread = new Thread(otherConsumer);
+    } while (((thread.getId() ^ Thread.currentThread().getId()) & 1) == 0);
+    thread.start();
+    thread.join();
+    assertEquals(tokenBucket.getStaleTokenCount(), 2);
+
+    // The tokens left in the stripe of the other thread are not reconciled again until the next refill interval
+    assertFalse(tokenBucket.tryConsume(2));
+    assertEquals(tokenBucket.getStaleTokenCount(), 2);
+    doReturn(start + 1001).when(mockClock).millis();
+    assertTrue(tokenBucket.tryConsume(100), "The refill must return the tokens of the stripes, up to the capacity");
+    assertFalse(tokenBucket.tryConsume(1));
+  }
+
+  @Test(timeOut = 60000)
+  public void testConcurrentConsumeNeverExceedsTokens() throws InterruptedException {
+    Clock mockClock = mock(Clock.class);
+    long start = System.currentTimeMillis();
+    doReturn(start).when(mockClock).millis();
+    long capacity = 100_000;
+    StripedTokenBucket tokenBucket = new StripedTokenBucket(capacity, capacity, 1, TimeUnit.SECONDS, 8, mockClock);
+
+    int threadCount = 16;
+    AtomicLong approved = new AtomicLong();
+    CountDownLatch startLatch = new CountDownLatch(1);
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+        long tokensToConsume = Thread.currentThread().getId() % 3 + 1;
+        int consecutiveRejections = 0;
+        while (consecutiveRejections < 100) {
+          if (tokenBucket.tryConsume(tokensToConsume)) {
+            approved.addAndGet(tokensToConsume);
+            consecutiveRejections = 0;
+          } else {
+            consecutiveRejections++;
+          }
+        }
+      });
+      thread.start();
+      threads.add(thread);
+    }
+    startLatch.countDown();
+    for (Thread thread: threads) {
+      thread.join();
+    }
+
+    assertEquals(approved.get() + tokenBucket.getStaleTokenCount(), capacity);
+    // The tokens left in the stripes are returned by the next refill, which doesn't go over the capacity
+    doReturn(start + 1001).when(mockClock).millis();
+    long drained = 0;
+    while (tokenBucket.tryConsume(1)) {
+      drained++;
+    }
+    assertEquals(drained, capacity);
+  }
+
+  @Test
+  public void testStripedTokenBucketFromRcuPerSecond() {
+    StripedTokenBucket bucket =
+        StripedTokenBucket.stripedTokenBucketFromRcuPerSecond(1000, 0.5, 1000, 5, 6, Clock.systemUTC());
+    assertEquals(bucket.getCapacity(), 2500);
+    assertEquals(bucket.getRefillAmount(), 500);
+    assertEquals(bucket.getEnforcementInterval(), 1000);
+    assertEquals(bucket.getStripeCount(), 8, "Stripe count must be rounded up to a power of 2");
+    assertEquals(new StripedTokenBucket(1, 1, 1, TimeUnit.SECONDS, 1, Clock.systemUTC()).getStripeCount(), 1);
+
+    Assert.expectThrows(
+        IllegalArgumentException.class,
+        () -> new StripedTokenBucket(1, 1, 1, TimeUnit.SECONDS, 0, Clock.systemUTC()));
+    Assert.expectThrows(
+        IllegalArgumentException.class,
+        () -> StripedTokenBucket.stripedTokenBucketFromRcuPerSecond(0, 0.5, 1000, 1, 4, Clock.systemUTC()));
+  }
+}
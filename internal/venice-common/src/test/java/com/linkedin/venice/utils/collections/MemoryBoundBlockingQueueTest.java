@@ -2,6 +2,8 @@ package com.linkedin.venice.utils.collections;
 
 import com.linkedin.venice.memory.Measurable;
 import com.linkedin.venice.utils.TestUtils;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.testng.Assert;
@@ -119,4 +121,23 @@ public class MemoryBoundBlockingQueueTest {
       TestUtils.shutdownThread(t);
     }
   }
+
+  @Test
+  public void testDrainTo() throws InterruptedException {
+    int recordSize = MemoryBoundBlockingQueue.LINKED_LIST_NODE_SHALLOW_OVERHEAD + MeasurableObject.SIZE;
+    MemoryBoundBlockingQueue<MeasurableObject> queue = new MemoryBoundBlockingQueue<>(100 * recordSize, recordSize);
+    for (int i = 0; i < 10; ++i) {
+      queue.put(new MeasurableObject());
+    }
+    List<MeasurableObject> drained = new ArrayList<>();
+    Assert.assertEquals(queue.drainTo(drained, 4), 4);
+    Assert.assertEquals(drained.size(), 4);
+    Assert.assertEquals(queue.size(), 6);
+    Assert.assertEquals(queue.getMemoryUsage(), 6 * recordSize);
+
+    Assert.assertEquals(queue.drainTo(drained, 100), 6);
+    Assert.assertEquals(drained.size(), 10);
+    Assert.assertEquals(queue.getMemoryUsage(), 0);
+    Assert.assertEquals(queue.drainTo(drained, 100), 0);
+  }
 }
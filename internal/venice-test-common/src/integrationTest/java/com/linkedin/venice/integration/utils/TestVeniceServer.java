@@ -2,10 +2,12 @@ package com.linkedin.venice.integration.utils;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -39,6 +41,7 @@ public class TestVeniceServer extends VeniceServer {
   @Override
   protected ListenerService createListenerService(
       StorageEngineRepository storageEngineRepository,
+      StorageService storageService,
       ReadOnlyStoreRepository storeMetadataRepository,
       ReadOnlySchemaRepository schemaRepository,
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
@@ -51,10 +54,12 @@ public class TestVeniceServer extends VeniceServer {
       Optional<DynamicAccessController> storeAccessController,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      Optional<HotKeyTracker> hotKeyTracker) {
 
     return new ListenerService(
         storageEngineRepository,
+        storageService,
         storeMetadataRepository,
         schemaRepository,
         customizedViewRepository,
@@ -67,32 +72,37 @@ public class TestVeniceServer extends VeniceServer {
         storeAccessController,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker) {
+        resourceReadUsageTracker,
+        hotKeyTracker) {
       @Override
       protected StorageReadRequestHandler createRequestHandler(
           ThreadPoolExecutor executor,
           ThreadPoolExecutor computeExecutor,
           StorageEngineRepository storageEngineRepository,
+          StorageService storageService,
           ReadOnlyStoreRepository metadataRepository,
           ReadOnlySchemaRepository schemaRepository,
           IngestionMetadataRetriever ingestionMetadataRetriever,
           ReadMetadataRetriever readMetadataRetriever,
           DiskHealthCheckService diskHealthService,
           StorageEngineBackedCompressorFactory compressorFactory,
-          Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+          Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+          Optional<HotKeyTracker> hotKeyTracker) {
 
         return new StorageReadRequestHandler(
             serverConfig,
             executor,
             computeExecutor,
             storageEngineRepository,
+            storageService,
             metadataRepository,
             schemaRepository,
             ingestionMetadataRetriever,
             readMetadataRetriever,
             diskHealthService,
             compressorFactory,
-            resourceReadUsageTracker) {
+            resourceReadUsageTracker,
+            hotKeyTracker) {
           @Override
           public void channelRead(ChannelHandlerContext context, Object message) throws Exception {
             RequestHandler handler = requestHandler.get();
@@ -0,0 +1,168 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.ACTIVE_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.DELETED_ELEM_TS_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.PUT_ONLY_PART_LENGTH_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_COLO_ID_FIELD_NAME;
+import static com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp.TOP_LEVEL_TS_FIELD_NAME;
+
+import com.linkedin.davinci.schema.merge.AvroCollectionElementComparator;
+import com.linkedin.davinci.schema.merge.SortBasedCollectionFieldOpHandler;
+import com.linkedin.venice.schema.AvroSchemaParseUtils;
+import com.linkedin.venice.schema.rmd.RmdConstants;
+import com.linkedin.venice.schema.rmd.RmdSchemaGenerator;
+import com.linkedin.venice.schema.rmd.v1.CollectionRmdTimestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the merge of a list add/remove operation into a large list field, which is in the collection-merge state,
+ * with and without the primitive list merge of {@link SortBasedCollectionFieldOpHandler}.
+ *
+ * To run the test, build the project and run the following commands:
+ * ligradle jmh
+ * If above command throws an error, you can try run `ligradle jmh --debug` first to clean up all the caches, then retry
+ * `ligradle jmh` again to run the results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 3)
+public class CollectionMergeBenchmark {
+  private static final Schema VALUE_SCHEMA = AvroSchemaParseUtils.parseSchemaFromJSONStrictValidation(
+      "{\"type\":\"record\",\"name\":\"CollectionMergeRecord\",\"namespace\":\"com.linkedin.avro\",\"fields\":["
+          + "{\"name\":\"INT\",\"type\":{\"type\":\"array\",\"items\":\"int\"},\"default\":[]},"
+          + "{\"name\":\"LONG\",\"type\":{\"type\":\"array\",\"items\":\"long\"},\"default\":[]},"
+          + "{\"name\":\"STRING\",\"type\":{\"type\":\"array\",\"items\":\"string\"},\"default\":[]}]}");
+  private static final Schema RMD_TIMESTAMP_SCHEMA = RmdSchemaGenerator.generateMetadataSchema(VALUE_SCHEMA)
+      .getField(RmdConstants.TIMESTAMP_FIELD_NAME)
+      .schema()
+      .getTypes()
+      .get(1);
+  private static final long TOP_LEVEL_TIMESTAMP = 1000L;
+
+  @Param({ "INT", "LONG", "STRING" })
+  protected String elementType;
+
+  @Param({ "10000" })
+  protected int listSize;
+
+  /**
+   * The number of elements added, and the number of elements removed, by each merged operation
+   */
+  @Param({ "100" })
+  protected int modifiedElementCount;
+
+  @Param({ "true", "false" })
+  protected boolean primitiveListMergeEnabled;
+
+  private SortBasedCollectionFieldOpHandler handler;
+  private Schema.Field field;
+  private List<Object> currElements;
+  private List<Long> activeTimestamps;
+  private List<Object> deletedElements;
+  private List<Long> deletedTimestamps;
+  private List<Object> toAddElements;
+  private List<Object> toRemoveElements;
+
+  private GenericRecord valueRecord;
+  private CollectionRmdTimestamp<Object> collectionRmd;
+
+  @Setup
+  public void setUp() {
+    handler =
+        new SortBasedCollectionFieldOpHandler(AvroCollectionElementComparator.INSTANCE, primitiveListMergeEnabled);
+    field = VALUE_SCHEMA.getField(elementType);
+
+    // The first half of the list is the put-only part, and the second half is the collection-merge part.
+    currElements = new ArrayList<>(listSize);
+    activeTimestamps = new ArrayList<>(listSize / 2);
+    for (int i = 0; i < listSize; i++) {
+      currElements.add(createElement(i));
+      if (i >= listSize / 2) {
+        activeTimestamps.add(TOP_LEVEL_TIMESTAMP + i);
+      }
+    }
+    deletedElements = new ArrayList<>(listSize / 10);
+    deletedTimestamps = new ArrayList<>(listSize / 10);
+    for (int i = 0; i < listSize / 10; i++) {
+      deletedElements.add(createElement(listSize + i));
+      deletedTimestamps.add(TOP_LEVEL_TIMESTAMP + i);
+    }
+
+    // Add back some deleted elements and some new ones, and remove elements from both parts of the list.
+    toAddElements = new ArrayList<>(modifiedElementCount);
+    toRemoveElements = new ArrayList<>(modifiedElementCount);
+    for (int i = 0; i < modifiedElementCount; i++) {
+      toAddElements.add(createElement(listSize + i * 2));
+      toRemoveElements.add(createElement(i * (listSize / modifiedElementCount)));
+    }
+  }
+
+  @Setup(Level.Invocation)
+  public void setUpInvocation() {
+    valueRecord = new GenericData.Record(VALUE_SCHEMA);
+    valueRecord.put(field.pos(), new ArrayList<>(currElements));
+    GenericRecord fieldRmdRecord = new GenericData.Record(RMD_TIMESTAMP_SCHEMA.getField(elementType).schema());
+    fieldRmdRecord.put(TOP_LEVEL_TS_FIELD_NAME, TOP_LEVEL_TIMESTAMP);
+    fieldRmdRecord.put(TOP_LEVEL_COLO_ID_FIELD_NAME, 0);
+    fieldRmdRecord.put(PUT_ONLY_PART_LENGTH_FIELD_NAME, listSize / 2);
+    fieldRmdRecord.put(ACTIVE_ELEM_TS_FIELD_NAME, new ArrayList<>(activeTimestamps));
+    fieldRmdRecord.put(DELETED_ELEM_FIELD_NAME, new ArrayList<>(deletedElements));
+    fieldRmdRecord.put(DELETED_ELEM_TS_FIELD_NAME, new ArrayList<>(deletedTimestamps));
+    collectionRmd = new CollectionRmdTimestamp<>(fieldRmdRecord);
+  }
+
+  private Object createElement(int index) {
+    switch (elementType) {
+      case "INT":
+        return index;
+      case "LONG":
+        return index * 1_000_000_007L;
+      default:
+        return "element_" + index;
+    }
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    org.openjdk.jmh.runner.options.Options opt =
+        new OptionsBuilder().include(CollectionMergeBenchmark.class.getSimpleName()).build();
+    new Runner(opt).run();
+  }
+
+  @Benchmark
+  public void modifyList(Blackhole bh) {
+    bh.consume(
+        handler.handleModifyList(
+            TOP_LEVEL_TIMESTAMP + listSize,
+            collectionRmd,
+            valueRecord,
+            field,
+            toAddElements,
+            toRemoveElements));
+  }
+}
@@ -70,7 +70,7 @@ public class RocksDBLookupApiBenchmark {
   private RocksDBStoragePartition storagePartition;
   private String storeDir;
 
-  @Param({ "1", "2", "5", "10", "50" })
+  @Param({ "1", "2", "5", "10", "50", "200", "1000" })
   private static int BATCH_SIZE;
 
   private String getTempDatabaseDir(String storeName) {
@@ -143,6 +143,28 @@ public class RocksDBLookupApiBenchmark {
     }
   }
 
+  /**
+   * Mirrors the per-key lookups which the server performs for batch gets when the MultiGet lookup is disabled, i.e. one
+   * {@link RocksDBStoragePartition#get(ByteBuffer)} call per key. Compare with {@link #measureMultiGetAPI} for the same
+   * batch size.
+   */
+  @Benchmark
+  public void measurePerKeyGetAPIInBatches(org.openjdk.jmh.infra.Blackhole bh) {
+    List<ByteBuffer> keys = new ArrayList<>(BATCH_SIZE);
+    // populate with dummy elements
+    for (int i = 0; i < BATCH_SIZE; ++i) {
+      keys.add(null);
+    }
+    for (int cur = 0; cur < ROW_CNT; cur += BATCH_SIZE) {
+      for (int b = 0; b < BATCH_SIZE; ++b) {
+        keys.set(b, ByteBuffer.wrap((KEY_PREFIX + cur + b).getBytes()));
+      }
+      for (int b = 0; b < BATCH_SIZE; ++b) {
+        bh.consume(storagePartition.get(keys.get(b)));
+      }
+    }
+  }
+
   @Benchmark
   public void measureMultiGetAPI(org.openjdk.jmh.infra.Blackhole bh) {
     List<byte[]> keys = new ArrayList<>(BATCH_SIZE);
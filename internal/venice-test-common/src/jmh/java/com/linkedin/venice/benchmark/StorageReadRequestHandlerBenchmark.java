@@ -0,0 +1,456 @@
+package com.linkedin.venice.benchmark;
+
+import static com.linkedin.venice.ConfigKeys.ADMIN_PORT;
+import static com.linkedin.venice.ConfigKeys.CLUSTER_NAME;
+import static com.linkedin.venice.ConfigKeys.DATA_BASE_PATH;
+import static com.linkedin.venice.ConfigKeys.KAFKA_BOOTSTRAP_SERVERS;
+import static com.linkedin.venice.ConfigKeys.LISTENER_PORT;
+import static com.linkedin.venice.ConfigKeys.PERSISTENCE_TYPE;
+import static com.linkedin.venice.ConfigKeys.ZOOKEEPER_ADDRESS;
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_COMPUTE;
+import static com.linkedin.venice.router.api.VenicePathParser.TYPE_STORAGE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
+import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
+import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.config.VeniceStoreVersionConfig;
+import com.linkedin.davinci.listener.response.ReadResponse;
+import com.linkedin.davinci.storage.DiskHealthCheckService;
+import com.linkedin.davinci.storage.IngestionMetadataRetriever;
+import com.linkedin.davinci.storage.ReadMetadataRetriever;
+import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
+import com.linkedin.davinci.storage.StorageMetadataService;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
+import com.linkedin.davinci.store.rocksdb.RocksDBStorageEngineFactory;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.client.store.AvroComputeRequestBuilderV3;
+import com.linkedin.venice.client.store.AvroGenericReadComputeStoreClient;
+import com.linkedin.venice.client.store.ComputeRequestBuilder;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.VeniceCompressor;
+import com.linkedin.venice.compression.ZstdWithDictCompressor;
+import com.linkedin.venice.compute.ComputeRequestWrapper;
+import com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1;
+import com.linkedin.venice.guid.JavaUtilGuidV4Generator;
+import com.linkedin.venice.kafka.protocol.GUID;
+import com.linkedin.venice.kafka.protocol.state.StoreVersionState;
+import com.linkedin.venice.listener.StorageReadRequestHandler;
+import com.linkedin.venice.listener.request.ComputeRouterRequestWrapper;
+import com.linkedin.venice.listener.request.GetRouterRequest;
+import com.linkedin.venice.listener.request.MultiGetRouterRequestWrapper;
+import com.linkedin.venice.meta.PersistenceType;
+import com.linkedin.venice.meta.ReadOnlySchemaRepository;
+import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
+import com.linkedin.venice.request.RequestHelper;
+import com.linkedin.venice.schema.SchemaEntry;
+import com.linkedin.venice.schema.SchemaReader;
+import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serialization.KeyWithChunkingSuffixSerializer;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.serialization.avro.ChunkedValueManifestSerializer;
+import com.linkedin.venice.serializer.AvroSerializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.storage.protocol.ChunkId;
+import com.linkedin.venice.storage.protocol.ChunkedKeySuffix;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
+import com.linkedin.venice.utils.PropertyBuilder;
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import com.linkedin.venice.utils.VeniceProperties;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpVersion;
+import java.io.File;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.commons.io.FileUtils;
+import org.mockito.ArgumentCaptor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Measures the read path of the server, from a parsed router request down to RocksDB and back to the response body,
+ * by driving {@link StorageReadRequestHandler} directly against a local RocksDB storage engine. The network stack is
+ * left out, and the handler runs the lookups inline on the benchmark thread, so the numbers reflect the CPU and
+ * allocation cost of the request handling itself. Parsing the request is part of each invocation, as it is in the
+ * server.
+ *
+ * The stored values are Avro records holding a float vector, so that the same dataset serves the single-get, batch-get
+ * and compute benchmarks. When chunking is enabled, every value is split into two chunks behind a manifest, which is
+ * how the server sees large values. Run it with the GC profiler, as in {@link #main(String[])}, to compare the
+ * allocation rate of the different paths.
+ */
+@Fork(value = 2, jvmArgs = { "-Xms4G", "-Xmx4G" })
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StorageReadRequestHandlerBenchmark {
+  private static final String DATA_BASE_DIR = Utils.getUniqueTempPath();
+  private static final String STORE_NAME = "read_benchmark_store";
+  private static final String TOPIC = STORE_NAME + "_v1";
+  private static final String KEY_PREFIX = "key_";
+  private static final String VECTOR_FIELD = "vector";
+  private static final int VALUE_SCHEMA_ID = 1;
+  private static final int PARTITION = 0;
+  private static final int RECORD_COUNT = 10_000;
+
+  private static final Schema VALUE_SCHEMA = SchemaBuilder.record("BenchmarkValue")
+      .fields()
+      .name(VECTOR_FIELD)
+      .type()
+      .array()
+      .items()
+      .floatType()
+      .noDefault()
+      .endRecord();
+  private static final Schema KEY_SCHEMA = Schema.create(Schema.Type.STRING);
+
+  private static final RecordSerializer<MultiGetRouterRequestKeyV1> MULTI_GET_KEY_SERIALIZER =
+      SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+  private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_KEY_SERIALIZER =
+      SerializerDeserializerFactory.getAvroGenericSerializer(ComputeRouterRequestKeyV1.SCHEMA$);
+
+  @Param({ "1", "10", "100", "1000" })
+  private int keysPerRequest;
+
+  @Param({ "100", "10000" })
+  private int valueSizeInBytes;
+
+  @Param({ "false", "true" })
+  private boolean chunkingEnabled;
+
+  @Param({ "NO_OP", "GZIP", "ZSTD_WITH_DICT" })
+  private CompressionStrategy compressionStrategy;
+
+  private StorageEngine storageEngine;
+  private StorageReadRequestHandler requestHandler;
+  private ChannelHandlerContext context;
+  private ReadResponse lastResponse;
+  private List<byte[]> keys;
+  private List<byte[]> multiGetRequestBodies;
+  private int nextKey = 0;
+  private int nextRequest = 0;
+
+  /**
+   * The compute operator is kept in a separate state, so that only the compute benchmark is expanded over it.
+   */
+  @State(Scope.Benchmark)
+  public static class ComputeState {
+    @Param({ "DOT_PRODUCT", "COSINE_SIMILARITY", "HADAMARD_PRODUCT" })
+    private String computeOperator;
+
+    private List<byte[]> computeRequestBodies;
+
+    @Setup
+    public void setUp(StorageReadRequestHandlerBenchmark benchmark) {
+      List<Float> param = randomVector(benchmark.valueSizeInBytes / Float.BYTES);
+      AvroGenericReadComputeStoreClient storeClient =
+          mock(AvroGenericReadComputeStoreClient.class, withSettings().stubOnly());
+      doReturn(STORE_NAME).when(storeClient).getStoreName();
+      SchemaReader schemaReader = mock(SchemaReader.class, withSettings().stubOnly());
+      doReturn(KEY_SCHEMA).when(schemaReader).getKeySchema();
+      doReturn(VALUE_SCHEMA).when(schemaReader).getValueSchema(VALUE_SCHEMA_ID);
+      doReturn(VALUE_SCHEMA).when(schemaReader).getLatestValueSchema();
+      doReturn(VALUE_SCHEMA_ID).when(schemaReader).getLatestValueSchemaId();
+      doReturn(VALUE_SCHEMA_ID).when(schemaReader).getValueSchemaId(VALUE_SCHEMA);
+
+      ComputeRequestBuilder<String> builder = new AvroComputeRequestBuilderV3<>(storeClient, schemaReader);
+      switch (computeOperator) {
+        case "DOT_PRODUCT":
+          builder.dotProduct(VECTOR_FIELD, param, "result");
+          break;
+        case "COSINE_SIMILARITY":
+          builder.cosineSimilarity(VECTOR_FIELD, param, "result");
+          break;
+        case "HADAMARD_PRODUCT":
+          builder.hadamardProduct(VECTOR_FIELD, param, "result");
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown compute operator: " + computeOperator);
+      }
+      Set<String> ignoredKeys = new HashSet<>(Arrays.asList("ignored"));
+      builder.execute(ignoredKeys);
+      ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+      verify(storeClient).compute(requestCaptor.capture(), any(), any(), any(), anyLong());
+      byte[] serializedComputeRequest = requestCaptor.getValue().serialize();
+
+      computeRequestBodies = new ArrayList<>();
+      for (int start = 0; start < RECORD_COUNT; start += benchmark.keysPerRequest) {
+        List<ComputeRouterRequestKeyV1> requestKeys = new ArrayList<>(benchmark.keysPerRequest);
+        for (int i = 0; i < benchmark.keysPerRequest; i++) {
+          ByteBuffer keyBytes = ByteBuffer.wrap(benchmark.keys.get((start + i) % RECORD_COUNT));
+          requestKeys.add(new ComputeRouterRequestKeyV1(i, keyBytes, PARTITION));
+        }
+        byte[] serializedKeys = COMPUTE_KEY_SERIALIZER.serializeObjects(requestKeys);
+        byte[] body = new byte[serializedComputeRequest.length + serializedKeys.length];
+        System.arraycopy(serializedComputeRequest, 0, body, 0, serializedComputeRequest.length);
+        System.arraycopy(serializedKeys, 0, body, serializedComputeRequest.length, serializedKeys.length);
+        computeRequestBodies.add(body);
+      }
+    }
+  }
+
+  @Setup
+  public void setUp() throws Exception {
+    TestUtils.restoreSystemExit();
+    VeniceProperties serverProperties = new PropertyBuilder().put(CLUSTER_NAME, "test_read_benchmark")
+        .put(ZOOKEEPER_ADDRESS, "localhost:2181")
+        .put(PERSISTENCE_TYPE, PersistenceType.ROCKS_DB.toString())
+        .put(KAFKA_BOOTSTRAP_SERVERS, "127.0.0.1:9092")
+        .put(LISTENER_PORT, 7072)
+        .put(ADMIN_PORT, 7073)
+        .put(DATA_BASE_PATH, DATA_BASE_DIR)
+        .build();
+    VeniceServerConfig serverConfig = new VeniceServerConfig(serverProperties);
+
+    storageEngine = new RocksDBStorageEngineFactory(serverConfig)
+        .getStorageEngine(new VeniceStoreVersionConfig(TOPIC, serverProperties));
+    storageEngine.addStoragePartitionIfAbsent(PARTITION);
+    StoreVersionState storeVersionState = new StoreVersionState();
+    storeVersionState.chunked = chunkingEnabled;
+    storeVersionState.compressionStrategy = compressionStrategy.getValue();
+    storageEngine.updateStoreVersionStateCache(storeVersionState);
+
+    StorageMetadataService metadataService = mock(StorageMetadataService.class, withSettings().stubOnly());
+    doReturn(ByteBuffer.wrap(ZstdWithDictCompressor.buildDictionaryOnSyntheticAvroData())).when(metadataService)
+        .getStoreVersionCompressionDictionary(TOPIC);
+    StorageEngineBackedCompressorFactory compressorFactory = new StorageEngineBackedCompressorFactory(metadataService);
+    populateStorageEngine(
+        compressorFactory.getCompressor(compressionStrategy, TOPIC, serverConfig.getZstdDictCompressionLevel()));
+
+    multiGetRequestBodies = new ArrayList<>();
+    for (int start = 0; start < RECORD_COUNT; start += keysPerRequest) {
+      List<MultiGetRouterRequestKeyV1> requestKeys = new ArrayList<>(keysPerRequest);
+      for (int i = 0; i < keysPerRequest; i++) {
+        MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+        requestKey.keyIndex = i;
+        requestKey.keyBytes = ByteBuffer.wrap(keys.get((start + i) % RECORD_COUNT));
+        requestKey.partitionId = PARTITION;
+        requestKeys.add(requestKey);
+      }
+      multiGetRequestBodies.add(MULTI_GET_KEY_SERIALIZER.serializeObjects(requestKeys));
+    }
+
+    StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class, withSettings().stubOnly());
+    doReturn(storageEngine).when(storageEngineRepository).getLocalStorageEngine(TOPIC);
+    ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class, withSettings().stubOnly());
+    doReturn(true).when(storeRepository).isReadComputationEnabled(STORE_NAME);
+    ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class, withSettings().stubOnly());
+    SchemaEntry valueSchemaEntry = new SchemaEntry(VALUE_SCHEMA_ID, VALUE_SCHEMA);
+    doReturn(valueSchemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(STORE_NAME);
+    doReturn(valueSchemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    context = mock(ChannelHandlerContext.class, withSettings().stubOnly());
+    doAnswer(invocation -> {
+      lastResponse = invocation.getArgument(0);
+      return null;
+    }).when(context).writeAndFlush(any());
+
+    ThreadPoolExecutor inlineExecutor = new InlineExecutor();
+    requestHandler = new StorageReadRequestHandler(
+        serverConfig,
+        inlineExecutor,
+        inlineExecutor,
+        storageEngineRepository,
+        mock(StorageService.class, withSettings().stubOnly()),
+        storeRepository,
+        schemaRepository,
+        mock(IngestionMetadataRetriever.class, withSettings().stubOnly()),
+        mock(ReadMetadataRetriever.class, withSettings().stubOnly()),
+        mock(DiskHealthCheckService.class, withSettings().stubOnly()),
+        compressorFactory,
+        Optional.empty(),
+        Optional.empty());
+  }
+
+  private void populateStorageEngine(VeniceCompressor compressor) throws Exception {
+    AvroSerializer<GenericRecord> valueSerializer = new AvroSerializer<>(VALUE_SCHEMA);
+    ChunkedValueManifestSerializer manifestSerializer = new ChunkedValueManifestSerializer(true);
+    KeyWithChunkingSuffixSerializer keyWithChunkingSuffixSerializer = new KeyWithChunkingSuffixSerializer();
+    GUID guid = new JavaUtilGuidV4Generator().getGuid();
+    int chunkSequenceNumber = 0;
+
+    keys = new ArrayList<>(RECORD_COUNT);
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      byte[] key = (KEY_PREFIX + i).getBytes(StandardCharsets.UTF_8);
+      keys.add(key);
+      GenericRecord value = new GenericData.Record(VALUE_SCHEMA);
+      value.put(VECTOR_FIELD, randomVector(valueSizeInBytes / Float.BYTES));
+      byte[] valueBytes = compressor.compress(valueSerializer.serialize(value));
+
+      if (!chunkingEnabled) {
+        storageEngine.put(PARTITION, key, ValueRecord.create(VALUE_SCHEMA_ID, valueBytes).serialize());
+        continue;
+      }
+      int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+      int firstChunkSize = valueBytes.length / 2;
+      List<ByteBuffer> chunkKeys = new ArrayList<>(2);
+      for (int chunkIndex = 0; chunkIndex < 2; chunkIndex++) {
+        byte[] chunk = chunkIndex == 0
+            ? Arrays.copyOfRange(valueBytes, 0, firstChunkSize)
+            : Arrays.copyOfRange(valueBytes, firstChunkSize, valueBytes.length);
+        ByteBuffer chunkKey = keyWithChunkingSuffixSerializer.serializeChunkedKey(
+            key,
+            new ChunkedKeySuffix(new ChunkId(guid, 0, chunkSequenceNumber++, chunkIndex), true));
+        chunkKeys.add(chunkKey);
+        storageEngine.put(PARTITION, chunkKey.array(), ValueRecord.create(chunkSchemaId, chunk).serialize());
+      }
+      ChunkedValueManifest manifest = new ChunkedValueManifest(chunkKeys, VALUE_SCHEMA_ID, valueBytes.length);
+      storageEngine.put(
+          PARTITION,
+          keyWithChunkingSuffixSerializer.serializeNonChunkedKey(key),
+          ValueRecord
+              .create(
+                  AvroProtocolDefinition.CHUNKED_VALUE_MANIFEST.getCurrentProtocolVersion(),
+                  manifestSerializer.serialize(TOPIC, manifest))
+              .serialize());
+    }
+  }
+
+  private static List<Float> randomVector(int dimension) {
+    List<Float> vector = new ArrayList<>(dimension);
+    for (int i = 0; i < dimension; i++) {
+      vector.add(ThreadLocalRandom.current().nextFloat());
+    }
+    return vector;
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws Exception {
+    storageEngine.drop();
+    FileUtils.deleteDirectory(new File(DATA_BASE_DIR));
+  }
+
+  /**
+   * Issues {@link #keysPerRequest} single-get requests, so that the cost per key can be compared with
+   * {@link #multiGet(Blackhole)} for the same number of keys.
+   */
+  @Benchmark
+  public void singleGet(Blackhole blackhole) throws Exception {
+    for (int i = 0; i < keysPerRequest; i++) {
+      String uri = "/" + TYPE_STORAGE + "/" + TOPIC + "/" + PARTITION + "/" + KEY_PREFIX + nextKey;
+      nextKey = (nextKey + 1) % RECORD_COUNT;
+      FullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, uri);
+      GetRouterRequest request =
+          GetRouterRequest.parseGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(uri)));
+      consumeResponse(request, blackhole);
+    }
+  }
+
+  @Benchmark
+  public void multiGet(Blackhole blackhole) throws Exception {
+    String uri = "/" + TYPE_STORAGE + "/" + TOPIC;
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        uri,
+        Unpooled.wrappedBuffer(nextRequestBody(multiGetRequestBodies)));
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper
+        .parseMultiGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(uri)));
+    consumeResponse(request, blackhole);
+  }
+
+  @Benchmark
+  public void compute(ComputeState computeState, Blackhole blackhole) throws Exception {
+    String uri = "/" + TYPE_COMPUTE + "/" + TOPIC;
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.POST,
+        uri,
+        Unpooled.wrappedBuffer(nextRequestBody(computeState.computeRequestBodies)));
+    httpRequest.headers()
+        .set(HttpConstants.VENICE_API_VERSION, ComputeRequestWrapper.LATEST_SCHEMA_VERSION_FOR_COMPUTE_REQUEST);
+    httpRequest.headers().set(HttpConstants.VENICE_COMPUTE_VALUE_SCHEMA_ID, VALUE_SCHEMA_ID);
+    ComputeRouterRequestWrapper request =
+        ComputeRouterRequestWrapper.parseComputeRequest(httpRequest, RequestHelper.getRequestParts(URI.create(uri)));
+    consumeResponse(request, blackhole);
+  }
+
+  private byte[] nextRequestBody(List<byte[]> requestBodies) {
+    nextRequest = (nextRequest + 1) % requestBodies.size();
+    return requestBodies.get(nextRequest);
+  }
+
+  private void consumeResponse(Object request, Blackhole blackhole) throws Exception {
+    requestHandler.channelRead(context, request);
+    ByteBuf responseBody = lastResponse.getResponseBody();
+    blackhole.consume(responseBody);
+    // Stands in for the channel, which releases the response body once written
+    responseBody.release();
+  }
+
+  /**
+   * Runs the lookups on the calling thread, so that the benchmark measures the request handling rather than the
+   * hand-off to the read thread pool.
+   */
+  private static class InlineExecutor extends ThreadPoolExecutor {
+    InlineExecutor() {
+      super(0, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+    }
+
+    @Override
+    public void execute(Runnable runnable) {
+      runnable.run();
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    Options opt = new OptionsBuilder().include(StorageReadRequestHandlerBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build();
+    new Runner(opt).run();
+  }
+}
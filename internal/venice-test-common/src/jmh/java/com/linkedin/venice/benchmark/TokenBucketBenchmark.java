@@ -2,7 +2,10 @@ package com.linkedin.venice.benchmark;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
+import com.linkedin.venice.throttle.StripedTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
+import com.linkedin.venice.throttle.VeniceRateLimiter;
+import com.linkedin.venice.throttle.VeniceRateLimiter.RateLimiterType;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.Clock;
@@ -55,7 +58,14 @@ public class TokenBucketBenchmark {
   @Param({ "1", "100" })
   protected long tokensToConsume;
 
-  TokenBucket tokenBucket;
+  /**
+   * Testing with the single {@link TokenBucket}, and with a {@link StripedTokenBucket} with one stripe per core, which
+   * the benchmark methods with many threads contend on.
+   */
+  @Param({ "TOKEN_BUCKET_INCREMENTAL_REFILL", "STRIPED_TOKEN_BUCKET" })
+  protected RateLimiterType rateLimiterType;
+
+  VeniceRateLimiter tokenBucket;
 
   AtomicLong approvedTotal = new AtomicLong(0);
   AtomicLong deniedTotal = new AtomicLong(0);
@@ -75,11 +85,20 @@ public class TokenBucketBenchmark {
   /**
    * Copied from {@link com.linkedin.venice.listener.ReadQuotaEnforcementHandler}
    */
-  private TokenBucket tokenBucketFromRcuPerSecond(long totalRcuPerSecond, double thisBucketProportionOfTotalRcu) {
+  private VeniceRateLimiter tokenBucketFromRcuPerSecond(long totalRcuPerSecond, double thisBucketProportionOfTotalRcu) {
     long totalRefillAmount = totalRcuPerSecond * enforcementIntervalSeconds;
     long totalCapacity = totalRefillAmount * enforcementCapacityMultiple;
     long thisRefillAmount = calculateRefillAmount(totalRcuPerSecond, thisBucketProportionOfTotalRcu);
     long thisCapacity = (long) Math.ceil(totalCapacity * thisBucketProportionOfTotalRcu);
+    if (rateLimiterType == RateLimiterType.STRIPED_TOKEN_BUCKET) {
+      return new StripedTokenBucket(
+          thisCapacity,
+          thisRefillAmount,
+          enforcementIntervalSeconds,
+          SECONDS,
+          Runtime.getRuntime().availableProcessors(),
+          Clock.systemUTC());
+    }
     return new TokenBucket(thisCapacity, thisRefillAmount, enforcementIntervalSeconds, SECONDS, Clock.systemUTC());
   }
 
@@ -106,8 +125,8 @@ public class TokenBucketBenchmark {
 
     System.out.println();
     System.out.println(
-        "RCU/sec: " + rcuPerSecond + "; Tokens to consume: " + tokensToConsume + "; Approved: " + approved
-            + "; Denied: " + denied + "; Approval ratio: " + approvalRatioStr);
+        "Rate limiter: " + rateLimiterType + "; RCU/sec: " + rcuPerSecond + "; Tokens to consume: " + tokensToConsume
+            + "; Approved: " + approved + "; Denied: " + denied + "; Approval ratio: " + approvalRatioStr);
   }
 
   public static void main(String[] args) throws RunnerException {
@@ -161,7 +180,7 @@ public class TokenBucketBenchmark {
   }
 
   private void test(ThreadContext threadContext, Blackhole bh) {
-    if (this.tokenBucket.tryConsume(tokensToConsume)) {
+    if (this.tokenBucket.tryAcquirePermit((int) tokensToConsume)) {
       bh.consume(threadContext.approved++);
     } else {
       bh.consume(threadContext.denied++);
@@ -77,6 +77,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_MULTIGET_TARDY_LATENCY_MS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_LONG_TAIL_RETRY_BUDGET_PERCENT_DECIMAL;
 import static com.linkedin.venice.ConfigKeys.ROUTER_MULTI_KEY_ROUTING_STRATEGY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_GRACEFUL_SHUTDOWN_PERIOD_SECONDS;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_CONNECTIONS_PER_HOST;
+import static com.linkedin.venice.ConfigKeys.ROUTER_NETTY_HTTP2_CLIENT_MAX_RESPONSE_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PARALLEL_ROUTING_CHUNK_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PARALLEL_ROUTING_THREAD_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_PENDING_CONNECTION_RESUME_THRESHOLD_PER_ROUTE;
@@ -89,6 +91,8 @@ import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESOLVE_THREADS;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_AGGREGATION_QUEUE_CAPACITY;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_AGGREGATION_THREAD_POOL_SIZE;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_MAX_SIZE_PER_STORE_IN_BYTES;
+import static com.linkedin.venice.ConfigKeys.ROUTER_RESPONSE_CACHE_STORES;
 import static com.linkedin.venice.ConfigKeys.ROUTER_RETRY_MANAGER_CORE_POOL_SIZE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_ROUTING_COMPUTATION_MODE;
 import static com.linkedin.venice.ConfigKeys.ROUTER_SINGLEGET_TARDY_LATENCY_MS;
@@ -126,7 +130,9 @@ import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.VeniceProperties;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
@@ -222,6 +228,8 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final int httpClient5PoolSize;
   private final int httpClient5TotalIOThreadCount;
   private final boolean httpClient5SkipCipherCheck;
+  private final int nettyHttp2ClientConnectionsPerHost;
+  private final int nettyHttp2ClientMaxResponseSize;
   private final boolean http2InboundEnabled;
   private final int http2MaxConcurrentStreams;
   private final int http2MaxFrameSize;
@@ -246,6 +254,8 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   private final int parallelRoutingChunkSize;
   private final int responseAggregationThreadPoolSize;
   private final int responseAggregationQueueCapacity;
+  private final Set<String> responseCacheStores;
+  private final long responseCacheMaxSizePerStoreInBytes;
 
   // MUTABLE CONFIGS
 
@@ -408,6 +418,8 @@ public class VeniceRouterConfig implements RouterRetryConfig {
       httpClient5TotalIOThreadCount =
           props.getInt(ROUTER_HTTP_CLIENT5_TOTAL_IO_THREAD_COUNT, Runtime.getRuntime().availableProcessors());
       httpClient5SkipCipherCheck = props.getBoolean(ROUTER_HTTP_CLIENT5_SKIP_CIPHER_CHECK_ENABLED, false);
+      nettyHttp2ClientConnectionsPerHost = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_CONNECTIONS_PER_HOST, 2);
+      nettyHttp2ClientMaxResponseSize = props.getInt(ROUTER_NETTY_HTTP2_CLIENT_MAX_RESPONSE_SIZE, 100 * 1024 * 1024);
       http2InboundEnabled = props.getBoolean(ROUTER_HTTP2_INBOUND_ENABLED, false);
       http2MaxConcurrentStreams = props.getInt(ROUTER_HTTP2_MAX_CONCURRENT_STREAMS, 100);
       http2MaxFrameSize = props.getInt(ROUTER_HTTP2_MAX_FRAME_SIZE, 8 * 1024 * 1024);
@@ -450,6 +462,9 @@ public class VeniceRouterConfig implements RouterRetryConfig {
       parallelRoutingChunkSize = props.getInt(ROUTER_PARALLEL_ROUTING_CHUNK_SIZE, 100);
       responseAggregationThreadPoolSize = props.getInt(ROUTER_RESPONSE_AGGREGATION_THREAD_POOL_SIZE, 10);
       responseAggregationQueueCapacity = props.getInt(ROUTER_RESPONSE_AGGREGATION_QUEUE_CAPACITY, 500000);
+      responseCacheStores = new HashSet<>(props.getList(ROUTER_RESPONSE_CACHE_STORES, Collections.emptyList()));
+      responseCacheMaxSizePerStoreInBytes =
+          props.getSizeInBytes(ROUTER_RESPONSE_CACHE_MAX_SIZE_PER_STORE_IN_BYTES, 64 * 1024 * 1024L);
       LOGGER.info("Loaded configuration");
     } catch (Exception e) {
       String errorMessage = "Can not load properties.";
@@ -802,6 +817,14 @@ public class VeniceRouterConfig implements RouterRetryConfig {
     return httpClient5SkipCipherCheck;
   }
 
+  public int getNettyHttp2ClientConnectionsPerHost() {
+    return nettyHttp2ClientConnectionsPerHost;
+  }
+
+  public int getNettyHttp2ClientMaxResponseSize() {
+    return nettyHttp2ClientMaxResponseSize;
+  }
+
   public boolean isHttp2InboundEnabled() {
     return http2InboundEnabled;
   }
@@ -897,4 +920,12 @@ public class VeniceRouterConfig implements RouterRetryConfig {
   public int getResponseAggregationQueueCapacity() {
     return responseAggregationQueueCapacity;
   }
+
+  public Set<String> getResponseCacheStores() {
+    return responseCacheStores;
+  }
+
+  public long getResponseCacheMaxSizePerStoreInBytes() {
+    return responseCacheMaxSizePerStoreInBytes;
+  }
 }
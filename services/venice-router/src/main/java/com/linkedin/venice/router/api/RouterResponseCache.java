@@ -0,0 +1,133 @@
+package com.linkedin.venice.router.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * {@code RouterResponseCache} keeps the single-get responses of the configured stores in Router, so that the hot keys
+ * of read-only batch stores can be served without a round trip to the storage nodes.
+ *
+ * Each store gets its own Caffeine cache, bounded by the total size of the cached keys and values and evicted with
+ * W-TinyLFU, which only holds the responses of one store version. {@link VeniceVersionFinder} installs a fresh cache
+ * through {@link #onCurrentVersionChange(String, int)} whenever it swaps to a new current version, and the responses
+ * of any other version are neither served nor cached afterwards.
+ */
+public class RouterResponseCache {
+  public static final RouterResponseCache DISABLED = new RouterResponseCache(Collections.emptySet(), 0);
+
+  private final Set<String> enabledStores;
+  private final long maxSizePerStoreInBytes;
+  private final Map<String, StoreVersionCache> storeCaches = new VeniceConcurrentHashMap<>();
+
+  public RouterResponseCache(Set<String> enabledStores, long maxSizePerStoreInBytes) {
+    this.enabledStores = enabledStores;
+    this.maxSizePerStoreInBytes = maxSizePerStoreInBytes;
+  }
+
+  public boolean isEnabled(String storeName) {
+    return enabledStores.contains(storeName);
+  }
+
+  public CachedResponse get(String storeName, int version, RouterKey key) {
+    StoreVersionCache storeCache = storeCaches.get(storeName);
+    if (storeCache == null || storeCache.version != version) {
+      return null;
+    }
+    return storeCache.cache.getIfPresent(key);
+  }
+
+  public void put(String storeName, int version, RouterKey key, CachedResponse response) {
+    if (!isEnabled(storeName)) {
+      return;
+    }
+    StoreVersionCache storeCache = storeCaches.get(storeName);
+    if (storeCache == null) {
+      /**
+       * The first version served by this Router is not announced by {@link VeniceVersionFinder}, so the cache of the
+       * store is created by the first response; later versions will replace it in {@link #onCurrentVersionChange}.
+       */
+      storeCache = storeCaches.computeIfAbsent(storeName, s -> new StoreVersionCache(version));
+    }
+    if (storeCache.version == version) {
+      storeCache.cache.put(key, response);
+    }
+  }
+
+  /**
+   * Drops all the cached responses of the given store, and only accepts responses of the new current version from now
+   * on. Responses of the previous version, which are still in flight, will be ignored when they come back.
+   */
+  public void onCurrentVersionChange(String storeName, int newCurrentVersion) {
+    if (!isEnabled(storeName)) {
+      return;
+    }
+    StoreVersionCache previousCache = storeCaches.put(storeName, new StoreVersionCache(newCurrentVersion));
+    if (previousCache != null) {
+      previousCache.cache.invalidateAll();
+    }
+  }
+
+  /**
+   * For TEST ONLY
+   */
+  long getEstimatedSize(String storeName) {
+    StoreVersionCache storeCache = storeCaches.get(storeName);
+    return storeCache == null ? 0 : storeCache.cache.estimatedSize();
+  }
+
+  private class StoreVersionCache {
+    private final int version;
+    private final Cache<RouterKey, CachedResponse> cache;
+
+    StoreVersionCache(int version) {
+      this.version = version;
+      this.cache = Caffeine.newBuilder()
+          .maximumWeight(maxSizePerStoreInBytes)
+          .weigher((RouterKey key, CachedResponse response) -> key.getKeyBuffer().remaining() + response.getSize())
+          .build();
+    }
+  }
+
+  /**
+   * The content and the headers of a successful single-get response, as returned by the storage node. The content is
+   * still compressed with the compression strategy of the store version.
+   */
+  public static class CachedResponse {
+    private final byte[] content;
+    private final String contentType;
+    private final String schemaId;
+    private final String compressionStrategy;
+
+    public CachedResponse(byte[] content, String contentType, String schemaId, String compressionStrategy) {
+      this.content = content;
+      this.contentType = contentType;
+      this.schemaId = schemaId;
+      this.compressionStrategy = compressionStrategy;
+    }
+
+    public byte[] getContent() {
+      return content;
+    }
+
+    public String getContentType() {
+      return contentType;
+    }
+
+    public String getSchemaId() {
+      return schemaId;
+    }
+
+    public String getCompressionStrategy() {
+      return compressionStrategy;
+    }
+
+    int getSize() {
+      return content.length;
+    }
+  }
+}
@@ -18,6 +18,7 @@ import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.exceptions.VeniceException;
 import com.linkedin.venice.meta.Instance;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
 import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
@@ -36,6 +37,7 @@ import com.linkedin.venice.utils.RedundantExceptionFilter;
 import com.linkedin.venice.utils.Utils;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.FullHttpResponse;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -103,6 +105,8 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
 
   private final RouterStats<AggRouterHttpRequestStats> routerStats;
 
+  private final RouterResponseCache responseCache;
+
   public VeniceDispatcher(
       VeniceRouterConfig config,
       ReadOnlyStoreRepository storeRepository,
@@ -112,6 +116,28 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
       RouteHttpRequestStats routeHttpRequestStats,
       AggHostHealthStats aggHostHealthStats,
       RouterStats<AggRouterHttpRequestStats> routerStats) {
+    this(
+        config,
+        storeRepository,
+        perStoreStatsByType,
+        metricsRepository,
+        storageNodeClient,
+        routeHttpRequestStats,
+        aggHostHealthStats,
+        routerStats,
+        RouterResponseCache.DISABLED);
+  }
+
+  public VeniceDispatcher(
+      VeniceRouterConfig config,
+      ReadOnlyStoreRepository storeRepository,
+      RouterStats<AggRouterHttpRequestStats> perStoreStatsByType,
+      MetricsRepository metricsRepository,
+      StorageNodeClient storageNodeClient,
+      RouteHttpRequestStats routeHttpRequestStats,
+      AggHostHealthStats aggHostHealthStats,
+      RouterStats<AggRouterHttpRequestStats> routerStats,
+      RouterResponseCache responseCache) {
     this.routerConfig = config;
     this.routerUnhealthyPendingConnThresholdPerRoute = routerConfig.getRouterUnhealthyPendingConnThresholdPerRoute();
     this.slowScatterRequestThresholdMs = routerConfig.getSlowScatterRequestThresholdMs();
@@ -127,6 +153,7 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     this.leakedCompletableFutureCleanupService = new LeakedCompletableFutureCleanupService();
     this.leakedCompletableFutureCleanupService.start();
     this.routerStats = routerStats;
+    this.responseCache = responseCache;
   }
 
   public RouterStats<RouteHttpStats> getPerRouteStatsByType() {
@@ -159,6 +186,17 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     Instance storageNode = part.getHosts().get(0);
     hostSelected.setSuccess(storageNode);
 
+    boolean isResponseCacheEnabled = requestType == RequestType.SINGLE_GET && isResponseCacheEnabled(storeName);
+    if (isResponseCacheEnabled) {
+      RouterResponseCache.CachedResponse cachedResponse =
+          responseCache.get(storeName, path.getVersionNumber(), path.getPartitionKey());
+      if (cachedResponse != null) {
+        routerStats.getStatsByType(requestType).recordResponseCacheHit(storeName);
+        responseFuture.setSuccess(Collections.singletonList(buildCachedResponse(path, cachedResponse)));
+        return;
+      }
+    }
+
     // Track dispatch start time for slow request logging
     long dispatchStartTimeNs = System.nanoTime();
 
@@ -191,7 +229,11 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
           path.markStorageNodeAsFast(storageNode.getNodeId());
         }
 
-        responseFuture.setSuccess(Collections.singletonList(buildResponse(path, response)));
+        if (isResponseCacheEnabled && statusCode == HttpStatus.SC_OK) {
+          cacheResponse(path, response);
+        }
+        VeniceFullHttpResponse fullHttpResponse = buildResponse(path, response);
+        responseFuture.setSuccess(Collections.singletonList(fullHttpResponse));
       } catch (Throwable e) {
         responseFuture.setFailure(e);
       }
@@ -361,6 +403,57 @@ public final class VeniceDispatcher implements PartitionDispatchHandler4<Instanc
     return response;
   }
 
+  /**
+   * The values of hybrid stores keep changing within a version, so their responses are never cached.
+   */
+  private boolean isResponseCacheEnabled(String storeName) {
+    if (!responseCache.isEnabled(storeName)) {
+      return false;
+    }
+    Store store = storeRepository.getStore(storeName);
+    return store != null && !store.isHybrid();
+  }
+
+  /**
+   * Caches the content of the storage node response as is, i.e. still compressed with the strategy of the store
+   * version, since the clients reading the same key may accept different compression strategies.
+   */
+  private void cacheResponse(VenicePath path, PortableHttpResponse serverResponse) throws IOException {
+    // The content is copied since the buffer will be released once the response is written out
+    RouterResponseCache.CachedResponse cachedResponse = new RouterResponseCache.CachedResponse(
+        ByteBufUtil.getBytes(serverResponse.getContentInByteBuf()),
+        serverResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE),
+        serverResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID),
+        serverResponse.getFirstHeader(VENICE_COMPRESSION_STRATEGY));
+    responseCache.put(path.getStoreName(), path.getVersionNumber(), path.getPartitionKey(), cachedResponse);
+  }
+
+  /**
+   * Builds the response of a cache hit the same way as {@link #buildResponse}, so the cached content is decompressed
+   * by the {@link VeniceResponseDecompressor} of the current request unless its client accepts the compression.
+   */
+  protected VeniceFullHttpResponse buildCachedResponse(
+      VenicePath path,
+      RouterResponseCache.CachedResponse cachedResponse) {
+    CompressionStrategy contentCompression =
+        VeniceResponseDecompressor.getCompressionStrategy(cachedResponse.getCompressionStrategy());
+    ContentDecompressResult contentDecompressResult = path.getResponseDecompressor()
+        .decompressSingleGetContent(contentCompression, Unpooled.wrappedBuffer(cachedResponse.getContent()));
+    ByteBuf content = contentDecompressResult.getContent();
+    VeniceFullHttpResponse response = new VeniceFullHttpResponse(
+        HttpVersion.HTTP_1_1,
+        HttpResponseStatus.OK,
+        content,
+        contentDecompressResult.getDecompressionTimeInNs());
+    response.headers()
+        .set(HttpHeaderNames.CONTENT_TYPE, cachedResponse.getContentType())
+        .set(HttpHeaderNames.CONTENT_LENGTH, content.readableBytes())
+        .set(HttpConstants.VENICE_SCHEMA_ID, cachedResponse.getSchemaId())
+        .set(HttpConstants.VENICE_COMPRESSION_STRATEGY, contentDecompressResult.getCompressionStrategy().getValue())
+        .set(VENICE_REQUEST_RCU, 1);
+    return response;
+  }
+
   /**
    * For TEST ONLY
    */
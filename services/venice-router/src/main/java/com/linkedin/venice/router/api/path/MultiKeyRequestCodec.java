@@ -0,0 +1,117 @@
+package com.linkedin.venice.router.api.path;
+
+import com.linkedin.venice.serializer.VeniceSerializationException;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nullable;
+
+
+/**
+ * Reads the keys of multi-key client requests, and writes the multi-key requests to the storage nodes, directly in the
+ * Avro binary encoding of their protocols, so that the key bytes of a request are never copied by the router.
+ *
+ * The keys of a client request are a sequence of Avro {@code bytes}, and each of them is sliced out of the request
+ * content. A router request is an optional prefix followed by a sequence of
+ * {@link com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1} (or the identical
+ * {@link com.linkedin.venice.compute.protocol.request.router.ComputeRouterRequestKeyV1}) records, and it is composed of
+ * the slices of the keys and of the encoded ints in between.
+ */
+final class MultiKeyRequestCodec {
+  /**
+   * The max length of an Avro-encoded int
+   */
+  private static final int MAX_VAR_INT_LENGTH = 5;
+  /**
+   * The max length of an Avro-encoded long
+   */
+  private static final int MAX_VAR_LONG_LENGTH = 10;
+
+  private MultiKeyRequestCodec() {
+  }
+
+  /**
+   * @return the keys encoded in {@code content} between {@code offset} and {@code end}, each of which is a
+   *         {@link ByteBuffer} over {@code content}
+   */
+  static List<ByteBuffer> sliceKeys(byte[] content, int offset, int end) {
+    List<ByteBuffer> keys = new ArrayList<>();
+    int position = offset;
+    while (position < end) {
+      long zigZagLength = 0;
+      int shift = 0;
+      int b;
+      do {
+        if (position == end || shift == 7 * MAX_VAR_LONG_LENGTH) {
+          throw new VeniceSerializationException("Malformed length of key #" + keys.size() + " at offset " + position);
+        }
+        b = content[position++];
+        zigZagLength |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while ((b & 0x80) != 0);
+      long keyLength = (zigZagLength >>> 1) ^ -(zigZagLength & 1);
+      if (keyLength < 0 || keyLength > end - position) {
+        throw new VeniceSerializationException(
+            "Invalid length: " + keyLength + " of key #" + keys.size() + " at offset " + position);
+      }
+      // Wrapped rather than sliced, since some partitioners only honor the position of a key buffer
+      keys.add(ByteBuffer.wrap(content, position, (int) keyLength));
+      position += (int) keyLength;
+    }
+    return keys;
+  }
+
+  /**
+   * Writes a router request. Each key is appended as is, and the encoded ints are written into a single array, which
+   * is shared by the parts of the request in between the keys.
+   */
+  static final class RouterRequestWriter {
+    private final List<ByteBuf> components;
+    private final byte[] varInts;
+    private int varIntsStart = 0;
+    private int varIntsEnd = 0;
+
+    RouterRequestWriter(@Nullable ByteBuffer prefix, int keyCount) {
+      this.components = new ArrayList<>(2 * keyCount + 2);
+      // Key index, key length and partition id of each key
+      this.varInts = new byte[3 * MAX_VAR_INT_LENGTH * keyCount];
+      if (prefix != null && prefix.hasRemaining()) {
+        components.add(Unpooled.wrappedBuffer(prefix));
+      }
+    }
+
+    void writeKey(int keyIndex, ByteBuffer keyBytes, int partitionId) {
+      writeVarInt(keyIndex);
+      // The key length is an Avro long, which is encoded the same way as an int of the same value
+      writeVarInt(keyBytes.remaining());
+      flushVarInts();
+      if (keyBytes.hasRemaining()) {
+        components.add(Unpooled.wrappedBuffer(keyBytes));
+      }
+      writeVarInt(partitionId);
+    }
+
+    ByteBuf finish() {
+      flushVarInts();
+      return Unpooled.compositeBuffer(Math.max(components.size(), 1)).addComponents(true, components);
+    }
+
+    private void writeVarInt(int value) {
+      int zigZagValue = (value << 1) ^ (value >> 31);
+      while ((zigZagValue & ~0x7F) != 0) {
+        varInts[varIntsEnd++] = (byte) ((zigZagValue & 0x7F) | 0x80);
+        zigZagValue >>>= 7;
+      }
+      varInts[varIntsEnd++] = (byte) zigZagValue;
+    }
+
+    private void flushVarInts() {
+      if (varIntsEnd > varIntsStart) {
+        components.add(Unpooled.wrappedBuffer(varInts, varIntsStart, varIntsEnd - varIntsStart));
+        varIntsStart = varIntsEnd;
+      }
+    }
+  }
+}
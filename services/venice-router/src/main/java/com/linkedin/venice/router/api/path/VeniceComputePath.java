@@ -22,10 +22,8 @@ import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.api.VenicePathParser;
 import com.linkedin.venice.router.api.VeniceResponseDecompressor;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
-import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
@@ -71,12 +69,6 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
    */
   private static final RecordDeserializer<GenericRecord> COMPUTE_REQUEST_NO_OP_DESERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(ComputeRequestV3.SCHEMA$, EMPTY_RECORD_SCHEMA);
-  private static final RecordDeserializer<ByteBuffer> COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericDeserializer(
-          ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema(),
-          ReadAvroProtocolDefinition.COMPUTE_REQUEST_CLIENT_KEY_V1.getSchema());
-  private static final RecordSerializer<ComputeRouterRequestKeyV1> COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeRouterRequestKeyV1.getClassSchema());
 
   private static void skipOverComputeRequest(BinaryDecoder decoder) {
     COMPUTE_REQUEST_NO_OP_DESERIALIZER.deserialize(EMPTY_COMPUTE_REQUEST_RECORD.get(), decoder);
@@ -134,8 +126,9 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
           "Exception while getting available number of bytes in request content");
     }
 
-    // deserialize the second part of the request content using the same decoder
-    List<ByteBuffer> keys = COMPUTE_REQUEST_CLIENT_KEY_V1_DESERIALIZER.deserializeObjects(decoder);
+    // slice the keys out of the second part of the request content
+    List<ByteBuffer> keys =
+        MultiKeyRequestCodec.sliceKeys(requestContent, computeRequestLengthInBytes, requestContent.length);
 
     initialize(storeVersionName.getName(), keys, partitionFinder, maxKeyCount, stats);
   }
@@ -229,9 +222,18 @@ public class VeniceComputePath extends VeniceMultiKeyPath<ComputeRouterRequestKe
   }
 
   @Override
-  protected byte[] serializeRouterRequest() {
-    return COMPUTE_ROUTER_REQUEST_KEY_V1_SERIALIZER
-        .serializeObjects(routerKeyMap.values(), ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes));
+  protected void writeRouterRequestKey(
+      MultiKeyRequestCodec.RouterRequestWriter writer,
+      ComputeRouterRequestKeyV1 routerRequestKey) {
+    writer.writeKey(routerRequestKey.keyIndex, routerRequestKey.keyBytes, routerRequestKey.partitionId);
+  }
+
+  /**
+   * The compute request from the client is forwarded as is, in front of the keys.
+   */
+  @Override
+  protected ByteBuffer getRouterRequestPrefix() {
+    return ByteBuffer.wrap(requestContent, 0, computeRequestLengthInBytes);
   }
 
   @Override
@@ -19,30 +19,20 @@ import com.linkedin.venice.router.api.VenicePathParser;
 import com.linkedin.venice.router.api.VeniceResponseDecompressor;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
-import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
-import com.linkedin.venice.serializer.RecordDeserializer;
-import com.linkedin.venice.serializer.RecordSerializer;
 import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import org.apache.avro.io.OptimizedBinaryDecoderFactory;
 
 
 public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequestKeyV1> {
   private static final String ROUTER_REQUEST_VERSION =
       Integer.toString(ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
 
-  private static final RecordSerializer<MultiGetRouterRequestKeyV1> MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER =
-      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetRouterRequestKeyV1.getClassSchema());
-
   protected static final ReadAvroProtocolDefinition EXPECTED_PROTOCOL =
       ReadAvroProtocolDefinition.MULTI_GET_CLIENT_REQUEST_V1;
 
-  private static final RecordDeserializer<ByteBuffer> EXPECTED_PROTOCOL_DESERIALIZER = FastSerializerDeserializerFactory
-      .getFastAvroGenericDeserializer(EXPECTED_PROTOCOL.getSchema(), EXPECTED_PROTOCOL.getSchema());
-
   private final String clientComputeHeader;
 
   public VeniceMultiGetPath(
@@ -77,7 +67,7 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
       request.content().readBytes(content);
     }
 
-    List<ByteBuffer> keys = deserialize(content);
+    List<ByteBuffer> keys = MultiKeyRequestCodec.sliceKeys(content, 0, content.length);
     initialize(storeVersionName.getName(), keys, partitionFinder, maxKeyCount, stats);
   }
 
@@ -138,13 +128,10 @@ public class VeniceMultiGetPath extends VeniceMultiKeyPath<MultiGetRouterRequest
   }
 
   @Override
-  protected byte[] serializeRouterRequest() {
-    return MULTI_GET_ROUTER_REQUEST_KEY_V1_SERIALIZER.serializeObjects(routerKeyMap.values());
-  }
-
-  private static List<ByteBuffer> deserialize(byte[] content) {
-    return EXPECTED_PROTOCOL_DESERIALIZER.deserializeObjects(
-        OptimizedBinaryDecoderFactory.defaultFactory().createOptimizedBinaryDecoder(content, 0, content.length));
+  protected void writeRouterRequestKey(
+      MultiKeyRequestCodec.RouterRequestWriter writer,
+      MultiGetRouterRequestKeyV1 routerRequestKey) {
+    writer.writeKey(routerRequestKey.keyIndex, routerRequestKey.keyBytes, routerRequestKey.partitionId);
   }
 
   @Override
@@ -20,6 +20,8 @@ import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpMethod;
 import java.nio.ByteBuffer;
@@ -31,6 +33,7 @@ import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.entity.ByteArrayEntity;
@@ -124,13 +127,16 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
           "Key count in multi-get request should not be zero");
     }
 
+    // partition lookup, for all the keys at once
+    int[] partitionIds = new int[keyCount];
+    partitioner.getPartitionIds(keys, partitionIds, partitionNum);
+
     for (ByteBuffer key: keys) {
       RouterKey routerKey = new RouterKey(key);
 
       stats.recordKeySize(key.remaining());
 
-      // partition lookup
-      int partitionId = partitioner.getPartitionId(routerKey.getKeyBuffer(), partitionNum);
+      int partitionId = partitionIds[keyIdx];
       routerKey.setPartitionId(partitionId);
       K routerRequestKey = createRouterRequestKey(key, keyIdx, partitionId);
       this.routerKeyMap.put(routerKey, routerRequestKey);
@@ -228,6 +234,20 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
     return serializeRouterRequest();
   }
 
+  /**
+   * The router request is composed of the prefix, the key bytes of the client request and the encoded key indexes,
+   * key lengths and partition ids, without copying any of them.
+   */
+  @Override
+  public ByteBuf getBodyByteBuf() {
+    MultiKeyRequestCodec.RouterRequestWriter writer =
+        new MultiKeyRequestCodec.RouterRequestWriter(getRouterRequestPrefix(), routerKeyMap.size());
+    for (K routerRequestKey: routerKeyMap.values()) {
+      writeRouterRequestKey(writer, routerRequestKey);
+    }
+    return writer.finish();
+  }
+
   public int getLongTailRetryMaxRouteForMultiKeyReq() {
     return this.retryConfig.getLongTailRetryMaxRouteForMultiKeyReq();
   }
@@ -360,9 +380,23 @@ public abstract class VeniceMultiKeyPath<K> extends VenicePath {
   protected abstract VenicePath fixRetryRequestForSubPath(Map<RouterKey, K> routerKeyMap);
 
   /**
-   * For multi-get requests, simply serialize the set of RouterKey to bytes;
-   * for read compute requests, concatenate the compute request and the serialized keys
+   * Write a router request key into the request to the storage node.
+   */
+  protected abstract void writeRouterRequestKey(MultiKeyRequestCodec.RouterRequestWriter writer, K routerRequestKey);
+
+  /**
+   * @return the part of the router request before the keys, or null if there is none
+   */
+  @Nullable
+  protected ByteBuffer getRouterRequestPrefix() {
+    return null;
+  }
+
+  /**
+   * For the storage node clients which send a byte array, copy the router request into one.
    * @return
    */
-  protected abstract byte[] serializeRouterRequest();
+  protected byte[] serializeRouterRequest() {
+    return ByteBufUtil.getBytes(getBodyByteBuf());
+  }
 }
@@ -14,6 +14,8 @@ import com.linkedin.venice.router.streaming.VeniceChunkedResponse;
 import com.linkedin.venice.router.streaming.VeniceChunkedWriteHandler;
 import com.linkedin.venice.utils.SystemTime;
 import com.linkedin.venice.utils.Time;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpResponseStatus;
@@ -279,6 +281,15 @@ public abstract class VenicePath implements ResourcePath<RouterKey> {
 
   public abstract byte[] getBody();
 
+  /**
+   * @return the same body as {@link #getBody()}, for the storage node clients which send a {@link ByteBuf}, so that a
+   *         path can compose its body out of existing buffers instead of copying them into a new array
+   */
+  public ByteBuf getBodyByteBuf() {
+    byte[] body = getBody();
+    return body == null ? Unpooled.EMPTY_BUFFER : Unpooled.wrappedBuffer(body);
+  }
+
   public abstract String getVeniceApiVersionHeader();
 
   public void recordRequest() {
@@ -0,0 +1,388 @@
+package com.linkedin.venice.router.httpclient;
+
+import com.linkedin.alpini.router.api.RouterException;
+import com.linkedin.venice.exceptions.VeniceException;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.handler.codec.http.DefaultFullHttpRequest;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpScheme;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.codec.http2.HttpConversionUtil;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.ScheduledFuture;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+
+/**
+ * A {@link StorageNodeClient} built on Netty, which multiplexes the requests to each storage node over a few pooled
+ * HTTP/2 connections, and runs on the IO event loops of the router.
+ *
+ * Each request is sent on its own HTTP/2 stream, and the data frames of its response are aggregated, up to the max
+ * response size of the router config. The aggregated frames are then copied into a single heap buffer, since the
+ * response handling of the router, e.g. the decompression of multi-get records, expects the content of a response to
+ * be backed by one array, as with the other clients.
+ */
+public class NettyHttp2StorageNodeClient implements StorageNodeClient {
+  private static final Logger LOGGER = LogManager.getLogger(NettyHttp2StorageNodeClient.class);
+  private static final int INITIAL_WINDOW_SIZE = 8 * 1024 * 1024;
+  private static final int MAX_FRAME_SIZE = 8 * 1024 * 1024;
+
+  private final SslContext sslContext;
+  private final Bootstrap bootstrap;
+  private final int connectionsPerHost;
+  private final int requestTimeoutMs;
+  private final int maxResponseSize;
+  private final Map<String, HostConnectionPool> connectionPoolMap = new VeniceConcurrentHashMap<>();
+  private volatile boolean closed = false;
+
+  public NettyHttp2StorageNodeClient(
+      Optional<SSLFactory> sslFactory,
+      VeniceRouterConfig routerConfig,
+      EventLoopGroup eventLoopGroup,
+      Class<? extends Channel> channelClass) {
+    SSLFactory factory = sslFactory.orElseThrow(
+        () -> new VeniceException("Param 'sslFactory' must be present while using " + this.getClass().getSimpleName()));
+    // The storage nodes only serve HTTP/2 over TLS, with the protocol negotiated through ALPN
+    this.sslContext = new JdkSslContext(
+        factory.getSSLContext(),
+        true,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2),
+        ClientAuth.NONE,
+        null,
+        false);
+    this.connectionsPerHost = routerConfig.getNettyHttp2ClientConnectionsPerHost();
+    this.requestTimeoutMs = routerConfig.getSocketTimeout();
+    this.maxResponseSize = routerConfig.getNettyHttp2ClientMaxResponseSize();
+    this.bootstrap = new Bootstrap().group(eventLoopGroup)
+        .channel(channelClass)
+        .option(ChannelOption.TCP_NODELAY, true)
+        .option(ChannelOption.SO_KEEPALIVE, true)
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routerConfig.getConnectionTimeout());
+    LOGGER.info(
+        "Constructing NettyHttp2StorageNodeClient with {} connections per host and request timeout: {}ms",
+        connectionsPerHost,
+        requestTimeoutMs);
+  }
+
+  @Override
+  public void start() {
+
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    connectionPoolMap.values().forEach(HostConnectionPool::close);
+    connectionPoolMap.clear();
+  }
+
+  @Override
+  public void query(
+      Instance host,
+      VenicePath path,
+      Consumer<PortableHttpResponse> completedCallBack,
+      Consumer<Throwable> failedCallBack,
+      BooleanSupplier cancelledCallBack) throws RouterException {
+    FullHttpRequest request = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        path.getHttpMethod(),
+        "/" + path.getLocation(),
+        path.getBodyByteBuf());
+    path.setupVeniceHeaders((k, v) -> request.headers().add(k, v));
+    execute(host, request, requestTimeoutMs, new ResponseCallback(completedCallBack, failedCallBack));
+  }
+
+  @Override
+  public void sendRequest(VeniceMetaDataRequest request, CompletableFuture<PortableHttpResponse> responseFuture) {
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(
+        HttpVersion.HTTP_1_1,
+        HttpMethod.valueOf(request.getMethod()),
+        "/" + request.getQuery(),
+        Unpooled.EMPTY_BUFFER);
+    execute(
+        request.getHost(),
+        httpRequest,
+        request.hasTimeout() ? request.getTimeout() : requestTimeoutMs,
+        new ResponseCallback(responseFuture::complete, responseFuture::completeExceptionally));
+  }
+
+  private void execute(Instance host, FullHttpRequest request, int timeoutMs, ResponseCallback callback) {
+    if (closed) {
+      callback.fail(new VeniceException(getClass().getSimpleName() + " is closed"));
+      return;
+    }
+    request.headers()
+        .set(HttpHeaderNames.HOST, host.getHost() + ":" + host.getSslPort())
+        .set(HttpConversionUtil.ExtensionHeaderNames.SCHEME.text(), HttpScheme.HTTPS.name())
+        .setInt(HttpHeaderNames.CONTENT_LENGTH, request.content().readableBytes());
+    connectionPoolMap.computeIfAbsent(host.getNodeId(), ignored -> new HostConnectionPool(host))
+        .acquire()
+        .whenComplete((connection, connectException) -> {
+          if (connectException != null) {
+            callback.fail(connectException);
+            return;
+          }
+          new Http2StreamChannelBootstrap(connection).handler(new ChannelInitializer<Http2StreamChannel>() {
+            @Override
+            protected void initChannel(Http2StreamChannel streamChannel) {
+              streamChannel.pipeline()
+                  .addLast(
+                      new Http2StreamFrameToHttpObjectCodec(false),
+                      new HttpObjectAggregator(maxResponseSize),
+                      new ResponseHandler(callback));
+            }
+          }).open().addListener(openFuture -> {
+            if (!openFuture.isSuccess()) {
+              callback.fail(openFuture.cause());
+              return;
+            }
+            Http2StreamChannel streamChannel = (Http2StreamChannel) openFuture.getNow();
+            ScheduledFuture<?> timeoutFuture = streamChannel.eventLoop().schedule(() -> {
+              callback.fail(
+                  new TimeoutException("Request to " + host.getNodeId() + " timed out after " + timeoutMs + "ms"));
+              streamChannel.close();
+            }, timeoutMs, TimeUnit.MILLISECONDS);
+            streamChannel.closeFuture().addListener(ignored -> timeoutFuture.cancel(false));
+            streamChannel.writeAndFlush(request).addListener(writeFuture -> {
+              if (!writeFuture.isSuccess()) {
+                callback.fail(writeFuture.cause());
+                streamChannel.close();
+              }
+            });
+          });
+        });
+  }
+
+  /**
+   * Completes a request exactly once, whether it gets a response, fails or times out.
+   */
+  private static class ResponseCallback {
+    private final Consumer<PortableHttpResponse> completedCallBack;
+    private final Consumer<Throwable> failedCallBack;
+    private final AtomicBoolean done = new AtomicBoolean(false);
+
+    ResponseCallback(Consumer<PortableHttpResponse> completedCallBack, Consumer<Throwable> failedCallBack) {
+      this.completedCallBack = completedCallBack;
+      this.failedCallBack = failedCallBack;
+    }
+
+    boolean isDone() {
+      return done.get();
+    }
+
+    void complete(PortableHttpResponse response) {
+      if (done.compareAndSet(false, true)) {
+        completedCallBack.accept(response);
+      }
+    }
+
+    void fail(Throwable throwable) {
+      if (done.compareAndSet(false, true)) {
+        failedCallBack.accept(throwable);
+      }
+    }
+  }
+
+  private static class ResponseHandler extends SimpleChannelInboundHandler<FullHttpResponse> {
+    private final ResponseCallback callback;
+
+    ResponseHandler(ResponseCallback callback) {
+      this.callback = callback;
+    }
+
+    /**
+     * The aggregated response, which is made of the slices of the data frames, is released once this returns.
+     */
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpResponse response) {
+      if (!callback.isDone()) {
+        ByteBuf content = Unpooled.wrappedBuffer(ByteBufUtil.getBytes(response.content()));
+        callback.complete(new NettyHttp2Response(response.status().code(), response.headers(), content));
+      }
+      ctx.close();
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+      callback.fail(cause);
+      ctx.close();
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+      callback.fail(new VeniceException("HTTP/2 stream closed before receiving a response"));
+      super.channelInactive(ctx);
+    }
+  }
+
+  /**
+   * The HTTP/2 connections to one storage node. Each slot holds at most one connection, which is replaced once it gets
+   * closed or the storage node stops accepting new streams on it, and requests are spread across the slots in turn.
+   */
+  private class HostConnectionPool {
+    private final Instance host;
+    private final AtomicReferenceArray<CompletableFuture<Channel>> connections;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+
+    HostConnectionPool(Instance host) {
+      this.host = host;
+      this.connections = new AtomicReferenceArray<>(connectionsPerHost);
+    }
+
+    CompletableFuture<Channel> acquire() {
+      int slot = Math.floorMod(nextSlot.getAndIncrement(), connectionsPerHost);
+      while (true) {
+        CompletableFuture<Channel> connection = connections.get(slot);
+        if (connection != null && (!connection.isDone() || isUsable(connection))) {
+          return connection;
+        }
+        CompletableFuture<Channel> newConnection = new CompletableFuture<>();
+        if (connections.compareAndSet(slot, connection, newConnection)) {
+          // A connection which received a GOAWAY is left to the storage node to close, once its streams are done
+          connect(newConnection);
+          return newConnection;
+        }
+      }
+    }
+
+    private boolean isUsable(CompletableFuture<Channel> connection) {
+      if (connection.isCompletedExceptionally()) {
+        return false;
+      }
+      Channel channel = connection.join();
+      Http2FrameCodec frameCodec = channel.pipeline().get(Http2FrameCodec.class);
+      return channel.isActive() && frameCodec != null && !frameCodec.connection().goAwayReceived();
+    }
+
+    private void connect(CompletableFuture<Channel> connectionFuture) {
+      Bootstrap hostBootstrap = bootstrap.clone().handler(new ChannelInitializer<Channel>() {
+        @Override
+        protected void initChannel(Channel channel) {
+          SslHandler sslHandler = sslContext.newHandler(channel.alloc(), host.getHost(), host.getSslPort());
+          sslHandler.handshakeFuture().addListener(handshakeFuture -> {
+            if (!handshakeFuture.isSuccess()) {
+              connectionFuture.completeExceptionally(handshakeFuture.cause());
+            } else if (!ApplicationProtocolNames.HTTP_2.equals(sslHandler.applicationProtocol())) {
+              connectionFuture.completeExceptionally(
+                  new VeniceException(
+                      "Storage node " + host.getNodeId() + " negotiated protocol: " + sslHandler.applicationProtocol()
+                          + " instead of HTTP/2"));
+              channel.close();
+            } else {
+              connectionFuture.complete(channel);
+            }
+          });
+          channel.pipeline()
+              .addLast(
+                  sslHandler,
+                  Http2FrameCodecBuilder.forClient()
+                      .initialSettings(
+                          Http2Settings.defaultSettings()
+                              .initialWindowSize(INITIAL_WINDOW_SIZE)
+                              .maxFrameSize(MAX_FRAME_SIZE))
+                      // Streams beyond the limit of the storage node are queued until other streams complete
+                      .encoderEnforceMaxConcurrentStreams(true)
+                      .build(),
+                  new Http2MultiplexHandler(new ChannelInboundHandlerAdapter()));
+        }
+      });
+      hostBootstrap.connect(host.getHost(), host.getSslPort()).addListener(connectFuture -> {
+        if (!connectFuture.isSuccess()) {
+          connectionFuture.completeExceptionally(connectFuture.cause());
+        }
+      });
+    }
+
+    void close() {
+      for (int slot = 0; slot < connectionsPerHost; slot++) {
+        CompletableFuture<Channel> connection = connections.getAndSet(slot, null);
+        if (connection != null) {
+          connection.thenAccept(Channel::close);
+        }
+      }
+    }
+  }
+
+  private static final class NettyHttp2Response implements PortableHttpResponse {
+    private final int statusCode;
+    private final HttpHeaders headers;
+    private final ByteBuf content;
+
+    NettyHttp2Response(int statusCode, HttpHeaders headers, ByteBuf content) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.content = content;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public ByteBuf getContentInByteBuf() throws IOException {
+      return content;
+    }
+
+    @Override
+    public boolean containsHeader(String headerName) {
+      return headers.contains(headerName);
+    }
+
+    @Override
+    public String getFirstHeader(String headerName) {
+      return headers.get(headerName);
+    }
+  }
+}
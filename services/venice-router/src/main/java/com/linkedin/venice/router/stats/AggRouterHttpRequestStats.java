@@ -238,6 +238,11 @@ public class AggRouterHttpRequestStats extends AbstractVeniceAggStoreStats<Route
     recordStoreStats(storeName, RouterHttpRequestStats::recordMetaStoreShadowRead);
   }
 
+  public void recordResponseCacheHit(String storeName) {
+    totalStats.recordResponseCacheHit();
+    recordStoreStats(storeName, RouterHttpRequestStats::recordResponseCacheHit);
+  }
+
   private class AggScatterGatherStats extends ScatterGatherStats {
     private long getAggStats(Function<ScatterGatherStats, Long> func) {
       long total = 0;
@@ -132,6 +132,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
   private final Sensor unavailableReplicaStreamingRequestSensor;
   private final Sensor multiGetFallbackSensor;
   private final Sensor metaStoreShadowReadSensor;
+  private final Sensor responseCacheHitSensor;
 
   /** TODO: Need to clarify the usage and add new OTel metrics or add it as a part of existing ones */
   private final Sensor errorRetryAttemptTriggeredByPendingRequestCheckSensor;
@@ -508,6 +509,7 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     currentInFlightRequest = new AtomicInteger();
 
     metaStoreShadowReadSensor = registerSensor("meta_store_shadow_read", new OccurrenceRate());
+    responseCacheHitSensor = registerSensor("response_cache_hit", new OccurrenceRate());
     this.totalInFlightRequestSensor = totalInFlightRequestSensor;
   }
 
@@ -789,6 +791,10 @@ public class RouterHttpRequestStats extends AbstractVeniceHttpStats {
     metaStoreShadowReadSensor.record();
   }
 
+  public void recordResponseCacheHit() {
+    responseCacheHitSensor.record();
+  }
+
   @Override
   protected Sensor registerSensor(String sensorName, MeasurableStat... stats) {
     return super.registerSensor(systemStoreName == null ? sensorName : systemStoreName, null, stats);
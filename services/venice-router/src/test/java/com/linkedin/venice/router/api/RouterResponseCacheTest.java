@@ -0,0 +1,78 @@
+package com.linkedin.venice.router.api;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+import com.linkedin.venice.utils.TestUtils;
+import com.linkedin.venice.utils.Utils;
+import java.util.concurrent.TimeUnit;
+import org.testng.annotations.Test;
+
+
+public class RouterResponseCacheTest {
+  private static final String STORE_NAME = "test_store";
+
+  private static RouterResponseCache.CachedResponse newResponse(int size) {
+    return new RouterResponseCache.CachedResponse(new byte[size], "avro/binary", "1", "0");
+  }
+
+  @Test
+  public void testOnlyEnabledStoresAreCached() {
+    RouterResponseCache cache = new RouterResponseCache(Utils.setOf(STORE_NAME), 1024 * 1024);
+    RouterKey key = RouterKey.fromString("key");
+
+    assertTrue(cache.isEnabled(STORE_NAME));
+    assertFalse(cache.isEnabled("other_store"));
+
+    cache.put("other_store", 1, key, newResponse(10));
+    assertNull(cache.get("other_store", 1, key));
+
+    RouterResponseCache.CachedResponse response = newResponse(10);
+    cache.put(STORE_NAME, 1, key, response);
+    assertSame(cache.get(STORE_NAME, 1, RouterKey.fromString("key")), response);
+    assertNull(cache.get(STORE_NAME, 1, RouterKey.fromString("another_key")));
+    assertNull(cache.get(STORE_NAME, 2, key));
+  }
+
+  @Test
+  public void testCacheIsDroppedOnCurrentVersionChange() {
+    RouterResponseCache cache = new RouterResponseCache(Utils.setOf(STORE_NAME), 1024 * 1024);
+    RouterKey key = RouterKey.fromString("key");
+
+    cache.put(STORE_NAME, 1, key, newResponse(10));
+    assertNotNull(cache.get(STORE_NAME, 1, key));
+
+    cache.onCurrentVersionChange(STORE_NAME, 2);
+    assertNull(cache.get(STORE_NAME, 1, key));
+    assertEquals(cache.getEstimatedSize(STORE_NAME), 0);
+
+    // A response of the previous version, which was still in flight, must not be cached
+    cache.put(STORE_NAME, 1, key, newResponse(10));
+    assertNull(cache.get(STORE_NAME, 1, key));
+
+    cache.put(STORE_NAME, 2, key, newResponse(10));
+    assertNotNull(cache.get(STORE_NAME, 2, key));
+
+    // Rolling back to a previous version should work the same way
+    cache.onCurrentVersionChange(STORE_NAME, 1);
+    assertNull(cache.get(STORE_NAME, 2, key));
+    cache.put(STORE_NAME, 1, key, newResponse(10));
+    assertNotNull(cache.get(STORE_NAME, 1, key));
+  }
+
+  @Test
+  public void testCacheSizeIsBounded() {
+    RouterResponseCache cache = new RouterResponseCache(Utils.setOf(STORE_NAME), 10 * 1024);
+    for (int i = 0; i < 100; i++) {
+      cache.put(STORE_NAME, 1, RouterKey.fromString("key_" + i), newResponse(1024));
+    }
+    TestUtils.waitForNonDeterministicAssertion(
+        10,
+        TimeUnit.SECONDS,
+        () -> assertTrue(cache.getEstimatedSize(STORE_NAME) < 10, "The cache should not exceed its size limit"));
+  }
+}
@@ -1,13 +1,26 @@
 package com.linkedin.venice.router.api;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.linkedin.alpini.base.concurrency.AsyncFuture;
+import com.linkedin.alpini.base.concurrency.AsyncPromise;
+import com.linkedin.alpini.netty4.misc.BasicHttpRequest;
+import com.linkedin.alpini.router.api.Scatter;
 import com.linkedin.alpini.router.api.ScatterGatherRequest;
+import com.linkedin.venice.HttpConstants;
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.GzipCompressor;
 import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.NameRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
+import com.linkedin.venice.meta.Store;
+import com.linkedin.venice.read.RequestType;
 import com.linkedin.venice.router.VeniceRouterConfig;
 import com.linkedin.venice.router.api.path.VenicePath;
 import com.linkedin.venice.router.httpclient.PortableHttpResponse;
@@ -16,16 +29,31 @@ import com.linkedin.venice.router.stats.AggHostHealthStats;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouteHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.utils.DataProviderUtils;
+import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.FullHttpResponse;
 import io.tehuti.metrics.MetricsRepository;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpStatus;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 
 public class VeniceDispatcherTest {
+  private static final String STORE_NAME = "test_store";
+  private static final byte[] VALUE = "test_value".getBytes(StandardCharsets.UTF_8);
+
   private VeniceRouterConfig mockConfig;
   private ReadOnlyStoreRepository mockStoreRepository;
   private RouterStats<AggRouterHttpRequestStats> mockPerStoreStats;
@@ -183,4 +211,145 @@ public class VeniceDispatcherTest {
       dispatcher.stop();
     }
   }
+
+  /**
+   * The response cache keeps the storage node response as is, so a response cached for a client accepting gzip must
+   * still be decompressed for a client which does not, and vice versa.
+   */
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testResponseCacheWithDifferentClientCompressions(boolean isFirstClientGzip) throws Exception {
+    Store store = mock(Store.class);
+    when(store.isHybrid()).thenReturn(false);
+    when(mockStoreRepository.getStore(STORE_NAME)).thenReturn(store);
+    byte[] compressedValue = new GzipCompressor().compress(VALUE);
+    mockStorageNodeResponse(compressedValue);
+
+    VeniceDispatcher dispatcher = createDispatcherWithResponseCache();
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      RouterKey key = new RouterKey("key".getBytes(StandardCharsets.UTF_8));
+      CompressionStrategy firstClientCompression =
+          isFirstClientGzip ? CompressionStrategy.GZIP : CompressionStrategy.NO_OP;
+
+      // Cache miss
+      FullHttpResponse response = dispatch(dispatcher, key, firstClientCompression, compressorFactory);
+      verifyResponse(response, firstClientCompression, compressedValue);
+      verify(mockStorageNodeClient, times(1)).query(any(), any(), any(), any(), any());
+      verify(mockAggRouterHttpRequestStats, times(0)).recordResponseCacheHit(STORE_NAME);
+
+      // Cache hits for both kinds of clients
+      response = dispatch(dispatcher, key, CompressionStrategy.NO_OP, compressorFactory);
+      verifyResponse(response, CompressionStrategy.NO_OP, compressedValue);
+      response = dispatch(dispatcher, key, CompressionStrategy.GZIP, compressorFactory);
+      verifyResponse(response, CompressionStrategy.GZIP, compressedValue);
+      verify(mockStorageNodeClient, times(1)).query(any(), any(), any(), any(), any());
+      verify(mockAggRouterHttpRequestStats, times(2)).recordResponseCacheHit(STORE_NAME);
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  @Test
+  public void testResponseCacheSkipsHybridStores() throws Exception {
+    Store store = mock(Store.class);
+    when(store.isHybrid()).thenReturn(true);
+    when(mockStoreRepository.getStore(STORE_NAME)).thenReturn(store);
+    byte[] compressedValue = new GzipCompressor().compress(VALUE);
+    mockStorageNodeResponse(compressedValue);
+
+    VeniceDispatcher dispatcher = createDispatcherWithResponseCache();
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      RouterKey key = new RouterKey("key".getBytes(StandardCharsets.UTF_8));
+      for (int i = 0; i < 2; i++) {
+        FullHttpResponse response = dispatch(dispatcher, key, CompressionStrategy.NO_OP, compressorFactory);
+        verifyResponse(response, CompressionStrategy.NO_OP, compressedValue);
+      }
+      verify(mockStorageNodeClient, times(2)).query(any(), any(), any(), any(), any());
+      verify(mockAggRouterHttpRequestStats, times(0)).recordResponseCacheHit(STORE_NAME);
+    } finally {
+      dispatcher.stop();
+    }
+  }
+
+  private VeniceDispatcher createDispatcherWithResponseCache() {
+    return new VeniceDispatcher(
+        mockConfig,
+        mockStoreRepository,
+        mockPerStoreStats,
+        new MetricsRepository(),
+        mockStorageNodeClient,
+        mockRouteHttpRequestStats,
+        mockAggHostHealthStats,
+        mockRouterStats,
+        new RouterResponseCache(Utils.setOf(STORE_NAME), 1024 * 1024));
+  }
+
+  private void mockStorageNodeResponse(byte[] content) throws Exception {
+    PortableHttpResponse storageNodeResponse = mock(PortableHttpResponse.class);
+    when(storageNodeResponse.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+    when(storageNodeResponse.getContentInByteBuf()).thenAnswer(invocation -> Unpooled.wrappedBuffer(content));
+    when(storageNodeResponse.getFirstHeader(HttpHeaders.CONTENT_TYPE)).thenReturn("avro/binary");
+    when(storageNodeResponse.getFirstHeader(HttpConstants.VENICE_SCHEMA_ID)).thenReturn("1");
+    when(storageNodeResponse.getFirstHeader(HttpConstants.VENICE_COMPRESSION_STRATEGY))
+        .thenReturn(String.valueOf(CompressionStrategy.GZIP.getValue()));
+    doAnswer(invocation -> {
+      Consumer<PortableHttpResponse> completedCallBack = invocation.getArgument(2);
+      completedCallBack.accept(storageNodeResponse);
+      return null;
+    }).when(mockStorageNodeClient).query(any(), any(), any(), any(), any());
+  }
+
+  private FullHttpResponse dispatch(
+      VeniceDispatcher dispatcher,
+      RouterKey key,
+      CompressionStrategy clientCompression,
+      CompressorFactory compressorFactory) throws Exception {
+    VenicePath path = mock(VenicePath.class);
+    when(path.getStoreName()).thenReturn(STORE_NAME);
+    when(path.getVersionNumber()).thenReturn(1);
+    when(path.getRequestType()).thenReturn(RequestType.SINGLE_GET);
+    when(path.getPartitionKey()).thenReturn(key);
+    when(path.getResponseDecompressor()).thenReturn(
+        new VeniceResponseDecompressor(
+            clientCompression,
+            mockRouterStats,
+            new NameRepository().getStoreVersionName(STORE_NAME, 1),
+            compressorFactory));
+
+    Instance storageNode = mock(Instance.class);
+    when(storageNode.getHost()).thenReturn("test_host");
+    when(storageNode.getNodeId()).thenReturn("test_host_1234");
+    ScatterGatherRequest<Instance, RouterKey> part = mock(ScatterGatherRequest.class);
+    when(part.getHosts()).thenReturn(Collections.singletonList(storageNode));
+
+    AsyncPromise<List<FullHttpResponse>> responseFuture = mock(AsyncPromise.class);
+    dispatcher.dispatch(
+        mock(Scatter.class),
+        part,
+        path,
+        mock(BasicHttpRequest.class),
+        mock(AsyncPromise.class),
+        responseFuture,
+        mock(AsyncPromise.class),
+        mock(AsyncFuture.class),
+        Runnable::run);
+
+    ArgumentCaptor<List<FullHttpResponse>> responseCaptor = ArgumentCaptor.forClass(List.class);
+    verify(responseFuture).setSuccess(responseCaptor.capture());
+    verify(responseFuture, times(0)).setFailure(any());
+    return responseCaptor.getValue().get(0);
+  }
+
+  private static void verifyResponse(
+      FullHttpResponse response,
+      CompressionStrategy clientCompression,
+      byte[] compressedValue) {
+    Assert.assertEquals(response.status().code(), HttpStatus.SC_OK);
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_SCHEMA_ID), "1");
+    Assert.assertEquals(
+        response.headers().get(HttpConstants.VENICE_COMPRESSION_STRATEGY),
+        String.valueOf(clientCompression.getValue()));
+    Assert.assertEquals(
+        ByteBufUtil.getBytes(response.content()),
+        clientCompression == CompressionStrategy.GZIP ? compressedValue : VALUE);
+  }
 }
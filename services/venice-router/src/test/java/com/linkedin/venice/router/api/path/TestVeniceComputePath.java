@@ -4,6 +4,8 @@ import static com.linkedin.venice.compute.ComputeRequestWrapper.LATEST_SCHEMA_VE
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -101,6 +103,7 @@ public class TestVeniceComputePath {
     VenicePartitionFinder mockedPartitionFinder = mock(VenicePartitionFinder.class);
     VenicePartitioner venicePartitioner = mock(VenicePartitioner.class);
     when(venicePartitioner.getPartitionId(any(ByteBuffer.class), anyInt())).thenReturn(partitionId);
+    doCallRealMethod().when(venicePartitioner).getPartitionIds(anyList(), any(int[].class), anyInt());
     when(mockedPartitionFinder.findPartitioner(anyString(), anyInt())).thenReturn(venicePartitioner);
     return mockedPartitionFinder;
   }
@@ -2,6 +2,8 @@ package com.linkedin.venice.router.api.path;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.doCallRealMethod;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -12,24 +14,30 @@ import com.linkedin.venice.meta.NameRepository;
 import com.linkedin.venice.meta.ReadOnlyStoreRepository;
 import com.linkedin.venice.meta.RetryManager;
 import com.linkedin.venice.partitioner.VenicePartitioner;
+import com.linkedin.venice.read.protocol.request.router.MultiGetRouterRequestKeyV1;
 import com.linkedin.venice.router.RouterRetryConfig;
 import com.linkedin.venice.router.RouterThrottleHandler;
 import com.linkedin.venice.router.api.RouterExceptionAndTrackingUtils;
+import com.linkedin.venice.router.api.RouterKey;
 import com.linkedin.venice.router.api.VenicePartitionFinder;
 import com.linkedin.venice.router.api.VeniceResponseDecompressor;
 import com.linkedin.venice.router.exception.VeniceKeyCountLimitException;
 import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
 import com.linkedin.venice.router.stats.RouterStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
+import com.linkedin.venice.serializer.RecordDeserializer;
 import com.linkedin.venice.serializer.RecordSerializer;
 import com.linkedin.venice.serializer.SerializerDeserializerFactory;
+import com.linkedin.venice.serializer.VeniceSerializationException;
 import com.linkedin.venice.stats.VeniceMetricsRepository;
 import com.linkedin.venice.utils.Utils;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import org.testng.Assert;
@@ -74,6 +82,7 @@ public class TestVeniceMultiGetPath {
     VenicePartitionFinder mockedPartitionFinder = mock(VenicePartitionFinder.class);
     VenicePartitioner venicePartitioner = mock(VenicePartitioner.class);
     when(venicePartitioner.getPartitionId(any(ByteBuffer.class), anyInt())).thenReturn(partitionId);
+    doCallRealMethod().when(venicePartitioner).getPartitionIds(anyList(), any(int[].class), anyInt());
     when(mockedPartitionFinder.findPartitioner(any(), anyInt())).thenReturn(venicePartitioner);
     return mockedPartitionFinder;
   }
@@ -216,4 +225,65 @@ public class TestVeniceMultiGetPath {
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRequest());
     Assert.assertTrue(path.isLongTailRetryAllowedForNewRequest());
   }
+
+  @Test
+  public void testRouterRequestReferencesClientRequestKeys() throws RouterException {
+    String resourceName = Utils.getUniqueString("test_store") + "_v1";
+    List<ByteBuffer> keys = new ArrayList<>();
+    for (int i = 0; i < 100; ++i) {
+      // Long enough keys for multi-byte key lengths
+      keys.add(ByteBuffer.wrap(("key_" + i + "_" + new String(new char[i * 3]).replace('\0', 'x')).getBytes()));
+    }
+    byte[] content = serializeKeys(keys);
+    BasicFullHttpRequest request = getMultiGetHttpRequest(resourceName, keys, Optional.empty());
+    request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY).set(content);
+    RouterRetryConfig retryConfig = mock(RouterRetryConfig.class);
+    VeniceMultiGetPath path = new VeniceMultiGetPath(
+        nameRepository.getStoreVersionName(resourceName),
+        request,
+        getVenicePartitionFinder(300),
+        keys.size(),
+        mock(AggRouterHttpRequestStats.class),
+        retryConfig,
+        disabledRetryManager,
+        mock(VeniceResponseDecompressor.class),
+        null);
+
+    Assert.assertEquals(path.getPartitionKeys().size(), keys.size());
+    for (RouterKey routerKey: path.getPartitionKeys()) {
+      Assert.assertSame(routerKey.getKeyBuffer().array(), content);
+    }
+
+    RecordDeserializer<MultiGetRouterRequestKeyV1> routerRequestDeserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetRouterRequestKeyV1.class);
+    List<MultiGetRouterRequestKeyV1> routerRequestKeys =
+        routerRequestDeserializer.deserializeObjects(path.serializeRouterRequest());
+    Assert.assertEquals(routerRequestKeys.size(), keys.size());
+    for (MultiGetRouterRequestKeyV1 routerRequestKey: routerRequestKeys) {
+      Assert.assertEquals(routerRequestKey.keyBytes, keys.get(routerRequestKey.keyIndex));
+      Assert.assertEquals(routerRequestKey.partitionId, 300);
+    }
+    Assert.assertEquals(ByteBufUtil.getBytes(path.getBodyByteBuf()), path.serializeRouterRequest());
+  }
+
+  @Test(expectedExceptions = VeniceSerializationException.class)
+  public void testMultiGetReqWithTruncatedKey() throws RouterException {
+    String resourceName = Utils.getUniqueString("test_store") + "_v1";
+    List<ByteBuffer> keys = new ArrayList<>();
+    keys.add(ByteBuffer.wrap("key_0".getBytes()));
+    byte[] content = serializeKeys(keys);
+    BasicFullHttpRequest request = getMultiGetHttpRequest(resourceName, keys, Optional.empty());
+    request.attr(RouterThrottleHandler.THROTTLE_HANDLER_BYTE_ATTRIBUTE_KEY)
+        .set(Arrays.copyOf(content, content.length - 1));
+    new VeniceMultiGetPath(
+        nameRepository.getStoreVersionName(resourceName),
+        request,
+        getVenicePartitionFinder(-1),
+        10,
+        mock(AggRouterHttpRequestStats.class),
+        mock(RouterRetryConfig.class),
+        disabledRetryManager,
+        mock(VeniceResponseDecompressor.class),
+        null);
+  }
 }
@@ -0,0 +1,290 @@
+package com.linkedin.venice.router.httpclient;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.linkedin.venice.compression.CompressionStrategy;
+import com.linkedin.venice.compression.CompressorFactory;
+import com.linkedin.venice.compression.GzipCompressor;
+import com.linkedin.venice.meta.Instance;
+import com.linkedin.venice.meta.NameRepository;
+import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
+import com.linkedin.venice.router.VeniceRouterConfig;
+import com.linkedin.venice.router.api.ContentDecompressResult;
+import com.linkedin.venice.router.api.VeniceResponseDecompressor;
+import com.linkedin.venice.router.api.path.VenicePath;
+import com.linkedin.venice.router.stats.AggRouterHttpRequestStats;
+import com.linkedin.venice.router.stats.RouterStats;
+import com.linkedin.venice.security.SSLFactory;
+import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
+import com.linkedin.venice.serializer.RecordDeserializer;
+import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.SslUtils;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.IdentityCipherSuiteFilter;
+import io.netty.handler.ssl.JdkSslContext;
+import io.netty.handler.ssl.SslContext;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+
+public class NettyHttp2StorageNodeClientTest {
+  private static final String SLOW_QUERY = "slow";
+  private static final String MULTI_GET_QUERY = "multiget";
+  private static final int MULTI_GET_RECORD_COUNT = 100;
+  private static final RecordSerializer<MultiGetResponseRecordV1> MULTI_GET_SERIALIZER =
+      FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
+  private static final RecordDeserializer<MultiGetResponseRecordV1> MULTI_GET_DESERIALIZER =
+      FastSerializerDeserializerFactory
+          .getFastAvroSpecificDeserializer(MultiGetResponseRecordV1.getClassSchema(), MultiGetResponseRecordV1.class);
+
+  private EventLoopGroup eventLoopGroup;
+  private Channel serverChannel;
+  private Instance storageNode;
+  private NettyHttp2StorageNodeClient client;
+
+  @BeforeClass
+  public void setUp() throws InterruptedException, IOException {
+    byte[] multiGetResponseBody = getCompressedMultiGetResponseBody();
+    SSLFactory sslFactory = SslUtils.getVeniceLocalSslFactory();
+    SslContext serverSslContext = new JdkSslContext(
+        sslFactory.getSSLContext(),
+        false,
+        null,
+        IdentityCipherSuiteFilter.INSTANCE,
+        new ApplicationProtocolConfig(
+            ApplicationProtocolConfig.Protocol.ALPN,
+            ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+            ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+            ApplicationProtocolNames.HTTP_2),
+        ClientAuth.NONE,
+        null,
+        false);
+    eventLoopGroup = new NioEventLoopGroup(2);
+    serverChannel = new ServerBootstrap().group(eventLoopGroup)
+        .channel(NioServerSocketChannel.class)
+        .childHandler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel channel) {
+            channel.pipeline()
+                .addLast(
+                    serverSslContext.newHandler(channel.alloc()),
+                    Http2FrameCodecBuilder.forServer().build(),
+                    new Http2MultiplexHandler(new ChannelInitializer<Http2StreamChannel>() {
+                      @Override
+                      protected void initChannel(Http2StreamChannel streamChannel) {
+                        streamChannel.pipeline()
+                            .addLast(
+                                new Http2StreamFrameToHttpObjectCodec(true),
+                                new HttpObjectAggregator(1024 * 1024),
+                                new EchoHandler(multiGetResponseBody));
+                      }
+                    }));
+          }
+        })
+        .bind("localhost", 0)
+        .sync()
+        .channel();
+    int port = ((InetSocketAddress) serverChannel.localAddress()).getPort();
+    storageNode = new Instance("localhost_" + port, "localhost", port);
+
+    VeniceRouterConfig routerConfig = mock(VeniceRouterConfig.class);
+    doReturn(2).when(routerConfig).getNettyHttp2ClientConnectionsPerHost();
+    doReturn(10000).when(routerConfig).getSocketTimeout();
+    doReturn(10000).when(routerConfig).getConnectionTimeout();
+    doReturn(1024 * 1024).when(routerConfig).getNettyHttp2ClientMaxResponseSize();
+    client = new NettyHttp2StorageNodeClient(
+        Optional.of(sslFactory),
+        routerConfig,
+        eventLoopGroup,
+        NioSocketChannel.class);
+    client.start();
+  }
+
+  @AfterClass
+  public void cleanUp() {
+    if (client != null) {
+      client.close();
+    }
+    if (serverChannel != null) {
+      serverChannel.close().syncUninterruptibly();
+    }
+    if (eventLoopGroup != null) {
+      eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.SECONDS).syncUninterruptibly();
+    }
+  }
+
+  @Test(timeOut = 30000)
+  public void testConcurrentQueriesAreMultiplexed() throws Exception {
+    List<CompletableFuture<PortableHttpResponse>> responseFutures = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      VenicePath path = mock(VenicePath.class);
+      doReturn(HttpMethod.POST).when(path).getHttpMethod();
+      doReturn("storage/test_store_v1/" + i).when(path).getLocation();
+      doReturn(("body_" + i).getBytes(StandardCharsets.UTF_8)).when(path).getBody();
+      doCallRealMethod().when(path).getBodyByteBuf();
+      CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+      client.query(storageNode, path, responseFuture::complete, responseFuture::completeExceptionally, () -> false);
+      responseFutures.add(responseFuture);
+    }
+    for (int i = 0; i < responseFutures.size(); i++) {
+      PortableHttpResponse response = responseFutures.get(i).get();
+      Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.OK.code());
+      Assert.assertTrue(response.containsHeader("x-echo"));
+      Assert.assertEquals(
+          response.getContentInByteBuf().toString(StandardCharsets.UTF_8),
+          "POST /storage/test_store_v1/" + i + " body_" + i);
+    }
+  }
+
+  /**
+   * The storage node sends the multi-get response in several data frames, which do not line up with the records, and
+   * the router decompresses it since the client does not support the compression of the response.
+   */
+  @Test(timeOut = 30000)
+  public void testCompressedMultiGetResponseIsDecompressed() throws Exception {
+    VenicePath path = mock(VenicePath.class);
+    doReturn(HttpMethod.POST).when(path).getHttpMethod();
+    doReturn("storage/test_store_v1/" + MULTI_GET_QUERY).when(path).getLocation();
+    doReturn(new byte[0]).when(path).getBody();
+    doCallRealMethod().when(path).getBodyByteBuf();
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.query(storageNode, path, responseFuture::complete, responseFuture::completeExceptionally, () -> false);
+    PortableHttpResponse response = responseFuture.get();
+    Assert.assertEquals(response.getStatusCode(), HttpResponseStatus.OK.code());
+
+    RouterStats<AggRouterHttpRequestStats> routerStats = mock(RouterStats.class);
+    doReturn(mock(AggRouterHttpRequestStats.class)).when(routerStats).getStatsByType(any());
+    try (CompressorFactory compressorFactory = new CompressorFactory()) {
+      VeniceResponseDecompressor responseDecompressor = new VeniceResponseDecompressor(
+          CompressionStrategy.NO_OP,
+          routerStats,
+          new NameRepository().getStoreVersionName("test_store", 1),
+          compressorFactory);
+      ContentDecompressResult result =
+          responseDecompressor.decompressMultiGetContent(CompressionStrategy.GZIP, response.getContentInByteBuf());
+      Assert.assertEquals(result.getCompressionStrategy(), CompressionStrategy.NO_OP);
+      List<MultiGetResponseRecordV1> records =
+          MULTI_GET_DESERIALIZER.deserializeObjects(ByteBufUtil.getBytes(result.getContent()));
+      Assert.assertEquals(records.size(), MULTI_GET_RECORD_COUNT);
+      for (int i = 0; i < MULTI_GET_RECORD_COUNT; i++) {
+        MultiGetResponseRecordV1 record = records.get(i);
+        Assert.assertEquals(record.keyIndex, i);
+        Assert.assertEquals(record.schemaId, 1);
+        Assert.assertEquals(StandardCharsets.UTF_8.decode(record.value).toString(), "value_" + i);
+      }
+    }
+  }
+
+  @Test(timeOut = 30000)
+  public void testMetaDataRequest() throws Exception {
+    VeniceMetaDataRequest request = new VeniceMetaDataRequest(storageNode, "health", HttpMethod.GET.name(), true);
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.sendRequest(request, responseFuture);
+    Assert.assertEquals(responseFuture.get().getContentInByteBuf().toString(StandardCharsets.UTF_8), "GET /health ");
+  }
+
+  @Test(timeOut = 30000)
+  public void testRequestTimesOut() throws InterruptedException {
+    VeniceMetaDataRequest request = new VeniceMetaDataRequest(storageNode, SLOW_QUERY, HttpMethod.GET.name(), true);
+    request.setTimeout(100);
+    CompletableFuture<PortableHttpResponse> responseFuture = new CompletableFuture<>();
+    client.sendRequest(request, responseFuture);
+    try {
+      responseFuture.get();
+      Assert.fail("The request should time out");
+    } catch (ExecutionException e) {
+      Assert.assertTrue(e.getCause() instanceof TimeoutException);
+    }
+  }
+
+  private static byte[] getCompressedMultiGetResponseBody() throws IOException {
+    List<MultiGetResponseRecordV1> records = new ArrayList<>(MULTI_GET_RECORD_COUNT);
+    try (GzipCompressor compressor = new GzipCompressor()) {
+      for (int i = 0; i < MULTI_GET_RECORD_COUNT; i++) {
+        byte[] value = compressor.compress(("value_" + i).getBytes(StandardCharsets.UTF_8));
+        records.add(new MultiGetResponseRecordV1(i, ByteBuffer.wrap(value), 1));
+      }
+    }
+    return MULTI_GET_SERIALIZER.serializeObjects(records);
+  }
+
+  /**
+   * Responds with the method, the uri and the body of the request, except for the slow query, which gets no response,
+   * and the multi-get query, which gets a compressed multi-get response split in three data frames.
+   */
+  private static class EchoHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+    private final byte[] multiGetResponseBody;
+
+    EchoHandler(byte[] multiGetResponseBody) {
+      this.multiGetResponseBody = multiGetResponseBody;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+      if (request.uri().endsWith(SLOW_QUERY)) {
+        return;
+      }
+      if (request.uri().endsWith(MULTI_GET_QUERY)) {
+        ctx.write(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+        int frameSize = multiGetResponseBody.length / 3 + 1;
+        for (int offset = 0; offset < multiGetResponseBody.length; offset += frameSize) {
+          int length = Math.min(frameSize, multiGetResponseBody.length - offset);
+          ctx.write(new DefaultHttpContent(Unpooled.wrappedBuffer(multiGetResponseBody, offset, length)));
+        }
+        ctx.writeAndFlush(LastHttpContent.EMPTY_LAST_CONTENT);
+        return;
+      }
+      String content =
+          request.method() + " " + request.uri() + " " + request.content().toString(StandardCharsets.UTF_8);
+      FullHttpResponse response = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1,
+          HttpResponseStatus.OK,
+          Unpooled.copiedBuffer(content, StandardCharsets.UTF_8));
+      response.headers().set("x-echo", "true");
+      ctx.writeAndFlush(response);
+    }
+  }
+}
@@ -36,6 +36,7 @@ import io.netty.channel.ChannelPipeline;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.tehuti.metrics.MetricsRepository;
 import java.util.ArrayList;
@@ -89,6 +90,7 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
     boolean isKeyValueProfilingEnabled = serverConfig.isKeyValueProfilingEnabled();
     boolean isUnregisterMetricForDeletedStoreEnabled = serverConfig.isUnregisterMetricForDeletedStoreEnabled();
     boolean readOtelStatsEnabled = serverConfig.isReadOtelStatsEnabled();
+    boolean readMetricsPreAggregationEnabled = serverConfig.isReadMetricsPreAggregationEnabled();
 
     this.singleGetStats = new AggServerHttpRequestStats(
         serverConfig.getClusterName(),
@@ -98,7 +100,8 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled,
         isDaVinciClient,
-        readOtelStatsEnabled);
+        readOtelStatsEnabled,
+        readMetricsPreAggregationEnabled);
     this.multiGetStats = new AggServerHttpRequestStats(
         serverConfig.getClusterName(),
         metricsRepository,
@@ -107,7 +110,8 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled,
         isDaVinciClient,
-        readOtelStatsEnabled);
+        readOtelStatsEnabled,
+        readMetricsPreAggregationEnabled);
     this.computeStats = new AggServerHttpRequestStats(
         serverConfig.getClusterName(),
         metricsRepository,
@@ -116,7 +120,8 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
         storeMetadataRepository,
         isUnregisterMetricForDeletedStoreEnabled,
         isDaVinciClient,
-        readOtelStatsEnabled);
+        readOtelStatsEnabled,
+        readMetricsPreAggregationEnabled);
 
     if (serverConfig.isComputeFastAvroEnabled()) {
       LOGGER.info("Fast avro for compute is enabled");
@@ -242,8 +247,12 @@ public class HttpChannelInitializer extends ChannelInitializer<SocketChannel> {
         }
       }
 
-      pipeline.addLast(new HttpObjectAggregator(serverConfig.getMaxRequestSize()))
-          .addLast(new OutboundHttpWrapperHandler(statsHandler))
+      pipeline.addLast(new HttpObjectAggregator(serverConfig.getMaxRequestSize()));
+      if (serverConfig.isSingleGetLargeValueStreamingEnabled()) {
+        // Writes the chunks of large values one by one, as the channel becomes writable
+        pipeline.addLast(new ChunkedWriteHandler());
+      }
+      pipeline.addLast(new OutboundHttpWrapperHandler(statsHandler))
           .addLast(new IdleStateHandler(0, 0, serverConfig.getNettyIdleTimeInSeconds()));
       if (loadControllerHandler != null) {
         pipeline.addLast(loadControllerHandler);
@@ -2,10 +2,12 @@ package com.linkedin.venice.listener;
 
 import com.linkedin.davinci.compression.StorageEngineBackedCompressorFactory;
 import com.linkedin.davinci.config.VeniceServerConfig;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
@@ -66,6 +68,7 @@ public class ListenerService extends AbstractVeniceService {
 
   public ListenerService(
       StorageEngineRepository storageEngineRepository,
+      StorageService storageService,
       ReadOnlyStoreRepository storeMetadataRepository,
       ReadOnlySchemaRepository schemaRepository,
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
@@ -78,7 +81,8 @@ public class ListenerService extends AbstractVeniceService {
       Optional<DynamicAccessController> storeAccessController,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      Optional<HotKeyTracker> hotKeyTracker) {
 
     this.serverConfig = serverConfig;
     this.port = serverConfig.getListenerPort();
@@ -108,13 +112,15 @@ public class ListenerService extends AbstractVeniceService {
         executor,
         computeExecutor,
         storageEngineRepository,
+        storageService,
         storeMetadataRepository,
         schemaRepository,
         ingestionMetadataRetriever,
         readMetadataRetriever,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyTracker);
 
     HttpChannelInitializer channelInitializer = new HttpChannelInitializer(
         storeMetadataRepository,
@@ -230,24 +236,28 @@ public class ListenerService extends AbstractVeniceService {
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
       StorageEngineRepository storageEngineRepository,
+      StorageService storageService,
       ReadOnlyStoreRepository metadataRepository,
       ReadOnlySchemaRepository schemaRepository,
       IngestionMetadataRetriever ingestionMetadataRetriever,
       ReadMetadataRetriever readMetadataRetriever,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      Optional<HotKeyTracker> hotKeyTracker) {
     return new StorageReadRequestHandler(
         serverConfig,
         executor,
         computeExecutor,
         storageEngineRepository,
+        storageService,
         metadataRepository,
         schemaRepository,
         ingestionMetadataRetriever,
         readMetadataRetriever,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyTracker);
   }
 }
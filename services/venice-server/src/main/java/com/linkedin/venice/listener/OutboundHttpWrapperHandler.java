@@ -13,11 +13,14 @@ import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ReplicaIngestionResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
 import com.linkedin.davinci.listener.response.StorePropertiesPayload;
+import com.linkedin.davinci.storage.chunking.LargeValueChunkedInput;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.response.AbstractReadResponse;
 import com.linkedin.venice.listener.response.BinaryResponse;
 import com.linkedin.venice.listener.response.HttpShortcutResponse;
+import com.linkedin.venice.listener.response.SingleGetResponseWrapper;
+import com.linkedin.venice.stats.ServerHttpRequestStats;
 import com.linkedin.venice.utils.ExceptionUtils;
 import com.linkedin.venice.utils.ObjectMapperFactory;
 import io.netty.buffer.ByteBuf;
@@ -26,8 +29,13 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpChunkedInput;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import java.nio.charset.StandardCharsets;
 
 
@@ -53,6 +61,7 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     int responseRcu = 1;
     CompressionStrategy compressionStrategy = CompressionStrategy.NO_OP;
     boolean isStreamingResponse = false;
+    LargeValueChunkedInput largeValueInput = null;
 
     FullHttpResponse response = null;
     try {
@@ -62,7 +71,12 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
         setStats(statsContext, obj);
 
         compressionStrategy = obj.getCompressionStrategy();
-        if (obj.isFound()) {
+        if (obj instanceof SingleGetResponseWrapper
+            && (largeValueInput = ((SingleGetResponseWrapper) obj).getLargeValueInput()) != null) {
+          body = null;
+          schemaIdHeader = obj.getResponseSchemaIdHeader();
+          statsContext.setResponseSize((int) largeValueInput.length());
+        } else if (obj.isFound()) {
           body = obj.getResponseBody();
           schemaIdHeader = obj.getResponseSchemaIdHeader();
           statsContext.setResponseSize(body.readableBytes());
@@ -190,15 +204,44 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
       return;
     }
 
+    if (largeValueInput != null && responseStatus == OK) {
+      /**
+       * The chunks of the value are written one at a time by the {@link ChunkedWriteHandler}, which is in the pipeline
+       * whenever large value streaming is enabled, and they are fetched ahead on the storage execution threads. The
+       * transfer is resumed whenever a chunk it had to wait for has been fetched. If one of them cannot be fetched, the
+       * response is cut short and the connection is closed, so that the client does not mistake it for a complete one.
+       */
+      ChunkedWriteHandler chunkedWriteHandler = ctx.pipeline().get(ChunkedWriteHandler.class);
+      ServerStatsContext statsContext = statsHandler.getServerStatsContext();
+      ServerHttpRequestStats storeStats = statsContext.getCurrentStats().getStoreStats(statsContext.getStoreName());
+      largeValueInput
+          .setChunkReadCallbacks(chunkedWriteHandler::resumeTransfer, storeStats::recordLargeValueChunkReadLatency);
+      HttpResponse streamingResponse = new DefaultHttpResponse(HTTP_1_1, responseStatus);
+      HttpUtil.setTransferEncodingChunked(streamingResponse, true);
+      setVeniceHeaders(
+          streamingResponse,
+          contentType,
+          compressionStrategy,
+          schemaIdHeader,
+          responseRcu,
+          isStreamingResponse);
+      ctx.write(streamingResponse);
+      ctx.writeAndFlush(new HttpChunkedInput(largeValueInput)).addListener(future -> {
+        if (!future.isSuccess()) {
+          ctx.close();
+        }
+      });
+      return;
+    }
+
+    if (largeValueInput != null) {
+      // The response failed, so the chunks of the value will not be read
+      largeValueInput.close();
+    }
+
     response = new DefaultFullHttpResponse(HTTP_1_1, responseStatus, body);
-    response.headers().set(CONTENT_TYPE, contentType);
     response.headers().set(CONTENT_LENGTH, body.readableBytes());
-    response.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, compressionStrategy.getValue());
-    response.headers().set(HttpConstants.VENICE_SCHEMA_ID, schemaIdHeader);
-    response.headers().set(HttpConstants.VENICE_REQUEST_RCU, responseRcu);
-    if (isStreamingResponse) {
-      response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
-    }
+    setVeniceHeaders(response, contentType, compressionStrategy, schemaIdHeader, responseRcu, isStreamingResponse);
 
     /** {@link io.netty.handler.timeout.IdleStateHandler} is in charge of detecting the state
      *  of connection, and {@link RouterRequestHttpHandler} will close the connection if necessary.
@@ -208,6 +251,22 @@ public class OutboundHttpWrapperHandler extends ChannelOutboundHandlerAdapter {
     ctx.writeAndFlush(response);
   }
 
+  private static void setVeniceHeaders(
+      HttpResponse response,
+      String contentType,
+      CompressionStrategy compressionStrategy,
+      int schemaIdHeader,
+      int responseRcu,
+      boolean isStreamingResponse) {
+    response.headers().set(CONTENT_TYPE, contentType);
+    response.headers().set(HttpConstants.VENICE_COMPRESSION_STRATEGY, compressionStrategy.getValue());
+    response.headers().set(HttpConstants.VENICE_SCHEMA_ID, schemaIdHeader);
+    response.headers().set(HttpConstants.VENICE_REQUEST_RCU, responseRcu);
+    if (isStreamingResponse) {
+      response.headers().set(HttpConstants.VENICE_STREAMING_RESPONSE, "1");
+    }
+  }
+
   public void setStats(ServerStatsContext statsContext, AbstractReadResponse obj) {
     statsContext.setReadResponseStats(obj.getStatsRecorder());
   }
@@ -24,6 +24,7 @@ import com.linkedin.venice.stats.AggServerQuotaUsageStats;
 import com.linkedin.venice.stats.ServerReadQuotaUsageStats;
 import com.linkedin.venice.throttle.EventThrottler;
 import com.linkedin.venice.throttle.GuavaRateLimiter;
+import com.linkedin.venice.throttle.StripedTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.throttle.VeniceRateLimiter;
 import com.linkedin.venice.throttle.VeniceRateLimiter.RateLimiterType;
@@ -421,6 +422,15 @@ public class ReadQuotaEnforcementHandler extends SimpleChannelInboundHandler<Rou
           new EventThrottler(newQuota, quotaEnforcementIntervalInMs, storeVersionName, true, REJECT_STRATEGY);
     } else if (rateLimiterType == RateLimiterType.GUAVA_RATE_LIMITER) {
       newRateLimiter = new GuavaRateLimiter(newQuota);
+    } else if (rateLimiterType == RateLimiterType.STRIPED_TOKEN_BUCKET) {
+      // One stripe per core, as requests are handled by at most that many threads at once
+      newRateLimiter = StripedTokenBucket.stripedTokenBucketFromRcuPerSecond(
+          quotaInRcu,
+          thisNodeQuotaResponsibility,
+          quotaEnforcementIntervalInMs,
+          enforcementCapacityMultiple,
+          Runtime.getRuntime().availableProcessors(),
+          clock);
     } else {
       newRateLimiter = TokenBucket.tokenBucketFromRcuPerSecond(
           quotaInRcu,
@@ -12,15 +12,18 @@ import com.linkedin.davinci.listener.response.ReadResponseStats;
 import com.linkedin.davinci.listener.response.ReplicaIngestionResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
 import com.linkedin.davinci.listener.response.StorePropertiesPayload;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.storage.chunking.BatchGetChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.ChunkedValueManifestContainer;
 import com.linkedin.davinci.storage.chunking.GenericRecordChunkingAdapter;
+import com.linkedin.davinci.storage.chunking.LargeValueChunkedInput;
 import com.linkedin.davinci.storage.chunking.SingleGetChunkingAdapter;
 import com.linkedin.davinci.store.StorageEngine;
-import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.cleaner.ResourceReadUsageTracker;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.compression.VeniceCompressor;
@@ -83,6 +86,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -94,6 +98,7 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -117,6 +122,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final ThreadPoolExecutor executor;
   private final ThreadPoolExecutor computeExecutor;
   private final StorageEngineRepository storageEngineRepository;
+  private final StorageService storageService;
   private final ReadOnlyStoreRepository metadataRepository;
   private final ReadOnlySchemaRepository schemaRepository;
   private final IngestionMetadataRetriever ingestionMetadataRetriever;
@@ -131,6 +137,8 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       new VeniceConcurrentHashMap<>();
   private final StorageEngineBackedCompressorFactory compressorFactory;
   private final Consumer<String> resourceReadUsageTracker;
+  /** Samples the keys read from each store version to track its hot keys, null if disabled */
+  private final HotKeyTracker hotKeyTracker;
 
   /**
    * The function handles below are used to drive the K/V size profiling, which is enabled (or not) by an immutable
@@ -141,6 +149,10 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
   private final IntFunction<ComputeResponseWrapper> computeResponseProvider;
   private final Function<MultiGetRouterRequestWrapper, CompletableFuture<ReadResponse>> multiGetHandler;
   private final Function<ComputeRouterRequestWrapper, CompletableFuture<ReadResponse>> computeHandler;
+  private final SingleBatchProcessor<MultiGetRouterRequestKeyV1, RequestContext, MultiGetResponseWrapper> multiGetProcessor;
+  private final SingleBatchProcessor<ComputeRouterRequestKeyV1, ComputeRequestContext, ComputeResponseWrapper> computeProcessor;
+  private final boolean singleGetLargeValueStreamingEnabled;
+  private final int singleGetLargeValueStreamingReadAheadChunks;
 
   private static class PerStoreVersionState {
     final StoreDeserializerCache<GenericRecord> storeDeserializerCache;
@@ -196,18 +208,21 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
       StorageEngineRepository storageEngineRepository,
+      StorageService storageService,
       ReadOnlyStoreRepository metadataStoreRepository,
       ReadOnlySchemaRepository schemaRepository,
       IngestionMetadataRetriever ingestionMetadataRetriever,
       ReadMetadataRetriever readMetadataRetriever,
       DiskHealthCheckService healthCheckService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> optionalResourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> optionalResourceReadUsageTracker,
+      Optional<HotKeyTracker> optionalHotKeyTracker) {
     this(
         serverConfig,
         executor,
         computeExecutor,
         storageEngineRepository,
+        storageService,
         metadataStoreRepository,
         schemaRepository,
         ingestionMetadataRetriever,
@@ -215,6 +230,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         healthCheckService,
         compressorFactory,
         optionalResourceReadUsageTracker,
+        optionalHotKeyTracker,
         serverConfig.isKeyValueProfilingEnabled()
             ? s -> new MultiGetResponseWrapper(s, new MultiGetResponseStatsWithSizeProfiling(s))
             : MultiGetResponseWrapper::new,
@@ -231,6 +247,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       ThreadPoolExecutor executor,
       ThreadPoolExecutor computeExecutor,
       StorageEngineRepository storageEngineRepository,
+      StorageService storageService,
       ReadOnlyStoreRepository metadataStoreRepository,
       ReadOnlySchemaRepository schemaRepository,
       IngestionMetadataRetriever ingestionMetadataRetriever,
@@ -238,11 +255,13 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       DiskHealthCheckService healthCheckService,
       StorageEngineBackedCompressorFactory compressorFactory,
       Optional<ResourceReadUsageTracker> optionalResourceReadUsageTracker,
+      Optional<HotKeyTracker> optionalHotKeyTracker,
       IntFunction<MultiGetResponseWrapper> multiGetResponseProvider,
       IntFunction<ComputeResponseWrapper> computeResponseProvider) {
     this.executor = executor;
     this.computeExecutor = computeExecutor;
     this.storageEngineRepository = storageEngineRepository;
+    this.storageService = storageService;
     this.metadataRepository = metadataStoreRepository;
     this.schemaRepository = schemaRepository;
     this.ingestionMetadataRetriever = ingestionMetadataRetriever;
@@ -261,6 +280,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       this.multiGetHandler = this::handleMultiGetRequest;
       this.computeHandler = this::handleComputeRequest;
     }
+    if (serverConfig.isBatchGetMultiGetLookupEnabled()) {
+      this.multiGetProcessor = this::processMultiGetInBatch;
+      this.computeProcessor = this::processComputeInBatch;
+    } else {
+      this.multiGetProcessor = this::processMultiGet;
+      this.computeProcessor = this::processCompute;
+    }
+    this.singleGetLargeValueStreamingEnabled = serverConfig.isSingleGetLargeValueStreamingEnabled();
+    this.singleGetLargeValueStreamingReadAheadChunks = serverConfig.getSingleGetLargeValueStreamingReadAheadChunks();
     this.multiGetResponseProvider = multiGetResponseProvider;
     this.computeResponseProvider = computeResponseProvider;
     this.serverConfig = serverConfig;
@@ -271,6 +299,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     } else {
       this.resourceReadUsageTracker = ignored -> {};
     }
+    this.hotKeyTracker = optionalHotKeyTracker.orElse(null);
   }
 
   @Override
@@ -480,6 +509,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       String topic = request.getResourceName();
       PerStoreVersionState perStoreVersionState = getPerStoreVersionState(topic);
       byte[] key = request.getKeyBytes();
+      if (hotKeyTracker != null) {
+        hotKeyTracker.recordRead(topic, key);
+      }
 
       StorageEngine storageEngine = perStoreVersionState.storageEngine;
       StoreVersionState svs = perStoreVersionState.storageEngine.getStoreVersionState();
@@ -487,11 +519,31 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       SingleGetResponseWrapper response = new SingleGetResponseWrapper();
       response.setCompressionStrategy(StoreVersionStateUtils.getCompressionStrategy(svs));
 
-      ValueRecord valueRecord =
-          SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats());
-      response.setValueRecord(valueRecord);
+      if (isChunked && this.singleGetLargeValueStreamingEnabled) {
+        ChunkedValueManifestContainer manifestContainer = new ChunkedValueManifestContainer();
+        response.setValueRecord(
+            SingleGetChunkingAdapter.getWithoutAssembling(
+                storageEngine,
+                request.getPartition(),
+                key,
+                response.getStats(),
+                manifestContainer));
+        if (manifestContainer.getManifest() != null) {
+          // The storage engine is held until the chunks have been streamed out, and they are read on this executor
+          response.setLargeValueInput(
+              new LargeValueChunkedInput(
+                  storageService.getRefCountedStorageEngine(topic),
+                  request.getPartition(),
+                  manifestContainer.getManifest(),
+                  executor,
+                  singleGetLargeValueStreamingReadAheadChunks));
+        }
+      } else {
+        response.setValueRecord(
+            SingleGetChunkingAdapter.get(storageEngine, request.getPartition(), key, isChunked, response.getStats()));
+      }
 
-      if (valueRecord == null) {
+      if (!response.isFound()) {
         response.getStats().incrementKeyNotFoundCount();
       }
 
@@ -515,7 +567,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         this.multiGetResponseProvider,
         this.executor,
         requestContext,
-        this::processMultiGet);
+        this.multiGetProcessor);
   }
 
   private interface ParallelResponseProvider<T extends MultiKeyResponseWrapper> {
@@ -565,6 +617,9 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
 
     return CompletableFuture.allOf(chunkFutures).handle((v, e) -> {
       if (e != null) {
+        for (int cur = 0; cur < chunkCount; ++cur) {
+          responseWrapper.getChunk(cur).release();
+        }
         throw new VeniceException(e);
       }
 
@@ -573,6 +628,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     });
   }
 
+  private void recordHotKeyRead(RequestContext requestContext, ByteBuffer key) {
+    if (hotKeyTracker != null) {
+      hotKeyTracker.recordRead(requestContext.topic, key);
+    }
+  }
+
   private void processMultiGet(
       int startPos,
       int endPos,
@@ -584,34 +645,93 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
+      recordHotKeyRead(requestContext, key.getKeyBytes());
       record = BatchGetChunkingAdapter.get(
           requestContext.storeVersion.storageEngine,
           key.partitionId,
           key.keyBytes,
           requestContext.isChunked,
           response.getStats());
-      if (record == null) {
-        response.getStats().incrementKeyNotFoundCount();
-        if (requestContext.isStreaming) {
-          // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
-          // non-existing keys in the response if the response is partial.
-          record = new MultiGetResponseRecordV1();
-          // Negative key index to indicate the non-existing keys
-          record.keyIndex = Math.negateExact(key.keyIndex);
-          record.schemaId = StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID;
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-          response.addRecord(record);
-        }
-      } else {
-        record.keyIndex = key.keyIndex;
-        response.addRecord(record);
+      addMultiGetRecord(key, record, requestContext, response);
+    }
+
+    // Trigger serialization
+    response.getResponseBody();
+  }
+
+  /**
+   * Variant of {@link #processMultiGet} which groups the keys by partition and resolves each group with a single
+   * storage engine MultiGet, in order to amortize the per-lookup overhead (e.g. JNI crossings and block cache lookups
+   * in RocksDB) across the keys of the batch.
+   */
+  private void processMultiGetInBatch(
+      int startPos,
+      int endPos,
+      List<MultiGetRouterRequestKeyV1> keys,
+      RequestContext requestContext,
+      MultiGetResponseWrapper response) {
+    Map<Integer, List<MultiGetRouterRequestKeyV1>> keysByPartition =
+        groupKeysByPartition(startPos, endPos, keys, MultiGetRouterRequestKeyV1::getPartitionId);
+    for (Map.Entry<Integer, List<MultiGetRouterRequestKeyV1>> entry: keysByPartition.entrySet()) {
+      List<MultiGetRouterRequestKeyV1> partitionKeys = entry.getValue();
+      List<byte[]> keyBytes = new ArrayList<>(partitionKeys.size());
+      for (int i = 0; i < partitionKeys.size(); i++) {
+        ByteBuffer keyBuffer = partitionKeys.get(i).getKeyBytes();
+        response.getStats().addKeySize(keyBuffer.remaining());
+        recordHotKeyRead(requestContext, keyBuffer);
+        keyBytes.add(ByteUtils.extractByteArray(keyBuffer));
       }
+      BatchGetChunkingAdapter.getInBatch(
+          requestContext.storeVersion.storageEngine,
+          entry.getKey(),
+          keyBytes,
+          requestContext.isChunked,
+          response.getStats(),
+          (record, index) -> addMultiGetRecord(partitionKeys.get(index), record, requestContext, response));
     }
 
     // Trigger serialization
     response.getResponseBody();
   }
 
+  private static void addMultiGetRecord(
+      MultiGetRouterRequestKeyV1 key,
+      MultiGetResponseRecordV1 record,
+      RequestContext requestContext,
+      MultiGetResponseWrapper response) {
+    if (record == null) {
+      response.getStats().incrementKeyNotFoundCount();
+      if (requestContext.isStreaming) {
+        // For streaming, we would like to send back non-existing keys since the end-user won't know the status of
+        // non-existing keys in the response if the response is partial.
+        // Negative key index to indicate the non-existing keys
+        response.addRecord(
+            Math.negateExact(key.keyIndex),
+            StreamingUtils.EMPTY_BYTE_BUFFER,
+            StreamingConstants.NON_EXISTING_KEY_SCHEMA_ID);
+      }
+    } else {
+      response.addRecord(key.keyIndex, record.value, record.schemaId);
+    }
+  }
+
+  /**
+   * Groups the keys in the [startPos, endPos) range by partition, preserving their relative order within each group.
+   */
+  private static <K> Map<Integer, List<K>> groupKeysByPartition(
+      int startPos,
+      int endPos,
+      List<K> keys,
+      ToIntFunction<K> partitionGetter) {
+    Map<Integer, List<K>> keysByPartition = new HashMap<>();
+    K key;
+    for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
+      key = keys.get(subChunkCur);
+      keysByPartition.computeIfAbsent(partitionGetter.applyAsInt(key), p -> new ArrayList<>()).add(key);
+    }
+    return keysByPartition;
+  }
+
   public CompletableFuture<ReadResponse> handleMultiGetRequest(MultiGetRouterRequestWrapper request) {
     final int queueLen = this.executor.getQueue().size();
     final long preSubmissionTimeNs = System.nanoTime();
@@ -627,7 +747,12 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       RequestContext requestContext = new RequestContext(request, this);
       responseWrapper.setCompressionStrategy(requestContext.compressionStrategy);
 
-      processMultiGet(0, request.getKeyCount(), keys, requestContext, responseWrapper);
+      try {
+        this.multiGetProcessor.process(0, request.getKeyCount(), keys, requestContext, responseWrapper);
+      } catch (RuntimeException e) {
+        responseWrapper.release();
+        throw e;
+      }
 
       responseWrapper.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
       responseWrapper.getStats().setStorageExecutionQueueLen(queueLen);
@@ -657,7 +782,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
       int keyCount = request.getKeyCount();
       ComputeResponseWrapper response = this.computeResponseProvider.apply(keyCount);
 
-      processCompute(0, keyCount, request.getKeys(), computeRequestContext, response);
+      this.computeProcessor.process(0, keyCount, request.getKeys(), computeRequestContext, response);
 
       response.getStats().setStorageExecutionSubmissionWaitTime(submissionWaitTime);
       response.getStats().setStorageExecutionQueueLen(queueLen);
@@ -685,7 +810,7 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
         this.computeResponseProvider,
         this.computeExecutor,
         requestContext,
-        this::processCompute);
+        this.computeProcessor);
   }
 
   /**
@@ -693,13 +818,15 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
    * subtasks of the same query, as is the case when executing batch get and compute requests in parallel chunks.
    */
   private static class RequestContext {
+    final String topic;
     final PerStoreVersionState storeVersion;
     final boolean isChunked;
     final boolean isStreaming;
     final CompressionStrategy compressionStrategy;
 
     RequestContext(MultiKeyRouterRequestWrapper request, StorageReadRequestHandler handler) {
-      this.storeVersion = handler.getPerStoreVersionState(request.getResourceName());
+      this.topic = request.getResourceName();
+      this.storeVersion = handler.getPerStoreVersionState(topic);
       StoreVersionState svs = storeVersion.storageEngine.getStoreVersionState();
       this.isChunked = StoreVersionStateUtils.isChunked(svs);
       this.compressionStrategy = StoreVersionStateUtils.getCompressionStrategy(svs);
@@ -747,13 +874,11 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     reusableObjects.computeContext.clear();
 
     int hits = 0;
-    long serializeStartTimeInNS, computeStartTimeInNS;
     ComputeRouterRequestKeyV1 key;
-    ComputeResponseRecordV1 record;
     for (int subChunkCur = startPos; subChunkCur < endPos; ++subChunkCur) {
       key = keys.get(subChunkCur);
       response.getStats().addKeySize(key.getKeyBytes().remaining());
-      AvroRecordUtils.clearRecord(reusableResultRecord);
+      recordHotKeyRead(requestContext, key.getKeyBytes());
       reusableValueRecord = GenericRecordChunkingAdapter.INSTANCE.get(
           requestContext.storeVersion.storageEngine,
           key.getPartitionId(),
@@ -766,38 +891,14 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           requestContext.valueSchemaEntry.getId(),
           requestContext.storeVersion.storeDeserializerCache,
           requestContext.compressor);
-      if (reusableValueRecord != null) {
-        computeStartTimeInNS = System.nanoTime();
-        reusableResultRecord = ComputeUtils.computeResult(
-            requestContext.operations,
-            requestContext.operationResultFields,
-            reusableObjects.computeContext,
-            reusableValueRecord,
-            reusableResultRecord);
-
-        serializeStartTimeInNS = System.nanoTime(); // N.B. This clock call is also used as the end of the compute time
-        record = new ComputeResponseRecordV1();
-        record.keyIndex = key.getKeyIndex();
-        record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(reusableResultRecord));
-
-        response.getStats()
-            .addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
-        response.getStats()
-            .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
-        response.getStats().addReadComputeOutputSize(record.value.remaining());
-
-        response.addRecord(record);
+      if (computeAndAddRecord(
+          key,
+          reusableValueRecord,
+          reusableResultRecord,
+          reusableObjects,
+          requestContext,
+          response)) {
         hits++;
-      } else {
-        response.getStats().incrementKeyNotFoundCount();
-        if (requestContext.isStreaming) {
-          // For streaming, we need to send back non-existing keys
-          record = new ComputeResponseRecordV1();
-          // Negative key index to indicate non-existing key
-          record.keyIndex = Math.negateExact(key.getKeyIndex());
-          record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
-          response.addRecord(record);
-        }
       }
     }
 
@@ -807,6 +908,116 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
     incrementOperatorCounters(response.getStats(), requestContext.operations, hits);
   }
 
+  /**
+   * Variant of {@link #processCompute} which groups the keys by partition and resolves each group with a single
+   * storage engine MultiGet. See {@link #processMultiGetInBatch}.
+   */
+  private void processComputeInBatch(
+      int startPos,
+      int endPos,
+      List<ComputeRouterRequestKeyV1> keys,
+      ComputeRequestContext requestContext,
+      ComputeResponseWrapper response) {
+    ReusableObjects reusableObjects = threadLocalReusableObjects.get();
+    GenericRecord reusableValueRecord = reusableObjects.valueRecordMap
+        .computeIfAbsent(requestContext.valueSchemaEntry.getSchema(), GenericData.Record::new);
+    GenericRecord reusableResultRecord =
+        reusableObjects.resultRecordMap.computeIfAbsent(requestContext.resultSchema, GenericData.Record::new);
+    reusableObjects.computeContext.clear();
+
+    int[] hits = new int[1];
+    Map<Integer, List<ComputeRouterRequestKeyV1>> keysByPartition =
+        groupKeysByPartition(startPos, endPos, keys, ComputeRouterRequestKeyV1::getPartitionId);
+    for (Map.Entry<Integer, List<ComputeRouterRequestKeyV1>> entry: keysByPartition.entrySet()) {
+      List<ComputeRouterRequestKeyV1> partitionKeys = entry.getValue();
+      List<byte[]> keyBytes = new ArrayList<>(partitionKeys.size());
+      for (int i = 0; i < partitionKeys.size(); i++) {
+        ByteBuffer keyBuffer = partitionKeys.get(i).getKeyBytes();
+        response.getStats().addKeySize(keyBuffer.remaining());
+        recordHotKeyRead(requestContext, keyBuffer);
+        keyBytes.add(ByteUtils.extractByteArray(keyBuffer));
+      }
+      GenericRecordChunkingAdapter.INSTANCE.getInBatch(
+          requestContext.storeVersion.storageEngine,
+          entry.getKey(),
+          keyBytes,
+          requestContext.isChunked,
+          reusableValueRecord,
+          reusableObjects.binaryDecoder,
+          response.getStats(),
+          requestContext.valueSchemaEntry.getId(),
+          requestContext.storeVersion.storeDeserializerCache,
+          requestContext.compressor,
+          (valueRecord, index) -> {
+            if (computeAndAddRecord(
+                partitionKeys.get(index),
+                valueRecord,
+                reusableResultRecord,
+                reusableObjects,
+                requestContext,
+                response)) {
+              hits[0]++;
+            }
+          });
+    }
+
+    // Trigger serialization
+    response.getResponseBody();
+
+    incrementOperatorCounters(response.getStats(), requestContext.operations, hits[0]);
+  }
+
+  /**
+   * Computes the result for a single key and adds it to the response.
+   *
+   * @return true if the key was found, false otherwise.
+   */
+  private static boolean computeAndAddRecord(
+      ComputeRouterRequestKeyV1 key,
+      GenericRecord valueRecord,
+      GenericRecord reusableResultRecord,
+      ReusableObjects reusableObjects,
+      ComputeRequestContext requestContext,
+      ComputeResponseWrapper response) {
+    ComputeResponseRecordV1 record;
+    if (valueRecord != null) {
+      AvroRecordUtils.clearRecord(reusableResultRecord);
+      long computeStartTimeInNS = System.nanoTime();
+      GenericRecord resultRecord = ComputeUtils.computeResult(
+          requestContext.operations,
+          requestContext.operationResultFields,
+          reusableObjects.computeContext,
+          valueRecord,
+          reusableResultRecord);
+
+      // N.B. This clock call is also used as the end of the compute time
+      long serializeStartTimeInNS = System.nanoTime();
+      record = new ComputeResponseRecordV1();
+      record.keyIndex = key.getKeyIndex();
+      record.value = ByteBuffer.wrap(requestContext.resultSerializer.serialize(resultRecord));
+
+      response.getStats()
+          .addReadComputeSerializationLatency(LatencyUtils.getElapsedTimeFromNSToMS(serializeStartTimeInNS));
+      response.getStats()
+          .addReadComputeLatency(LatencyUtils.convertNSToMS(serializeStartTimeInNS - computeStartTimeInNS));
+      response.getStats().addReadComputeOutputSize(record.value.remaining());
+
+      response.addRecord(record);
+      return true;
+    }
+
+    response.getStats().incrementKeyNotFoundCount();
+    if (requestContext.isStreaming) {
+      // For streaming, we need to send back non-existing keys
+      record = new ComputeResponseRecordV1();
+      // Negative key index to indicate non-existing key
+      record.keyIndex = Math.negateExact(key.getKeyIndex());
+      record.value = StreamingUtils.EMPTY_BYTE_BUFFER;
+      response.addRecord(record);
+    }
+    return false;
+  }
+
   private BinaryResponse handleDictionaryFetchRequest(DictionaryFetchRequest request) {
     ByteBuffer dictionary = ingestionMetadataRetriever.getStoreVersionCompressionDictionary(request.getResourceName());
     return new BinaryResponse(dictionary);
@@ -882,6 +1093,18 @@ public class StorageReadRequestHandler extends ChannelInboundHandlerAdapter {
           configResponse.addServerConfigs(this.serverConfig.getClusterProperties().toProperties());
         }
         return configResponse;
+      case DUMP_HOT_KEYS:
+        AdminResponse hotKeysResponse = new AdminResponse();
+        if (this.hotKeyTracker == null) {
+          hotKeysResponse.setError(true);
+          hotKeysResponse.setMessage("Hot key tracking is not enabled");
+        } else {
+          String storeVersion = adminRequest.getStoreVersion();
+          hotKeysResponse.addHotKeys(
+              hotKeyTracker.getHotKeys(storeVersion, HotKeyTracker.Operation.READ),
+              hotKeyTracker.getHotKeys(storeVersion, HotKeyTracker.Operation.WRITE));
+        }
+        return hotKeysResponse;
       default:
         throw new VeniceException("Not a valid admin action: " + adminRequest.getServerAdminAction().toString());
     }
@@ -41,6 +41,8 @@ public class GrpcOutboundResponseHandler extends VeniceServerGrpcHandler {
 
       byte[] array = new byte[body.readableBytes()];
       body.getBytes(body.readerIndex(), array);
+      // The body may come from a pooled allocator, and it is not handed over to any channel which would release it
+      body.release();
       veniceServerResponseBuilder.setData(ByteString.copyFrom(array))
           .setCompressionStrategy(compressionStrategy.getValue());
 
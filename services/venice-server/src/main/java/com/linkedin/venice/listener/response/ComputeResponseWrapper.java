@@ -5,22 +5,74 @@ import com.linkedin.venice.listener.response.stats.ComputeResponseStats;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import com.linkedin.venice.utils.lazy.Lazy;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 
 public class ComputeResponseWrapper extends MultiKeyResponseWrapper<ComputeResponseRecordV1> {
   static final RecordSerializer<ComputeResponseRecordV1> SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(ComputeResponseRecordV1.getClassSchema());
 
+  private final Lazy<ByteBuf> responseBody;
+
+  /**
+   * Mutable because we want {@link #getResponseBody()} to "freeze" this list.
+   */
+  private List<ComputeResponseRecordV1> records;
+
   public ComputeResponseWrapper(int maxKeyCount) {
     this(maxKeyCount, new ComputeResponseStats());
   }
 
   public ComputeResponseWrapper(int maxKeyCount, ComputeResponseStats responseStats) {
-    super(maxKeyCount, responseStats, SERIALIZER);
+    super(responseStats);
+    this.records = new ArrayList<>(maxKeyCount);
+    this.responseBody = Lazy.of(() -> {
+      ByteBuf responseBodyByteBuf = Unpooled.wrappedBuffer(SERIALIZER.serializeObjects(records));
+      getResponseStats().setRecordCount(this.records.size());
+
+      /**
+       * This re-assignment prevents additional records from being added after the response body is generated.
+       * It can also potentially help GC by allowing these references which are no longer needed to be collected sooner.
+       */
+      this.records = Collections.emptyList();
+      return responseBodyByteBuf;
+    });
+  }
+
+  @Override
+  public void addRecord(ComputeResponseRecordV1 record) {
+    try {
+      records.add(record);
+    } catch (UnsupportedOperationException e) {
+      throw addRecordAfterResponseBodyException();
+    }
   }
 
   @Override
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.COMPUTE_RESPONSE_V1.getProtocolVersion();
   }
+
+  /**
+   * N.B.: This function is backed by a {@link Lazy} property. The first time it is called, the response is recorded and
+   * will therefore not be regenerated even if the more records are added. To make this behavior unambiguous, it is no
+   * longer possible to add records after calling this function, as the {@link #records} property then becomes an empty
+   * list.
+   *
+   * @return the serialized response as a {@link ByteBuf}
+   */
+  @Override
+  public ByteBuf getResponseBody() {
+    return responseBody.get();
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "(" + this.records.size() + " records)";
+  }
 }
@@ -5,22 +5,117 @@ import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import com.linkedin.venice.schema.avro.ReadAvroProtocolDefinition;
 import com.linkedin.venice.serializer.FastSerializerDeserializerFactory;
 import com.linkedin.venice.serializer.RecordSerializer;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import java.nio.ByteBuffer;
 
 
+/**
+ * Encodes the records of a batch get response straight into a pooled {@link ByteBuf} as they are added, rather than
+ * keeping {@link MultiGetResponseRecordV1} instances around and serializing them all at the end. The produced bytes are
+ * identical to the Avro binary encoding of the records, i.e. to what {@link #SERIALIZER} would produce for them.
+ *
+ * The body is handed over to the channel by {@link #getResponseBody()}, which releases it once written. A response
+ * which will not be sent back must be released via {@link #release()}.
+ */
 public class MultiGetResponseWrapper extends MultiKeyResponseWrapper<MultiGetResponseRecordV1> {
   static final RecordSerializer<MultiGetResponseRecordV1> SERIALIZER =
       FastSerializerDeserializerFactory.getFastAvroGenericSerializer(MultiGetResponseRecordV1.getClassSchema());
 
+  /** Enough for the key index, the value length and the schema id, each of them taking up to 5 bytes as a varint. */
+  private static final int MAX_RECORD_OVERHEAD_IN_BYTES = 15;
+
+  private ByteBuf responseBody;
+  private int recordCount = 0;
+  private boolean responseBodyGenerated = false;
+
   public MultiGetResponseWrapper(int maxKeyCount) {
     this(maxKeyCount, new MultiKeyResponseStats());
   }
 
   public MultiGetResponseWrapper(int maxKeyCount, MultiKeyResponseStats responseStats) {
-    super(maxKeyCount, responseStats, SERIALIZER);
+    super(responseStats);
+  }
+
+  @Override
+  public void addRecord(MultiGetResponseRecordV1 record) {
+    addRecord(record.keyIndex, record.value, record.schemaId);
+  }
+
+  /**
+   * Encodes a record, as the Avro binary encoding of a {@link MultiGetResponseRecordV1} would, without materializing
+   * the record itself. The content of {@param value} between its position and its limit is copied, and the buffer is
+   * left untouched.
+   *
+   * @throws IllegalStateException if called after {@link #getResponseBody()}
+   */
+  public void addRecord(int keyIndex, ByteBuffer value, int schemaId) {
+    if (responseBodyGenerated) {
+      throw addRecordAfterResponseBodyException();
+    }
+    int valueLength = value.remaining();
+    if (responseBody == null) {
+      responseBody = ByteBufAllocator.DEFAULT.buffer(valueLength + MAX_RECORD_OVERHEAD_IN_BYTES);
+    }
+    responseBody.ensureWritable(valueLength + MAX_RECORD_OVERHEAD_IN_BYTES);
+    writeInt(responseBody, keyIndex);
+    writeInt(responseBody, valueLength);
+    if (value.hasArray()) {
+      responseBody.writeBytes(value.array(), value.arrayOffset() + value.position(), valueLength);
+    } else {
+      responseBody.writeBytes(value.duplicate());
+    }
+    writeInt(responseBody, schemaId);
+    recordCount++;
   }
 
   @Override
   public int getResponseSchemaIdHeader() {
     return ReadAvroProtocolDefinition.MULTI_GET_RESPONSE_V1.getProtocolVersion();
   }
+
+  /**
+   * N.B.: The first call freezes the response, after which no more records can be added. Later calls return the same
+   * buffer.
+   *
+   * @return the serialized response as a {@link ByteBuf}
+   */
+  @Override
+  public ByteBuf getResponseBody() {
+    if (!responseBodyGenerated) {
+      responseBodyGenerated = true;
+      getResponseStats().setRecordCount(recordCount);
+      if (responseBody == null) {
+        responseBody = Unpooled.EMPTY_BUFFER;
+      }
+    }
+    return responseBody;
+  }
+
+  @Override
+  public void release() {
+    responseBodyGenerated = true;
+    if (responseBody != null && responseBody.refCnt() > 0) {
+      responseBody.release();
+    }
+    responseBody = Unpooled.EMPTY_BUFFER;
+  }
+
+  @Override
+  public String toString() {
+    return this.getClass().getSimpleName() + "(" + this.recordCount + " records)";
+  }
+
+  /**
+   * Writes an int with the zig-zag varint encoding of Avro.
+   */
+  private static void writeInt(ByteBuf buffer, int value) {
+    int n = (value << 1) ^ (value >> 31);
+    while ((n & ~0x7F) != 0) {
+      buffer.writeByte((n & 0x7F) | 0x80);
+      n >>>= 7;
+    }
+    buffer.writeByte(n);
+  }
 }
@@ -1,6 +1,7 @@
 package com.linkedin.venice.listener.response;
 
 import com.linkedin.davinci.listener.response.ReadResponseStats;
+import com.linkedin.davinci.storage.chunking.LargeValueChunkedInput;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.listener.response.stats.ReadResponseStatsRecorder;
 import com.linkedin.venice.listener.response.stats.SingleGetResponseStats;
@@ -10,6 +11,8 @@ import io.netty.buffer.ByteBuf;
 public class SingleGetResponseWrapper extends AbstractReadResponse {
   // Value record storing both schema id and the real data
   private ValueRecord valueRecord;
+  // Chunks of a large value which have not been fetched from storage yet, when the value is streamed out
+  private LargeValueChunkedInput largeValueInput;
   private final SingleGetResponseStats responseStats = new SingleGetResponseStats();
 
   public SingleGetResponseWrapper() {
@@ -23,6 +26,18 @@ public class SingleGetResponseWrapper extends AbstractReadResponse {
     return valueRecord;
   }
 
+  public void setLargeValueInput(LargeValueChunkedInput largeValueInput) {
+    this.largeValueInput = largeValueInput;
+  }
+
+  /**
+   * @return the chunks of a large value which is meant to be streamed out, or null if the value is held in
+   *         {@link #getValueRecord()}
+   */
+  public LargeValueChunkedInput getLargeValueInput() {
+    return largeValueInput;
+  }
+
   @Override
   public ReadResponseStats getStats() {
     return this.responseStats;
@@ -35,16 +50,24 @@ public class SingleGetResponseWrapper extends AbstractReadResponse {
 
   @Override
   public boolean isFound() {
-    return this.valueRecord != null;
+    return this.valueRecord != null || this.largeValueInput != null;
   }
 
+  /**
+   * For a large value which is meant to be streamed out, this assembles the whole value in memory, for the code paths
+   * which cannot stream the response.
+   */
   @Override
   public ByteBuf getResponseBody() {
+    if (valueRecord == null && largeValueInput != null) {
+      valueRecord = ValueRecord.create(largeValueInput.getSchemaId(), largeValueInput.readRemainingChunks());
+      largeValueInput = null;
+    }
     return getValueRecord().getData();
   }
 
   @Override
   public int getResponseSchemaIdHeader() {
-    return getValueRecord().getSchemaId();
+    return largeValueInput == null ? getValueRecord().getSchemaId() : largeValueInput.getSchemaId();
   }
 }
@@ -21,6 +21,7 @@ import com.linkedin.davinci.stats.AggBlobTransferStats;
 import com.linkedin.davinci.stats.AggVersionedBlobTransferStats;
 import com.linkedin.davinci.stats.AggVersionedStorageEngineStats;
 import com.linkedin.davinci.stats.HeartbeatMonitoringServiceStats;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.stats.RocksDBMemoryStats;
 import com.linkedin.davinci.stats.ingestion.heartbeat.HeartbeatMonitoringService;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
@@ -478,6 +479,7 @@ public class VeniceServer {
     // create and add ListenerServer for handling GET requests
     ListenerService listenerService = createListenerService(
         storageService.getStorageEngineRepository(),
+        storageService,
         metadataRepo,
         storeValueSchemasCacheService,
         customizedViewFuture,
@@ -490,7 +492,8 @@ public class VeniceServer {
         storeAccessController,
         diskHealthCheckService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        kafkaStoreIngestionService.getHotKeyTracker());
     services.add(listenerService);
 
     /**
@@ -816,6 +819,7 @@ public class VeniceServer {
 
   protected ListenerService createListenerService(
       StorageEngineRepository storageEngineRepository,
+      StorageService storageService,
       ReadOnlyStoreRepository storeMetadataRepository,
       ReadOnlySchemaRepository schemaRepository,
       CompletableFuture<HelixCustomizedViewOfflinePushRepository> customizedViewRepository,
@@ -828,9 +832,11 @@ public class VeniceServer {
       Optional<DynamicAccessController> storeAccessController,
       DiskHealthCheckService diskHealthService,
       StorageEngineBackedCompressorFactory compressorFactory,
-      Optional<ResourceReadUsageTracker> resourceReadUsageTracker) {
+      Optional<ResourceReadUsageTracker> resourceReadUsageTracker,
+      Optional<HotKeyTracker> hotKeyTracker) {
     return new ListenerService(
         storageEngineRepository,
+        storageService,
         storeMetadataRepository,
         schemaRepository,
         customizedViewRepository,
@@ -843,7 +849,8 @@ public class VeniceServer {
         storeAccessController,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        hotKeyTracker);
   }
 
   public static void main(String args[]) throws Exception {
@@ -22,7 +22,8 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
       ReadOnlyStoreRepository metadataRepository,
       boolean unregisterMetricForDeletedStoreEnabled,
       boolean isDaVinciClient,
-      boolean readOtelStatsEnabled) {
+      boolean readOtelStatsEnabled,
+      boolean readMetricsPreAggregationEnabled) {
     super(
         clusterName,
         metricsRepository,
@@ -30,7 +31,8 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
             requestType,
             isKeyValueProfilingEnabled,
             isDaVinciClient,
-            readOtelStatsEnabled),
+            readOtelStatsEnabled,
+            readMetricsPreAggregationEnabled),
         metadataRepository,
         unregisterMetricForDeletedStoreEnabled,
         false);
@@ -41,16 +43,19 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
     private final boolean isKeyValueProfilingEnabled;
     private final boolean isDaVinciClient;
     private final boolean readOtelStatsEnabled;
+    private final boolean readMetricsPreAggregationEnabled;
 
     ServerHttpRequestStatsSupplier(
         RequestType requestType,
         boolean isKeyValueProfilingEnabled,
         boolean isDaVinciClient,
-        boolean readOtelStatsEnabled) {
+        boolean readOtelStatsEnabled,
+        boolean readMetricsPreAggregationEnabled) {
       this.requestType = requestType;
       this.isKeyValueProfilingEnabled = isKeyValueProfilingEnabled;
       this.isDaVinciClient = isDaVinciClient;
       this.readOtelStatsEnabled = readOtelStatsEnabled;
+      this.readMetricsPreAggregationEnabled = readMetricsPreAggregationEnabled;
     }
 
     @Override
@@ -72,7 +77,8 @@ public class AggServerHttpRequestStats extends AbstractVeniceAggStoreStats<Serve
           isKeyValueProfilingEnabled,
           totalStats,
           isDaVinciClient,
-          readOtelStatsEnabled);
+          readOtelStatsEnabled,
+          readMetricsPreAggregationEnabled);
     }
   }
 
@@ -25,6 +25,7 @@ import com.linkedin.venice.stats.dimensions.VeniceChunkingStatus;
 import com.linkedin.venice.stats.dimensions.VeniceComputeOperationType;
 import com.linkedin.venice.stats.dimensions.VeniceMetricsDimensions;
 import com.linkedin.venice.stats.dimensions.VeniceResponseStatusCategory;
+import com.linkedin.venice.stats.metrics.MetricEntityState;
 import com.linkedin.venice.stats.metrics.MetricEntityStateBase;
 import com.linkedin.venice.stats.metrics.MetricEntityStateOneEnum;
 import com.linkedin.venice.stats.metrics.MetricEntityStateThreeEnums;
@@ -51,6 +52,10 @@ import java.util.function.Supplier;
  * {@code ServerHttpRequestStats} contains counters measuring the performance of handling requests from Routers.
  * Both OTel {@link com.linkedin.venice.stats.metrics.MetricEntityState} fields and Tehuti {@link Sensor} fields
  * coexist in this class. The record methods on MetricEntityState subclasses write to both systems.
+ *
+ * When the read metrics are pre-aggregated, the Tehuti metrics recorded for each request are recorded into
+ * {@link ThreadLocalHistogram}s instead of their sensors, and the histograms of each store record into the histograms
+ * of the total stats, in place of the parent sensors.
  */
 public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final MetricEntityStateThreeEnums<HttpResponseStatusEnum, HttpResponseStatusCodeCategory, VeniceResponseStatusCategory> successRequestMetric;
@@ -77,9 +82,13 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
   private final MetricEntityStateBase storageEngineChunkedValueCountMetric;
   private final Sensor databaseLookupLatencyForSmallValueSensor;
   private final Sensor databaseLookupLatencyForLargeValueSensor;
+  private final ThreadLocalHistogram databaseLookupLatencyForSmallValueHistogram;
+  private final ThreadLocalHistogram databaseLookupLatencyForLargeValueHistogram;
   private final Sensor readComputeLatencyForSmallValueSensor;
   private final Sensor readComputeLatencyForLargeValueSensor;
   private final Sensor readComputeEfficiencySensor;
+  // Tehuti-only: the chunks of large values streamed out of storage after the response headers were written
+  private final Sensor largeValueChunkReadLatencySensor;
   // Ratio sensors are not directly written to, but they still get their state updated indirectly
   @SuppressWarnings("unused")
   private final Sensor successRequestRatioSensor;
@@ -98,7 +107,8 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
       boolean isKeyValueProfilingEnabled,
       ServerHttpRequestStats totalStats,
       boolean isDaVinciClient,
-      boolean readOtelStatsEnabled) {
+      boolean readOtelStatsEnabled,
+      boolean readMetricsPreAggregationEnabled) {
     super(isDaVinciClient ? dummySystemStoreMetricRepo : metricsRepository, storeName, requestType);
 
     OpenTelemetryMetricsSetup.OpenTelemetryMetricsSetupInfo otelData =
@@ -159,17 +169,24 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         "success_request_ratio",
         new TehutiUtils.RatioStat(successRequest, errorRequest, "success_request_ratio"));
 
+    ThreadLocalHistogram successRequestLatencyHistogram = createTehutiHistogram(
+        readMetricsPreAggregationEnabled,
+        totalStats != null ? totalStats.successRequestLatencyMetric : null,
+        true);
     successRequestLatencyMetric = MetricEntityStateThreeEnums.create(
         READ_CALL_TIME.getMetricEntity(),
         otelRepository,
         registerPerStoreAndTotal(totalStats != null ? totalStats.successRequestLatencyMetric : null),
         ServerTehutiMetricName.SUCCESS_REQUEST_LATENCY,
-        Arrays.asList(
-            TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("success_request_latency"))),
+        successRequestLatencyHistogram != null
+            ? successRequestLatencyHistogram.getPercentileStatsWithAvgAndMax(50, 95, 99)
+            : Arrays.asList(
+                TehutiUtils.getPercentileStatWithAvgAndMax(getName(), getFullMetricName("success_request_latency"))),
         baseDimensionsMap,
         HttpResponseStatusEnum.class,
         HttpResponseStatusCodeCategory.class,
         VeniceResponseStatusCategory.class);
+    successRequestLatencyMetric.setTehutiHistogram(successRequestLatencyHistogram);
 
     errorRequestLatencyMetric = MetricEntityStateThreeEnums.create(
         READ_CALL_TIME.getMetricEntity(),
@@ -183,26 +200,41 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         HttpResponseStatusCodeCategory.class,
         VeniceResponseStatusCategory.class);
 
+    ThreadLocalHistogram responseSizeHistogram = createTehutiHistogram(
+        readMetricsPreAggregationEnabled,
+        totalStats != null ? totalStats.responseSizeMetric : null,
+        true);
     responseSizeMetric = MetricEntityStateThreeEnums.create(
         READ_RESPONSE_SIZE.getMetricEntity(),
         otelRepository,
         registerPerStoreAndTotal(totalStats != null ? totalStats.responseSizeMetric : null),
         ServerTehutiMetricName.RESPONSE_SIZE,
-        Arrays.asList(TehutiUtils.getPercentileStat(getName(), getFullMetricName("response_size"))),
+        responseSizeHistogram != null
+            ? responseSizeHistogram.getPercentileStats(50, 95, 99)
+            : Arrays.asList(TehutiUtils.getPercentileStat(getName(), getFullMetricName("response_size"))),
         baseDimensionsMap,
         HttpResponseStatusEnum.class,
         HttpResponseStatusCodeCategory.class,
         VeniceResponseStatusCategory.class);
+    responseSizeMetric.setTehutiHistogram(responseSizeHistogram);
 
+    ThreadLocalHistogram storageEngineQueryTimeHistogram = createTehutiHistogram(
+        readMetricsPreAggregationEnabled,
+        totalStats != null ? totalStats.storageEngineQueryTimeMetric : null,
+        true);
     storageEngineQueryTimeMetric = MetricEntityStateOneEnum.create(
         STORAGE_ENGINE_QUERY_TIME.getMetricEntity(),
         otelRepository,
         registerPerStoreAndTotal(totalStats != null ? totalStats.storageEngineQueryTimeMetric : null),
         ServerTehutiMetricName.STORAGE_ENGINE_QUERY_LATENCY,
-        Arrays.asList(
-            TehutiUtils.get99PercentileStatWithAvgAndMax(getName(), getFullMetricName("storage_engine_query_latency"))),
+        storageEngineQueryTimeHistogram != null
+            ? storageEngineQueryTimeHistogram.getPercentileStatsWithAvgAndMax(99)
+            : Arrays.asList(
+                TehutiUtils
+                    .get99PercentileStatWithAvgAndMax(getName(), getFullMetricName("storage_engine_query_latency"))),
         baseDimensionsMap,
         VeniceChunkingStatus.class);
+    storageEngineQueryTimeMetric.setTehutiHistogram(storageEngineQueryTimeHistogram);
 
     readComputeQueryTimeMetric = MetricEntityStateBase.create(
         STORAGE_ENGINE_READ_COMPUTE_EXECUTION_TIME.getMetricEntity(),
@@ -215,20 +247,39 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         computeBaseDimensionsMap,
         computeBaseAttributes);
 
-    databaseLookupLatencyForSmallValueSensor = registerPerStoreAndTotal(
-        "storage_engine_query_latency_for_small_value",
-        totalStats,
-        () -> totalStats.databaseLookupLatencyForSmallValueSensor,
-        TehutiUtils.get99PercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_engine_query_latency_for_small_value")));
-    databaseLookupLatencyForLargeValueSensor = registerPerStoreAndTotal(
-        "storage_engine_query_latency_for_large_value",
-        totalStats,
-        () -> totalStats.databaseLookupLatencyForLargeValueSensor,
-        TehutiUtils.get99PercentileStatWithAvgAndMax(
-            getName(),
-            getFullMetricName("storage_engine_query_latency_for_large_value")));
+    if (readMetricsPreAggregationEnabled) {
+      databaseLookupLatencyForSmallValueHistogram = new ThreadLocalHistogram(
+          totalStats != null ? totalStats.databaseLookupLatencyForSmallValueHistogram : null,
+          true);
+      databaseLookupLatencyForLargeValueHistogram = new ThreadLocalHistogram(
+          totalStats != null ? totalStats.databaseLookupLatencyForLargeValueHistogram : null,
+          true);
+      databaseLookupLatencyForSmallValueSensor = registerSensor(
+          "storage_engine_query_latency_for_small_value",
+          databaseLookupLatencyForSmallValueHistogram.getPercentileStatsWithAvgAndMax(99)
+              .toArray(new MeasurableStat[0]));
+      databaseLookupLatencyForLargeValueSensor = registerSensor(
+          "storage_engine_query_latency_for_large_value",
+          databaseLookupLatencyForLargeValueHistogram.getPercentileStatsWithAvgAndMax(99)
+              .toArray(new MeasurableStat[0]));
+    } else {
+      databaseLookupLatencyForSmallValueHistogram = null;
+      databaseLookupLatencyForLargeValueHistogram = null;
+      databaseLookupLatencyForSmallValueSensor = registerPerStoreAndTotal(
+          "storage_engine_query_latency_for_small_value",
+          totalStats,
+          () -> totalStats.databaseLookupLatencyForSmallValueSensor,
+          TehutiUtils.get99PercentileStatWithAvgAndMax(
+              getName(),
+              getFullMetricName("storage_engine_query_latency_for_small_value")));
+      databaseLookupLatencyForLargeValueSensor = registerPerStoreAndTotal(
+          "storage_engine_query_latency_for_large_value",
+          totalStats,
+          () -> totalStats.databaseLookupLatencyForLargeValueSensor,
+          TehutiUtils.get99PercentileStatWithAvgAndMax(
+              getName(),
+              getFullMetricName("storage_engine_query_latency_for_large_value")));
+    }
 
     List<MeasurableStat> largeValueLookupStats = new ArrayList<>();
     largeValueLookupStats.add(new Max(0));
@@ -249,49 +300,70 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
 
     // Queue metrics: Tehuti total-only; per-store recording routes to total's Tehuti sensor. OTel records per-store.
     if (totalStats == null) {
+      ThreadLocalHistogram queueWaitTimeHistogram = createTehutiHistogram(readMetricsPreAggregationEnabled, null, true);
       queueWaitTimeMetric = MetricEntityStateBase.create(
           STORAGE_ENGINE_QUEUE_WAIT_TIME.getMetricEntity(),
           otelRepository,
           this::registerSensorFinal,
           ServerTehutiMetricName.STORAGE_EXECUTION_HANDLER_SUBMISSION_WAIT_TIME,
-          Arrays.asList(
-              TehutiUtils.get99PercentileStatWithAvgAndMax(
-                  getName(),
-                  getFullMetricName("storage_execution_handler_submission_wait_time"))),
+          queueWaitTimeHistogram != null
+              ? queueWaitTimeHistogram.getPercentileStatsWithAvgAndMax(99)
+              : Arrays.asList(
+                  TehutiUtils.get99PercentileStatWithAvgAndMax(
+                      getName(),
+                      getFullMetricName("storage_execution_handler_submission_wait_time"))),
           baseDimensionsMap,
           baseAttributes);
+      queueWaitTimeMetric.setTehutiHistogram(queueWaitTimeHistogram);
     } else {
       queueWaitTimeMetric = MetricEntityStateBase
           .create(STORAGE_ENGINE_QUEUE_WAIT_TIME.getMetricEntity(), otelRepository, baseDimensionsMap, baseAttributes);
       // Wire per-store recording to total's Tehuti sensor (replicates old registerOnlyTotalSensor behavior)
       queueWaitTimeMetric.setTehutiSensor(totalStats.queueWaitTimeMetric.getTehutiSensor());
+      queueWaitTimeMetric.setTehutiHistogram(totalStats.queueWaitTimeMetric.getTehutiHistogram());
     }
 
     if (totalStats == null) {
+      ThreadLocalHistogram queueSizeHistogram = createTehutiHistogram(readMetricsPreAggregationEnabled, null, false);
       queueSizeMetric = MetricEntityStateBase.create(
           STORAGE_ENGINE_QUEUE_SIZE.getMetricEntity(),
           otelRepository,
           this::registerSensorFinal,
           ServerTehutiMetricName.STORAGE_EXECUTION_QUEUE_LEN,
-          Arrays.asList(new Max(), new Avg()),
+          queueSizeHistogram != null
+              ? Arrays.asList(queueSizeHistogram.getMaxStat(), queueSizeHistogram.getAvgStat())
+              : Arrays.asList(new Max(), new Avg()),
           baseDimensionsMap,
           baseAttributes);
+      queueSizeMetric.setTehutiHistogram(queueSizeHistogram);
     } else {
       queueSizeMetric = MetricEntityStateBase
           .create(STORAGE_ENGINE_QUEUE_SIZE.getMetricEntity(), otelRepository, baseDimensionsMap, baseAttributes);
       // Wire per-store recording to total's Tehuti sensor (replicates old registerOnlyTotalSensor behavior)
       queueSizeMetric.setTehutiSensor(totalStats.queueSizeMetric.getTehutiSensor());
+      queueSizeMetric.setTehutiHistogram(totalStats.queueSizeMetric.getTehutiHistogram());
     }
 
     if (requestType != RequestType.SINGLE_GET) {
+      ThreadLocalHistogram requestKeyCountHistogram = createTehutiHistogram(
+          readMetricsPreAggregationEnabled,
+          totalStats != null ? totalStats.requestKeyCountMetric : null,
+          false);
       requestKeyCountMetric = MetricEntityStateBase.create(
           READ_REQUEST_KEY_COUNT.getMetricEntity(),
           otelRepository,
           registerPerStoreAndTotal(totalStats != null ? totalStats.requestKeyCountMetric : null),
           ServerTehutiMetricName.REQUEST_KEY_COUNT,
-          Arrays.asList(new Rate(), new OccurrenceRate(), new Avg(), new Max()),
+          requestKeyCountHistogram != null
+              ? Arrays.asList(
+                  requestKeyCountHistogram.getRateStat(),
+                  requestKeyCountHistogram.getOccurrenceRateStat(),
+                  requestKeyCountHistogram.getAvgStat(),
+                  requestKeyCountHistogram.getMaxStat())
+              : Arrays.asList(new Rate(), new OccurrenceRate(), new Avg(), new Max()),
           baseDimensionsMap,
           baseAttributes);
+      requestKeyCountMetric.setTehutiHistogram(requestKeyCountHistogram);
     } else {
       // Single-get key count is always 1. Tehuti skips it (no sensor), but OTel intentionally
       // records it so that KPS (keys per second) can be measured accurately from a single metric
@@ -309,14 +381,24 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         baseDimensionsMap,
         baseAttributes);
 
+    ThreadLocalHistogram requestSizeHistogram = createTehutiHistogram(
+        readMetricsPreAggregationEnabled,
+        totalStats != null ? totalStats.requestSizeMetric : null,
+        false);
     requestSizeMetric = MetricEntityStateBase.create(
         READ_REQUEST_SIZE.getMetricEntity(),
         otelRepository,
         registerPerStoreAndTotal(totalStats != null ? totalStats.requestSizeMetric : null),
         ServerTehutiMetricName.REQUEST_SIZE_IN_BYTES,
-        Arrays.asList(new Avg(), new Min(), new Max()),
+        requestSizeHistogram != null
+            ? Arrays.asList(
+                requestSizeHistogram.getAvgStat(),
+                requestSizeHistogram.getMinStat(),
+                requestSizeHistogram.getMaxStat())
+            : Arrays.asList(new Avg(), new Min(), new Max()),
         baseDimensionsMap,
         baseAttributes);
+    requestSizeMetric.setTehutiHistogram(requestSizeHistogram);
 
     readComputeLatencyForSmallValueSensor = registerPerStoreAndTotal(
         "storage_engine_read_compute_latency_for_small_value",
@@ -398,6 +480,14 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
       countOperatorCountMetric = null;
     }
 
+    largeValueChunkReadLatencySensor = registerPerStoreAndTotal(
+        "storage_engine_large_value_chunk_read_latency",
+        totalStats,
+        () -> totalStats.largeValueChunkReadLatencySensor,
+        TehutiUtils.getPercentileStatWithAvgAndMax(
+            getName(),
+            getFullMetricName("storage_engine_large_value_chunk_read_latency")));
+
     earlyTerminatedEarlyRequestCountSensor = registerPerStoreAndTotal(
         "early_terminated_request_count",
         totalStats,
@@ -455,14 +545,35 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         () -> totalStats.misroutedStoreVersionSensor,
         new OccurrenceRate());
 
+    ThreadLocalHistogram flushTimeHistogram = createTehutiHistogram(
+        readMetricsPreAggregationEnabled,
+        totalStats != null ? totalStats.flushTimeMetric : null,
+        true);
     flushTimeMetric = MetricEntityStateBase.create(
         READ_RESPONSE_FLUSH_TIME.getMetricEntity(),
         otelRepository,
         registerPerStoreAndTotal(totalStats != null ? totalStats.flushTimeMetric : null),
         ServerTehutiMetricName.FLUSH_LATENCY,
-        Arrays.asList(TehutiUtils.getPercentileStat(getName(), getFullMetricName("flush_latency"))),
+        flushTimeHistogram != null
+            ? flushTimeHistogram.getPercentileStats(50, 95, 99)
+            : Arrays.asList(TehutiUtils.getPercentileStat(getName(), getFullMetricName("flush_latency"))),
         baseDimensionsMap,
         baseAttributes);
+    flushTimeMetric.setTehutiHistogram(flushTimeHistogram);
+  }
+
+  /**
+   * @return the histogram to pre-aggregate the Tehuti recordings of a per-store metric into, which records into the
+   *         histogram of {@param totalMetric} if any, or null if the read metrics are not pre-aggregated
+   */
+  private static ThreadLocalHistogram createTehutiHistogram(
+      boolean readMetricsPreAggregationEnabled,
+      MetricEntityState totalMetric,
+      boolean percentilesEnabled) {
+    if (!readMetricsPreAggregationEnabled) {
+      return null;
+    }
+    return new ThreadLocalHistogram(totalMetric != null ? totalMetric.getTehutiHistogram() : null, percentilesEnabled);
   }
 
   /** Registers a Tehuti-only sensor that propagates per-store recordings to the total. */
@@ -558,7 +669,13 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
         assembledMultiChunkLargeValue ? VeniceChunkingStatus.CHUNKED : VeniceChunkingStatus.UNCHUNKED;
     storageEngineQueryTimeMetric.record(latency, chunkingStatus);
     if (assembledMultiChunkLargeValue) {
-      databaseLookupLatencyForLargeValueSensor.record(latency);
+      if (databaseLookupLatencyForLargeValueHistogram != null) {
+        databaseLookupLatencyForLargeValueHistogram.record(latency);
+      } else {
+        databaseLookupLatencyForLargeValueSensor.record(latency);
+      }
+    } else if (databaseLookupLatencyForSmallValueHistogram != null) {
+      databaseLookupLatencyForSmallValueHistogram.record(latency);
     } else {
       databaseLookupLatencyForSmallValueSensor.record(latency);
     }
@@ -637,6 +754,10 @@ public class ServerHttpRequestStats extends AbstractVeniceHttpStats {
     }
   }
 
+  public void recordLargeValueChunkReadLatency(double latency) {
+    largeValueChunkReadLatencySensor.record(latency);
+  }
+
   public void recordEarlyTerminatedEarlyRequest() {
     earlyTerminatedEarlyRequestCountSensor.record();
   }
@@ -9,6 +9,7 @@ import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.venice.acl.DynamicAccessController;
 import com.linkedin.venice.acl.StaticAccessController;
 import com.linkedin.venice.authorization.DefaultIdentityParser;
@@ -28,6 +29,7 @@ import org.testng.annotations.Test;
 
 public class ListenerServiceTest {
   StorageEngineRepository storageEngineRepository;
+  StorageService storageService;
   ReadOnlyStoreRepository storeMetadataRepository;
   ReadOnlySchemaRepository schemaRepository;
   CompletableFuture<HelixCustomizedViewOfflinePushRepository> cvRepository;
@@ -45,6 +47,7 @@ public class ListenerServiceTest {
   @BeforeMethod
   public void setUp() {
     storageEngineRepository = mock(StorageEngineRepository.class);
+    storageService = mock(StorageService.class);
     storeMetadataRepository = mock(ReadOnlyStoreRepository.class);
     schemaRepository = mock(ReadOnlySchemaRepository.class);
     cvRepository = mock(CompletableFuture.class);
@@ -78,6 +81,7 @@ public class ListenerServiceTest {
   public void testConstructor() {
     ListenerService listenerService = new ListenerService(
         storageEngineRepository,
+        storageService,
         storeMetadataRepository,
         schemaRepository,
         cvRepository,
@@ -90,7 +94,8 @@ public class ListenerServiceTest {
         storeAccessController,
         diskHealthService,
         compressorFactory,
-        resourceReadUsageTracker);
+        resourceReadUsageTracker,
+        Optional.empty());
     // dummy method call
     listenerService.getName();
   }
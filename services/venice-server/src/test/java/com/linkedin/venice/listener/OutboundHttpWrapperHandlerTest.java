@@ -4,8 +4,11 @@ import static io.netty.handler.codec.http.HttpHeaders.Names.CONTENT_LENGTH;
 import static io.netty.handler.codec.http.HttpHeaders.Names.CONTENT_TYPE;
 import static io.netty.handler.codec.http.HttpVersion.HTTP_1_1;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyDouble;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,23 +20,42 @@ import com.linkedin.davinci.listener.response.ReadResponse;
 import com.linkedin.davinci.listener.response.ReplicaIngestionResponse;
 import com.linkedin.davinci.listener.response.ServerCurrentVersionResponse;
 import com.linkedin.davinci.listener.response.StorePropertiesPayload;
+import com.linkedin.davinci.storage.chunking.LargeValueChunkedInput;
+import com.linkedin.davinci.store.StorageEngine;
+import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.venice.HttpConstants;
 import com.linkedin.venice.compression.CompressionStrategy;
 import com.linkedin.venice.listener.grpc.GrpcRequestContext;
 import com.linkedin.venice.listener.grpc.handlers.GrpcOutboundResponseHandler;
+import com.linkedin.venice.listener.response.SingleGetResponseWrapper;
 import com.linkedin.venice.protocols.VeniceServerResponse;
+import com.linkedin.venice.serialization.avro.AvroProtocolDefinition;
+import com.linkedin.venice.stats.AggServerHttpRequestStats;
+import com.linkedin.venice.stats.ServerHttpRequestStats;
+import com.linkedin.venice.storage.protocol.ChunkedValueManifest;
 import com.linkedin.venice.systemstore.schemas.StoreMetaValue;
 import com.linkedin.venice.utils.ObjectMapperFactory;
+import com.linkedin.venice.utils.ReferenceCounted;
 import com.linkedin.venice.utils.concurrent.VeniceConcurrentHashMap;
 import io.grpc.stub.StreamObserver;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.handler.codec.http.DefaultFullHttpResponse;
 import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpUtil;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.stream.ChunkedWriteHandler;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -228,6 +250,59 @@ public class OutboundHttpWrapperHandlerTest {
     outboundHttpWrapperHandler.write(mockCtx, msg, null);
   }
 
+  @Test
+  public void testWriteLargeValueResponse() {
+    byte[] largeValue = "large-value-split-in-two-chunks".getBytes();
+    int cutOff = largeValue.length / 2;
+    ByteBuffer firstChunkKey = ByteBuffer.wrap("large-chunk-0".getBytes());
+    ByteBuffer secondChunkKey = ByteBuffer.wrap("large-chunk-1".getBytes());
+    int chunkSchemaId = AvroProtocolDefinition.CHUNK.getCurrentProtocolVersion();
+    StorageEngine storageEngine = mock(StorageEngine.class);
+    doReturn(ValueRecord.create(chunkSchemaId, Arrays.copyOf(largeValue, cutOff)).serialize()).when(storageEngine)
+        .get(0, firstChunkKey);
+    doReturn(ValueRecord.create(chunkSchemaId, Arrays.copyOfRange(largeValue, cutOff, largeValue.length)).serialize())
+        .when(storageEngine)
+        .get(0, secondChunkKey);
+    ChunkedValueManifest manifest = new ChunkedValueManifest();
+    manifest.keysWithChunkIdSuffix = Arrays.asList(firstChunkKey, secondChunkKey);
+    manifest.schemaId = 1;
+    manifest.size = largeValue.length;
+
+    SingleGetResponseWrapper msg = new SingleGetResponseWrapper();
+    AtomicBoolean released = new AtomicBoolean(false);
+    ReferenceCounted<StorageEngine> storageEngineRef = new ReferenceCounted<>(storageEngine, se -> released.set(true));
+    msg.setLargeValueInput(new LargeValueChunkedInput(storageEngineRef, 0, manifest, Runnable::run, 2));
+    StatsHandler statsHandler = mock(StatsHandler.class);
+    ServerStatsContext statsContext = mock(ServerStatsContext.class);
+    when(statsHandler.getServerStatsContext()).thenReturn(statsContext);
+    AggServerHttpRequestStats aggStats = mock(AggServerHttpRequestStats.class);
+    ServerHttpRequestStats storeStats = mock(ServerHttpRequestStats.class);
+    when(statsContext.getCurrentStats()).thenReturn(aggStats);
+    when(aggStats.getStoreStats(any())).thenReturn(storeStats);
+    EmbeddedChannel channel =
+        new EmbeddedChannel(new ChunkedWriteHandler(), new OutboundHttpWrapperHandler(statsHandler));
+
+    channel.writeOutbound(msg);
+    HttpResponse response = channel.readOutbound();
+    Assert.assertEquals(response.status(), HttpResponseStatus.OK);
+    Assert.assertTrue(HttpUtil.isTransferEncodingChunked(response));
+    Assert.assertEquals(response.headers().get(HttpConstants.VENICE_SCHEMA_ID), "1");
+    verify(statsContext).setResponseSize(largeValue.length);
+    verify(statsHandler).setResponseStatus(HttpResponseStatus.OK);
+
+    ByteBuf content = Unpooled.buffer();
+    HttpContent chunk;
+    do {
+      chunk = channel.readOutbound();
+      content.writeBytes(chunk.content());
+      chunk.release();
+    } while (!(chunk instanceof LastHttpContent));
+    Assert.assertEquals(ByteBufUtil.getBytes(content), largeValue);
+    Assert.assertNull(channel.readOutbound());
+    verify(storeStats, times(2)).recordLargeValueChunkReadLatency(anyDouble());
+    Assert.assertTrue(released.get(), "The storage engine must be released once the value is written");
+  }
+
   @Test
   public void testGrpcWrite() {
     ByteBuf mockBody = mock(ByteBuf.class);
@@ -54,6 +54,7 @@ import com.linkedin.venice.routerapi.ReplicaState;
 import com.linkedin.venice.stats.AggServerQuotaUsageStats;
 import com.linkedin.venice.stats.ServerReadQuotaUsageStats;
 import com.linkedin.venice.throttle.GuavaRateLimiter;
+import com.linkedin.venice.throttle.StripedTokenBucket;
 import com.linkedin.venice.throttle.TokenBucket;
 import com.linkedin.venice.throttle.VeniceRateLimiter;
 import com.linkedin.venice.utils.TestUtils;
@@ -1115,6 +1116,18 @@ public class ReadQuotaEnforcementHandlerTest {
         clock);
     assertTrue(newRateLimiter instanceof GuavaRateLimiter);
 
+    newRateLimiter = ReadQuotaEnforcementHandler.getRateLimiter(
+        resourceName,
+        quotaInRcu,
+        thisNodeQuotaResponsibility,
+        null,
+        RateLimiterType.STRIPED_TOKEN_BUCKET,
+        quotaEnforcementIntervalInMs,
+        enforcementCapacityMultiple,
+        clock);
+    assertTrue(newRateLimiter instanceof StripedTokenBucket);
+    assertEquals(newRateLimiter.getQuota(), (long) Math.ceil(quotaInRcu * thisNodeQuotaResponsibility));
+
     // check default rate limiter type is used if the rate limiter type is null
     newRateLimiter = ReadQuotaEnforcementHandler.getRateLimiter(
         resourceName,
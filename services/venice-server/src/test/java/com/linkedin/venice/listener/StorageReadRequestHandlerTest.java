@@ -31,10 +31,12 @@ import com.linkedin.davinci.kafka.consumer.PartitionConsumptionState;
 import com.linkedin.davinci.listener.response.AdminResponse;
 import com.linkedin.davinci.listener.response.MetadataResponse;
 import com.linkedin.davinci.listener.response.ReplicaIngestionResponse;
+import com.linkedin.davinci.stats.HotKeyTracker;
 import com.linkedin.davinci.storage.DiskHealthCheckService;
 import com.linkedin.davinci.storage.IngestionMetadataRetriever;
 import com.linkedin.davinci.storage.ReadMetadataRetriever;
 import com.linkedin.davinci.storage.StorageEngineRepository;
+import com.linkedin.davinci.storage.StorageService;
 import com.linkedin.davinci.store.StorageEngine;
 import com.linkedin.davinci.store.record.ValueRecord;
 import com.linkedin.davinci.store.rocksdb.RocksDBServerConfig;
@@ -130,6 +132,7 @@ import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpVersion;
+import io.tehuti.metrics.MetricsRepository;
 import java.net.URI;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
@@ -188,6 +191,7 @@ public class StorageReadRequestHandlerTest {
   private final Version version = mock(Version.class);
   private final StorageEngine storageEngine = mock(StorageEngine.class);
   private final StorageEngineRepository storageEngineRepository = mock(StorageEngineRepository.class);
+  private final StorageService storageService = mock(StorageService.class);
   private final ReadOnlyStoreRepository storeRepository = mock(ReadOnlyStoreRepository.class);
   private final ReadOnlySchemaRepository schemaRepository = mock(ReadOnlySchemaRepository.class);
   private final StorageEngineBackedCompressorFactory compressorFactory =
@@ -270,11 +274,19 @@ public class StorageReadRequestHandlerTest {
   private StorageReadRequestHandler createStorageReadRequestHandler(
       boolean parallelBatchGetEnabled,
       IntFunction<MultiGetResponseWrapper> multiGetResponseProvider) {
+    return createStorageReadRequestHandler(parallelBatchGetEnabled, multiGetResponseProvider, Optional.empty());
+  }
+
+  private StorageReadRequestHandler createStorageReadRequestHandler(
+      boolean parallelBatchGetEnabled,
+      IntFunction<MultiGetResponseWrapper> multiGetResponseProvider,
+      Optional<HotKeyTracker> hotKeyTracker) {
     return new StorageReadRequestHandler(
         serverConfig,
         parallelBatchGetEnabled ? parallelExecutor : executor,
         parallelBatchGetEnabled ? parallelExecutor : executor,
         storageEngineRepository,
+        storageService,
         storeRepository,
         schemaRepository,
         ingestionMetadataRetriever,
@@ -282,6 +294,7 @@ public class StorageReadRequestHandlerTest {
         healthCheckService,
         compressorFactory,
         Optional.empty(),
+        hotKeyTracker,
         multiGetResponseProvider,
         ComputeResponseWrapper::new);
   }
@@ -587,6 +600,43 @@ public class StorageReadRequestHandlerTest {
         AvroProtocolDefinition.SERVER_ADMIN_RESPONSE.getCurrentProtocolVersion());
   }
 
+  @Test
+  public void testDumpHotKeysAdminRequest() throws Exception {
+    String keyString = "test-key";
+    int partition = 2;
+    byte[] valueBytes = ValueRecord.create(1, "test-value".getBytes()).serialize();
+    doReturn(valueBytes).when(storageEngine).get(partition, ByteBuffer.wrap(keyString.getBytes()));
+    HotKeyTracker hotKeyTracker = new HotKeyTracker(1, 5, new MetricsRepository());
+    StorageReadRequestHandler requestHandler =
+        createStorageReadRequestHandler(false, MultiGetResponseWrapper::new, Optional.of(hotKeyTracker));
+
+    String getUri = "/" + TYPE_STORAGE + "/test-topic_v1/" + partition + "/" + keyString;
+    HttpRequest getHttpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, getUri);
+    for (int i = 0; i < 2; i++) {
+      requestHandler.channelRead(
+          context,
+          GetRouterRequest.parseGetHttpRequest(
+              getHttpRequest,
+              RequestHelper.getRequestParts(URI.create(getHttpRequest.uri()))));
+    }
+    hotKeyTracker.recordWrite("test-topic_v1", keyString.getBytes());
+
+    String adminUri = "/" + QueryAction.ADMIN.toString().toLowerCase() + "/test-topic_v1/"
+        + ServerAdminAction.DUMP_HOT_KEYS.toString().toLowerCase();
+    HttpRequest adminHttpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, adminUri);
+    requestHandler
+        .channelRead(context, AdminRequest.parseAdminHttpRequest(adminHttpRequest, URI.create(adminHttpRequest.uri())));
+
+    verify(context, timeout(1000).times(3)).writeAndFlush(argumentCaptor.capture());
+    AdminResponse adminResponse = (AdminResponse) argumentCaptor.getValue();
+    assertEquals(adminResponse.getResponseRecord().hotKeys.readHotKeys.size(), 1);
+    assertEquals(
+        adminResponse.getResponseRecord().hotKeys.readHotKeys.get(0).key,
+        ByteBuffer.wrap(keyString.getBytes()));
+    assertEquals(adminResponse.getResponseRecord().hotKeys.readHotKeys.get(0).estimatedCount, 2);
+    assertEquals(adminResponse.getResponseRecord().hotKeys.writeHotKeys.size(), 1);
+  }
+
   @Test
   public void testTopicPartitionIngestionContextRequestsPassInStorageExecutionHandler() throws Exception {
     String topic = "test_store_v1";
@@ -986,6 +1036,161 @@ public class StorageReadRequestHandlerTest {
     assertEquals(((AbstractReadResponseStats) responseObject.getStats()).getKeyNotFoundCount(), missingRecordCount);
   }
 
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testMultiGetWithMultiGetLookup(boolean parallelBatchGetEnabled) throws Exception {
+    int recordCount = 20;
+    int partitionCount = 3;
+    RecordSerializer<MultiGetRouterRequestKeyV1> serializer =
+        SerializerDeserializerFactory.getAvroGenericSerializer(MultiGetRouterRequestKeyV1.SCHEMA$);
+    List<MultiGetRouterRequestKeyV1> keys = new ArrayList<>();
+    VeniceKafkaSerializer keySerializer = new VeniceAvroKafkaSerializer("\"string\"");
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+
+    for (int i = 0; i < recordCount; ++i) {
+      MultiGetRouterRequestKeyV1 requestKey = new MultiGetRouterRequestKeyV1();
+      byte[] keyBytes = keySerializer.serialize(null, "key_" + i);
+      requestKey.keyBytes = ByteBuffer.wrap(keyBytes);
+      requestKey.keyIndex = i;
+      requestKey.partitionId = i % partitionCount;
+      // Every fifth key is missing
+      if (i % 5 != 0) {
+        storage.put(ByteBuffer.wrap(keyBytes), ValueRecord.create(1, ("value_" + i).getBytes()).serialize());
+      }
+      keys.add(requestKey);
+    }
+    doAnswer(invocation -> {
+      List<byte[]> keysToLookUp = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keysToLookUp.size());
+      keysToLookUp.forEach(key -> values.add(storage.get(ByteBuffer.wrap(key))));
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), any());
+
+    String uri = "/" + TYPE_STORAGE + "/test-topic_v1";
+    FullHttpRequest httpRequest = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, uri);
+    httpRequest.headers()
+        .set(
+            HttpConstants.VENICE_API_VERSION,
+            ReadAvroProtocolDefinition.MULTI_GET_ROUTER_REQUEST_V1.getProtocolVersion());
+    httpRequest.content().writeBytes(serializer.serializeObjects(keys));
+    MultiGetRouterRequestWrapper request = MultiGetRouterRequestWrapper
+        .parseMultiGetHttpRequest(httpRequest, RequestHelper.getRequestParts(URI.create(uri)));
+
+    doReturn(true).when(serverConfig).isBatchGetMultiGetLookupEnabled();
+    doReturn(parallelBatchGetEnabled).when(serverConfig).isEnableParallelBatchGet();
+    doReturn(7).when(serverConfig).getParallelBatchGetChunkSize();
+    StorageReadRequestHandler requestHandler =
+        createStorageReadRequestHandler(parallelBatchGetEnabled, MultiGetResponseWrapper::new);
+    requestHandler.channelRead(context, request);
+
+    verify(context, timeout(10000)).writeAndFlush(argumentCaptor.capture());
+    AbstractReadResponse responseObject = (AbstractReadResponse) argumentCaptor.getValue();
+    RecordDeserializer<MultiGetResponseRecordV1> deserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(MultiGetResponseRecordV1.class);
+    byte[] responseBytes = new byte[responseObject.getResponseBody().readableBytes()];
+    responseObject.getResponseBody().getBytes(0, responseBytes);
+    Map<Integer, String> results = new HashMap<>();
+    deserializer.deserializeObjects(responseBytes)
+        .forEach(record -> results.put(record.keyIndex, new String(record.value.array(), StandardCharsets.UTF_8)));
+    assertEquals(results.size(), recordCount - recordCount / 5);
+    for (int i = 0; i < recordCount; i++) {
+      assertEquals(results.get(i), i % 5 == 0 ? null : "value_" + i);
+    }
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+  }
+
+  @Test(dataProvider = "True-and-False", dataProviderClass = DataProviderUtils.class)
+  public void testComputeWithMultiGetLookup(boolean parallelBatchGetEnabled) throws Exception {
+    int recordCount = 20;
+    int partitionCount = 3;
+    doReturn(true).when(storeRepository).isReadComputationEnabled(any());
+    Schema valueSchema = SchemaBuilder.record("SampleSchema")
+        .fields()
+        .name("listField")
+        .type()
+        .array()
+        .items()
+        .floatType()
+        .noDefault()
+        .endRecord();
+    SchemaEntry schemaEntry = new SchemaEntry(1, valueSchema);
+    doReturn(schemaEntry).when(schemaRepository).getSupersetOrLatestValueSchema(any());
+    doReturn(schemaEntry).when(schemaRepository).getValueSchema(any(), anyInt());
+
+    AvroSerializer valueSerializer = new AvroSerializer<>(valueSchema);
+    List<ComputeRouterRequestKeyV1> keys = new ArrayList<>();
+    Set<Object> keySet = new HashSet<>();
+    Map<ByteBuffer, byte[]> storage = new HashMap<>();
+    for (int i = 0; i < recordCount; ++i) {
+      byte[] keyBytes = ("key_" + i).getBytes();
+      keys.add(new ComputeRouterRequestKeyV1(i, ByteBuffer.wrap(keyBytes), i % partitionCount));
+      keySet.add("key_" + i);
+      // Every fifth key is missing
+      if (i % 5 != 0) {
+        GenericRecord valueRecord = new GenericData.Record(valueSchema);
+        valueRecord.put("listField", Collections.singletonList((float) i));
+        storage.put(
+            ByteBuffer.wrap(keyBytes),
+            ValueRecord.create(schemaEntry.getId(), valueSerializer.serialize(valueRecord)).serialize());
+      }
+    }
+    doAnswer(invocation -> {
+      List<byte[]> keysToLookUp = invocation.getArgument(1);
+      List<byte[]> values = new ArrayList<>(keysToLookUp.size());
+      keysToLookUp.forEach(key -> values.add(storage.get(ByteBuffer.wrap(key))));
+      return values;
+    }).when(storageEngine).multiGet(anyInt(), any());
+
+    AvroGenericReadComputeStoreClient storeClient = mock(AvroGenericReadComputeStoreClient.class);
+    doReturn("test-store").when(storeClient).getStoreName();
+    Schema keySchema = AvroSchemaParseUtils.parseSchemaFromJSONLooseValidation("\"string\"");
+    new AvroComputeRequestBuilderV3<>(storeClient, getMockSchemaReader(keySchema, valueSchema))
+        .dotProduct("listField", Collections.singletonList(2.0f), "dotProduct")
+        .execute(keySet);
+    ArgumentCaptor<ComputeRequestWrapper> requestCaptor = ArgumentCaptor.forClass(ComputeRequestWrapper.class);
+    verify(storeClient, times(1)).compute(requestCaptor.capture(), any(), any(), any(), anyLong());
+    ComputeRequest computeRequest = ComputeUtils.deserializeComputeRequest(
+        OptimizedBinaryDecoderFactory.defaultFactory()
+            .createOptimizedBinaryDecoder(ByteBuffer.wrap(requestCaptor.getValue().serialize())),
+        null);
+
+    ComputeRouterRequestWrapper request = mock(ComputeRouterRequestWrapper.class);
+    doReturn(RequestType.COMPUTE).when(request).getRequestType();
+    doReturn(schemaEntry.getId()).when(request).getValueSchemaId();
+    doReturn(computeRequest).when(request).getComputeRequest();
+    doReturn(version.kafkaTopicName()).when(request).getResourceName();
+    doReturn(keys).when(request).getKeys();
+    doReturn(recordCount).when(request).getKeyCount();
+
+    doReturn(true).when(serverConfig).isBatchGetMultiGetLookupEnabled();
+    doReturn(parallelBatchGetEnabled).when(serverConfig).isEnableParallelBatchGet();
+    doReturn(7).when(serverConfig).getParallelBatchGetChunkSize();
+    StorageReadRequestHandler requestHandler =
+        createStorageReadRequestHandler(parallelBatchGetEnabled, MultiGetResponseWrapper::new);
+    requestHandler.channelRead(context, request);
+
+    verify(context, timeout(10000)).writeAndFlush(argumentCaptor.capture());
+    ComputeResponseWrapper computeResponse = (ComputeResponseWrapper) argumentCaptor.getValue();
+    assertEquals(((AbstractReadResponseStats) computeResponse.getStats()).getKeyNotFoundCount(), recordCount / 5);
+    Schema resultSchema = AvroSchemaParseUtils
+        .parseSchemaFromJSONLooseValidation(computeRequest.getResultSchemaStr().toString());
+    RecordDeserializer<GenericRecord> resultDeserializer =
+        SerializerDeserializerFactory.getAvroGenericDeserializer(resultSchema);
+    RecordDeserializer<ComputeResponseRecordV1> responseDeserializer =
+        SerializerDeserializerFactory.getAvroSpecificDeserializer(ComputeResponseRecordV1.class);
+    byte[] responseBytes = new byte[computeResponse.getResponseBody().readableBytes()];
+    computeResponse.getResponseBody().getBytes(0, responseBytes);
+    Map<Integer, Float> results = new HashMap<>();
+    for (ComputeResponseRecordV1 record: responseDeserializer.deserializeObjects(responseBytes)) {
+      results.put(record.getKeyIndex(), (Float) resultDeserializer.deserialize(record.getValue()).get("dotProduct"));
+    }
+    assertEquals(results.size(), recordCount - recordCount / 5);
+    for (int i = 0; i < recordCount; i++) {
+      assertEquals(results.get(i), i % 5 == 0 ? null : 2.0f * i);
+    }
+    verify(storageEngine, never()).get(anyInt(), any(ByteBuffer.class));
+    verify(storageEngine, never()).get(anyInt(), any(byte[].class), any(ByteBuffer.class));
+  }
+
   @Test
   public void testComputeWithKeyNotFound() throws Exception {
     int recordCount = 2;
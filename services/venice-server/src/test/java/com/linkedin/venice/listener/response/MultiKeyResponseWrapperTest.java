@@ -2,6 +2,7 @@ package com.linkedin.venice.listener.response;
 
 import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
 
 import com.linkedin.venice.compute.protocol.response.ComputeResponseRecordV1;
 import com.linkedin.venice.listener.response.stats.ComputeResponseStatsWithSizeProfiling;
@@ -9,6 +10,8 @@ import com.linkedin.venice.listener.response.stats.MultiGetResponseStatsWithSize
 import com.linkedin.venice.read.protocol.response.MultiGetResponseRecordV1;
 import io.netty.buffer.ByteBuf;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -98,4 +101,49 @@ public class MultiKeyResponseWrapperTest {
     assertNotNull(responseBody);
     assertEquals(responseBody.readableBytes(), expectedSerializedSize);
   }
+
+  @Test
+  public void testMultiGetResponseBodyMatchesAvroEncoding() {
+    ByteBuffer directValue = ByteBuffer.allocateDirect(300);
+    for (int i = 0; i < directValue.capacity(); i++) {
+      directValue.put((byte) i);
+    }
+    directValue.position(10);
+    ByteBuffer slicedValue = ByteBuffer.wrap(new byte[] { 9, 9, 1, 2, 3, 9 }, 2, 3);
+    List<MultiGetResponseRecordV1> records = Arrays.asList(
+        new MultiGetResponseRecordV1(0, SERIALIZED_VALUE, 1),
+        new MultiGetResponseRecordV1(Integer.MAX_VALUE, slicedValue, Integer.MIN_VALUE),
+        new MultiGetResponseRecordV1(-1, ByteBuffer.allocate(0), -1000),
+        new MultiGetResponseRecordV1(64, directValue, 100000));
+
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(records.size());
+    for (MultiGetResponseRecordV1 record: records) {
+      responseWrapper.addRecord(record);
+    }
+    ByteBuf responseBody = responseWrapper.getResponseBody();
+    byte[] responseBytes = new byte[responseBody.readableBytes()];
+    responseBody.getBytes(responseBody.readerIndex(), responseBytes);
+    assertEquals(responseBytes, MultiGetResponseWrapper.SERIALIZER.serializeObjects(records));
+
+    // The values must be left untouched
+    assertEquals(directValue.position(), 10);
+    assertEquals(slicedValue.position(), 2);
+
+    assertThrows(IllegalStateException.class, () -> responseWrapper.addRecord(records.get(0)));
+    responseBody.release();
+  }
+
+  @Test
+  public void testReleaseMultiGetResponse() {
+    MultiGetResponseWrapper emptyResponseWrapper = new MultiGetResponseWrapper(RECORD_COUNT);
+    assertEquals(emptyResponseWrapper.getResponseBody().readableBytes(), 0);
+    emptyResponseWrapper.release();
+
+    MultiGetResponseWrapper responseWrapper = new MultiGetResponseWrapper(RECORD_COUNT);
+    responseWrapper.addRecord(new MultiGetResponseRecordV1(0, SERIALIZED_VALUE, 1));
+    responseWrapper.release();
+    // Releasing twice is harmless
+    responseWrapper.release();
+    assertThrows(IllegalStateException.class, () -> responseWrapper.addRecord(0, SERIALIZED_VALUE, 1));
+  }
 }
@@ -60,7 +60,8 @@ public class AggServerHttpRequestStatsTest {
         Mockito.mock(ReadOnlyStoreRepository.class),
         true,
         false,
-        true);
+        true,
+        false);
     this.batchGetStats = new AggServerHttpRequestStats(
         "test_cluster",
         metricsRepository,
@@ -69,7 +70,8 @@ public class AggServerHttpRequestStatsTest {
         Mockito.mock(ReadOnlyStoreRepository.class),
         true,
         false,
-        true);
+        true,
+        false);
     this.computeStats = new AggServerHttpRequestStats(
         "test_cluster",
         metricsRepository,
@@ -78,7 +80,8 @@ public class AggServerHttpRequestStatsTest {
         Mockito.mock(ReadOnlyStoreRepository.class),
         true,
         false,
-        true);
+        true,
+        false);
 
     this.singleGetStatsWithKVProfiling = new AggServerHttpRequestStats(
         "test_cluster",
@@ -88,7 +91,8 @@ public class AggServerHttpRequestStatsTest {
         Mockito.mock(ReadOnlyStoreRepository.class),
         true,
         false,
-        true);
+        true,
+        false);
   }
 
   @AfterTest
@@ -389,6 +393,59 @@ public class AggServerHttpRequestStatsTest {
         "Total request_size Max should be 300 (max across both stores)");
   }
 
+  @Test
+  public void testPreAggregatedMetrics() {
+    MetricsRepository preAggregatedMetricsRepository = new MetricsRepository();
+    MockTehutiReporter preAggregatedReporter = new MockTehutiReporter();
+    preAggregatedMetricsRepository.addReporter(preAggregatedReporter);
+    AggServerHttpRequestStats preAggregatedStats = new AggServerHttpRequestStats(
+        "test_cluster",
+        preAggregatedMetricsRepository,
+        RequestType.MULTI_GET,
+        false,
+        Mockito.mock(ReadOnlyStoreRepository.class),
+        true,
+        false,
+        true,
+        true);
+    ServerHttpRequestStats fooStats = preAggregatedStats.getStoreStats(STORE_FOO);
+    ServerHttpRequestStats barStats = preAggregatedStats.getStoreStats(STORE_BAR);
+
+    fooStats.recordSuccessRequestLatency(OK_STATUS, OK_CATEGORY, OK_VENICE, 10.0);
+    barStats.recordSuccessRequestLatency(OK_STATUS, OK_CATEGORY, OK_VENICE, 30.0);
+    fooStats.recordDatabaseLookupLatency(2.0, false);
+    barStats.recordDatabaseLookupLatency(4.0, false);
+    fooStats.recordRequestKeyCount(5);
+    barStats.recordRequestKeyCount(15);
+    fooStats.recordStorageExecutionHandlerSubmissionWaitTime(1.0);
+    barStats.recordStorageExecutionHandlerSubmissionWaitTime(3.0);
+
+    // The metrics keep the names of the Tehuti stats they replace, and the total stats aggregate all the stores
+    Assert.assertEquals(
+        preAggregatedReporter.query("." + STORE_FOO + "--multiget_success_request_latency.Max").value(),
+        10.0);
+    Assert.assertEquals(
+        preAggregatedReporter.query("." + STORE_FOO + "--multiget_success_request_latency.99thPercentile").value(),
+        10.0);
+    Assert.assertEquals(preAggregatedReporter.query(".total--multiget_success_request_latency.Avg").value(), 20.0);
+    Assert.assertEquals(
+        preAggregatedReporter.query(".total--multiget_success_request_latency.50thPercentile").value(),
+        10.0,
+        10.0 / 16);
+    Assert.assertEquals(
+        preAggregatedReporter.query(".total--multiget_storage_engine_query_latency_for_small_value.Max").value(),
+        4.0);
+    Assert.assertEquals(preAggregatedReporter.query(".total--multiget_storage_engine_query_latency.Avg").value(), 3.0);
+    Assert.assertEquals(preAggregatedReporter.query(".total--multiget_request_key_count.Max").value(), 15.0);
+    Assert.assertTrue(preAggregatedReporter.query(".total--multiget_request_key_count.Rate").value() > 0);
+    Assert.assertEquals(
+        preAggregatedReporter.query(".total--multiget_storage_execution_handler_submission_wait_time.Max").value(),
+        3.0);
+
+    preAggregatedMetricsRepository.close();
+    preAggregatedReporter.close();
+  }
+
   private void assertPerStoreAndTotal(String storeName, String metricSuffix) {
     Assert.assertTrue(
         reporter.query("." + storeName + "--" + metricSuffix).value() > 0,